@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security.logic;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
+import org.eclipse.tractusx.puris.backend.delivery.logic.adapter.DeliveryInformationSammMapper;
+import org.eclipse.tractusx.puris.backend.delivery.logic.dto.anonymizeddeliverysamm.DeliveryInformationAnonymized;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.production.domain.model.OwnProduction;
+import org.eclipse.tractusx.puris.backend.production.logic.adapter.PlannedProductionSammMapper;
+import org.eclipse.tractusx.puris.backend.production.logic.dto.anonymizedplannedproductionsamm.PlannedProductionOutputAnonymized;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ProductItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.adapter.ItemStockSammMapper;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.anonymizeditemstocksamm.ItemStockAnonymizedSamm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of the anonymized submodels, i.e. the mapping including the anonymization
+ * of all identifiers. The {@link AnonymizationService} is compared with a new mac per value (as before the
+ * mac reuse), with mac reuse only and with the shared cache of hashes. The concurrent benchmarks map the
+ * same submodels from four threads that share the service, as the request handlers of several partners do.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=AnonymizedSammBenchmark}, the results
+ * are written to the console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnonymizedSammBenchmark {
+
+    private static final String CONTRACT_AGREEMENT_ID = UUID.randomUUID().toString();
+
+    /**
+     * number of entities of the submodel
+     */
+    @Param({"10", "100", "1000"})
+    private int entities;
+
+    /**
+     * number of distinct sites the entities are spread over
+     */
+    @Param({"20"})
+    private int sites;
+
+    /**
+     * perValue: new mac per value, macReuse: reused macs without cache, cache: reused macs and cached hashes
+     */
+    @Param({"perValue", "macReuse", "cache"})
+    private String variant;
+
+    private final ItemStockSammMapper itemStockSammMapper = new ItemStockSammMapper();
+    private final PlannedProductionSammMapper plannedProductionSammMapper = new PlannedProductionSammMapper();
+    private final DeliveryInformationSammMapper deliveryInformationSammMapper = new DeliveryInformationSammMapper();
+
+    private Partner partner;
+    private Material material;
+    private List<ProductItemStock> itemStocks;
+    private List<OwnProduction> productions;
+    private List<OwnDelivery> deliveries;
+
+    @Setup
+    public void setUp() {
+        AnonymizationService anonymizationService = variant.equals("perValue")
+            ? new PerValueAnonymizationService() : new AnonymizationService();
+        ReflectionTestUtils.setField(anonymizationService, "maxEntries", variant.equals("cache") ? 10000 : 0);
+        ReflectionTestUtils.setField(itemStockSammMapper, "anonymizationService", anonymizationService);
+        ReflectionTestUtils.setField(plannedProductionSammMapper, "anonymizationService", anonymizationService);
+        ReflectionTestUtils.setField(deliveryInformationSammMapper, "anonymizationService", anonymizationService);
+
+        partner = new Partner("Scenario Customer", "http://customer-control-plane:8184/api/v1/dsp", "BPNL4444444444XX",
+            "BPNS4444444444XX", "Hauptwerk Musterhausen", "BPNA4444444444ZZ", "Musterstraße 35b", "77777 Musterhausen",
+            "Germany", PolicyProfileVersionEnumeration.POLICY_PROFILE_2509);
+        partner.setUuid(UUID.randomUUID());
+        material = Material.builder()
+            .ownMaterialNumber("MNR-8101-ID146955.001")
+            .materialNumberCx("urn:uuid:" + UUID.randomUUID())
+            .productFlag(true)
+            .build();
+
+        Date now = new Date();
+        itemStocks = new ArrayList<>();
+        productions = new ArrayList<>();
+        deliveries = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            String site = String.format("BPNS%012d", i % sites);
+            String otherSite = String.format("BPNS%012d", (i + 1) % sites);
+            itemStocks.add(ProductItemStock.builder()
+                .partner(partner)
+                .material(material)
+                .quantity(i)
+                .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+                .locationBpns(site)
+                .locationBpna(String.format("BPNA%012d", i))
+                .isBlocked(i % 2 == 0)
+                .lastUpdatedOnDateTime(now)
+                .build());
+            productions.add(OwnProduction.builder()
+                .partner(partner)
+                .material(material)
+                .quantity(i)
+                .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+                .productionSiteBpns(site)
+                .estimatedTimeOfCompletion(new Date(now.getTime() + i * 60_000L))
+                .lastUpdatedOnDateTime(now)
+                .build());
+            deliveries.add(OwnDelivery.builder()
+                .partner(partner)
+                .material(material)
+                .quantity(i)
+                .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+                .originBpns(site)
+                .destinationBpns(otherSite)
+                .dateOfDeparture(now)
+                .departureType(EventTypeEnumeration.ESTIMATED_DEPARTURE)
+                .dateOfArrival(new Date(now.getTime() + i * 60_000L))
+                .arrivalType(EventTypeEnumeration.ESTIMATED_ARRIVAL)
+                .lastUpdatedOnDateTime(now)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public ItemStockAnonymizedSamm itemStock() {
+        return itemStockSammMapper.productItemStocksToItemStockAnonymizedSamm(itemStocks, partner, material, CONTRACT_AGREEMENT_ID);
+    }
+
+    @Benchmark
+    public PlannedProductionOutputAnonymized production() {
+        return plannedProductionSammMapper.ownProductionToAnonymizedSamm(productions, partner, material, CONTRACT_AGREEMENT_ID);
+    }
+
+    @Benchmark
+    public DeliveryInformationAnonymized delivery() {
+        return deliveryInformationSammMapper.ownDeliveryToAnonymizedSamm(deliveries, partner, material, CONTRACT_AGREEMENT_ID);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ItemStockAnonymizedSamm itemStockConcurrent() {
+        return itemStock();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PlannedProductionOutputAnonymized productionConcurrent() {
+        return production();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public DeliveryInformationAnonymized deliveryConcurrent() {
+        return delivery();
+    }
+
+    /**
+     * Initializes a new mac for each value.
+     */
+    private static class PerValueAnonymizationService extends AnonymizationService {
+
+        @Override
+        public String anonymize(String value, String salt) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(salt.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+                return Base64.getEncoder().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to anonymize value", e);
+            }
+        }
+
+        @Override
+        public List<String> anonymizeAll(List<String> values, String salt) {
+            return values.stream().map(value -> anonymize(value, salt)).toList();
+        }
+    }
+}
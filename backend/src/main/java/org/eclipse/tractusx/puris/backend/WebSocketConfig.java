@@ -20,22 +20,86 @@
 
 package org.eclipse.tractusx.puris.backend;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.puris.backend.common.util.SupersededMessageFilter;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Configures the in-process STOMP broker.
+ * <p>
+ * Messages from and to the clients are processed by bounded thread pools, so that a burst of pushed messages cannot
+ * take threads from the api. Each session may buffer {@code puris.websocket.sendbufferlimit} bytes, a session that
+ * exceeds the buffer or does not accept a message within {@code puris.websocket.sendtimelimit} milliseconds is
+ * closed and the client reconnects. If the outbound queue is full, the sender waits up to
+ * {@code puris.websocket.outbound.queuewait} milliseconds for space, only then the message is dropped and logged. Queued
+ * messages on destinations matching {@code puris.websocket.latestonly} are replaced by newer messages for the same
+ * subscription.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
+@Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Autowired
     private VariablesService variablesService;
 
+    @Value("${puris.websocket.inbound.threads:4}")
+    private int inboundThreads;
+
+    @Value("${puris.websocket.inbound.queue:1000}")
+    private int inboundQueue;
+
+    @Value("${puris.websocket.outbound.threads:8}")
+    private int outboundThreads;
+
+    @Value("${puris.websocket.outbound.queue:10000}")
+    private int outboundQueue;
+
+    @Value("${puris.websocket.outbound.queuewait:100}")
+    private long outboundQueueWait;
+
+    @Value("${puris.websocket.sendtimelimit:10000}")
+    private int sendTimeLimit;
+
+    @Value("${puris.websocket.sendbufferlimit:524288}")
+    private int sendBufferLimit;
+
+    @Value("${puris.websocket.messagesizelimit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${puris.websocket.latestonly:/topic/material/*,/topic/import/*}")
+    private List<String> latestOnlyDestinations;
+
+    private ThreadPoolTaskExecutor inboundExecutor;
+
+    private ThreadPoolTaskExecutor outboundExecutor;
+
+    private final AtomicLong rejected = new AtomicLong();
+
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
@@ -46,4 +110,86 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(@NonNull StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOrigins(variablesService.getAllowedOrigins()).withSockJS();
     }
+
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit)
+            .setSendBufferSizeLimit(sendBufferLimit)
+            .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    @Override
+    public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        inboundExecutor = executor("clientInboundChannel-", inboundThreads, inboundQueue, new ThreadPoolExecutor.AbortPolicy());
+        registration.taskExecutor(inboundExecutor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        outboundExecutor = executor("clientOutboundChannel-", outboundThreads, outboundQueue, this::outboundQueueFull);
+        registration.taskExecutor(outboundExecutor);
+        registration.interceptors(supersededMessageFilter());
+    }
+
+    /**
+     * Messages to clients are sent by background tasks, e.g. the publishing of changes on the scheduler thread. They
+     * wait briefly for space in the queue, but not long enough to hold up their sender. Clients notice a dropped
+     * change set by its sequence number and reload.
+     */
+    private void outboundQueueFull(Runnable task, ThreadPoolExecutor executor) {
+        try {
+            if (!executor.isShutdown() && executor.getQueue().offer(task, outboundQueueWait, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.incrementAndGet();
+        if (task instanceof MessageHandlingRunnable sendTask) {
+            supersededMessageFilter().discard(sendTask.getMessage());
+            log.warn("Outbound queue is full, dropped message to {}",
+                SimpMessageHeaderAccessor.getDestination(sendTask.getMessage().getHeaders()));
+        }
+    }
+
+    @Bean
+    public SupersededMessageFilter supersededMessageFilter() {
+        return new SupersededMessageFilter(latestOnlyDestinations);
+    }
+
+    @Bean
+    public MeterBinder webSocketMetrics(SupersededMessageFilter supersededMessageFilter) {
+        return registry -> {
+            Gauge.builder("puris.websocket.channel.queue", this, config -> queueSize(config.inboundExecutor))
+                .tag("channel", "inbound")
+                .description("Messages from clients waiting to be processed")
+                .register(registry);
+            Gauge.builder("puris.websocket.channel.queue", this, config -> queueSize(config.outboundExecutor))
+                .tag("channel", "outbound")
+                .description("Messages waiting to be sent to clients")
+                .register(registry);
+            FunctionCounter.builder("puris.websocket.messages.dropped", supersededMessageFilter, SupersededMessageFilter::getDropped)
+                .tag("reason", "superseded")
+                .register(registry);
+            FunctionCounter.builder("puris.websocket.messages.dropped", rejected, AtomicLong::get)
+                .tag("reason", "queue_full")
+                .register(registry);
+        };
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int threads, int queueCapacity,
+                                                   RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        return executor;
+    }
+
+    private static double queueSize(ThreadPoolTaskExecutor executor) {
+        return executor == null ? 0 : executor.getQueueSize();
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.util.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class JpaConfig {
+
+    /**
+     * If set to true, lazy associations can no longer be loaded outside of a session
+     * (hibernate.enable_lazy_load_no_trans is switched off). Accidental lazy loading, e.g. of
+     * partner sites inside validation loops, then fails with a LazyInitializationException
+     * instead of silently opening a new session per access. Intended for development and tests.
+     */
+    @Value("${puris.jpa.strictfetching:false}")
+    private boolean strictFetching;
+
+    @Bean
+    public HibernatePropertiesCustomizer purisHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+            if (strictFetching) {
+                log.info("Strict fetching enabled, lazy loading outside of a session is disabled");
+                properties.put(AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS, false);
+            }
+        };
+    }
+}
@@ -26,6 +26,7 @@ import java.util.regex.Pattern;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
@@ -56,6 +57,20 @@ import java.util.concurrent.ConcurrentHashMap;
 public class EdcAdapterService {
     private static final OkHttpClient CLIENT = new OkHttpClient();
     private final Map<DspaceVersionCacheKey, DspaceVersionParams> dspaceVersionParamsCache = new ConcurrentHashMap<>();
+    /**
+     * Returned by {@link #doSubmodelRequest(AssetType, MaterialPartnerRelation, DirectionEnum, int)} instead of the
+     * submodel, if the partner confirmed that the submodel did not change since it was last processed. Compare by
+     * identity.
+     */
+    public static final JsonNode SUBMODEL_NOT_MODIFIED = JsonNodeFactory.instance.objectNode();
+    /**
+     * ETags of the submodels that have been processed successfully, sent as If-None-Match with the next request.
+     */
+    private final Map<SubmodelVersionKey, String> submodelETags = new ConcurrentHashMap<>();
+    /**
+     * ETags of the submodels that have been received, but not yet processed.
+     */
+    private final Map<SubmodelVersionKey, String> receivedSubmodelETags = new ConcurrentHashMap<>();
     @Autowired
     private VariablesService variablesService;
     private final ObjectMapper objectMapper;
@@ -498,6 +513,12 @@ public class EdcAdapterService {
 
     private record DspaceVersionCacheKey(String partnerBpnl, String dspUrl) {}
 
+    private record SubmodelVersionKey(String partnerBpnl, String ownMaterialNumber, AssetType type, DirectionEnum direction) {
+        SubmodelVersionKey(AssetType type, MaterialPartnerRelation mpr, DirectionEnum direction) {
+            this(mpr.getPartner().getBpnl(), mpr.getMaterial().getOwnMaterialNumber(), type, direction);
+        }
+    }
+
     /**
      * represents the latest version information from dspaceVersionParams endpoint
      *
@@ -738,17 +759,34 @@ public class EdcAdapterService {
     }
 
     public Response getProxyPullRequest(String url, String authKey, String authCode, String[] pathParams) {
+        return getProxyPullRequest(url, authKey, authCode, pathParams, null);
+    }
+
+    /**
+     * Util method for sending a conditional get request to the given endpoint in order to perform a proxy pull.
+     * Any caller of this method has the responsibility to close the returned Response object after using it.
+     *
+     * @param url         The URL of an endpoint you received to perform a pull request
+     * @param authKey     The authKey to be used in the HTTP request header
+     * @param authCode    The authCode to be used in the HTTP request header
+     * @param pathParams  The path segments to append to the url
+     * @param ifNoneMatch The ETag of the last received payload or null
+     * @return The response, with status 304 if the payload still matches the given ETag, or null if the request failed
+     */
+    public Response getProxyPullRequest(String url, String authKey, String authCode, String[] pathParams, String ifNoneMatch) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(url).newBuilder();
         for (var pathSegment : pathParams) {
             urlBuilder.addPathSegment(pathSegment);
         }
         try {
-            var request = new Request.Builder()
+            var requestBuilder = new Request.Builder()
                 .get()
                 .url(urlBuilder.build())
-                .header(authKey, authCode)
-                .build();
-            return CLIENT.newCall(request).execute();
+                .header(authKey, authCode);
+            if (ifNoneMatch != null) {
+                requestBuilder.header("If-None-Match", ifNoneMatch);
+            }
+            return CLIENT.newCall(requestBuilder.build()).execute();
         } catch (Exception e) {
             log.error("ProxyPull GET Request failed ", e);
             return null;
@@ -756,10 +794,26 @@ public class EdcAdapterService {
     }
 
     private JsonNode postAssetToPartner(Partner partner, AssetType type, JsonNode payload, int retries) {
-        if (retries < 0) {
-            return null;
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            JsonNode response = postAssetsToPartner(partner, type, List.of(payload)).get(0);
+            if (response != null) {
+                return response;
+            }
         }
+        return null;
+    }
 
+    /**
+     * Posts the given payloads to the partner's api of the given type. Contract, transfer and EDR are obtained
+     * once and used for all payloads.
+     *
+     * @param partner  the receiving partner
+     * @param type     NOTIFICATION or DATA_EXCHANGE_REQUEST
+     * @param payloads the messages to post
+     * @return the partner's response to each payload in the same order, null for payloads that could not be delivered
+     */
+    private List<JsonNode> postAssetsToPartner(Partner partner, AssetType type, List<JsonNode> payloads) {
+        List<JsonNode> responses = new ArrayList<>(Collections.nCopies(payloads.size(), null));
         boolean failed = true;
         String partnerDspUrl = partner.getEdcUrl();
 
@@ -785,7 +839,7 @@ public class EdcAdapterService {
                     contractId = edcContractMappingService.getContractId(partner, type, assetId, partnerDspUrl);
                 } else {
                     log.error("Failed to contract for {} with {}", type, partner.getBpnl());
-                    return postAssetToPartner(partner, type, payload, retries - 1);
+                    return responses;
                 }
             }
 
@@ -795,30 +849,32 @@ public class EdcAdapterService {
 
             try {
                 EdrDto edrDto = getAndAwaitEdrDto(transferId);
-                log.info("Received EDR data for {} with {}", assetId, partner.getEdcUrl());
 
                 if (edrDto == null) {
                     log.error("Failed to obtain EDR data for {} with {}", assetId, partner.getEdcUrl());
-
-                    return postAssetToPartner(partner, type, payload, retries - 1);
+                    return responses;
                 }
+                log.info("Received EDR data for {} with {}", assetId, partner.getEdcUrl());
 
-                try (var response = postProxyPullRequest(
-                    edrDto.endpoint(),
-                    edrDto.authKey(),
-                    edrDto.authCode(),
-                    objectMapper.writeValueAsString(payload)
-                )) {
-                    if (response.isSuccessful()) {
-                        String responseString = response.body().string();
-                        failed = false;
-                        return objectMapper.readTree(responseString);
-                    }
+                for (int i = 0; i < payloads.size(); i++) {
+                    try (var response = postProxyPullRequest(
+                        edrDto.endpoint(),
+                        edrDto.authKey(),
+                        edrDto.authCode(),
+                        objectMapper.writeValueAsString(payloads.get(i))
+                    )) {
+                        if (response != null && response.isSuccessful()) {
+                            String responseString = response.body().string();
+                            failed = false;
+                            responses.set(i, objectMapper.readTree(responseString));
+                            continue;
+                        }
 
-                    switch (type) {
-                        case NOTIFICATION -> log.error("Failed to post Notification to Partner.");
-                        case DATA_EXCHANGE_REQUEST -> log.error("Failed to post Data Exchange Request to Partner.");
-                        default -> throw new IllegalArgumentException("Unsupported type " + type);
+                        switch (type) {
+                            case NOTIFICATION -> log.error("Failed to post Notification to Partner.");
+                            case DATA_EXCHANGE_REQUEST -> log.error("Failed to post Data Exchange Request to Partner.");
+                            default -> throw new IllegalArgumentException("Unsupported type " + type);
+                        }
                     }
                 }
             } finally {
@@ -835,7 +891,7 @@ public class EdcAdapterService {
             }
         }
 
-        return postAssetToPartner(partner, type, payload, retries - 1);
+        return responses;
     }
 
     private JsonNode getSubmodelFromPartner(MaterialPartnerRelation mpr, AssetType type, DirectionEnum direction, int retries) {
@@ -894,10 +950,25 @@ public class EdcAdapterService {
                     log.warn("href: " + submodelData.href());
                     log.warn("Data plane base URL from EDR: " + edrDto.endpoint());
                 }
-                try (var response = getProxyPullRequest(submodelData.href, edrDto.authKey(), edrDto.authCode(), new String[]{type.REPRESENTATION})) {
+                var versionKey = new SubmodelVersionKey(type, mpr, direction);
+                String eTag = submodelETags.get(versionKey);
+                try (var response = getProxyPullRequest(submodelData.href, edrDto.authKey(), edrDto.authCode(), new String[]{type.REPRESENTATION}, eTag)) {
+                    if (eTag != null && response.code() == 304) {
+                        log.info("{} of {} for {} did not change", type, partner.getBpnl(), mpr.getMaterial().getOwnMaterialNumber());
+                        failed = false;
+                        return SUBMODEL_NOT_MODIFIED;
+                    }
+                    // the last processed version is outdated, or the conditional request was not understood
+                    submodelETags.remove(versionKey);
                     if (response.isSuccessful()) {
                         String responseString = response.body().string();
                         failed = false;
+                        String receivedETag = response.header("ETag");
+                        if (receivedETag != null) {
+                            receivedSubmodelETags.put(versionKey, receivedETag);
+                        } else {
+                            receivedSubmodelETags.remove(versionKey);
+                        }
                         return objectMapper.readTree(responseString);
                     }
                 }
@@ -944,6 +1015,17 @@ public class EdcAdapterService {
         return edrDto;
     }
 
+    /**
+     * Requests a submodel from the partner of the given relation. If the submodel of the relation has been processed
+     * successfully before (see {@link #confirmSubmodelProcessed(AssetType, MaterialPartnerRelation, DirectionEnum)}),
+     * it is requested conditionally and {@link #SUBMODEL_NOT_MODIFIED} is returned, if it did not change since.
+     *
+     * @param type      the submodel
+     * @param mpr       the relation
+     * @param direction the direction
+     * @param retries   the number of retries
+     * @return the submodel, {@link #SUBMODEL_NOT_MODIFIED} or null, if the request failed
+     */
     public JsonNode doSubmodelRequest(AssetType type, MaterialPartnerRelation mpr, DirectionEnum direction, int retries) {
         if (retries < 0) {
             return null;
@@ -955,10 +1037,37 @@ public class EdcAdapterService {
         return data;
     }
 
+    /**
+     * Marks the submodel last received for the given relation as processed, so that it is only transferred again
+     * once it changed.
+     *
+     * @param type      the submodel
+     * @param mpr       the relation
+     * @param direction the direction
+     */
+    public void confirmSubmodelProcessed(AssetType type, MaterialPartnerRelation mpr, DirectionEnum direction) {
+        var versionKey = new SubmodelVersionKey(type, mpr, direction);
+        String eTag = receivedSubmodelETags.remove(versionKey);
+        if (eTag != null) {
+            submodelETags.put(versionKey, eTag);
+        }
+    }
+
     public JsonNode doNotificationPostRequest(Partner partner, JsonNode body) {
         return postAssetToPartner(partner, AssetType.NOTIFICATION, body, 2);
     }
 
+    /**
+     * Posts several notifications to a partner within one transfer.
+     *
+     * @param partner the receiving partner
+     * @param bodies  the notification messages
+     * @return the partner's response to each message in the same order, null for messages that could not be delivered
+     */
+    public List<JsonNode> doNotificationPostRequests(Partner partner, List<JsonNode> bodies) {
+        return postAssetsToPartner(partner, AssetType.NOTIFICATION, bodies);
+    }
+
     public JsonNode doDataExchangeRequestPostRequest(Partner partner, JsonNode body) {
         return postAssetToPartner(partner, AssetType.DATA_EXCHANGE_REQUEST, body, 2);
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change of one entity, published to the clients after the change has been committed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDto {
+    /**
+     * The type of the changed entity, e.g. {@code OwnDemand} or {@code ReportedMaterialItemStock}.
+     */
+    private String type;
+
+    private ChangeOperationEnum operation;
+
+    private UUID uuid;
+
+    private String partnerBpnl;
+
+    /**
+     * The changed entity as returned by the REST API, only set for upserts of entity types with a registered
+     * converter.
+     */
+    private Object data;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The changes published on one topic within one interval. Several changes of the same entity are coalesced
+ * into the latest one.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetDto {
+    /**
+     * The own material number of the topic, null for changes that are not related to a material.
+     */
+    private String ownMaterialNumber;
+
+    /**
+     * Number of the change set on its topic, increased by one for every change set since the start of the backend.
+     * If a number is skipped, a change set has been lost and clients should reload the data of the topic.
+     */
+    private long sequence;
+
+    /**
+     * True, if there were too many changes to list them. Clients should then reload the data of the topic.
+     */
+    private boolean reload;
+
+    private List<ChangeEventDto> changes;
+}
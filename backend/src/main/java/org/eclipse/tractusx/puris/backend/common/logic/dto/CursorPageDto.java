@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
+import org.springframework.data.domain.Window;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One page of a keyset paginated result.
+ *
+ * @param <T> type of the page elements
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+    /**
+     * Elements of this page in stable sort order.
+     */
+    private List<T> content;
+
+    /**
+     * Opaque cursor to pass as {@code cursor} parameter to fetch the next page.
+     * Null, if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether there are more elements after this page.
+     */
+    private boolean hasNext;
+
+    /**
+     * Maps a window returned by a keyset scroll query into a page dto.
+     *
+     * @param window    the window queried from the repository
+     * @param converter converts the entities of the window into dtos
+     * @return the page
+     */
+    public static <E, T> CursorPageDto<T> of(Window<E> window, Function<E, T> converter) {
+        List<T> content = window.stream().map(converter).toList();
+        String nextCursor = window.hasNext() && !window.isEmpty()
+            ? KeysetCursor.encode(window.positionAt(window.size() - 1))
+            : null;
+        return new CursorPageDto<>(content, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeEventDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeSetDto;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes changes of planning data and notifications to the clients, so that they can update the affected
+ * entries instead of reloading all data.
+ * <p>
+ * Changes are collected per topic and published every {@code puris.changes.interval} milliseconds as one
+ * {@link ChangeSetDto}. Changes of data related to a material are published on
+ * {@code /topic/material/{ownMaterialNumber}/changes}, changes of notifications additionally on
+ * {@code /topic/notification/changes}. If a converter has been registered for the type of a changed entity, an
+ * upsert carries the entity as returned by the REST API, so that the clients need not fetch it.
+ * <p>
+ * Changes made within a transaction are buffered in one {@link TransactionSynchronization} per transaction and only
+ * collected after it has been committed. If more than {@code puris.changes.maxbatch} entities of a topic changed
+ * within one transaction or one interval, e.g. during an import, the clients are asked to reload instead. The change
+ * sets of a topic are numbered consecutively, so that clients notice a lost change set and reload.
+ * <p>
+ * Components caching data derived from the planning data can register a {@link ChangeListener}, which is
+ * notified once per transaction about every partner and material whose data changed, regardless of whether
+ * publishing is enabled.
+ */
+@Service
+@Slf4j
+public class ChangeEventBus {
+
+    public static final String MATERIAL_TOPIC_PREFIX = "/topic/material/";
+
+    public static final String MATERIAL_TOPIC_SUFFIX = "/changes";
+
+    public static final String NOTIFICATION_TOPIC = "/topic/notification/changes";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Value("${puris.changes.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${puris.changes.maxbatch:500}")
+    private int maxBatch = 500;
+
+    /**
+     * Pending changes per topic, the latest change per entity.
+     */
+    private Map<Topic, LinkedHashMap<UUID, ChangeEventDto>> pending = new HashMap<>();
+
+    /**
+     * Topics with more changes than fit into one change set.
+     */
+    private Map<Topic, Boolean> overflown = new HashMap<>();
+
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Map<Class<?>, Function<Object, ?>> converters = new ConcurrentHashMap<>();
+
+    /**
+     * The sequence number of the latest change set per destination.
+     */
+    private final Map<String, Long> sequences = new ConcurrentHashMap<>();
+
+    private record Topic(String destination, String ownMaterialNumber) {
+    }
+
+    private record MaterialChange(String partnerBpnl, String ownMaterialNumber) {
+    }
+
+    /**
+     * Listener for committed changes of the data related to a partner and material.
+     */
+    @FunctionalInterface
+    public interface ChangeListener {
+
+        /**
+         * @param partnerBpnl       the bpnl of the partner of the changed entity, may be null
+         * @param ownMaterialNumber the own material number of the changed entity
+         */
+        void changed(String partnerBpnl, String ownMaterialNumber);
+    }
+
+    /**
+     * Registers a listener that is notified after changes of data related to a material have been committed.
+     *
+     * @param listener the listener
+     */
+    public void addListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Registers the conversion of changed entities of the given type into the dto returned by the REST API. The
+     * conversion runs within the transaction of the change.
+     *
+     * @param type      the entity type
+     * @param converter the conversion
+     * @param <T>       the entity type
+     */
+    public <T> void addConverter(Class<T> type, Function<? super T, ?> converter) {
+        converters.put(type, entity -> converter.apply(type.cast(entity)));
+    }
+
+    /**
+     * Publishes the change of an entity related to a material.
+     *
+     * @param ownMaterialNumber the own material number of the entity
+     * @param entity            the changed entity
+     * @param uuid              the uuid of the entity
+     * @param partnerBpnl       the bpnl of the entity's partner
+     * @param operation         the operation
+     */
+    public void publish(String ownMaterialNumber, Object entity, UUID uuid, String partnerBpnl, ChangeOperationEnum operation) {
+        if (ownMaterialNumber == null || (!enabled && listeners.isEmpty())) {
+            return;
+        }
+        TransactionChanges changes = currentChanges();
+        if (!listeners.isEmpty()) {
+            changes.materials.add(new MaterialChange(partnerBpnl, ownMaterialNumber));
+        }
+        if (enabled && uuid != null) {
+            Topic topic = materialTopic(ownMaterialNumber);
+            changes.add(topic, change(entity, uuid, partnerBpnl, operation, !changes.overflown.contains(topic)));
+        }
+        commitIfUnbuffered(changes);
+    }
+
+    /**
+     * Publishes the change of a notification on the notification topic and on the topics of its materials.
+     *
+     * @param ownMaterialNumbers the own material numbers of the materials affected by the notification
+     * @param entity             the changed notification
+     * @param uuid               the uuid of the notification
+     * @param partnerBpnl        the bpnl of the notification's partner
+     * @param operation          the operation
+     */
+    public void publishNotification(Collection<String> ownMaterialNumbers, Object entity, UUID uuid, String partnerBpnl,
+                                    ChangeOperationEnum operation) {
+        if (!enabled || uuid == null) {
+            return;
+        }
+        TransactionChanges changes = currentChanges();
+        Topic notificationTopic = new Topic(NOTIFICATION_TOPIC, null);
+        ChangeEventDto change = change(entity, uuid, partnerBpnl, operation, !changes.overflown.contains(notificationTopic));
+        changes.add(notificationTopic, change);
+        for (String ownMaterialNumber : ownMaterialNumbers) {
+            changes.add(materialTopic(ownMaterialNumber), change);
+        }
+        commitIfUnbuffered(changes);
+    }
+
+    private static Topic materialTopic(String ownMaterialNumber) {
+        return new Topic(MATERIAL_TOPIC_PREFIX + ownMaterialNumber + MATERIAL_TOPIC_SUFFIX, ownMaterialNumber);
+    }
+
+    private ChangeEventDto change(Object entity, UUID uuid, String partnerBpnl, ChangeOperationEnum operation, boolean convert) {
+        Class<?> type = Hibernate.getClass(entity);
+        Object data = null;
+        var converter = converters.get(type);
+        if (convert && operation == ChangeOperationEnum.UPSERT && converter != null) {
+            try {
+                data = converter.apply(entity);
+            } catch (Exception e) {
+                // the clients fetch the entity instead
+                log.warn("Could not convert changed {} {}: {}", type.getSimpleName(), uuid, e.getMessage());
+            }
+        }
+        return ChangeEventDto.builder()
+            .type(type.getSimpleName())
+            .operation(operation)
+            .uuid(uuid)
+            .partnerBpnl(partnerBpnl)
+            .data(data)
+            .build();
+    }
+
+    /**
+     * @return the changes of the current transaction or, without transaction, a buffer to be committed right away
+     */
+    private TransactionChanges currentChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new TransactionChanges();
+        }
+        var changes = (TransactionChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new TransactionChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    private void commitIfUnbuffered(TransactionChanges changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(changes);
+        }
+    }
+
+    private void commit(TransactionChanges changes) {
+        for (MaterialChange material : changes.materials) {
+            listeners.forEach(listener -> listener.changed(material.partnerBpnl(), material.ownMaterialNumber()));
+        }
+        if (changes.changes.isEmpty() && changes.overflown.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (Topic topic : changes.overflown) {
+                pending.remove(topic);
+                overflown.put(topic, Boolean.TRUE);
+            }
+            changes.changes.forEach((topic, topicChanges) -> topicChanges.values().forEach(change -> collect(topic, change)));
+        }
+    }
+
+    private synchronized void collect(Topic topic, ChangeEventDto change) {
+        if (overflown.containsKey(topic)) {
+            return;
+        }
+        var changes = pending.computeIfAbsent(topic, key -> new LinkedHashMap<>());
+        // the latest change of an entity replaces the earlier ones and moves to the end
+        changes.remove(change.getUuid());
+        changes.put(change.getUuid(), change);
+        if (changes.size() > maxBatch) {
+            pending.remove(topic);
+            overflown.put(topic, Boolean.TRUE);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${puris.changes.interval:250}")
+    public void flush() {
+        Map<Topic, LinkedHashMap<UUID, ChangeEventDto>> changes;
+        Map<Topic, Boolean> reloads;
+        synchronized (this) {
+            if (pending.isEmpty() && overflown.isEmpty()) {
+                return;
+            }
+            changes = pending;
+            reloads = overflown;
+            pending = new HashMap<>();
+            overflown = new HashMap<>();
+        }
+        reloads.keySet().forEach(topic -> send(topic, ChangeSetDto.builder()
+            .ownMaterialNumber(topic.ownMaterialNumber())
+            .reload(true)
+            .changes(new ArrayList<>())
+            .build()));
+        changes.forEach((topic, topicChanges) -> send(topic, ChangeSetDto.builder()
+            .ownMaterialNumber(topic.ownMaterialNumber())
+            .changes(new ArrayList<>(topicChanges.values()))
+            .build()));
+    }
+
+    private void send(Topic topic, ChangeSetDto changeSet) {
+        changeSet.setSequence(sequences.merge(topic.destination(), 1L, Long::sum));
+        try {
+            messagingTemplate.convertAndSend(topic.destination(), changeSet);
+        } catch (Exception e) {
+            log.warn("Could not publish changes on {}: {}", topic.destination(), e.getMessage());
+        }
+    }
+
+    /**
+     * Changes of one transaction, the latest change per entity and topic.
+     */
+    private final class TransactionChanges implements TransactionSynchronization {
+        private final Map<Topic, LinkedHashMap<UUID, ChangeEventDto>> changes = new LinkedHashMap<>();
+        private final Set<Topic> overflown = new HashSet<>();
+        private final Set<MaterialChange> materials = new LinkedHashSet<>();
+
+        private void add(Topic topic, ChangeEventDto change) {
+            if (overflown.contains(topic)) {
+                return;
+            }
+            var topicChanges = changes.computeIfAbsent(topic, key -> new LinkedHashMap<>());
+            topicChanges.remove(change.getUuid());
+            topicChanges.put(change.getUuid(), change);
+            if (topicChanges.size() > maxBatch) {
+                changes.remove(topic);
+                overflown.add(topic);
+            }
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ChangeEventBus.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ChangeEventBus.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            commit(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeEventBus.this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutEntryDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutStatusEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends one message to many partners concurrently and keeps track of the delivery to each partner.
+ * <p>
+ * The deliveries of all fan-outs share a pool of {@code puris.fanout.concurrency} threads, so a fan-out to hundreds
+ * of partners does not start hundreds of transfers at once. The state of the latest {@code puris.fanout.retained}
+ * fan-outs is kept in memory.
+ */
+@Service
+@Slf4j
+public class FanOutOrchestrator {
+
+    /**
+     * The delivery to one partner.
+     *
+     * @param entry the entry reported for the partner. Entries that are not {@link FanOutStatusEnum#PENDING} are
+     *              only reported.
+     * @param send  sends the message, returns true if the partner has accepted it
+     */
+    public record Delivery(FanOutEntryDto entry, Callable<Boolean> send) {
+    }
+
+    @Value("${puris.fanout.concurrency:8}")
+    private int concurrency = 8;
+
+    @Value("${puris.fanout.retained:100}")
+    private int retained = 100;
+
+    private ExecutorService executor;
+
+    private final Map<UUID, FanOutDto> fanOuts = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, FanOutDto> eldest) {
+            return size() > retained;
+        }
+    };
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "fan-out-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts the deliveries in the background.
+     *
+     * @param deliveries the deliveries, one per partner
+     * @return the fan-out with the initial state of the entries
+     */
+    public FanOutDto start(List<Delivery> deliveries) {
+        FanOutDto fanOut = FanOutDto.builder()
+            .uuid(UUID.randomUUID())
+            .createdAt(new Date())
+            .entries(new ArrayList<>(deliveries.stream().map(Delivery::entry).toList()))
+            .build();
+        synchronized (fanOuts) {
+            fanOuts.put(fanOut.getUuid(), fanOut);
+        }
+        for (int i = 0; i < deliveries.size(); i++) {
+            Delivery delivery = deliveries.get(i);
+            if (delivery.entry().getStatus() != FanOutStatusEnum.PENDING || delivery.send() == null) {
+                continue;
+            }
+            int index = i;
+            executor.submit(() -> {
+                FanOutStatusEnum status;
+                String error = null;
+                try {
+                    status = Boolean.TRUE.equals(delivery.send().call()) ? FanOutStatusEnum.DELIVERED : FanOutStatusEnum.FAILED;
+                    if (status == FanOutStatusEnum.FAILED) {
+                        error = "Partner could not be reached";
+                    }
+                } catch (Exception e) {
+                    log.error("Fan-out {} to partner {} failed", fanOut.getUuid(), delivery.entry().getPartnerBpnl(), e);
+                    status = FanOutStatusEnum.FAILED;
+                    error = "Internal error";
+                }
+                synchronized (fanOut) {
+                    fanOut.getEntries().set(index, delivery.entry().toBuilder().status(status).error(error).build());
+                }
+            });
+        }
+        return snapshot(fanOut);
+    }
+
+    /**
+     * @param uuid the uuid of the fan-out
+     * @return the current state of the fan-out or null, if it is unknown or no longer retained
+     */
+    public FanOutDto find(UUID uuid) {
+        FanOutDto fanOut;
+        synchronized (fanOuts) {
+            fanOut = fanOuts.get(uuid);
+        }
+        return fanOut == null ? null : snapshot(fanOut);
+    }
+
+    private static FanOutDto snapshot(FanOutDto fanOut) {
+        synchronized (fanOut) {
+            return FanOutDto.builder()
+                .uuid(fanOut.getUuid())
+                .createdAt(fanOut.getCreatedAt())
+                .entries(List.copyOf(fanOut.getEntries()))
+                .build();
+        }
+    }
+}
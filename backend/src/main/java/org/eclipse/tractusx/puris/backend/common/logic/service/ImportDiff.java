@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.Getter;
+
+/**
+ * Difference between imported rows and the data already stored in the database.
+ * <p>
+ * Rows are matched by their natural key in a single pass over both collections. An imported row without
+ * a stored counterpart is inserted, a matched row with different content is updated in place and a stored
+ * row without an imported counterpart is deleted. Matched rows with equal content are left untouched.
+ *
+ * @param <T> type of the compared entities
+ */
+@Getter
+public final class ImportDiff<T> {
+
+    private final List<T> inserts = new ArrayList<>();
+    private final List<T> updates = new ArrayList<>();
+    private final List<T> deletes = new ArrayList<>();
+    private int unchanged;
+
+    private ImportDiff() {
+    }
+
+    /**
+     * Computes the changes needed to turn the existing entities into the imported ones.
+     *
+     * @param imported       rows read from the file, must not contain conflicting keys
+     * @param existing       entities currently stored
+     * @param key            natural key of an entity
+     * @param content        attributes that are updated when the key matches
+     * @param adoptIdentity  copies the identity of the stored entity (first argument) to the imported one
+     *                       (second argument) so that it is saved as an update
+     * @param <T>            type of the compared entities
+     * @return the computed changes
+     */
+    public static <T> ImportDiff<T> of(
+        Collection<T> imported,
+        Collection<T> existing,
+        Function<? super T, ?> key,
+        Function<? super T, ?> content,
+        BiConsumer<T, T> adoptIdentity) {
+        Matcher<T> matcher = new Matcher<>(key, content, adoptIdentity);
+        matcher.addExisting(existing);
+        ImportDiff<T> diff = matcher.match(imported);
+        diff.deletes.addAll(matcher.unmatched());
+        return diff;
+    }
+
+    /**
+     * Creates the changes of a full replacement: every existing entity is deleted and every imported one
+     * is inserted.
+     *
+     * @param imported rows read from the file
+     * @param existing entities currently stored
+     * @param <T>      type of the compared entities
+     * @return the computed changes
+     */
+    public static <T> ImportDiff<T> replacing(Collection<T> imported, Collection<T> existing) {
+        ImportDiff<T> diff = new ImportDiff<>();
+        diff.inserts.addAll(imported);
+        diff.deletes.addAll(existing);
+        return diff;
+    }
+
+    /**
+     * @return human readable counts of the changes
+     */
+    public String summary() {
+        return summary(inserts.size(), updates.size(), deletes.size(), unchanged);
+    }
+
+    /**
+     * @return human readable counts of changes, in the format of {@link #summary()}
+     */
+    public static String summary(int inserts, int updates, int deletes, int unchanged) {
+        return String.format("%d created, %d updated, %d deleted, %d unchanged", inserts, updates, deletes, unchanged);
+    }
+
+    /**
+     * Matches imported rows that arrive in chunks with the stored entities, see {@link #of}. Stored
+     * entities may be added at any time before the imported rows that match them.
+     *
+     * @param <T> type of the compared entities
+     */
+    public static final class Matcher<T> {
+
+        private final Map<Object, Deque<T>> existingByKey = new HashMap<>();
+        private final Function<? super T, ?> key;
+        private final Function<? super T, ?> content;
+        private final BiConsumer<T, T> adoptIdentity;
+
+        /**
+         * @param key            natural key of an entity
+         * @param content        attributes that are updated when the key matches
+         * @param adoptIdentity  copies the identity of the stored entity (first argument) to the imported
+         *                       one (second argument) so that it is saved as an update
+         */
+        public Matcher(Function<? super T, ?> key, Function<? super T, ?> content, BiConsumer<T, T> adoptIdentity) {
+            this.key = key;
+            this.content = content;
+            this.adoptIdentity = adoptIdentity;
+        }
+
+        /**
+         * @param existing stored entities the following imported rows are matched with
+         */
+        public void addExisting(Collection<T> existing) {
+            for (T entity : existing) {
+                existingByKey.computeIfAbsent(key.apply(entity), k -> new ArrayDeque<>()).add(entity);
+            }
+        }
+
+        /**
+         * Matches imported rows with the stored entities that have not been matched yet.
+         *
+         * @param imported rows read from the file, must not contain conflicting keys
+         * @return the inserts, updates and unchanged rows, without deletes
+         */
+        public ImportDiff<T> match(Collection<T> imported) {
+            ImportDiff<T> diff = new ImportDiff<>();
+            for (T entity : imported) {
+                Deque<T> candidates = existingByKey.get(key.apply(entity));
+                T stored = candidates == null ? null : candidates.poll();
+                if (stored == null) {
+                    diff.inserts.add(entity);
+                } else if (Objects.equals(content.apply(stored), content.apply(entity))) {
+                    diff.unchanged++;
+                } else {
+                    adoptIdentity.accept(stored, entity);
+                    diff.updates.add(entity);
+                }
+            }
+            return diff;
+        }
+
+        /**
+         * @return the stored entities that have not been matched by any imported row
+         */
+        public List<T> unmatched() {
+            List<T> unmatched = new ArrayList<>();
+            existingByKey.values().forEach(unmatched::addAll);
+            return unmatched;
+        }
+    }
+}
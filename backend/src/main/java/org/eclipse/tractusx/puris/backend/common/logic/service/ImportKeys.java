@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
+
+/**
+ * Natural keys and contents of the imported entities.
+ * <p>
+ * A key contains exactly the attributes compared by the {@code equals} method of the entity, so two rows
+ * with the same key are a conflict. Unlike the entities' {@code hashCode}, keys can be used in hash based
+ * collections. The content contains the remaining imported attributes and decides whether an existing
+ * entity with the same key has to be updated. Dates are compared as instants, because entities loaded from
+ * the database carry {@link java.sql.Timestamp}s.
+ */
+public final class ImportKeys {
+
+    private ImportKeys() {
+    }
+
+    public static List<Object> demandKey(Demand demand) {
+        return Arrays.asList(
+            demand.getMaterial().getOwnMaterialNumber(),
+            demand.getPartner().getUuid(),
+            localDate(demand.getDay()),
+            demand.getDemandCategoryCode(),
+            demand.getDemandLocationBpns(),
+            demand.getSupplierLocationBpns()
+        );
+    }
+
+    public static List<Object> demandContent(Demand demand) {
+        return Arrays.asList(
+            demand.getQuantity(),
+            demand.getMeasurementUnit(),
+            instant(demand.getDay()),
+            instant(demand.getLastUpdatedOnDateTime())
+        );
+    }
+
+    public static List<Object> productionKey(Production production) {
+        return Arrays.asList(
+            production.getMaterial().getOwnMaterialNumber(),
+            production.getPartner().getUuid(),
+            instant(production.getEstimatedTimeOfCompletion()),
+            production.getProductionSiteBpns(),
+            production.getCustomerOrderNumber(),
+            production.getCustomerOrderPositionNumber(),
+            production.getSupplierOrderNumber()
+        );
+    }
+
+    public static List<Object> productionContent(Production production) {
+        return Arrays.asList(
+            production.getQuantity(),
+            production.getMeasurementUnit(),
+            instant(production.getLastUpdatedOnDateTime())
+        );
+    }
+
+    public static List<Object> deliveryKey(Delivery delivery) {
+        return Arrays.asList(
+            delivery.getMaterial().getOwnMaterialNumber(),
+            delivery.getPartner().getUuid(),
+            delivery.getTrackingNumber(),
+            delivery.getDestinationBpns(),
+            delivery.getDestinationBpna(),
+            delivery.getOriginBpns(),
+            delivery.getOriginBpna(),
+            instant(delivery.getDateOfDeparture()),
+            instant(delivery.getDateOfArrival()),
+            delivery.getDepartureType(),
+            delivery.getArrivalType(),
+            delivery.getIncoterm(),
+            delivery.getCustomerOrderNumber(),
+            delivery.getCustomerOrderPositionNumber(),
+            delivery.getSupplierOrderNumber()
+        );
+    }
+
+    public static List<Object> deliveryContent(Delivery delivery) {
+        return Arrays.asList(
+            delivery.getQuantity(),
+            delivery.getMeasurementUnit(),
+            instant(delivery.getLastUpdatedOnDateTime())
+        );
+    }
+
+    public static List<Object> itemStockKey(ItemStock stock) {
+        return Arrays.asList(
+            stock.getClass(),
+            stock.getMaterial().getOwnMaterialNumber(),
+            stock.getPartner().getUuid(),
+            stock.getLocationBpns(),
+            stock.getLocationBpna(),
+            stock.isBlocked(),
+            stock.getNonNullSupplierOrderId(),
+            stock.getNonNullCustomerOrderId(),
+            stock.getNonNullCustomerOrderPositionId()
+        );
+    }
+
+    public static List<Object> itemStockContent(ItemStock stock) {
+        return Arrays.asList(
+            stock.getQuantity(),
+            stock.getMeasurementUnit(),
+            instant(stock.getLastUpdatedOnDateTime()),
+            stock.getSupplierOrderId(),
+            stock.getCustomerOrderId(),
+            stock.getCustomerOrderPositionId()
+        );
+    }
+
+    private static Instant instant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    private static LocalDate localDate(Date date) {
+        return date == null ? null : date.toInstant().atZone(ZoneOffset.UTC).toLocalDate();
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the submodels that are served to partners via the EDC.
+ * <p>
+ * Partners usually request the same submodels again and again, while the underlying planning data only changes
+ * occasionally. Responses are cached per submodel type, partner, requested material number, direction and
+ * contract agreement (for the anonymized submodels). Every committed change of the planning data of a partner and
+ * material, reported via the {@link ChangeEventBus}, removes the affected responses, and every invalidation of the
+ * {@link MasterDataCache} makes all responses outdated. Entries additionally expire after a configurable time to
+ * live, since some submodels (e.g. days of supply) depend on the current date. If more than the configured number
+ * of responses are cached, the least recently used ones are evicted.
+ * <p>
+ * Each cached response carries a strong ETag, a hash of its JSON representation, so that partners can request
+ * the submodels conditionally. The ETag is computed once when the response is cached.
+ * <p>
+ * Hits, misses and invalidations are recorded as micrometer metrics ({@code puris.submodel.cache.requests},
+ * {@code puris.submodel.cache.invalidations} and {@code puris.submodel.cache.size}).
+ */
+@Component
+@Slf4j
+public class SubmodelResponseCache {
+
+    /**
+     * Identifies a cached response.
+     *
+     * @param type                the requested submodel
+     * @param partnerBpnl         the bpnl of the requesting partner
+     * @param materialNumberCx    the material number as requested by the partner
+     * @param direction           the requested direction, null if not applicable
+     * @param contractAgreementId the contract agreement of the request, null if not applicable
+     */
+    public record Key(AssetType type, String partnerBpnl, String materialNumberCx, DirectionEnum direction,
+                      String contractAgreementId) {
+    }
+
+    private record Scope(String partnerBpnl, String ownMaterialNumber) {
+    }
+
+    private record Entry(Object response, String eTag, Scope scope, long masterDataGeneration, long expiresAt) {
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MasterDataCache masterDataCache;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${puris.submodel.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${puris.submodel.cache.ttl:300}")
+    private long timeToLiveSeconds = 300;
+
+    @Value("${puris.submodel.cache.maxentries:1000}")
+    private int maxEntries = 1000;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > maxEntries) {
+                eTags.remove(eldest.getValue().response());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The ETags of the cached responses.
+     */
+    private final Map<Object, String> eTags = new IdentityHashMap<>();
+
+    /**
+     * Incremented on every invalidation of a scope. A response that was created while
+     * its scope was invalidated must not end up in the cache.
+     */
+    private final Map<Scope, Long> generations = new HashMap<>();
+
+    /**
+     * Serializes responses for the ETag with map entries and set elements in a fixed order, so that equal
+     * responses have equal ETags regardless of the iteration order of their hash based collections.
+     */
+    private ObjectMapper canonicalMapper;
+
+    private Counter hits;
+
+    private Counter misses;
+
+    private Counter invalidations;
+
+    @PostConstruct
+    private void init() {
+        hits = Counter.builder("puris.submodel.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("puris.submodel.cache.requests").tag("result", "miss").register(meterRegistry);
+        invalidations = Counter.builder("puris.submodel.cache.invalidations").register(meterRegistry);
+        Gauge.builder("puris.submodel.cache.size", this, SubmodelResponseCache::size).register(meterRegistry);
+        changeEventBus.addListener(this::invalidate);
+        canonicalMapper = objectMapper.copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .registerModule(new SimpleModule().addSerializer(new SortedSetSerializer()));
+    }
+
+    /**
+     * Returns the cached response for the given key or creates it with the given loader on a miss.
+     *
+     * @param key               the key of the response
+     * @param ownMaterialNumber the own material number of the requested material
+     * @param loader            creates the response, may return null
+     * @return the response or null, if the loader returned null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, String ownMaterialNumber, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Scope scope = new Scope(key.partnerBpnl(), ownMaterialNumber);
+        long masterDataGeneration = masterDataCache.getGeneration();
+        long now = System.currentTimeMillis();
+        long generation;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > now && entry.masterDataGeneration() == masterDataGeneration) {
+                hits.increment();
+                return (T) entry.response();
+            }
+            generation = generation(scope);
+        }
+        misses.increment();
+        T response = loader.get();
+        if (response != null) {
+            String eTag = computeETag(response);
+            synchronized (this) {
+                if (generation(scope) == generation
+                    && masterDataCache.getGeneration() == masterDataGeneration) {
+                    Entry previous = entries.put(key, new Entry(response, eTag, scope, masterDataGeneration, now + timeToLiveSeconds * 1000));
+                    if (previous != null) {
+                        eTags.remove(previous.response());
+                    }
+                    eTags.put(response, eTag);
+                }
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the strong ETag of a response. The ETag of a cached response is known already, for other responses it
+     * is computed.
+     * <p>
+     * The request api controllers set it on their {@code ResponseEntity}. Spring MVC then answers a request with
+     * 304 Not Modified and without body, if the partner's If-None-Match header contains the ETag.
+     *
+     * @param response the response
+     * @return the quoted ETag or null, if the response could not be serialized
+     */
+    public String getETag(Object response) {
+        synchronized (this) {
+            String eTag = eTags.get(response);
+            if (eTag != null) {
+                return eTag;
+            }
+        }
+        return computeETag(response);
+    }
+
+    private String computeETag(Object response) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsBytes(response));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.warn("Could not compute ETag of {}: {}", response.getClass().getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Removes all responses containing data of the given partner and material.
+     *
+     * @param partnerBpnl       the bpnl of the partner, null to remove the responses for all partners
+     * @param ownMaterialNumber the own material number
+     */
+    public synchronized void invalidate(String partnerBpnl, String ownMaterialNumber) {
+        generations.merge(new Scope(partnerBpnl, ownMaterialNumber), 1L, Long::sum);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.scope().ownMaterialNumber().equals(ownMaterialNumber)
+                && (partnerBpnl == null || partnerBpnl.equals(entry.scope().partnerBpnl()))) {
+                iterator.remove();
+                eTags.remove(entry.response());
+            }
+        }
+        invalidations.increment();
+        log.debug("Invalidated cached submodels of partner {} and material {}", partnerBpnl, ownMaterialNumber);
+    }
+
+    /**
+     * The generation of a scope also covers invalidations for all partners of its material.
+     */
+    private long generation(Scope scope) {
+        return generations.getOrDefault(scope, 0L)
+            + generations.getOrDefault(new Scope(null, scope.ownMaterialNumber()), 0L);
+    }
+
+    /**
+     * Writes the elements of a set ordered by their canonical serialization.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final class SortedSetSerializer extends StdSerializer<Set> {
+
+        private SortedSetSerializer() {
+            super(Set.class);
+        }
+
+        @Override
+        public void serialize(Set set, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            List<String> elements = new ArrayList<>(set.size());
+            for (Object element : set) {
+                elements.add(canonicalMapper.writeValueAsString(element));
+            }
+            Collections.sort(elements);
+            generator.writeStartArray(set, elements.size());
+            for (String element : elements) {
+                generator.writeRawValue(element);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+}
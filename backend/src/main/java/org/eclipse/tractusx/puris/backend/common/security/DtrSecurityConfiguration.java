@@ -59,6 +59,11 @@ public class DtrSecurityConfiguration {
      * grant_type. Currently only client_credentials is supported
      **/
     private final String grant_type = "client_credentials";
+    /**
+     * seconds before expiry at which the token of the puris client is renewed
+     **/
+    @Value("${puris.dtr.idp.puris-client.refreshahead:30}")
+    private long tokenRefreshAhead;
 
     /**
      * client id of the edc client with read access for DTR
@@ -20,12 +20,31 @@
 
 package org.eclipse.tractusx.puris.backend.common.security;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * Configures the decoder for the bearer tokens of the api.
+ * <p>
+ * The keys of the identity provider are cached for {@code puris.idp.jwks.ttl} seconds and refreshed in the background
+ * {@code puris.idp.jwks.refreshahead} seconds before. A token signed with an unknown key triggers a reload of the keys
+ * at most every {@code puris.idp.jwks.ratelimit} seconds.
+ */
 @Configuration
 public class JwtConfig {
 
@@ -33,10 +52,32 @@ public class JwtConfig {
     private String uri;
     @Value("${puris.idp.realm}")
     private String realm;
+    @Value("${puris.idp.jwks.ttl:300}")
+    private long jwksTimeToLive;
+    @Value("${puris.idp.jwks.refreshahead:30}")
+    private long jwksRefreshAhead;
+    @Value("${puris.idp.jwks.ratelimit:30}")
+    private long jwksRateLimit;
+    @Value("${puris.idp.jwks.timeout:5000}")
+    private int jwksTimeout;
 
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder() throws MalformedURLException {
         var jwksUri = uri + "/realms/" + realm + "/protocol/openid-connect/certs";
-        return NimbusJwtDecoder.withJwkSetUri(jwksUri).build();
+        long refreshTimeout = Math.min(JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT, jwksTimeout);
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder
+            .<SecurityContext>create(URI.create(jwksUri).toURL(), new DefaultResourceRetriever(jwksTimeout, jwksTimeout,
+                JWKSourceBuilder.DEFAULT_HTTP_SIZE_LIMIT))
+            .cache(Duration.ofSeconds(jwksTimeToLive).toMillis(), refreshTimeout)
+            .refreshAheadCache(Duration.ofSeconds(jwksRefreshAhead).toMillis(), true)
+            .rateLimited(Duration.ofSeconds(jwksRateLimit).toMillis())
+            .build();
+
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // the claims are validated by the decoder, as with the default decoder
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
     }
 }
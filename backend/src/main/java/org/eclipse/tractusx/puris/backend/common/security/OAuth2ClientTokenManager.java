@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.FormBody;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Obtains and caches an access token of an OAuth2 client (e.g. client credential flow).
+ * <p>
+ * The token is kept until it expires according to {@code expires_in} of the token response. Once less than the
+ * refresh ahead time is left, the next caller triggers a refresh in the background and still gets the current token.
+ * Concurrent callers share one token request, so the identity provider is called at most once at a time.
+ */
+@Slf4j
+public class OAuth2ClientTokenManager {
+
+    public static final String KEY_GRANT_TYPE = "grant_type";
+    public static final String KEY_CLIENT_ID = "client_id";
+    public static final String KEY_CLIENT_SECRET = "client_secret";
+
+    private final ObjectMapper objectMapper;
+    private final String tokenUrl;
+    private final String clientId;
+    private final String clientSecret;
+    private final String grantType;
+    private final Duration refreshAhead;
+    private final Clock clock;
+
+    /**
+     * one client for all token requests
+     **/
+    private final OkHttpClient client = new OkHttpClient();
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "oauth2-token-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * contains the token, if obtained
+     **/
+    private final AtomicReference<Token> token = new AtomicReference<>();
+
+    /**
+     * the running token request, if any
+     **/
+    private final AtomicReference<CompletableFuture<Token>> pending = new AtomicReference<>();
+
+    private final Timer fetched;
+    private final Timer failed;
+
+    private record Token(String value, Instant refreshAt, Instant expiresAt) {
+    }
+
+    /**
+     * creates a token manager that obtains tokens using the given client
+     *
+     * @param objectMapper  to parse and read json value
+     * @param tokenUrl      to authenticate against (full url including realm and protocol)
+     * @param clientId      to authenticate against
+     * @param clientSecret  to authenticate with
+     * @param grantType     to use as flow (e.g. client_credentials)
+     * @param refreshAhead  time before expiry at which the token is renewed
+     * @param meterRegistry to report the token requests to, tagged with the client id
+     */
+    public OAuth2ClientTokenManager(ObjectMapper objectMapper, String tokenUrl, String clientId, String clientSecret,
+                                    String grantType, Duration refreshAhead, MeterRegistry meterRegistry) {
+        this(objectMapper, tokenUrl, clientId, clientSecret, grantType, refreshAhead, meterRegistry, Clock.systemUTC());
+    }
+
+    OAuth2ClientTokenManager(ObjectMapper objectMapper, String tokenUrl, String clientId, String clientSecret,
+                             String grantType, Duration refreshAhead, MeterRegistry meterRegistry, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.tokenUrl = tokenUrl;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.grantType = grantType;
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+        fetched = Timer.builder("puris.oauth2.client.token.requests").tag("client", clientId).tag("result", "success")
+            .description("Token requests against the identity provider").register(meterRegistry);
+        failed = Timer.builder("puris.oauth2.client.token.requests").tag("client", clientId).tag("result", "failure")
+            .description("Token requests against the identity provider").register(meterRegistry);
+    }
+
+    /**
+     * Returns a valid token, requesting a new one only if there is none or it has expired.
+     *
+     * @return the access token or null, if it could not be obtained
+     */
+    public String getToken() {
+        Token current = token.get();
+        Instant now = clock.instant();
+        if (current != null && now.isBefore(current.expiresAt())) {
+            if (!now.isBefore(current.refreshAt())) {
+                refresh(refresher);
+            }
+            return current.value();
+        }
+        Token obtained = refresh(Runnable::run).join();
+        return obtained == null ? null : obtained.value();
+    }
+
+    /**
+     * Discards the token, e.g. because it has been rejected. Does nothing if the token has already been replaced.
+     *
+     * @param rejected the rejected token
+     */
+    public void invalidate(String rejected) {
+        Token current = token.get();
+        if (current != null && current.value().equals(rejected)) {
+            token.compareAndSet(current, null);
+        }
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Starts a token request on the given executor unless one is already running.
+     *
+     * @param executor runs the token request
+     * @return the running token request, completed with null if the token could not be obtained
+     */
+    private CompletableFuture<Token> refresh(Executor executor) {
+        while (true) {
+            CompletableFuture<Token> running = pending.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Token> request = new CompletableFuture<>();
+            if (pending.compareAndSet(null, request)) {
+                executor.execute(() -> {
+                    Token obtained = null;
+                    try {
+                        obtained = obtainAccessToken();
+                        if (obtained != null) {
+                            token.set(obtained);
+                        }
+                    } finally {
+                        pending.set(null);
+                        request.complete(obtained);
+                    }
+                });
+                return request;
+            }
+        }
+    }
+
+    /**
+     * performs OAuth2 client credential request
+     *
+     * @return the obtained token, null if not obtained
+     */
+    private Token obtainAccessToken() {
+        RequestBody requestBody = new FormBody.Builder()
+            .add(KEY_GRANT_TYPE, grantType)
+            .add(KEY_CLIENT_ID, clientId)
+            .add(KEY_CLIENT_SECRET, clientSecret)
+            .build();
+
+        Request tokenRequest = new Request.Builder()
+            .url(tokenUrl)
+            .post(requestBody)
+            .build();
+
+        long start = System.nanoTime();
+        try (Response tokenResponse = client.newCall(tokenRequest).execute()) {
+            if (tokenResponse.isSuccessful() && tokenResponse.body() != null) {
+                JsonNode body = objectMapper.readTree(tokenResponse.body().string());
+                Instant now = clock.instant();
+                // tokens without expires_in are kept until they are rejected
+                Instant expiresAt = body.hasNonNull("expires_in") ? now.plusSeconds(body.get("expires_in").asLong()) : Instant.MAX;
+                Instant refreshAt = expiresAt == Instant.MAX ? Instant.MAX : expiresAt.minus(refreshAhead);
+                Token obtained = new Token(body.get("access_token").asText(), refreshAt, expiresAt);
+                fetched.record(Duration.ofNanos(System.nanoTime() - start));
+                return obtained;
+            }
+            log.error("JWT could not be obtained. Please check configuration.");
+        } catch (Exception e) {
+            log.error("Obtaining JWT failed: {}", e.toString());
+        }
+        failed.record(Duration.ofNanos(System.nanoTime() - start));
+        return null;
+    }
+}
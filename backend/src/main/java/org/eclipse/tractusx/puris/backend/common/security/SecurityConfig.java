@@ -20,6 +20,8 @@
  */
 package org.eclipse.tractusx.puris.backend.common.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -28,8 +30,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import jakarta.servlet.DispatcherType;
 import org.eclipse.tractusx.puris.backend.common.security.logic.ApiKeyAuthenticationFilter;
+import org.eclipse.tractusx.puris.backend.common.security.logic.CachingJwtAuthenticationManager;
 import org.eclipse.tractusx.puris.backend.common.security.logic.KeycloakJwtAuthenticationConverter;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -41,12 +45,14 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -59,6 +65,9 @@ public class SecurityConfig {
     @Value("${puris.idp.client.id}")
     private String authorizedParty;
 
+    @Value("${puris.idp.jwt.cache.size:1000}")
+    private int jwtCacheSize;
+
     public static final String API_KEY_HEADER_NAME = "X-API-KEY";
 
     private final ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
@@ -98,7 +107,7 @@ public class SecurityConfig {
      * Configuration of API Key Authentication for all routes except docker
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtDecoder jwtDecoder, ObjectProvider<MeterRegistry> meterRegistry) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(
                 // any request in spring context
@@ -138,7 +147,8 @@ public class SecurityConfig {
             .sessionManagement(
                 (sessionManagement) -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
-            .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(new KeycloakJwtAuthenticationConverter(authorizedParty))))
+            .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.authenticationManager(new CachingJwtAuthenticationManager(jwtDecoder,
+                new KeycloakJwtAuthenticationConverter(authorizedParty), jwtCacheSize, meterRegistry.getIfAvailable(SimpleMeterRegistry::new)))))
             .cors(Customizer.withDefaults());
 
 
@@ -147,10 +157,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "puris.dtr.idp.enabled", havingValue = "true")
+    public OAuth2ClientTokenManager dtrTokenManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OAuth2ClientTokenManager(objectMapper, dtrSecurityConfiguration.getTokenUrl(), dtrSecurityConfiguration.getPurisClientId(),
+            dtrSecurityConfiguration.getPurisClientSecret(), dtrSecurityConfiguration.getGrant_type(),
+            Duration.ofSeconds(dtrSecurityConfiguration.getTokenRefreshAhead()), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
     @Bean
     @ConditionalOnProperty(name = "puris.dtr.idp.enabled", havingValue = "true")
-    public OAuth2ClientInterceptor oAuth2ClientInterceptor() {
-        return new OAuth2ClientInterceptor(objectMapper, dtrSecurityConfiguration.getTokenUrl(), dtrSecurityConfiguration.getPurisClientId(), dtrSecurityConfiguration.getPurisClientSecret(), dtrSecurityConfiguration.getGrant_type());
+    public OAuth2ClientInterceptor oAuth2ClientInterceptor(OAuth2ClientTokenManager dtrTokenManager) {
+        return new OAuth2ClientInterceptor(dtrTokenManager);
     }
 
 }
@@ -18,32 +18,155 @@
  */
 package org.eclipse.tractusx.puris.backend.common.security.logic;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Anonymizes identifiers (e.g. global asset IDs, BPNS) sent to a partner as part of an
  * anonymized SAMM payload, by hashing them with HMAC-SHA256 keyed with a per-request salt
  * (e.g. the contract agreement id) so hashes cannot be correlated across agreements.
+ * <p>
+ * Each thread keeps the initialized {@link Mac} of the salts it used last, so the key is
+ * not set up again for each value. Payloads should be anonymized with {@link #anonymizeAll},
+ * which hashes each distinct value only once.
+ * <p>
+ * Since the same identifiers are sent again with every request under the same contract agreement,
+ * the hashes are additionally kept in a cache shared by all threads, with one concurrent map per salt.
+ * The cache is bounded by {@code puris.anonymization.cache.maxentries}. If it is exceeded, the hashes
+ * of other salts are dropped first, whole salts at a time. A value of 0 disables it.
  */
 @Service
 public class AnonymizationService {
 
     private static final String HMAC_ALGORITHM = "HmacSHA256";
 
+    /**
+     * number of salts per thread whose initialized mac is kept
+     */
+    private static final int MACS_PER_THREAD = 8;
+
+    private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(() ->
+        new LinkedHashMap<>(MACS_PER_THREAD, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mac> eldest) {
+                return size() > MACS_PER_THREAD;
+            }
+        });
+
+    @Value("${puris.anonymization.cache.maxentries:10000}")
+    private int maxEntries = 10000;
+
+    /**
+     * cached hashes by salt and value
+     */
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
     public String anonymize(String value, String salt) {
+        return cachedHash(salt, value);
+    }
+
+    /**
+     * Anonymizes several values with the same salt, e.g. all identifiers of one payload.
+     *
+     * @param values the values, may contain duplicates
+     * @param salt   the salt
+     * @return the anonymized values in the given order
+     */
+    public List<String> anonymizeAll(List<String> values, String salt) {
+        Map<String, String> anonymized = new HashMap<>();
+        List<String> result = new ArrayList<>(values.size());
+        for (String value : values) {
+            result.add(anonymized.computeIfAbsent(value, key -> cachedHash(salt, key)));
+        }
+        return result;
+    }
+
+    /**
+     * Anonymizes several values with the same salt, e.g. all identifiers of one payload.
+     *
+     * @param values the values, may contain duplicates
+     * @param salt   the salt
+     * @return the anonymized values in the given order
+     */
+    public String[] anonymizeAll(String[] values, String salt) {
+        return anonymizeAll(Arrays.asList(values), salt).toArray(String[]::new);
+    }
+
+    private String cachedHash(String salt, String value) {
+        if (maxEntries <= 0) {
+            return hash(mac(salt), value);
+        }
+        Map<String, String> saltHashes = hashes.computeIfAbsent(salt, key -> new ConcurrentHashMap<>());
+        String hash = saltHashes.get(value);
+        if (hash == null) {
+            hash = hash(mac(salt), value);
+            if (saltHashes.putIfAbsent(value, hash) == null && size.incrementAndGet() > maxEntries) {
+                evict(salt);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Drops the hashes of other salts, and if that is not sufficient those of the given salt, until
+     * the cache is within its bound again. Only one thread evicts at a time, the others go on.
+     * The number of entries is recounted afterwards, since hashes may still have been added to a
+     * dropped map.
+     *
+     * @param salt the salt currently in use
+     */
+    private void evict(String salt) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
-            mac.init(new SecretKeySpec(salt.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
-            byte[] hmacBytes = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(hmacBytes);
-        } catch (GeneralSecurityException e) {
-            throw new IllegalStateException("Failed to anonymize value", e);
+            for (String other : hashes.keySet()) {
+                if (!other.equals(salt) && size.get() > maxEntries) {
+                    size.addAndGet(-hashes.remove(other).size());
+                }
+            }
+            if (size.get() > maxEntries) {
+                hashes.remove(salt);
+            }
+            size.set(hashes.values().stream().mapToInt(Map::size).sum());
+        } finally {
+            evicting.set(false);
         }
     }
+
+    private static Mac mac(String salt) {
+        return MACS.get().computeIfAbsent(salt, key -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to anonymize value", e);
+            }
+        });
+    }
+
+    private static String hash(Mac mac, String value) {
+        // doFinal resets the mac, so it can be used for the next value with the same key
+        return Base64.getEncoder().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security.logic;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Authenticates bearer tokens and remembers the authentication of each valid token until it expires.
+ * <p>
+ * Repeated requests with the same token, e.g. of the dashboards, neither verify the signature again nor convert the
+ * claims to authorities. Tokens are identified by their SHA-256 hash, at most {@code maxSize} tokens are kept and the
+ * least recently used one is dropped first. Invalid tokens are not cached.
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+
+    private final JwtAuthenticationProvider delegate;
+
+    private final Clock clock;
+
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private record Entry(Authentication authentication, Instant expiresAt) {
+    }
+
+    /**
+     * @param jwtDecoder    to validate the tokens
+     * @param converter     to create the authentication of a valid token
+     * @param maxSize       maximum number of cached tokens
+     * @param meterRegistry to report the cache requests to
+     */
+    public CachingJwtAuthenticationManager(JwtDecoder jwtDecoder, Converter<Jwt, ? extends AbstractAuthenticationToken> converter,
+                                           int maxSize, MeterRegistry meterRegistry) {
+        this(jwtDecoder, converter, maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtAuthenticationManager(JwtDecoder jwtDecoder, Converter<Jwt, ? extends AbstractAuthenticationToken> converter,
+                                    int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = new JwtAuthenticationProvider(jwtDecoder);
+        this.delegate.setJwtAuthenticationConverter(converter);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        hits = Counter.builder("puris.security.jwt.cache.requests").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("puris.security.jwt.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("puris.security.jwt.cache.size", this, CachingJwtAuthenticationManager::size).register(meterRegistry);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+        String key = hash(bearer.getToken());
+        Instant now = clock.instant();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && !now.isBefore(entry.expiresAt())) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            return withDetails(entry.authentication(), bearer);
+        }
+        misses.increment();
+        Authentication result = delegate.authenticate(bearer);
+        if (result instanceof AbstractAuthenticationToken token && token.getCredentials() instanceof Jwt jwt
+            && jwt.getExpiresAt() != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry(result, jwt.getExpiresAt()));
+            }
+        }
+        return result;
+    }
+
+    private static Authentication withDetails(Authentication cached, BearerTokenAuthenticationToken bearer) {
+        if (cached instanceof JwtAuthenticationToken jwtAuthentication) {
+            // the details, e.g. the remote address, belong to the current request
+            JwtAuthenticationToken authentication = new JwtAuthenticationToken(jwtAuthentication.getToken(),
+                jwtAuthentication.getAuthorities(), jwtAuthentication.getName());
+            authentication.setDetails(bearer.getDetails());
+            return authentication;
+        }
+        return cached;
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a JSON array element by element directly to the response output stream.
+ *
+ * <p>Used for large exports where building the full result list in memory is not
+ * an option. The producer is executed on the asynchronous request thread and receives
+ * a sink that serializes and flushes each element as soon as it is emitted.</p>
+ */
+public final class JsonArrayStreamer {
+
+    private JsonArrayStreamer() {
+    }
+
+    /**
+     * Creates a streaming response body that writes all elements emitted by the producer
+     * as one JSON array.
+     *
+     * @param objectMapper mapper used to serialize the elements
+     * @param producer     emits the elements into the given sink
+     * @return the streaming response body
+     */
+    public static <T> StreamingResponseBody of(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                producer.accept(element -> {
+                    try {
+                        generator.writeObject(element);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+}
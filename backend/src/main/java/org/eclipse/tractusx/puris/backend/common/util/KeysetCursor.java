@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+/**
+ * Encodes and decodes the keyset of a {@link KeysetScrollPosition} into an opaque,
+ * url-safe cursor string that can be handed out to API consumers.
+ *
+ * <p>A cursor only contains the values of the sort keys of the last element of a page.
+ * The next page is then queried with a {@code WHERE (key1, key2) > (value1, value2)}
+ * condition, so that the database never has to skip rows (no offset paging).</p>
+ */
+public final class KeysetCursor {
+
+    /**
+     * Default number of elements per page if the client did not request a size.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Upper bound for the number of elements per page.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Number of elements loaded per round trip when streaming a result set.
+     */
+    public static final int STREAM_CHUNK_SIZE = 500;
+
+    private static final String KEY_SEPARATOR = "&";
+    private static final String VALUE_SEPARATOR = "=";
+    private static final String TYPE_SEPARATOR = ":";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Returns the requested page size bounded to [1, {@link #MAX_PAGE_SIZE}] or
+     * the {@link #DEFAULT_PAGE_SIZE}, if no size was requested.
+     *
+     * @param size requested page size
+     * @return page size to use for the query
+     */
+    public static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Encodes the given scroll position into a cursor.
+     *
+     * @param position position as returned by a window query
+     * @return the cursor or null, if the position is the initial position
+     */
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, ?> entry : keyset.getKeys().entrySet()) {
+            if (!builder.isEmpty()) {
+                builder.append(KEY_SEPARATOR);
+            }
+            builder.append(urlEncode(entry.getKey()))
+                .append(VALUE_SEPARATOR)
+                .append(encodeValue(entry.getValue()));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into a forward scrolling keyset position.
+     *
+     * @param cursor cursor as handed out by {@link #encode(ScrollPosition)}, may be null or empty
+     * @return the decoded position or the initial keyset position, if no cursor was given
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String pair : decoded.split(KEY_SEPARATOR)) {
+            String[] keyAndValue = pair.split(VALUE_SEPARATOR, 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Malformed cursor.");
+            }
+            keys.put(urlDecode(keyAndValue[0]), decodeValue(keyAndValue[1]));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String encodeValue(Object value) {
+        if (value instanceof Date date) {
+            return "d" + TYPE_SEPARATOR + date.getTime();
+        }
+        if (value instanceof UUID uuid) {
+            return "u" + TYPE_SEPARATOR + uuid;
+        }
+        if (value instanceof String string) {
+            return "s" + TYPE_SEPARATOR + urlEncode(string);
+        }
+        throw new IllegalArgumentException(String.format("Unsupported keyset value type '%s'.",
+            value == null ? null : value.getClass().getSimpleName()));
+    }
+
+    private static Object decodeValue(String value) {
+        String[] typeAndValue = value.split(TYPE_SEPARATOR, 2);
+        if (typeAndValue.length != 2) {
+            throw new IllegalArgumentException("Malformed cursor.");
+        }
+        return switch (typeAndValue[0]) {
+            case "d" -> new Date(Long.parseLong(typeAndValue[1]));
+            case "u" -> UUID.fromString(typeAndValue[1]);
+            case "s" -> urlDecode(typeAndValue[1]);
+            default -> throw new IllegalArgumentException("Malformed cursor.");
+        };
+    }
+
+    private static String urlEncode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String urlDecode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements that Hibernate prepares on the current thread.
+ * <p>
+ * Registered as statement inspector of the session factory, see
+ * {@link org.eclipse.tractusx.puris.backend.common.JpaConfig}. The counter is meant to
+ * make the number of queries of a use case visible, e.g. to assert in tests that loading
+ * a partner with its sites does not trigger one query per site.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * @return the number of statements prepared on the current thread since the last reset
+     */
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Resets the counter of the current thread.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+}
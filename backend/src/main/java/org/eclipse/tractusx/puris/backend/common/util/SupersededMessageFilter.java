@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * Drops messages to a client that are superseded by a newer message for the same subscription before they have
+ * been sent.
+ * <p>
+ * Only destinations whose messages carry the complete state, e.g. the result of a material refresh or the state of
+ * an import job, may be configured. If a client cannot keep up, messages queue up in the outbound channel. Then only
+ * the latest message per session, subscription and destination is sent, the older ones are dropped. The entries
+ * of a session are removed when it disconnects.
+ */
+public class SupersededMessageFilter implements ExecutorChannelInterceptor, ApplicationListener<SessionDisconnectEvent> {
+
+    private static final String SEQUENCE_HEADER = "purisSequence";
+
+    private final List<String> patterns;
+
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * The sequence number of the latest queued message per subscription.
+     */
+    private final Map<Key, Long> latest = new ConcurrentHashMap<>();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private record Key(String sessionId, String subscriptionId, String destination) {
+    }
+
+    /**
+     * @param patterns ant patterns of the destinations whose messages supersede each other, e.g. {@code /topic/material/*}
+     */
+    public SupersededMessageFilter(List<String> patterns) {
+        this.patterns = patterns.stream().map(String::trim).filter(pattern -> !pattern.isEmpty()).toList();
+    }
+
+    /**
+     * @return the number of messages dropped since the start
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        Key key = key(message);
+        if (key == null) {
+            return message;
+        }
+        long messageSequence = sequence.incrementAndGet();
+        latest.put(key, messageSequence);
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(SEQUENCE_HEADER, messageSequence);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    /**
+     * Forgets a message that has passed {@link #preSend} but will not be handled, e.g. because the outbound
+     * queue is full.
+     *
+     * @param message the discarded message
+     */
+    public void discard(Message<?> message) {
+        Long messageSequence = message.getHeaders().get(SEQUENCE_HEADER, Long.class);
+        Key key = key(message);
+        if (messageSequence != null && key != null) {
+            latest.remove(key, messageSequence);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull SessionDisconnectEvent event) {
+        latest.keySet().removeIf(key -> key.sessionId().equals(event.getSessionId()));
+    }
+
+    @Override
+    public Message<?> beforeHandle(@NonNull Message<?> message, @NonNull MessageChannel channel, @NonNull MessageHandler handler) {
+        Long messageSequence = message.getHeaders().get(SEQUENCE_HEADER, Long.class);
+        if (messageSequence == null) {
+            return message;
+        }
+        // the latest message removes its entry, a newer one has replaced the entry of an older message
+        if (latest.remove(key(message), messageSequence)) {
+            return message;
+        }
+        dropped.incrementAndGet();
+        return null;
+    }
+
+    private Key key(Message<?> message) {
+        if (patterns.isEmpty() || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (destination == null || sessionId == null || patterns.stream().noneMatch(pattern -> matcher.match(pattern, destination))) {
+            return null;
+        }
+        return new Key(sessionId, SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()), destination);
+    }
+}
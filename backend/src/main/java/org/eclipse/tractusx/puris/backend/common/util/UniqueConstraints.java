@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+import javax.management.openmbean.KeyAlreadyExistsException;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Helper to let the database decide about duplicates on insert.
+ * <p>
+ * Instead of loading a table to check whether an entity already exists, the natural key of
+ * the entity is backed by a unique constraint. A violation of such a constraint is then
+ * translated into a {@link KeyAlreadyExistsException}, which controllers and api services
+ * already answer with {@code 409 CONFLICT}. Other integrity violations (e.g. foreign keys)
+ * are passed on unchanged.
+ */
+public final class UniqueConstraints {
+
+    /**
+     * SQL state of a unique violation as defined by the SQL standard (PostgreSQL, HSQLDB, H2).
+     */
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * Executes the given insert and maps a unique constraint violation to a {@link KeyAlreadyExistsException}.
+     * <p>
+     * The insert should flush (e.g. {@code saveAndFlush}) so that the violation is raised within this
+     * call even if a surrounding transaction is active.
+     *
+     * @param insert  the insert to execute
+     * @param message message of the exception thrown on a duplicate
+     * @param <T>     type of the inserted entity
+     * @return the result of the insert
+     * @throws KeyAlreadyExistsException if the insert violated a unique constraint
+     */
+    public static <T> T insert(Supplier<T> insert, String message) {
+        try {
+            return insert.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new KeyAlreadyExistsException(message);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the given exception has been caused by a violated unique constraint.
+     *
+     * @param e exception to inspect
+     * @return true, if a unique constraint has been violated
+     */
+    public static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException cve
+                && cve.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -17,13 +17,21 @@ under the License.
 SPDX-License-Identifier: Apache-2.0
 */
 package org.eclipse.tractusx.puris.backend.dataexchangerequest.controller;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutEntryDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutStatusEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.FanOutOrchestrator;
 import org.eclipse.tractusx.puris.backend.dataexchangeapproval.controller.DataExchangeApprovalController;
 import org.eclipse.tractusx.puris.backend.dataexchangeapproval.domain.model.OwnDataExchangeApproval;
 import org.eclipse.tractusx.puris.backend.dataexchangeapproval.domain.model.ReportedDataExchangeApproval;
@@ -34,6 +42,7 @@ import org.eclipse.tractusx.puris.backend.dataexchangeapproval.logic.service.Rep
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.OwnDataExchangeRequest;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.ReportedDataExchangeRequest;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.dto.DataExchangeRequestDto;
+import org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.dto.DataExchangeRequestFanOutDto;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.service.DataExchangeRequestApiService;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.service.OwnDataExchangeRequestService;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.service.ReportedDataExchangeRequestService;
@@ -84,6 +93,8 @@ public class DataExchangeRequestController {
     private ModelMapper modelMapper;
     @Autowired
     private ExecutorService executorService;
+    @Autowired
+    private FanOutOrchestrator fanOutOrchestrator;
 
     @GetMapping
     @ResponseBody
@@ -129,6 +140,96 @@ public class DataExchangeRequestController {
         }
     }
 
+    @PostMapping("fan-out")
+    @ResponseBody
+    @Operation(summary = "Sends one data exchange request to several partners",
+        description = "Creates an own data exchange request for each of the referenced reported notifications and " +
+            "sends it to the partner that reported the notification. The requests are sent in the background, " +
+            "the progress can be queried with the returned uuid.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Requests were created, see the entries for partners that were rejected."),
+            @ApiResponse(responseCode = "400", description = "Malformed or invalid request body.", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.", content = @Content)
+    })
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public FanOutDto fanOutDataExchangeRequest(@RequestBody DataExchangeRequestFanOutDto fanOutDto) {
+        if (fanOutDto.getRequest() == null || fanOutDto.getNotificationIds() == null || fanOutDto.getNotificationIds().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request and notificationIds are required.");
+        }
+        OwnDataExchangeRequest payload = modelMapper.map(fanOutDto.getRequest(), OwnDataExchangeRequest.class);
+        payload.setUuid(null);
+        payload.setRequestId(null);
+        // the payload is validated once, per partner only the checks against the notification remain
+        List<String> errors = ownDataExchangeRequestService.validatePayload(payload);
+        if (!errors.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Own Data Exchange Request is invalid. " + String.join(" ", errors));
+        }
+
+        Map<UUID, ReportedDemandAndCapacityNotification> notifications = new HashMap<>();
+        for (var notification : reportedDemandAndCapacityNotificationService.findAllByNotificationIds(fanOutDto.getNotificationIds())) {
+            notifications.put(notification.getNotificationId(), notification);
+        }
+        List<FanOutEntryDto> entries = new ArrayList<>();
+        List<OwnDataExchangeRequest> requests = new ArrayList<>();
+        for (UUID notificationId : new LinkedHashSet<>(fanOutDto.getNotificationIds())) {
+            ReportedDemandAndCapacityNotification notification = notifications.get(notificationId);
+            if (notification == null) {
+                entries.add(FanOutEntryDto.builder().status(FanOutStatusEnum.REJECTED)
+                    .error("Referenced notification " + notificationId + " does not exist.").build());
+                continue;
+            }
+            OwnDataExchangeRequest request = modelMapper.map(fanOutDto.getRequest(), OwnDataExchangeRequest.class);
+            request.setUuid(null);
+            request.setRequestId(null);
+            request.setNotification(notification);
+            List<String> requestErrors = ownDataExchangeRequestService.validateAgainstNotification(request);
+            FanOutEntryDto entry = FanOutEntryDto.builder().partnerBpnl(notification.getPartner().getBpnl()).build();
+            if (requestErrors.isEmpty()) {
+                entry.setStatus(FanOutStatusEnum.PENDING);
+                requests.add(request);
+            } else {
+                entry.setStatus(FanOutStatusEnum.REJECTED);
+                entry.setError(String.join(" ", requestErrors));
+            }
+            entries.add(entry);
+        }
+
+        try {
+            List<OwnDataExchangeRequest> created = ownDataExchangeRequestService.createAll(requests);
+            List<FanOutOrchestrator.Delivery> deliveries = new ArrayList<>();
+            int next = 0;
+            for (FanOutEntryDto entry : entries) {
+                if (entry.getStatus() != FanOutStatusEnum.PENDING) {
+                    deliveries.add(new FanOutOrchestrator.Delivery(entry, null));
+                    continue;
+                }
+                OwnDataExchangeRequest request = created.get(next++);
+                Partner partner = request.getNotification().getPartner();
+                entry.setUuid(request.getUuid());
+                deliveries.add(new FanOutOrchestrator.Delivery(entry,
+                    () -> dataExchangeRequestApiService.sendDataExchangeRequest(request, partner)));
+            }
+            return fanOutOrchestrator.start(deliveries);
+        } catch (KeyAlreadyExistsException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Own Data Exchange Request already exists.");
+        } catch (Exception e) {
+            log.error("Error while creating own data exchange requests", e);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "An error occurred while creating the own data exchange requests.");
+        }
+    }
+
+    @GetMapping("fan-out/{id}")
+    @ResponseBody
+    @Operation(summary = "Get the progress of a fan-out", description = "Get the delivery state per partner of a data exchange request sent to several partners. " +
+        "Only recent fan-outs since the last start of the application are known.")
+    public FanOutDto getFanOut(@PathVariable UUID id) {
+        FanOutDto fanOut = fanOutOrchestrator.find(id);
+        if (fanOut == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fan-out does not exist.");
+        }
+        return fanOut;
+    }
+
     @PostMapping("reported/{id}/approvals")
     @ResponseBody
     @Operation(summary = "Creates a new own data exchange approval", description = "Creates a new own data exchange approval in response to an existing ReportedDataExchangeRequest. \n")
@@ -61,6 +61,7 @@ public abstract class DataExchangeRequest {
     protected UUID uuid;
     @NotNull
     @Pattern(regexp = PatternStore.URN_OR_UUID_STRING)
+    @Column(unique = true)
     protected String requestId;
 
     @NotNull
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * One data exchange request to be sent to several partners. A request is created for each of the referenced
+ * reported notifications and sent to the partner that reported it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class DataExchangeRequestFanOutDto {
+
+    /**
+     * The content of the requests. Its notificationId is ignored.
+     */
+    @NotNull
+    private DataExchangeRequestDto request;
+
+    @NotEmpty
+    private List<@NotNull UUID> notificationIds;
+}
@@ -85,13 +85,23 @@ public class DataExchangeRequestApiService {
         }
     }
 
-    public void sendDataExchangeRequest(OwnDataExchangeRequest request, Partner partner) {
+    /**
+     * @param request the request to send
+     * @param partner the receiving partner
+     * @return true, if the partner has accepted the request
+     */
+    public boolean sendDataExchangeRequest(OwnDataExchangeRequest request, Partner partner) {
         var body = createDataExchangeRequestBody(request);
         try {
-            edcAdapterService.doDataExchangeRequestPostRequest(partner, body);
+            if (edcAdapterService.doDataExchangeRequestPostRequest(partner, body) == null) {
+                log.error("Data Exchange Request was not accepted by partner " + partner.getBpnl());
+                return false;
+            }
             log.info("Successfully sent Data Exchange Request to partner " + partner.getBpnl()); 
+            return true;
         } catch (Exception e) {
             log.error("Error in ReportedDataExchangeRequest for partner " + partner.getBpnl(), e);
+            return false;
         }
     }
 
@@ -21,8 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import javax.management.openmbean.KeyAlreadyExistsException;
-
+import org.eclipse.tractusx.puris.backend.common.util.UniqueConstraints;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.OwnDataExchangeRequest;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.repository.OwnDataExchangeRequestRepository;
 import org.springframework.stereotype.Service;
@@ -38,16 +37,60 @@ public class OwnDataExchangeRequestService extends DataExchangeRequestService<Ow
         if (ownDataExchangeRequest == null || !validator.apply(ownDataExchangeRequest)) {  
             throw new IllegalArgumentException("Invalid data exchange request");
         }
-        if (repository.findAll().stream().filter(existing -> existing.equals(ownDataExchangeRequest)).findFirst().isPresent()) {
-            throw new KeyAlreadyExistsException("Data exchange request already exists");
-        }
-        if (repository.findByRequestId(ownDataExchangeRequest.getRequestId()).isPresent()) {
-            throw new KeyAlreadyExistsException("Data exchange request already exists");
-        }
         if (ownDataExchangeRequest.getRequestId() == null) {
             ownDataExchangeRequest.setRequestId(UUID.randomUUID().toString());
         }
-        return repository.save(ownDataExchangeRequest);
+        // uniqueness of the request id is enforced by the database
+        return UniqueConstraints.insert(() -> repository.saveAndFlush(ownDataExchangeRequest),
+            "Data exchange request already exists");
+    }
+
+    /**
+     * Creates several requests with one batched insert. In contrast to {@link #create(OwnDataExchangeRequest)}
+     * the requests are not validated again.
+     *
+     * @param ownDataExchangeRequests the requests, all of them must have passed {@link #validatePayload} and
+     *                                {@link #validateAgainstNotification}
+     * @return the created requests
+     */
+    public final List<OwnDataExchangeRequest> createAll(List<OwnDataExchangeRequest> ownDataExchangeRequests) {
+        for (var ownDataExchangeRequest : ownDataExchangeRequests) {
+            if (ownDataExchangeRequest == null) {
+                throw new IllegalArgumentException("Invalid data exchange request");
+            }
+            if (ownDataExchangeRequest.getRequestId() == null) {
+                ownDataExchangeRequest.setRequestId(UUID.randomUUID().toString());
+            }
+        }
+        return UniqueConstraints.insert(() -> repository.saveAllAndFlush(ownDataExchangeRequests),
+            "Data exchange request already exists");
+    }
+
+    /**
+     * Validates the parts of a request that do not depend on the referenced notification.
+     *
+     * @param dataExchangeRequest the request without notification
+     * @return the errors found
+     */
+    public List<String> validatePayload(OwnDataExchangeRequest dataExchangeRequest) {
+        List<String> errors = new ArrayList<>(basicValidation(dataExchangeRequest));
+        if (errors.isEmpty() && !dataExchangeRequest.getDesiredStartDateTime().before(dataExchangeRequest.getDesiredEndDateTime())) {
+            errors.add("desiredStartDateTime must be before desiredEndDateTime.");
+        }
+        return errors;
+    }
+
+    /**
+     * Validates the parts of a request that depend on the referenced notification.
+     *
+     * @param dataExchangeRequest the request, its payload must have passed {@link #validatePayload}
+     * @return the errors found
+     */
+    public List<String> validateAgainstNotification(OwnDataExchangeRequest dataExchangeRequest) {
+        if (dataExchangeRequest.getNotification() == null) {
+            return List.of("Missing notification.");
+        }
+        return validateNotificationDates(dataExchangeRequest);
     }
 
     @Override
@@ -71,6 +114,12 @@ public class OwnDataExchangeRequestService extends DataExchangeRequestService<Ow
         if (!ownDataExchangeRequest.getDesiredStartDateTime().before(ownDataExchangeRequest.getDesiredEndDateTime())) {
             errors.add("desiredStartDateTime must be before desiredEndDateTime.");
         }
+        errors.addAll(validateNotificationDates(ownDataExchangeRequest));
+        return errors;
+    }
+
+    private List<String> validateNotificationDates(OwnDataExchangeRequest ownDataExchangeRequest) {
+        List<String> errors = new ArrayList<>();
         if (ownDataExchangeRequest.getDesiredStartDateTime().before(ownDataExchangeRequest.getNotification().getStartDateOfEffect())) {
             errors.add("desiredStartDateTime must not be before notification startDateOfEffect.");
         }
@@ -21,8 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import javax.management.openmbean.KeyAlreadyExistsException;
-
+import org.eclipse.tractusx.puris.backend.common.util.UniqueConstraints;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.ReportedDataExchangeRequest;
 import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.repository.ReportedDataExchangeRequestRepository;
 import org.springframework.stereotype.Service;
@@ -38,16 +37,12 @@ public class ReportedDataExchangeRequestService extends DataExchangeRequestServi
         if (reportedDataExchangeRequest == null || !validator.apply(reportedDataExchangeRequest)) {  
             throw new IllegalArgumentException("Invalid data exchange request");
         }
-        if (repository.findAll().stream().filter(existing -> existing.equals(reportedDataExchangeRequest)).findFirst().isPresent()) {
-            throw new KeyAlreadyExistsException("Data exchange request already exists");
-        }
-        if (repository.findByRequestId(reportedDataExchangeRequest.getRequestId()).isPresent()) {
-            throw new KeyAlreadyExistsException(String.format("A reported data exchange request for request id %s' already exists", reportedDataExchangeRequest.getRequestId()));
-        }
         if (reportedDataExchangeRequest.getRequestId() == null) {
             reportedDataExchangeRequest.setRequestId(UUID.randomUUID().toString());
         }
-        return repository.save(reportedDataExchangeRequest);
+        // uniqueness of the request id is enforced by the database
+        return UniqueConstraints.insert(() -> repository.saveAndFlush(reportedDataExchangeRequest),
+            String.format("A reported data exchange request for request id %s' already exists", reportedDataExchangeRequest.getRequestId()));
     }
 
     public final ReportedDataExchangeRequest update(ReportedDataExchangeRequest reportedDataExchangeRequest) {
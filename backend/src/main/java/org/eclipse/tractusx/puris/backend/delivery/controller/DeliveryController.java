@@ -31,7 +31,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.CursorPageDto;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.util.DuplicateEntityException;
+import org.eclipse.tractusx.puris.backend.common.util.JsonArrayStreamer;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.ReportedDelivery;
@@ -47,8 +51,10 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialServi
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponseException;
@@ -64,12 +70,16 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
@@ -101,11 +111,23 @@ public class DeliveryController {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
     @Autowired
     private ExecutorService executorService;
 
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
+    @PostConstruct
+    private void registerChangeConverters() {
+        changeEventBus.addConverter(OwnDelivery.class, this::convertToDto);
+        changeEventBus.addConverter(ReportedDelivery.class, this::convertToDto);
+    }
+
     @GetMapping()
     @ResponseBody
     @Operation(summary = "Get all planned deliveries for the given Material",
@@ -123,6 +145,46 @@ public class DeliveryController {
         return List.of(reportedDeliveries, ownDeliveries).stream().flatMap(List::stream).toList();
     }
 
+    @GetMapping("page")
+    @ResponseBody
+    @Operation(summary = "Get a page of own deliveries", description = "Get own deliveries page by page using keyset pagination, sorted by date of departure. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number, origin or destination bpns and partner bpnl.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the page."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<DeliveryDto> getDeliveryPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpns, Optional<String> bpnl, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(ownDeliveryService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpns, bpnl, Optional.empty(),
+                decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping("reported/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of deliveries reported by partners", description = "Get reported deliveries page by page using keyset pagination, sorted by date of departure. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number, origin or destination bpns and partner bpnl.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the page."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<DeliveryDto> getReportedDeliveryPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpns, Optional<String> bpnl, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(reportedDeliveryService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpns, bpnl, Optional.empty(),
+                decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all deliveries", description = "Streams all reported and own deliveries as one JSON array without loading them into memory at once. " +
+        "Optionally filtered by material number, origin or destination bpns and partner bpnl.")
+    public ResponseEntity<StreamingResponseBody> streamDeliveries(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpns, Optional<String> bpnl) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<DeliveryDto>of(objectMapper, sink -> {
+            reportedDeliveryService.forEachByFilters(materialNumber, bpns, bpnl, Optional.empty(), delivery -> sink.accept(convertToDto(delivery)));
+            ownDeliveryService.forEachByFilters(materialNumber, bpns, bpnl, Optional.empty(), delivery -> sink.accept(convertToDto(delivery)));
+        }));
+    }
+
     @PostMapping()
     @ResponseBody
     @Operation(summary = "Creates a new delivery", description = "Creates a new delivery.  \n" +
@@ -245,6 +307,18 @@ public class DeliveryController {
             .toList());
     }
 
+    private Optional<String> decodeMaterialNumber(Optional<String> ownMaterialNumber) {
+        return ownMaterialNumber.map(number -> new String(Base64.getDecoder().decode(number)));
+    }
+
+    private ScrollPosition decodeCursor(Optional<String> cursor) {
+        try {
+            return KeysetCursor.decode(cursor.orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+
     private OwnDelivery convertToEntity(DeliveryDto dto) {
         OwnDelivery entity = modelMapper.map(dto, OwnDelivery.class);
 
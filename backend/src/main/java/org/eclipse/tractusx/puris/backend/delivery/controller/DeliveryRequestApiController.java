@@ -27,6 +27,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.delivery.logic.dto.anonymizeddeliverysamm.DeliveryInformationAnonymized;
@@ -50,6 +51,9 @@ public class DeliveryRequestApiController {
     @Autowired
     private DeliveryRequestApiService deliveryRequestApiService;
 
+    @Autowired
+    private SubmodelResponseCache responseCache;
+
     @Autowired
     private VariablesService variablesService;
 
@@ -61,6 +65,7 @@ public class DeliveryRequestApiController {
         "This endpoint is meant to be accessed by partners via EDC only. ")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Ok"),
+        @ApiResponse(responseCode = "304", description = "Not Modified, the submodel matches the ETag given in If-None-Match", content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
         @ApiResponse(responseCode = "501", description = "Unsupported representation", content = @Content)
@@ -91,13 +96,14 @@ public class DeliveryRequestApiController {
             log.error("SAMM for delivery is null, return 500.");
             return ResponseEntity.status(500).build();
         }
-        return ResponseEntity.ok(samm);
+        return ResponseEntity.ok().eTag(responseCache.getETag(samm)).body(samm);
     }
 
     @Operation(summary = "This endpoint receives the Delivery Information Anonymized Submodel 1.0.0 requests. " +
         "This endpoint is meant to be accessed by our own EDC only.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Ok"),
+        @ApiResponse(responseCode = "304", description = "Not Modified, the submodel matches the ETag given in If-None-Match", content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
         @ApiResponse(responseCode = "403", description = "Access forbidden - self-access only", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
@@ -135,7 +141,7 @@ public class DeliveryRequestApiController {
             log.error("SAMM for delivery is null, return 500.");
             return ResponseEntity.status(500).build();
         }
-        return ResponseEntity.ok(samm);
+        return ResponseEntity.ok().eTag(responseCache.getETag(samm)).body(samm);
     }
 
     @RequestMapping(value = "/**")
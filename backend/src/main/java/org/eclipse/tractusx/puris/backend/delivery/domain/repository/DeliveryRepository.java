@@ -24,7 +24,8 @@ import java.util.UUID;
 
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface DeliveryRepository<T extends Delivery> extends JpaRepository<T, UUID> {
+public interface DeliveryRepository<T extends Delivery> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
     
 }
@@ -42,6 +42,7 @@ import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -121,16 +122,25 @@ public class DeliveryInformationSammMapper {
             log.warn("Can't map delivery list with different materials");
             return null;
         }
+        // all identifiers are anonymized at once, each distinct one only once
+        List<String> identifiers = new ArrayList<>();
+        identifiers.add(material.getMaterialNumberCx());
+        for (var delivery : deliveryList) {
+            identifiers.add(delivery.getOriginBpns());
+            identifiers.add(delivery.getDestinationBpns());
+        }
+        Iterator<String> anonymized = anonymizationService.anonymizeAll(identifiers, salt).iterator();
+
         DeliveryInformationAnonymized samm = new DeliveryInformationAnonymized();
-        samm.setMaterialGlobalAssetIdAnonymized(anonymizationService.anonymize(material.getMaterialNumberCx(), salt));
+        samm.setMaterialGlobalAssetIdAnonymized(anonymized.next());
         samm.setDeliveries(new HashSet<>());
         for (var delivery : deliveryList) {
             var anonymizedDelivery = new DeliveryAnonymized(
                 new ItemQuantityEntity(delivery.getQuantity(), delivery.getMeasurementUnit()),
                 delivery.getLastUpdatedOnDateTime(),
                 Set.of(new TransitEvent(delivery.getDateOfDeparture(), delivery.getDepartureType()), new TransitEvent(delivery.getDateOfArrival(), delivery.getArrivalType())),
-                anonymizationService.anonymize(delivery.getOriginBpns(), salt),
-                anonymizationService.anonymize(delivery.getDestinationBpns(), salt)
+                anonymized.next(),
+                anonymized.next()
             );
             samm.getDeliveries().add(anonymizedDelivery);
         }
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.DeliveryResponsibilityEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
 import org.eclipse.tractusx.puris.backend.delivery.logic.adapter.DeliveryInformationSammMapper;
@@ -68,6 +69,8 @@ public class DeliveryRequestApiService {
     private DeliveryInformationSammMapper sammMapper;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SubmodelResponseCache responseCache;
 
     public DeliveryInformation handleDeliverySubmodelRequest(String bpnl, String materialNumberCx) {
         Partner partner = partnerService.findByBpnl(bpnl);
@@ -85,8 +88,11 @@ public class DeliveryRequestApiService {
             );
             return null;
         }
-        List<OwnDelivery> currentDeliveries = getAllCurrentDeliveriesByMprAndCxNumber(mpr, materialNumberCx);
-        return sammMapper.ownDeliveryToSamm(currentDeliveries, partner, mpr.getMaterial());
+        var key = new SubmodelResponseCache.Key(AssetType.DELIVERY_SUBMODEL, bpnl, materialNumberCx, null, null);
+        return responseCache.get(key, mpr.getMaterial().getOwnMaterialNumber(), () -> {
+            List<OwnDelivery> currentDeliveries = getAllCurrentDeliveriesByMprAndCxNumber(mpr, materialNumberCx);
+            return sammMapper.ownDeliveryToSamm(currentDeliveries, partner, mpr.getMaterial());
+        });
     }
 
     public DeliveryInformationAnonymized handleDeliveryAnonymizedSubmodelRequest(String bpnl, String materialNumberCx, String contractAgreementId) {
@@ -104,8 +110,11 @@ public class DeliveryRequestApiService {
             );
             return null;
         }
-        List<OwnDelivery> currentDeliveries = getAllCurrentDeliveriesByMprAndCxNumber(mpr, materialNumberCx);
-        return sammMapper.ownDeliveryToAnonymizedSamm(currentDeliveries, partner, mpr.getMaterial(), contractAgreementId);
+        var key = new SubmodelResponseCache.Key(AssetType.DELIVERY_ANONYMIZED_SUBMODEL, bpnl, materialNumberCx, null, contractAgreementId);
+        return responseCache.get(key, mpr.getMaterial().getOwnMaterialNumber(), () -> {
+            List<OwnDelivery> currentDeliveries = getAllCurrentDeliveriesByMprAndCxNumber(mpr, materialNumberCx);
+            return sammMapper.ownDeliveryToAnonymizedSamm(currentDeliveries, partner, mpr.getMaterial(), contractAgreementId);
+        });
     }
 
     /**
@@ -185,6 +194,11 @@ public class DeliveryRequestApiService {
             }
             var direction = material.isMaterialFlag() ? DirectionEnum.OUTBOUND : DirectionEnum.INBOUND;
             var data = edcAdapterService.doSubmodelRequest(AssetType.DELIVERY_SUBMODEL, mpr, direction, 1);
+            if (data == EdcAdapterService.SUBMODEL_NOT_MODIFIED) {
+                log.info("ReportedDeliveries for {} and partner {} are up to date", material.getOwnMaterialNumber(), partner.getBpnl());
+                materialService.updateTimestamp(material.getOwnMaterialNumber());
+                return new RefreshResult("ReportedDeliveries for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl() + " are up to date", errors);
+            }
             var samm = objectMapper.treeToValue(data, DeliveryInformation.class);
             var deliveries = sammMapper.sammToReportedDeliveries(samm, partner);
             for (var delivery : deliveries) {
@@ -220,6 +234,7 @@ public class DeliveryRequestApiService {
             for (var newDelivery : deliveries) {
                 reportedDeliveryService.create(newDelivery);
             }
+            edcAdapterService.confirmSubmodelProcessed(AssetType.DELIVERY_SUBMODEL, mpr, direction);
             log.info("Successfully updated ReportedDelivery for {} and partner {}", 
                         material.getOwnMaterialNumber(), partner.getBpnl());
             materialService.updateTimestamp(material.getOwnMaterialNumber());
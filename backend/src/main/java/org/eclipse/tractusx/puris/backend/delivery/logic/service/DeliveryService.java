@@ -29,27 +29,49 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.SortedSet;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.repository.DeliveryRepository;
-import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
-import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
 
 public abstract class DeliveryService<T extends Delivery> {
+    /**
+     * Stable sort order for keyset pagination. The uuid makes the order unique.
+     */
+    private static final Sort KEYSET_SORT = Sort.by("dateOfDeparture", "uuid");
+
     @Autowired
     protected DeliveryRepository<T> repository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
     @Autowired
     private PartnerService partnerService;
 
-    private Partner ownPartnerEntity;
     
     public final List<T> findAll() {
         return repository.findAll();
@@ -65,26 +87,7 @@ public abstract class DeliveryService<T extends Delivery> {
         Optional<String> bpnl,
         Optional<Date> day,
         Optional<DirectionEnum> direction) {
-        Stream<T> stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(delivery -> delivery.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
-        if (direction.isPresent()) {
-            if (ownPartnerEntity == null) {
-                ownPartnerEntity = partnerService.getOwnPartnerEntity();
-            }
-            if (direction.get() == DirectionEnum.INBOUND) {
-                stream = stream.filter(delivery -> ownPartnerEntity.getSites().stream().anyMatch(site -> delivery.getDestinationBpns().equals(site.getBpns())));
-            } else {
-                stream = stream.filter(delivery -> ownPartnerEntity.getSites().stream().anyMatch(site -> delivery.getOriginBpns().equals(site.getBpns())));
-            }
-        }
-        if (bpns.isPresent()) {
-            stream = stream.filter(delivery -> delivery.getDestinationBpns().equals(bpns.get()) || delivery.getOriginBpns().equals(bpns.get()));
-        }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(delivery -> delivery.getPartner().getBpnl().equals(bpnl.get()));
-        }
+        Stream<T> stream = repository.findAll(filterSpecification(ownMaterialNumber, bpns, bpnl, direction)).stream();
         if (day.isPresent()) {
             LocalDate localDayDate = Instant.ofEpochMilli(day.get().getTime())
                 .atOffset(ZoneOffset.UTC)
@@ -102,6 +105,79 @@ public abstract class DeliveryService<T extends Delivery> {
         return stream.toList();
     }
 
+    /**
+     * Returns one page of deliveries matching the filters, ordered by date of departure and uuid.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpns              optional filter by origin or destination site
+     * @param bpnl              optional filter by partner bpnl
+     * @param direction         optional filter by direction relative to the own sites
+     * @param position          keyset position after which the page starts
+     * @param limit             maximum number of deliveries in the page
+     * @return the window of deliveries
+     */
+    public final Window<T> findWindowByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpns,
+        Optional<String> bpnl,
+        Optional<DirectionEnum> direction,
+        ScrollPosition position,
+        int limit) {
+        return repository.findBy(filterSpecification(ownMaterialNumber, bpns, bpnl, direction),
+            query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position));
+    }
+
+    /**
+     * Passes all deliveries matching the filters to the action, loading them chunk by chunk
+     * so that the memory footprint does not depend on the size of the result.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpns              optional filter by origin or destination site
+     * @param bpnl              optional filter by partner bpnl
+     * @param direction         optional filter by direction relative to the own sites
+     * @param action            action to be applied on each delivery
+     */
+    public final void forEachByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpns,
+        Optional<String> bpnl,
+        Optional<DirectionEnum> direction,
+        Consumer<T> action) {
+        WindowIterator.of(position -> {
+                // entities of the previous chunk have already been consumed. Inside a caller's
+                // transaction the context may hold pending changes and must be left alone.
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    entityManager.clear();
+                }
+                return findWindowByFilters(ownMaterialNumber, bpns, bpnl, direction, position, KeysetCursor.STREAM_CHUNK_SIZE);
+            })
+            .startingAt(ScrollPosition.keyset())
+            .forEachRemaining(action);
+    }
+
+    private Specification<T> filterSpecification(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpns,
+        Optional<String> bpnl,
+        Optional<DirectionEnum> direction) {
+        List<String> ownSiteBpns = new ArrayList<>();
+        if (direction.isPresent()) {
+            ownSiteBpns.addAll(partnerService.getLocationIndex(partnerService.getOwnPartnerEntity()).getSiteBpns());
+        }
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            ownMaterialNumber.ifPresent(number -> predicates.add(builder.equal(root.get("material").get("ownMaterialNumber"), number)));
+            direction.ifPresent(dir -> predicates.add(ownSiteBpns.isEmpty()
+                ? builder.disjunction()
+                : root.get(dir == DirectionEnum.INBOUND ? "destinationBpns" : "originBpns").in(ownSiteBpns)));
+            bpns.ifPresent(siteBpns -> predicates.add(builder.or(
+                builder.equal(root.get("destinationBpns"), siteBpns),
+                builder.equal(root.get("originBpns"), siteBpns))));
+            bpnl.ifPresent(partnerBpnl -> predicates.add(builder.equal(root.get("partner").get("bpnl"), partnerBpnl)));
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     public final double getSumOfQuantities(List<T> deliveries) {
         double sum = 0;
         for (T delivery : deliveries) {
@@ -128,11 +204,61 @@ public abstract class DeliveryService<T extends Delivery> {
         if (delivery.getUuid() == null || repository.findById(delivery.getUuid()).isEmpty()) {
             return null;
         }
-        return repository.save(delivery);
+        return publishUpsert(repository.save(delivery));
     }
 
     public final void delete(UUID id) {
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(entity -> {
+            repository.delete(entity);
+            publish(entity, ChangeOperationEnum.DELETE);
+        });
+    }
+
+    /**
+     * Applies a precomputed set of changes, e.g. the result of a file import. The deliveries are neither
+     * validated nor checked for duplicates, this has to be done by the caller. All statements are sent
+     * in JDBC batches when the surrounding transaction is flushed.
+     *
+     * @param inserts deliveries to create
+     * @param updates existing deliveries carrying their uuid and the new values
+     * @param deletes existing deliveries to remove
+     */
+    public final void applyChanges(List<T> inserts, List<T> updates, List<T> deletes) {
+        repository.deleteAll(deletes);
+        repository.saveAll(updates);
+        repository.saveAll(inserts);
+        deletes.forEach(entity -> publish(entity, ChangeOperationEnum.DELETE));
+        publishUpserts(updates);
+        publishUpserts(inserts);
+    }
+
+    /**
+     * Publishes the creation or update of the entity to the clients.
+     *
+     * @param entity the saved entity, may be null
+     * @return the given entity
+     */
+    protected final <E extends T> E publishUpsert(E entity) {
+        if (entity != null) {
+            publish(entity, ChangeOperationEnum.UPSERT);
+        }
+        return entity;
+    }
+
+    /**
+     * Publishes the creation or update of the entities to the clients.
+     *
+     * @param entities the saved entities
+     * @return the given entities
+     */
+    protected final <E extends T> List<E> publishUpserts(List<E> entities) {
+        entities.forEach(this::publishUpsert);
+        return entities;
+    }
+
+    private void publish(T entity, ChangeOperationEnum operation) {
+        changeEventBus.publish(entity.getMaterial() == null ? null : entity.getMaterial().getOwnMaterialNumber(),
+            entity, entity.getUuid(), entity.getPartner() == null ? null : entity.getPartner().getBpnl(), operation);
     }
 
     protected List<String> basicValidation(Delivery delivery) {
@@ -166,10 +292,7 @@ public abstract class DeliveryService<T extends Delivery> {
 
     protected List<String> validateOwnPartner(Delivery delivery) {
         List<String> errors = new ArrayList<>();
-        if (ownPartnerEntity == null) {
-            ownPartnerEntity = partnerService.getOwnPartnerEntity();
-        }
-        if (delivery.getPartner().equals(ownPartnerEntity)) {
+        if (delivery.getPartner().equals(partnerService.getOwnPartnerEntity())) {
             errors.add(String.format("Partner cannot be the same as own partner entity '%s'.", delivery.getPartner().getBpnl()));
         }
         return errors;
@@ -216,11 +339,8 @@ public abstract class DeliveryService<T extends Delivery> {
 
     protected List<String> validateOwnResponsibility(Delivery delivery) {
         List<String> errors = new ArrayList<>();
-        if (ownPartnerEntity == null) {
-            ownPartnerEntity = partnerService.getOwnPartnerEntity();
-        }
-        var ownSites = ownPartnerEntity.getSites();
-        var partnerSites = delivery.getPartner().getSites();
+        var ownSites = partnerService.getLocationIndex(partnerService.getOwnPartnerEntity());
+        var partnerSites = partnerService.getLocationIndex(delivery.getPartner());
 
         if (delivery.getIncoterm() == null) {
             errors.add("Missing Incoterm.");
@@ -271,11 +391,8 @@ public abstract class DeliveryService<T extends Delivery> {
 
     protected List<String> validateReportedResponsibility(Delivery delivery) {
         List<String> errors = new ArrayList<>();
-        if (ownPartnerEntity == null) {
-            ownPartnerEntity = partnerService.getOwnPartnerEntity();
-        }
-        var ownSites = ownPartnerEntity.getSites();
-        var partnerSites = delivery.getPartner().getSites();
+        var ownSites = partnerService.getLocationIndex(partnerService.getOwnPartnerEntity());
+        var partnerSites = partnerService.getLocationIndex(delivery.getPartner());
 
         if (delivery.getIncoterm() == null) {
             errors.add("Missing Incoterm.");
@@ -327,24 +444,21 @@ public abstract class DeliveryService<T extends Delivery> {
      * Validates the location consistency for the supplier path of a Delivery.
      *
      * @param delivery     The Delivery being validated
-     * @param ownSites     The set of sites configured for the own partner entity
-     * @param partnerSites The set of sites configured for delivery partner entity
+     * @param ownSites     The location index of the own partner entity
+     * @param partnerSites The location index of the delivery partner entity
      * @return A list of validation error messages, an empty list means valid
      */
-    protected List<String> validateLocationsAsSupplier(Delivery delivery, SortedSet<Site> ownSites, SortedSet<Site> partnerSites) {
+    protected List<String> validateLocationsAsSupplier(Delivery delivery, PartnerLocationIndex ownSites, PartnerLocationIndex partnerSites) {
         List<String> errors = new ArrayList<>();
 
-        var ownSite = ownSites.stream().filter(site -> site.getBpns().equals(delivery.getOriginBpns())).findFirst();
-        var partnerSite = partnerSites.stream().filter(site -> site.getBpns().equals(delivery.getDestinationBpns())).findFirst();
-        
-        if (!ownSite.isPresent()) {
+        if (!ownSites.containsSite(delivery.getOriginBpns())) {
             errors.add(String.format("Origin site '%s' must match one of the own partner entity's sites (incoterm '%s' with '%s' responsibility).", delivery.getOriginBpns(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
-        } else if (delivery.getOriginBpna() != null && ownSite.get().getAddresses().stream().noneMatch(address -> address.getBpna().equals(delivery.getOriginBpna()))) {
+        } else if (delivery.getOriginBpna() != null && !ownSites.siteContainsAddress(delivery.getOriginBpns(), delivery.getOriginBpna())) {
             errors.add(String.format("Origin address '%s' is not configured for own site '%s' (incoterm '%s' with '%s' responsibility).", delivery.getOriginBpna(), delivery.getOriginBpns(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
         }
-        if (!partnerSite.isPresent()) {
+        if (!partnerSites.containsSite(delivery.getDestinationBpns())) {
             errors.add(String.format("Destination site '%s' must match one site of partner '%s' (incoterm '%s' with '%s' responsibility).", delivery.getDestinationBpns(), delivery.getPartner().getBpnl(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
-        } else if (delivery.getDestinationBpna() != null && partnerSite.get().getAddresses().stream().noneMatch(address -> address.getBpna().equals(delivery.getDestinationBpna()))) {
+        } else if (delivery.getDestinationBpna() != null && !partnerSites.siteContainsAddress(delivery.getDestinationBpns(), delivery.getDestinationBpna())) {
             errors.add(String.format("Destination address '%s' is not configured for site '%s' of partner '%s' (incoterm '%s' with '%s' responsibility).", delivery.getDestinationBpna(), delivery.getDestinationBpns(), delivery.getPartner().getBpnl(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
         }
 
@@ -355,24 +469,21 @@ public abstract class DeliveryService<T extends Delivery> {
      * Validates the location consistency for the customer path of a Delivery.
      *
      * @param delivery     The Delivery being validated
-     * @param ownSites     The set of sites configured for the own partner entity
-     * @param partnerSites The set of sites configured for delivery partner entity
+     * @param ownSites     The location index of the own partner entity
+     * @param partnerSites The location index of the delivery partner entity
      * @return A list of validation error messages, an empty list means valid
      */
-    protected List<String> validateLocationsAsCustomer(Delivery delivery, SortedSet<Site> ownSites, SortedSet<Site> partnerSites) {
+    protected List<String> validateLocationsAsCustomer(Delivery delivery, PartnerLocationIndex ownSites, PartnerLocationIndex partnerSites) {
         List<String> errors = new ArrayList<>();
 
-        var ownSite = ownSites.stream().filter(site -> site.getBpns().equals(delivery.getDestinationBpns())).findFirst();
-        var partnerSite = partnerSites.stream().filter(site -> site.getBpns().equals(delivery.getOriginBpns())).findFirst();
-
-        if (!ownSite.isPresent()) {
+        if (!ownSites.containsSite(delivery.getDestinationBpns())) {
             errors.add(String.format("Destination site '%s' must match one of the own partner entity's sites (incoterm '%s' with '%s' responsibility).", delivery.getDestinationBpns(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
-        } else if (delivery.getDestinationBpna() != null && ownSite.get().getAddresses().stream().noneMatch(address -> address.getBpna().equals(delivery.getDestinationBpna()))) {
+        } else if (delivery.getDestinationBpna() != null && !ownSites.siteContainsAddress(delivery.getDestinationBpns(), delivery.getDestinationBpna())) {
             errors.add(String.format("Destination address '%s' is not configured for own site '%s' (incoterm '%s' with '%s' responsibility).", delivery.getDestinationBpna(), delivery.getDestinationBpns(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
         }
-        if (!partnerSite.isPresent()) {
+        if (!partnerSites.containsSite(delivery.getOriginBpns())) {
             errors.add(String.format("Origin site '%s' must match one site of partner '%s' (incoterm '%s' with '%s' responsibility).", delivery.getOriginBpns(), delivery.getPartner().getBpnl(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
-        } else if (delivery.getOriginBpna() != null && partnerSite.get().getAddresses().stream().noneMatch(address -> address.getBpna().equals(delivery.getOriginBpna()))) {
+        } else if (delivery.getOriginBpna() != null && !partnerSites.siteContainsAddress(delivery.getOriginBpns(), delivery.getOriginBpna())) {
             errors.add(String.format("Origin address '%s' is not configured for site '%s' of partner '%s' (incoterm '%s' with '%s' responsibility).", delivery.getOriginBpna(), delivery.getOriginBpns(), delivery.getPartner().getBpnl(), delivery.getIncoterm().getValue(), delivery.getIncoterm().getResponsibility()));
         }
 
@@ -76,7 +76,7 @@ public class OwnDeliveryService extends DeliveryService<OwnDelivery> {
                 "Delivery already exists.", e.getUuid(), e.getQuantity(), e.getMeasurementUnit()
             );
         }
-        return repository.save(delivery);
+        return publishUpsert(repository.save(delivery));
     }
 
     public final List<OwnDelivery> createAll(List<OwnDelivery> deliveries) {
@@ -87,7 +87,7 @@ public class OwnDeliveryService extends DeliveryService<OwnDelivery> {
                 .anyMatch(existing -> deliveries.stream().anyMatch(delivery -> delivery.equals(existing)))) {
             throw new KeyAlreadyExistsException("delivery already exists");
         }
-        return repository.saveAll(deliveries);
+        return publishUpserts(repository.saveAll(deliveries));
     }
 
     public boolean validate(OwnDelivery delivery) {
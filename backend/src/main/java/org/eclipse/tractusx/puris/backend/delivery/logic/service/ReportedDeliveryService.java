@@ -57,7 +57,7 @@ public class ReportedDeliveryService extends DeliveryService<ReportedDelivery> {
         if (!validator.apply(delivery)) {
             return null;
         }
-        return repository.save(delivery);
+        return publishUpsert(repository.save(delivery));
     }
 
     public final List<ReportedDelivery> createAll(List<ReportedDelivery> deliveries) {
@@ -68,7 +68,7 @@ public class ReportedDeliveryService extends DeliveryService<ReportedDelivery> {
                 .anyMatch(existing -> deliveries.stream().anyMatch(delivery -> delivery.equals(existing)))) {
             return null;
         }
-        return repository.saveAll(deliveries);
+        return publishUpserts(repository.saveAll(deliveries));
     }
 
     public boolean validate(ReportedDelivery delivery) {
@@ -28,7 +28,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.CursorPageDto;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.util.DuplicateEntityException;
+import org.eclipse.tractusx.puris.backend.common.util.JsonArrayStreamer;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.ReportedDemand;
@@ -44,8 +48,10 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialServi
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponseException;
@@ -61,12 +67,16 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
 
 @RestController
@@ -96,11 +106,23 @@ public class DemandController {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
     @Autowired
     private ExecutorService executorService;
 
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
+    @PostConstruct
+    private void registerChangeConverters() {
+        changeEventBus.addConverter(OwnDemand.class, this::convertToDto);
+        changeEventBus.addConverter(ReportedDemand.class, this::convertToDto);
+    }
+
     @GetMapping()
     @ResponseBody
     @Operation(summary = "Get all own demands for the given Material", description = "Get all own demands for the given material number. Optionally the demanding site can be filtered by its bpns.")
@@ -110,6 +132,30 @@ public class DemandController {
                 .stream().map(this::convertToDto).collect(Collectors.toList());
     }
 
+    @GetMapping("page")
+    @ResponseBody
+    @Operation(summary = "Get a page of own demands", description = "Get own demands page by page using keyset pagination, sorted by day. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number and demanding site bpns.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the page."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<DemandDto> getDemandPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> site, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(ownDemandService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), Optional.empty(), site,
+                decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all own demands", description = "Streams all own demands as one JSON array without loading them into memory at once. " +
+        "Optionally filtered by material number and demanding site bpns.")
+    public ResponseEntity<StreamingResponseBody> streamDemands(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> site) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<DemandDto>of(objectMapper,
+            sink -> ownDemandService.forEachByFilters(materialNumber, Optional.empty(), site, demand -> sink.accept(convertToDto(demand)))));
+    }
+
     @PostMapping()
     @ResponseBody
     @Operation(summary = "Creates a new demand", description = "Creates a new demand. \n" +
@@ -212,6 +258,30 @@ public class DemandController {
                 .stream().map(this::convertToDto).collect(Collectors.toList());
     }
 
+    @GetMapping("reported/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of demands of partners", description = "Get demands of partners page by page using keyset pagination, sorted by day. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number, partner bpnl and demanding site bpns.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the page."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<DemandDto> getReportedDemandPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> site, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(reportedDemandService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpnl, site,
+                decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "reported/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all demands of partners", description = "Streams all demands of partners as one JSON array without loading them into memory at once. " +
+        "Optionally filtered by material number, partner bpnl and demanding site bpns.")
+    public ResponseEntity<StreamingResponseBody> streamReportedDemands(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> site) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<DemandDto>of(objectMapper,
+            sink -> reportedDemandService.forEachByFilters(materialNumber, bpnl, site, demand -> sink.accept(convertToDto(demand)))));
+    }
+
     @GetMapping("reported/refresh")
     @ResponseBody
     @Operation(
@@ -236,6 +306,18 @@ public class DemandController {
             .toList());
     }
 
+    private Optional<String> decodeMaterialNumber(Optional<String> ownMaterialNumber) {
+        return ownMaterialNumber.map(number -> new String(Base64.getDecoder().decode(number)));
+    }
+
+    private ScrollPosition decodeCursor(Optional<String> cursor) {
+        try {
+            return KeysetCursor.decode(cursor.orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+
     private DemandDto convertToDto(OwnDemand entity) {
         DemandDto dto = modelMapper.map(entity, DemandDto.class);
         dto.setOwnMaterialNumber(entity.getMaterial().getOwnMaterialNumber());
@@ -27,6 +27,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.demand.logic.dto.demandsamm.ShortTermMaterialDemand;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.DemandRequestApiService;
@@ -48,6 +49,9 @@ public class DemandRequestApiController {
     @Autowired
     private DemandRequestApiService demandRequestApiService;
 
+    @Autowired
+    private SubmodelResponseCache responseCache;
+
     private final Pattern bpnlPattern = PatternStore.BPNL_PATTERN;
 
     private final Pattern urnPattern = PatternStore.URN_OR_UUID_PATTERN;
@@ -62,6 +66,7 @@ public class DemandRequestApiController {
         "This endpoint is meant to be accessed by partners via EDC only. ")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Ok"),
+        @ApiResponse(responseCode = "304", description = "Not Modified, the submodel matches the ETag given in If-None-Match", content = @Content),
         @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
         @ApiResponse(responseCode = "501", description = "Unsupported representation", content = @Content)
@@ -84,6 +89,6 @@ public class DemandRequestApiController {
         if (samm == null) {
             return ResponseEntity.status(500).build();
         }
-        return ResponseEntity.ok(samm);
+        return ResponseEntity.ok().eTag(responseCache.getETag(samm)).body(samm);
     }
 }
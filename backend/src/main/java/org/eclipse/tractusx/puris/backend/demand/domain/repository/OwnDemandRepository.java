@@ -23,9 +23,10 @@ import java.util.UUID;
 
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OwnDemandRepository extends JpaRepository<OwnDemand, UUID> {
+public interface OwnDemandRepository extends JpaRepository<OwnDemand, UUID>, JpaSpecificationExecutor<OwnDemand> {
   
 }
@@ -23,9 +23,10 @@ import java.util.UUID;
 
 import org.eclipse.tractusx.puris.backend.demand.domain.model.ReportedDemand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ReportedDemandRepository  extends JpaRepository<ReportedDemand, UUID> {
+public interface ReportedDemandRepository  extends JpaRepository<ReportedDemand, UUID>, JpaSpecificationExecutor<ReportedDemand> {
   
 }
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.demand.logic.adapter.ShortTermMaterialDemandSammMapper;
 import org.eclipse.tractusx.puris.backend.demand.logic.dto.demandsamm.ShortTermMaterialDemand;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
@@ -63,6 +64,8 @@ public class DemandRequestApiService {
     private ShortTermMaterialDemandSammMapper sammMapper;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SubmodelResponseCache responseCache;
 
     public ShortTermMaterialDemand handleDemandSubmodelRequest(String bpnl, String materialNumberCx) {
         Partner partner = partnerService.findByBpnl(bpnl);
@@ -93,8 +96,12 @@ public class DemandRequestApiService {
             return null;
         }
 
-        var currentDemands = ownDemandService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty());
-        return sammMapper.ownDemandToSamm(currentDemands, partner, material);
+        Material requestedMaterial = material;
+        var key = new SubmodelResponseCache.Key(AssetType.DEMAND_SUBMODEL, bpnl, materialNumberCx, null, null);
+        return responseCache.get(key, requestedMaterial.getOwnMaterialNumber(), () -> {
+            var currentDemands = ownDemandService.findAllByFilters(Optional.of(requestedMaterial.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty());
+            return sammMapper.ownDemandToSamm(currentDemands, partner, requestedMaterial);
+        });
     }
 
     public RefreshResult doReportedDemandRequest(Partner partner, Material material) {
@@ -106,6 +113,11 @@ public class DemandRequestApiService {
                 mpr = mprService.find(material, partner);
             }
             var data = edcAdapterService.doSubmodelRequest(AssetType.DEMAND_SUBMODEL, mpr, DirectionEnum.INBOUND, 1);
+            if (data == EdcAdapterService.SUBMODEL_NOT_MODIFIED) {
+                log.info("ReportedDemands for {} and partner {} are up to date", material.getOwnMaterialNumber(), partner.getBpnl());
+                materialService.updateTimestamp(material.getOwnMaterialNumber());
+                return new RefreshResult("ReportedDemands for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl() + " are up to date", errors);
+            }
             var samm = objectMapper.treeToValue(data, ShortTermMaterialDemand.class);
             var demands = sammMapper.sammToReportedDemand(samm, partner);
             
@@ -142,6 +154,7 @@ public class DemandRequestApiService {
             for (var newDemand : demands) {
                 reportedDemandService.create(newDemand);
             }
+            edcAdapterService.confirmSubmodelProcessed(AssetType.DEMAND_SUBMODEL, mpr, DirectionEnum.INBOUND);
             log.info("Successfully updated ReportedDemand for {} and partner {}", 
                 material.getOwnMaterialNumber(), partner.getBpnl());
                 materialService.updateTimestamp(material.getOwnMaterialNumber());
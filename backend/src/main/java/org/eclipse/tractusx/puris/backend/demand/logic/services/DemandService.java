@@ -24,16 +24,43 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.util.DuplicateEntityException;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+
+public abstract class DemandService<TEntity extends Demand, TRepository extends JpaRepository<TEntity, UUID> & JpaSpecificationExecutor<TEntity>>  {
+    /**
+     * Stable sort order for keyset pagination. The uuid makes the order unique.
+     */
+    private static final Sort KEYSET_SORT = Sort.by("day", "uuid");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
 
-public abstract class DemandService<TEntity extends Demand, TRepository extends JpaRepository<TEntity, UUID> >  {
     protected final TRepository repository;
     protected final PartnerService partnerService;
     protected final MaterialPartnerRelationService mprService;
@@ -56,30 +83,77 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
     }
 
     public final List<TEntity> findAllByBpnl(String bpnl) {
-        return repository.findAll().stream().filter(demand -> demand.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return findAllByFilters(Optional.empty(), Optional.of(bpnl), Optional.empty());
     }
 
     public final List<TEntity> findAllByOwnMaterialNumber(String ownMaterialNumber) {
-        return repository.findAll().stream().filter(demand -> demand.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber))
-                .toList();
+        return findAllByFilters(Optional.of(ownMaterialNumber), Optional.empty(), Optional.empty());
     }
 
     public final List<TEntity> findAllByFilters(
         Optional<String> ownMaterialNumber,
         Optional<String> bpnl,
         Optional<String> demandLocationBpns) {
-        var stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(demand -> demand.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(demand -> demand.getPartner().getBpnl().equals(bpnl.get()));
-        }
-        if (demandLocationBpns.isPresent()) {
-            stream = stream.filter(demand -> demand.getDemandLocationBpns().equals(demandLocationBpns.get()));
-        }
-        return stream.toList();
+        return repository.findAll(filterSpecification(ownMaterialNumber, bpnl, demandLocationBpns));
+    }
+
+    /**
+     * Returns one page of demands matching the filters, ordered by day and uuid.
+     *
+     * @param ownMaterialNumber  optional filter by own material number
+     * @param bpnl               optional filter by partner bpnl
+     * @param demandLocationBpns optional filter by demand location
+     * @param position           keyset position after which the page starts
+     * @param limit              maximum number of demands in the page
+     * @return the window of demands
+     */
+    public final Window<TEntity> findWindowByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> demandLocationBpns,
+        ScrollPosition position,
+        int limit) {
+        return repository.findBy(filterSpecification(ownMaterialNumber, bpnl, demandLocationBpns),
+            query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position));
+    }
+
+    /**
+     * Passes all demands matching the filters to the action, loading them chunk by chunk
+     * so that the memory footprint does not depend on the size of the result.
+     *
+     * @param ownMaterialNumber  optional filter by own material number
+     * @param bpnl               optional filter by partner bpnl
+     * @param demandLocationBpns optional filter by demand location
+     * @param action             action to be applied on each demand
+     */
+    public final void forEachByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> demandLocationBpns,
+        Consumer<TEntity> action) {
+        WindowIterator.of(position -> {
+                // entities of the previous chunk have already been consumed. Inside a caller's
+                // transaction the context may hold pending changes and must be left alone.
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    entityManager.clear();
+                }
+                return findWindowByFilters(ownMaterialNumber, bpnl, demandLocationBpns, position, KeysetCursor.STREAM_CHUNK_SIZE);
+            })
+            .startingAt(ScrollPosition.keyset())
+            .forEachRemaining(action);
+    }
+
+    private Specification<TEntity> filterSpecification(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> demandLocationBpns) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            ownMaterialNumber.ifPresent(number -> predicates.add(builder.equal(root.get("material").get("ownMaterialNumber"), number)));
+            bpnl.ifPresent(partnerBpnl -> predicates.add(builder.equal(root.get("partner").get("bpnl"), partnerBpnl)));
+            demandLocationBpns.ifPresent(bpns -> predicates.add(builder.equal(root.get("demandLocationBpns"), bpns)));
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
     }
 
     protected List<String> basicValidation(Demand demand) {
@@ -125,8 +199,8 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
             errors.add(String.format("Partner '%s' is not configured to buy your material '%s'.", demand.getPartner().getBpnl(), demand.getMaterial().getOwnMaterialNumber()));
         }
         if ((demand.getSupplierLocationBpns() != null  && 
-            ownPartnerEntity.getSites().stream().noneMatch(site -> site.getBpns().equals(demand.getSupplierLocationBpns())))
-            || demand.getPartner().getSites().stream().noneMatch(site -> site.getBpns().equals(demand.getDemandLocationBpns()))) {
+            !partnerService.getLocationIndex(ownPartnerEntity).containsSite(demand.getSupplierLocationBpns()))
+            || !partnerService.getLocationIndex(demand.getPartner()).containsSite(demand.getDemandLocationBpns())) {
             errors.add(String.format("Either supplier location '%s' is not configured as your site or demand location '%s' is not configured as site for customer partner '%s'.", demand.getSupplierLocationBpns(), demand.getDemandLocationBpns(), demand.getPartner().getBpnl()));
         }
         return errors;
@@ -138,11 +212,11 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
         if (!mprService.partnerSuppliesMaterial(demand.getMaterial(), demand.getPartner())) {
             errors.add(String.format("Partner '%s' is not configured to supply you the specified material '%s'.", demand.getPartner().getBpnl(), demand.getMaterial().getOwnMaterialNumber()));
         }
-        if (ownPartnerEntity.getSites().stream().noneMatch(site -> site.getBpns().equals(demand.getDemandLocationBpns()))) {
+        if (!partnerService.getLocationIndex(ownPartnerEntity).containsSite(demand.getDemandLocationBpns())) {
             errors.add(String.format("Demand location BPNS '%s' must match to one site configured for your own partner '%s' .", demand.getDemandLocationBpns(), ownPartnerEntity.getBpnl()));
         }
         if (demand.getSupplierLocationBpns() != null && 
-            demand.getPartner().getSites().stream().noneMatch(site -> site.getBpns().equals(demand.getSupplierLocationBpns()))) {
+            !partnerService.getLocationIndex(demand.getPartner()).containsSite(demand.getSupplierLocationBpns())) {
             errors.add(String.format("Expected supplier location BPNS '%s' must match to one site of the partner '%s' .", demand.getSupplierLocationBpns(), demand.getPartner().getBpnl()));
         }
         return errors;
@@ -159,18 +233,68 @@ public abstract class DemandService<TEntity extends Demand, TRepository extends
             var e = existing.get();
             throw new DuplicateEntityException("Demand already exists for the same business key.", e.getUuid(), e.getQuantity(), e.getMeasurementUnit());
         }
-        return repository.save(demand);
+        return publishUpsert(repository.save(demand));
     }
 
     public final TEntity update(TEntity demand) {
         if (demand.getUuid() == null || repository.findById(demand.getUuid()).isEmpty()) {
             return null;
         }
-        return repository.save(demand);
+        return publishUpsert(repository.save(demand));
     }
 
     public final void delete(UUID uuid) {
-        repository.deleteById(uuid);
+        repository.findById(uuid).ifPresent(entity -> {
+            repository.delete(entity);
+            publish(entity, ChangeOperationEnum.DELETE);
+        });
+    }
+
+    /**
+     * Applies a precomputed set of changes, e.g. the result of a file import. The demands are neither
+     * validated nor checked for duplicates, this has to be done by the caller. All statements are sent
+     * in JDBC batches when the surrounding transaction is flushed.
+     *
+     * @param inserts demands to create
+     * @param updates existing demands carrying their uuid and the new values
+     * @param deletes existing demands to remove
+     */
+    public final void applyChanges(List<TEntity> inserts, List<TEntity> updates, List<TEntity> deletes) {
+        repository.deleteAll(deletes);
+        repository.saveAll(updates);
+        repository.saveAll(inserts);
+        deletes.forEach(entity -> publish(entity, ChangeOperationEnum.DELETE));
+        publishUpserts(updates);
+        publishUpserts(inserts);
+    }
+
+    /**
+     * Publishes the creation or update of the entity to the clients.
+     *
+     * @param entity the saved entity, may be null
+     * @return the given entity
+     */
+    protected final <E extends TEntity> E publishUpsert(E entity) {
+        if (entity != null) {
+            publish(entity, ChangeOperationEnum.UPSERT);
+        }
+        return entity;
+    }
+
+    /**
+     * Publishes the creation or update of the entities to the clients.
+     *
+     * @param entities the saved entities
+     * @return the given entities
+     */
+    protected final <E extends TEntity> List<E> publishUpserts(List<E> entities) {
+        entities.forEach(this::publishUpsert);
+        return entities;
+    }
+
+    private void publish(TEntity entity, ChangeOperationEnum operation) {
+        changeEventBus.publish(entity.getMaterial() == null ? null : entity.getMaterial().getOwnMaterialNumber(),
+            entity, entity.getUuid(), entity.getPartner() == null ? null : entity.getPartner().getBpnl(), operation);
     }
 
     public abstract boolean validate(TEntity demand);
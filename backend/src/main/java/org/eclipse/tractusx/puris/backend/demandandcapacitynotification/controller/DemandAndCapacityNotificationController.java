@@ -23,19 +23,27 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
 import jakarta.validation.constraints.Pattern;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutEntryDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutStatusEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.OwnDemandAndCapacityNotification;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.ReportedDemandAndCapacityNotification;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.dto.DemandAndCapacityNotificationDeliveryDto;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.dto.DemandAndCapacityNotificationDto;
-import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service.DemandAndCapacityNotifcationRequestApiService;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.dto.DemandAndCapacityNotificationFanOutDto;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service.DemandAndCapacityNotificationDeliveryService;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service.OwnDemandAndCapacityNotificationService;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service.ReportedDemandAndCapacityNotificationService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,10 +53,15 @@ import org.springframework.web.server.ResponseStatusException;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @RestController
@@ -60,9 +73,6 @@ public class DemandAndCapacityNotificationController {
     @Autowired
     private ReportedDemandAndCapacityNotificationService reportedNotificationService;
 
-    @Autowired
-    private DemandAndCapacityNotifcationRequestApiService demandAndCapacityNotifcationRequestApiService;
-
     @Autowired
     private MaterialService materialService;
 
@@ -76,7 +86,16 @@ public class DemandAndCapacityNotificationController {
     private Validator validator;
 
     @Autowired
-    private ExecutorService executorService;
+    private DemandAndCapacityNotificationDeliveryService deliveryService;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
+    @PostConstruct
+    private void registerChangeConverters() {
+        changeEventBus.addConverter(OwnDemandAndCapacityNotification.class, this::convertToDto);
+        changeEventBus.addConverter(ReportedDemandAndCapacityNotification.class, this::convertToDto);
+    }
 
     @GetMapping()
     @ResponseBody
@@ -85,7 +104,7 @@ public class DemandAndCapacityNotificationController {
         if (partnerBpnl.isEmpty()) {
             return ownNotificationService.findAll().stream().map(this::convertToDto).collect(Collectors.toList());
         } else {
-            return ownNotificationService.findAllByPartnerBpnl(partnerBpnl.get()).stream().map(this::convertToDto).collect(Collectors.toList());
+            return ownNotificationService.findAllByBpnl(partnerBpnl.get()).stream().map(this::convertToDto).collect(Collectors.toList());
         }
     }
 
@@ -110,8 +129,7 @@ public class DemandAndCapacityNotificationController {
         }
 
         try {
-            var entity = ownNotificationService.create(convertToEntity(notificationDto));
-            executorService.submit(() -> demandAndCapacityNotifcationRequestApiService.sendDemandAndCapacityNotification(entity));
+            var entity = deliveryService.createAndEnqueue(convertToEntity(notificationDto));
             return convertToDto(entity);
         } catch (KeyAlreadyExistsException e) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Notification already exists. Use PUT instead.");
@@ -122,6 +140,102 @@ public class DemandAndCapacityNotificationController {
         }
     }
 
+    @PostMapping("fan-out")
+    @ResponseBody
+    @Operation(summary = "Sends one notification to several partners",
+        description = "Creates the notification for each of the given partners with a common source disruption id and " +
+            "delivers them in the background. The affected recipient sites are assigned to the partner they belong to. " +
+            "The progress can be queried with the source disruption id that is returned as uuid.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Notifications were created, see the entries for partners that were rejected."),
+            @ApiResponse(responseCode = "400", description = "Malformed or invalid request body.", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Notification already exists.", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error.", content = @Content)
+    })
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public FanOutDto fanOutNotification(@RequestBody DemandAndCapacityNotificationFanOutDto fanOutDto) {
+        if (!validator.validate(fanOutDto).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid Notification.");
+        }
+        DemandAndCapacityNotificationDto dto = fanOutDto.getNotification();
+        UUID sourceDisruptionId = dto.getSourceDisruptionId() != null ? dto.getSourceDisruptionId() : UUID.randomUUID();
+
+        try {
+            // shared by all partners, resolved once
+            List<Material> materials = findMaterials(dto);
+            List<Site> senderSites = findSites(dto.getAffectedSitesBpnsSender(), partnerService.getLocationIndex(partnerService.getOwnPartnerEntity()));
+            Set<String> recipientBpns = dto.getAffectedSitesBpnsRecipient() == null ? Set.of() : new LinkedHashSet<>(dto.getAffectedSitesBpnsRecipient());
+            Set<String> bpnls = new LinkedHashSet<>(fanOutDto.getPartnerBpnls());
+            Map<String, Partner> partners = partnerService.findAllByBpnls(bpnls).stream()
+                .collect(Collectors.toMap(Partner::getBpnl, partner -> partner, (first, second) -> first));
+
+            List<FanOutEntryDto> entries = new ArrayList<>();
+            List<OwnDemandAndCapacityNotification> notifications = new ArrayList<>();
+            Set<String> assignedBpns = new HashSet<>();
+            for (String bpnl : bpnls) {
+                Partner partner = partners.get(bpnl);
+                if (partner == null) {
+                    entries.add(FanOutEntryDto.builder().partnerBpnl(bpnl).status(FanOutStatusEnum.REJECTED)
+                        .error("Partner does not exist.").build());
+                    continue;
+                }
+                PartnerLocationIndex locations = partnerService.getLocationIndex(partner);
+                List<Site> recipientSites = recipientBpns.stream().map(locations::getSite).filter(Objects::nonNull).collect(Collectors.toList());
+                recipientSites.forEach(site -> assignedBpns.add(site.getBpns()));
+
+                OwnDemandAndCapacityNotification notification = modelMapper.map(dto, OwnDemandAndCapacityNotification.class);
+                notification.setUuid(null);
+                notification.setNotificationId(null);
+                notification.setSourceDisruptionId(sourceDisruptionId);
+                notification.setPartner(partner);
+                notification.setMaterials(new ArrayList<>(materials));
+                notification.setAffectedSitesSender(new ArrayList<>(senderSites));
+                notification.setAffectedSitesRecipient(recipientSites);
+                notifications.add(notification);
+                entries.add(FanOutEntryDto.builder().partnerBpnl(bpnl).build());
+            }
+            for (String bpns : recipientBpns) {
+                if (!assignedBpns.contains(bpns)) {
+                    throw new IllegalStateException(String.format("Site for bpns %s could not be found", bpns));
+                }
+            }
+
+            List<OwnDemandAndCapacityNotification> created = deliveryService.createAllAndEnqueue(notifications);
+            int next = 0;
+            for (FanOutEntryDto entry : entries) {
+                if (entry.getStatus() == FanOutStatusEnum.REJECTED) {
+                    continue;
+                }
+                OwnDemandAndCapacityNotification notification = created.get(next++);
+                if (notification == null) {
+                    entry.setStatus(FanOutStatusEnum.REJECTED);
+                    entry.setError("Notification is invalid for this partner.");
+                } else {
+                    entry.setStatus(FanOutStatusEnum.PENDING);
+                    entry.setUuid(notification.getUuid());
+                }
+            }
+            return FanOutDto.builder().uuid(sourceDisruptionId).createdAt(new Date()).entries(entries).build();
+        } catch (KeyAlreadyExistsException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Notification already exists.");
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Notification is invalid.");
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("fan-out/{sourceDisruptionId}")
+    @ResponseBody
+    @Operation(summary = "Get the progress of a fan-out", description = "Get the delivery state per partner of all own notifications with the given source disruption id.")
+    public FanOutDto getFanOut(@PathVariable UUID sourceDisruptionId) {
+        FanOutDto fanOut = deliveryService.getFanOut(sourceDisruptionId);
+        if (fanOut == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No notification exists for this source disruption id.");
+        }
+        return fanOut;
+    }
+
     @PutMapping()
     @Operation(summary = "Updates a notification by its UUID")
     @ApiResponses(value = {
@@ -133,11 +247,10 @@ public class DemandAndCapacityNotificationController {
     @ResponseStatus(HttpStatus.OK)
     public DemandAndCapacityNotificationDto updateNotification(@RequestBody DemandAndCapacityNotificationDto dto) {
         try {
-            OwnDemandAndCapacityNotification updatedNotification = ownNotificationService.update(convertToEntity(dto));
+            OwnDemandAndCapacityNotification updatedNotification = deliveryService.updateAndEnqueue(convertToEntity(dto));
             if (updatedNotification == null) {
                 throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Notification does not exist.");
             }
-            executorService.submit(() -> demandAndCapacityNotifcationRequestApiService.sendDemandAndCapacityNotification(updatedNotification));
             return convertToDto(updatedNotification);
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Notification is invalid.");
@@ -170,10 +283,19 @@ public class DemandAndCapacityNotificationController {
         if (partnerBpnl.isEmpty()) {
             return reportedNotificationService.findAll().stream().map(this::convertToDto).collect(Collectors.toList());
         } else {
-            return reportedNotificationService.findAllByPartnerBpnl(partnerBpnl.get()).stream().map(this::convertToDto).collect(Collectors.toList());
+            return reportedNotificationService.findAllByBpnl(partnerBpnl.get()).stream().map(this::convertToDto).collect(Collectors.toList());
         }
     }
 
+    @GetMapping("deliveries")
+    @ResponseBody
+    @Operation(summary = "Get the delivery state of own notifications",
+        description = "Get the deliveries of own notifications to the partners, the latest first. Optionally filtered by notification or partner bpnl.")
+    public List<DemandAndCapacityNotificationDeliveryDto> getDeliveries(Optional<UUID> notificationId,
+                                                                        Optional<@Pattern(regexp = PatternStore.BPNL_STRING) String> partnerBpnl) {
+        return deliveryService.findDeliveries(notificationId, partnerBpnl).stream().map(deliveryService::toDto).toList();
+    }
+
     private DemandAndCapacityNotificationDto convertToDto(OwnDemandAndCapacityNotification entity) {
         DemandAndCapacityNotificationDto dto = modelMapper.map(entity, DemandAndCapacityNotificationDto.class);
         if (entity.getMaterials() != null) {
@@ -215,7 +337,13 @@ public class DemandAndCapacityNotificationController {
                     dto.getPartnerBpnl()));
         }
         entity.setPartner(existingPartner);
+        entity.setMaterials(findMaterials(dto));
+        entity.setAffectedSitesRecipient(findSites(dto.getAffectedSitesBpnsRecipient(), partnerService.getLocationIndex(existingPartner)));
+        entity.setAffectedSitesSender(findSites(dto.getAffectedSitesBpnsSender(), partnerService.getLocationIndex(partnerService.getOwnPartnerEntity())));
+        return entity;
+    }
 
+    private List<Material> findMaterials(DemandAndCapacityNotificationDto dto) {
         if (dto.getAffectedMaterialNumbers() == null) {
             dto.setAffectedMaterialNumbers(new ArrayList<>());
         }
@@ -229,40 +357,23 @@ public class DemandAndCapacityNotificationController {
             }
             materials.add(material);
         }
-        entity.setMaterials(materials);
-
-        if (dto.getAffectedSitesBpnsRecipient() == null) {
-            dto.setAffectedSitesBpnsRecipient(new ArrayList<>());
-        }
-        List<Site> affectedSitesRecipient = new ArrayList<>();
-        for (String bpns : dto.getAffectedSitesBpnsRecipient()) {
-            Site site = existingPartner.getSites().stream().filter(p -> p.getBpns().equals(bpns)).findFirst()
-                    .orElse(null);
-            if (site == null) {
-                throw new IllegalStateException(String.format(
-                        "Site for bpns %s could not be found",
-                        bpns));
-            }
-            affectedSitesRecipient.add(site);
-        }
-        entity.setAffectedSitesRecipient(affectedSitesRecipient);
+        return materials;
+    }
 
-        Partner ownPartner = partnerService.getOwnPartnerEntity();
-        if (dto.getAffectedSitesBpnsSender() == null) {
-            dto.setAffectedSitesBpnsSender(new ArrayList<>());
+    private List<Site> findSites(List<String> bpnsList, PartnerLocationIndex locations) {
+        List<Site> sites = new ArrayList<>();
+        if (bpnsList == null) {
+            return sites;
         }
-        List<Site> affectedSitesSender = new ArrayList<>();
-        for (String bpns : dto.getAffectedSitesBpnsSender()) {
-            Site site = ownPartner.getSites().stream().filter(p -> p.getBpns().equals(bpns)).findFirst().orElse(null);
+        for (String bpns : bpnsList) {
+            Site site = locations.getSite(bpns);
             if (site == null) {
                 throw new IllegalStateException(String.format(
                         "Site for bpns %s could not be found",
                         bpns));
             }
-            affectedSitesSender.add(site);
+            sites.add(site);
         }
-        entity.setAffectedSitesSender(affectedSitesSender);
-
-        return entity;
+        return sites;
     }
 }
@@ -51,6 +51,7 @@ public abstract class DemandAndCapacityNotification {
     @Id
     @GeneratedValue
     protected UUID uuid;
+    @Column(unique = true)
     protected UUID notificationId;
 
     @ElementCollection
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model;
+
+import java.util.Date;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Entry of the outbox for own notifications. It records the delivery of the current state of a notification
+ * to its partner. The message is created from the notification when it is sent, so a notification that is
+ * changed again before it has been delivered is only sent once.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class DemandAndCapacityNotificationDelivery {
+
+    @Id
+    @GeneratedValue
+    private UUID uuid;
+
+    /**
+     * The uuid of the {@link OwnDemandAndCapacityNotification} to deliver.
+     */
+    @NotNull
+    @Column(nullable = false)
+    private UUID notificationUuid;
+
+    @NotNull
+    @Column(nullable = false)
+    private String partnerBpnl;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryStatusEnumeration status;
+
+    private int attempts;
+
+    @NotNull
+    @Column(nullable = false)
+    private Date createdAt;
+
+    private Date nextAttempt;
+
+    private Date deliveredAt;
+
+    private String lastError;
+
+    /**
+     * Set while the delivery is being sent. A delivery in flight carries an earlier state of the notification, so it
+     * is not reused when the notification changes again.
+     */
+    private UUID deliveryClaim;
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DemandAndCapacityNotificationDelivery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DemandAndCapacityNotificationDeliveryRepository extends JpaRepository<DemandAndCapacityNotificationDelivery, UUID> {
+
+    List<DemandAndCapacityNotificationDelivery> findByStatusAndNextAttemptLessThanEqual(DeliveryStatusEnumeration status, Date date, Pageable pageable);
+
+    Optional<DemandAndCapacityNotificationDelivery> findFirstByNotificationUuidAndStatusAndDeliveryClaimIsNull(UUID notificationUuid, DeliveryStatusEnumeration status);
+
+    List<DemandAndCapacityNotificationDelivery> findAllByDeliveryClaim(UUID deliveryClaim);
+
+    /**
+     * Claims the given deliveries, if they are still pending and due, by setting the claim and postponing the next
+     * attempt to the end of the lease.
+     *
+     * @return the number of claimed deliveries
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update DemandAndCapacityNotificationDelivery d set d.deliveryClaim = :claim, d.nextAttempt = :leaseEnd " +
+        "where d.uuid in :uuids and d.status = org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration.PENDING " +
+        "and d.nextAttempt <= :now")
+    int claim(@Param("uuids") List<UUID> uuids, @Param("claim") UUID claim, @Param("now") Date now, @Param("leaseEnd") Date leaseEnd);
+
+    /**
+     * Makes the pending delivery of the notification due again, unless it is being sent.
+     *
+     * @return the number of rescheduled deliveries
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update DemandAndCapacityNotificationDelivery d set d.attempts = 0, d.nextAttempt = :now " +
+        "where d.notificationUuid = :notificationUuid and d.deliveryClaim is null " +
+        "and d.status = org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration.PENDING")
+    int reschedule(@Param("notificationUuid") UUID notificationUuid, @Param("now") Date now);
+
+    /**
+     * Records the outcome of a delivery attempt and releases the claim, unless another instance has claimed the
+     * delivery after the lease has ended.
+     *
+     * @return 1 if the outcome has been recorded, else 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update DemandAndCapacityNotificationDelivery d set d.status = :status, d.attempts = :attempts, " +
+        "d.nextAttempt = :nextAttempt, d.deliveredAt = :deliveredAt, d.lastError = :lastError, d.deliveryClaim = null " +
+        "where d.uuid = :uuid and d.deliveryClaim = :claim")
+    int recordDelivery(@Param("uuid") UUID uuid, @Param("claim") UUID claim, @Param("status") DeliveryStatusEnumeration status,
+                       @Param("attempts") int attempts, @Param("nextAttempt") Date nextAttempt,
+                       @Param("deliveredAt") Date deliveredAt, @Param("lastError") String lastError);
+
+    List<DemandAndCapacityNotificationDelivery> findAllByNotificationUuidOrderByCreatedAtDesc(UUID notificationUuid);
+
+    List<DemandAndCapacityNotificationDelivery> findAllByNotificationUuidInOrderByCreatedAtDesc(Collection<UUID> notificationUuids);
+
+    List<DemandAndCapacityNotificationDelivery> findAllByPartnerBpnlOrderByCreatedAtDesc(String partnerBpnl);
+
+    List<DemandAndCapacityNotificationDelivery> findAllByOrderByCreatedAtDesc();
+}
@@ -19,6 +19,8 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,4 +31,12 @@ import org.springframework.data.repository.NoRepositoryBean;
 @NoRepositoryBean
 public interface DemandAndCapacityNotificationRepository<TEntity extends DemandAndCapacityNotification> extends JpaRepository<TEntity, UUID> {
     Optional<TEntity> findByPartnerBpnlAndSourceDisruptionId(String bpnl, UUID sourceDisruptionId);
+
+    Optional<TEntity> findByNotificationId(UUID notificationId);
+
+    List<TEntity> findAllByPartnerBpnl(String bpnl);
+
+    List<TEntity> findAllByNotificationIdIn(Collection<UUID> notificationIds);
+
+    List<TEntity> findAllBySourceDisruptionId(UUID sourceDisruptionId);
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.dto;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemandAndCapacityNotificationDeliveryDto {
+    private UUID uuid;
+    private UUID notificationUuid;
+    private String partnerBpnl;
+    private DeliveryStatusEnumeration status;
+    private int attempts;
+    private Date createdAt;
+    private Date nextAttempt;
+    private Date deliveredAt;
+    private String lastError;
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.dto;
+
+import java.util.List;
+
+import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * One notification to be sent to several partners. A notification is created for each partner, all of them share
+ * the same source disruption id.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class DemandAndCapacityNotificationFanOutDto {
+
+    /**
+     * The content of the notifications. Its partnerBpnl is ignored, the affected recipient sites are assigned to
+     * the partner they belong to.
+     */
+    @NotNull
+    @Valid
+    private DemandAndCapacityNotificationDto notification;
+
+    @NotEmpty
+    private List<@NotNull @Pattern(regexp = PatternStore.BPNL_STRING) String> partnerBpnls;
+}
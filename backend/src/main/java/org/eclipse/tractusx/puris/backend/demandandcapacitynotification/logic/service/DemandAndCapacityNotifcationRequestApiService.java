@@ -92,7 +92,7 @@ public class DemandAndCapacityNotifcationRequestApiService {
         }
     }
 
-    private JsonNode createNotificationRequestBody(OwnDemandAndCapacityNotification notification) {
+    public JsonNode createNotificationRequestBody(OwnDemandAndCapacityNotification notification) {
         var samm = sammMapper.ownNotificationToSamm(notification);
         return messageService.createMessage(notification.getPartner(), IndustryCoreMessageContext.DEMAND_AND_CAPACITY_NOTIFICATION_CONTEXT, samm);
     }
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutEntryDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutStatusEnum;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DemandAndCapacityNotificationDelivery;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.OwnDemandAndCapacityNotification;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository.DemandAndCapacityNotificationDeliveryRepository;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.dto.DemandAndCapacityNotificationDeliveryDto;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers own notifications to the partners via the outbox of {@link DemandAndCapacityNotificationDelivery}s.
+ * <p>
+ * Every {@code puris.notification.delivery.interval} milliseconds the due deliveries are grouped by partner. All
+ * notifications for one partner are sent within one EDC transfer, so that contract and EDR are obtained only once.
+ * At most {@code puris.notification.delivery.concurrency} partners are served at the same time. Failed deliveries
+ * are retried with exponential backoff, starting with {@code puris.notification.delivery.backoff} seconds, until
+ * {@code puris.notification.delivery.maxattempts} attempts have failed.
+ * <p>
+ * While being sent, the deliveries are claimed for {@code puris.notification.delivery.lease} seconds. A claimed
+ * delivery is neither sent by another instance nor reused for a later change of its notification.
+ */
+@Service
+@Slf4j
+public class DemandAndCapacityNotificationDeliveryService {
+
+    private static final int FETCH_SIZE = 500;
+
+    @Autowired
+    private DemandAndCapacityNotificationDeliveryRepository repository;
+
+    @Autowired
+    private OwnDemandAndCapacityNotificationService ownNotificationService;
+
+    @Autowired
+    private DemandAndCapacityNotifcationRequestApiService requestApiService;
+
+    @Autowired
+    private EdcAdapterService edcAdapterService;
+
+    @Autowired
+    private PartnerService partnerService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${puris.notification.delivery.concurrency:4}")
+    private int concurrency = 4;
+
+    @Value("${puris.notification.delivery.maxattempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${puris.notification.delivery.backoff:30}")
+    private long backoff = 30;
+
+    @Value("${puris.notification.delivery.maxbackoff:3600}")
+    private long maxBackoff = 3600;
+
+    @Value("${puris.notification.delivery.lease:600}")
+    private long lease = 600;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "notification-delivery-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // undelivered notifications remain pending in the database
+        executor.shutdownNow();
+    }
+
+    /**
+     * Creates the notification and schedules its delivery in one transaction.
+     *
+     * @param notification the new notification
+     * @return the created notification
+     */
+    @Transactional
+    public OwnDemandAndCapacityNotification createAndEnqueue(OwnDemandAndCapacityNotification notification) {
+        var created = ownNotificationService.create(notification);
+        enqueue(created);
+        return created;
+    }
+
+    /**
+     * Creates the notifications, e.g. one notification for several partners, and schedules their delivery in one
+     * transaction.
+     *
+     * @param notifications the new notifications
+     * @return the created notifications in the order of the given ones, null for invalid notifications
+     */
+    @Transactional
+    public List<OwnDemandAndCapacityNotification> createAllAndEnqueue(List<OwnDemandAndCapacityNotification> notifications) {
+        var created = ownNotificationService.createAll(notifications);
+        enqueueAll(created.stream().filter(Objects::nonNull).toList());
+        return created;
+    }
+
+    /**
+     * Updates the notification and schedules the delivery of its new state in one transaction.
+     *
+     * @param notification the changed notification
+     * @return the updated notification or null, if it does not exist
+     */
+    @Transactional
+    public OwnDemandAndCapacityNotification updateAndEnqueue(OwnDemandAndCapacityNotification notification) {
+        var updated = ownNotificationService.update(notification);
+        if (updated != null) {
+            enqueue(updated);
+        }
+        return updated;
+    }
+
+    /**
+     * Schedules the delivery of the current state of the given notification to its partner. If an earlier state
+     * is still waiting for delivery, that delivery is sent right away instead of creating a second one. If it is
+     * being sent at the moment, a new delivery is created.
+     *
+     * @param notification the created or updated notification
+     * @return the pending delivery
+     */
+    @Transactional
+    public DemandAndCapacityNotificationDelivery enqueue(OwnDemandAndCapacityNotification notification) {
+        Date now = new Date();
+        if (repository.reschedule(notification.getUuid(), now) > 0) {
+            var pending = repository.findFirstByNotificationUuidAndStatusAndDeliveryClaimIsNull(notification.getUuid(),
+                DeliveryStatusEnumeration.PENDING);
+            if (pending.isPresent()) {
+                return pending.get();
+            }
+        }
+        var delivery = new DemandAndCapacityNotificationDelivery();
+        delivery.setNotificationUuid(notification.getUuid());
+        delivery.setPartnerBpnl(notification.getPartner().getBpnl());
+        delivery.setStatus(DeliveryStatusEnumeration.PENDING);
+        delivery.setCreatedAt(now);
+        delivery.setNextAttempt(now);
+        return repository.save(delivery);
+    }
+
+    /**
+     * Schedules the delivery of new notifications, e.g. of a notification created for several partners.
+     *
+     * @param notifications the created notifications
+     * @return the pending deliveries in the order of the notifications
+     */
+    @Transactional
+    public List<DemandAndCapacityNotificationDelivery> enqueueAll(List<OwnDemandAndCapacityNotification> notifications) {
+        Date now = new Date();
+        List<DemandAndCapacityNotificationDelivery> deliveries = new ArrayList<>();
+        for (var notification : notifications) {
+            var delivery = new DemandAndCapacityNotificationDelivery();
+            delivery.setNotificationUuid(notification.getUuid());
+            delivery.setPartnerBpnl(notification.getPartner().getBpnl());
+            delivery.setStatus(DeliveryStatusEnumeration.PENDING);
+            delivery.setCreatedAt(now);
+            delivery.setNextAttempt(now);
+            deliveries.add(delivery);
+        }
+        return repository.saveAll(deliveries);
+    }
+
+    /**
+     * Reports the delivery of the notifications that share the source disruption id, one entry per partner.
+     *
+     * @param sourceDisruptionId the source disruption id of the notifications
+     * @return the fan-out or null, if there is no such notification
+     */
+    public FanOutDto getFanOut(UUID sourceDisruptionId) {
+        var notifications = ownNotificationService.findAllBySourceDisruptionId(sourceDisruptionId);
+        if (notifications.isEmpty()) {
+            return null;
+        }
+        Map<UUID, DemandAndCapacityNotificationDelivery> latestDeliveries = new HashMap<>();
+        for (var delivery : repository.findAllByNotificationUuidInOrderByCreatedAtDesc(
+            notifications.stream().map(OwnDemandAndCapacityNotification::getUuid).toList())) {
+            latestDeliveries.putIfAbsent(delivery.getNotificationUuid(), delivery);
+        }
+        List<FanOutEntryDto> entries = new ArrayList<>();
+        for (var notification : notifications) {
+            // notifications sent before the outbox was introduced have no delivery and no status
+            var delivery = latestDeliveries.get(notification.getUuid());
+            entries.add(FanOutEntryDto.builder()
+                .partnerBpnl(notification.getPartner().getBpnl())
+                .uuid(notification.getUuid())
+                .status(delivery == null ? null : toFanOutStatus(delivery.getStatus()))
+                .error(delivery == null ? null : delivery.getLastError())
+                .build());
+        }
+        return FanOutDto.builder()
+            .uuid(sourceDisruptionId)
+            .createdAt(notifications.stream().map(OwnDemandAndCapacityNotification::getContentChangedAt)
+                .filter(Objects::nonNull).min(Date::compareTo).orElse(null))
+            .entries(entries)
+            .build();
+    }
+
+    private static FanOutStatusEnum toFanOutStatus(DeliveryStatusEnumeration status) {
+        return switch (status) {
+            case PENDING -> FanOutStatusEnum.PENDING;
+            case DELIVERED -> FanOutStatusEnum.DELIVERED;
+            case FAILED -> FanOutStatusEnum.FAILED;
+        };
+    }
+
+    /**
+     * @param notificationUuid only deliveries of this notification
+     * @param partnerBpnl      only deliveries to this partner
+     * @return the matching deliveries, the latest first
+     */
+    public List<DemandAndCapacityNotificationDelivery> findDeliveries(Optional<UUID> notificationUuid, Optional<String> partnerBpnl) {
+        List<DemandAndCapacityNotificationDelivery> deliveries;
+        if (notificationUuid.isPresent()) {
+            deliveries = repository.findAllByNotificationUuidOrderByCreatedAtDesc(notificationUuid.get());
+        } else if (partnerBpnl.isPresent()) {
+            deliveries = repository.findAllByPartnerBpnlOrderByCreatedAtDesc(partnerBpnl.get());
+        } else {
+            deliveries = repository.findAllByOrderByCreatedAtDesc();
+        }
+        if (notificationUuid.isPresent() && partnerBpnl.isPresent()) {
+            deliveries = deliveries.stream().filter(delivery -> delivery.getPartnerBpnl().equals(partnerBpnl.get())).toList();
+        }
+        return deliveries;
+    }
+
+    public DemandAndCapacityNotificationDeliveryDto toDto(DemandAndCapacityNotificationDelivery delivery) {
+        return DemandAndCapacityNotificationDeliveryDto.builder()
+            .uuid(delivery.getUuid())
+            .notificationUuid(delivery.getNotificationUuid())
+            .partnerBpnl(delivery.getPartnerBpnl())
+            .status(delivery.getStatus())
+            .attempts(delivery.getAttempts())
+            .createdAt(delivery.getCreatedAt())
+            .nextAttempt(delivery.getNextAttempt())
+            .deliveredAt(delivery.getDeliveredAt())
+            .lastError(delivery.getLastError())
+            .build();
+    }
+
+    @Scheduled(fixedDelayString = "${puris.notification.delivery.interval:2000}")
+    public void deliver() {
+        try {
+            List<DemandAndCapacityNotificationDelivery> due;
+            do {
+                due = repository.findByStatusAndNextAttemptLessThanEqual(DeliveryStatusEnumeration.PENDING, new Date(),
+                    PageRequest.of(0, FETCH_SIZE, Sort.by("nextAttempt")));
+                Map<String, List<DemandAndCapacityNotificationDelivery>> byPartner = new LinkedHashMap<>();
+                for (var delivery : due) {
+                    byPartner.computeIfAbsent(delivery.getPartnerBpnl(), bpnl -> new ArrayList<>()).add(delivery);
+                }
+                List<Callable<Void>> calls = new ArrayList<>();
+                byPartner.forEach((bpnl, deliveries) -> calls.add(() -> {
+                    deliverToPartner(bpnl, deliveries);
+                    return null;
+                }));
+                // wait for all partners, so that no more than the configured number of transfers is in progress
+                executor.invokeAll(calls);
+            } while (due.size() == FETCH_SIZE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to deliver notifications", e);
+        }
+    }
+
+    private void deliverToPartner(String bpnl, List<DemandAndCapacityNotificationDelivery> due) {
+        UUID claim = UUID.randomUUID();
+        Date leaseEnd = new Date(System.currentTimeMillis() + lease * 1000);
+        List<DemandAndCapacityNotificationDelivery> deliveries = transactionTemplate.execute(status ->
+            repository.claim(due.stream().map(DemandAndCapacityNotificationDelivery::getUuid).toList(), claim, new Date(), leaseEnd) == 0
+                ? List.of()
+                : repository.findAllByDeliveryClaim(claim));
+        if (deliveries == null || deliveries.isEmpty()) {
+            // claimed by another instance in the meantime
+            return;
+        }
+        try {
+            Partner partner = partnerService.findByBpnl(bpnl);
+            if (partner == null) {
+                deliveries.forEach(delivery -> fail(delivery, "Partner does not exist anymore"));
+                record(deliveries, claim);
+                return;
+            }
+            List<DemandAndCapacityNotificationDelivery> sendable = new ArrayList<>();
+            List<JsonNode> bodies = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                for (var delivery : deliveries) {
+                    OwnDemandAndCapacityNotification notification = ownNotificationService.findById(delivery.getNotificationUuid());
+                    if (notification == null) {
+                        fail(delivery, "Notification has been deleted");
+                    } else {
+                        sendable.add(delivery);
+                        bodies.add(requestApiService.createNotificationRequestBody(notification));
+                    }
+                }
+            });
+            List<JsonNode> responses = bodies.isEmpty() ? List.of() : edcAdapterService.doNotificationPostRequests(partner, bodies);
+            Date now = new Date();
+            int delivered = 0;
+            for (int i = 0; i < sendable.size(); i++) {
+                var delivery = sendable.get(i);
+                delivery.setAttempts(delivery.getAttempts() + 1);
+                if (responses.get(i) != null) {
+                    delivery.setStatus(DeliveryStatusEnumeration.DELIVERED);
+                    delivery.setDeliveredAt(now);
+                    delivery.setNextAttempt(null);
+                    delivery.setLastError(null);
+                    delivered++;
+                } else {
+                    retryLater(delivery, now, "Partner could not be reached");
+                }
+            }
+            record(deliveries, claim);
+            if (!sendable.isEmpty()) {
+                log.info("Delivered {} of {} notifications to partner {}", delivered, sendable.size(), bpnl);
+            }
+        } catch (Exception e) {
+            log.error("Error while delivering notifications to partner {}", bpnl, e);
+            Date now = new Date();
+            deliveries.stream().filter(delivery -> delivery.getStatus() == DeliveryStatusEnumeration.PENDING)
+                .forEach(delivery -> {
+                    delivery.setAttempts(delivery.getAttempts() + 1);
+                    retryLater(delivery, now, "Internal error");
+                });
+            record(deliveries, claim);
+        }
+    }
+
+    private void record(List<DemandAndCapacityNotificationDelivery> deliveries, UUID claim) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (var delivery : deliveries) {
+                repository.recordDelivery(delivery.getUuid(), claim, delivery.getStatus(), delivery.getAttempts(),
+                    delivery.getNextAttempt(), delivery.getDeliveredAt(), delivery.getLastError());
+            }
+        });
+    }
+
+    private void retryLater(DemandAndCapacityNotificationDelivery delivery, Date now, String error) {
+        if (delivery.getAttempts() >= maxAttempts) {
+            fail(delivery, error);
+            log.error("Giving up delivery of notification {} to partner {} after {} attempts",
+                delivery.getNotificationUuid(), delivery.getPartnerBpnl(), delivery.getAttempts());
+            return;
+        }
+        long delay = Math.min(maxBackoff, backoff << Math.min(30, delivery.getAttempts() - 1));
+        delivery.setNextAttempt(new Date(now.getTime() + delay * 1000));
+        delivery.setLastError(error);
+    }
+
+    private static void fail(DemandAndCapacityNotificationDelivery delivery, String error) {
+        delivery.setStatus(DeliveryStatusEnumeration.FAILED);
+        delivery.setNextAttempt(null);
+        delivery.setLastError(error);
+    }
+}
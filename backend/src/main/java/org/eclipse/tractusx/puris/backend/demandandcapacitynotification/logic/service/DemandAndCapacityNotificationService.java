@@ -20,17 +20,26 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
 
-import javax.management.openmbean.KeyAlreadyExistsException;
-
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.UniqueConstraints;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DemandAndCapacityNotification;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository.DemandAndCapacityNotificationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public abstract class DemandAndCapacityNotificationService<TEntity extends DemandAndCapacityNotification, TRepository extends DemandAndCapacityNotificationRepository<TEntity>> {
     protected final TRepository repository;
@@ -39,6 +48,9 @@ public abstract class DemandAndCapacityNotificationService<TEntity extends Deman
 
     protected final Function<TEntity, Boolean> validator;
 
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
     public DemandAndCapacityNotificationService(TRepository repository, PartnerService partnerService, MaterialPartnerRelationService mprService) {
         this.repository = repository;
         this.partnerService = partnerService;
@@ -51,8 +63,15 @@ public abstract class DemandAndCapacityNotificationService<TEntity extends Deman
     }
 
     public final TEntity findByNotificationId(UUID notificationId) {
-        return repository.findAll().stream().filter(notification -> notification.getNotificationId().equals(notificationId))
-                .findFirst().orElse(null);
+        return repository.findByNotificationId(notificationId).orElse(null);
+    }
+
+    public final List<TEntity> findAllByNotificationIds(Collection<UUID> notificationIds) {
+        return notificationIds.isEmpty() ? List.of() : repository.findAllByNotificationIdIn(notificationIds);
+    }
+
+    public final List<TEntity> findAllBySourceDisruptionId(UUID sourceDisruptionId) {
+        return repository.findAllBySourceDisruptionId(sourceDisruptionId);
     }
 
     public final List<TEntity> findAll() {
@@ -60,8 +79,7 @@ public abstract class DemandAndCapacityNotificationService<TEntity extends Deman
     }
 
     public final List<TEntity> findAllByBpnl(String bpnl) {
-        return repository.findAll().stream().filter(demand -> demand.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return repository.findAllByPartnerBpnl(bpnl);
     }
 
     public final TEntity findByBpnlAndSourceDisruptionId(String bpnl, UUID sourceDisruptionId) {
@@ -72,9 +90,6 @@ public abstract class DemandAndCapacityNotificationService<TEntity extends Deman
         if (!validator.apply(notification)) {
             throw new IllegalArgumentException("Invalid notification");
         }
-        if (repository.findAll().stream().anyMatch(d -> d.getNotificationId().equals(notification.getNotificationId()))) {
-            throw new KeyAlreadyExistsException("Notification already exists");
-        }
         if (notification.getNotificationId() == null) {
             notification.setNotificationId(UUID.randomUUID());
         }
@@ -82,7 +97,43 @@ public abstract class DemandAndCapacityNotificationService<TEntity extends Deman
             notification.setSourceDisruptionId(UUID.randomUUID());
         }
         notification.setContentChangedAt(new Date());
-        return repository.save(notification);
+        // uniqueness of the notification id is enforced by the database
+        return publish(UniqueConstraints.insert(() -> repository.saveAndFlush(notification), "Notification already exists"),
+            ChangeOperationEnum.UPSERT);
+    }
+
+    /**
+     * Creates several notifications with one batched insert, e.g. the same notification for several partners.
+     * Invalid notifications are skipped.
+     *
+     * @param notifications the notifications
+     * @return the created notifications in the given order, null for each notification that is invalid
+     */
+    public final List<TEntity> createAll(List<TEntity> notifications) {
+        Date now = new Date();
+        List<TEntity> valid = new ArrayList<>();
+        List<TEntity> result = new ArrayList<>();
+        for (TEntity notification : notifications) {
+            if (!validator.apply(notification)) {
+                result.add(null);
+                continue;
+            }
+            if (notification.getNotificationId() == null) {
+                notification.setNotificationId(UUID.randomUUID());
+            }
+            if (notification.getSourceDisruptionId() == null) {
+                notification.setSourceDisruptionId(UUID.randomUUID());
+            }
+            notification.setContentChangedAt(now);
+            valid.add(notification);
+            result.add(notification);
+        }
+        if (!valid.isEmpty()) {
+            // saveAll returns the same instances for new entities, so the result refers to the persisted notifications
+            UniqueConstraints.insert(() -> repository.saveAllAndFlush(valid), "Notification already exists");
+            valid.forEach(notification -> publish(notification, ChangeOperationEnum.UPSERT));
+        }
+        return result;
     }
 
     public final TEntity update(TEntity notification) {
@@ -93,12 +144,50 @@ public abstract class DemandAndCapacityNotificationService<TEntity extends Deman
             return null;
         }
         notification.setContentChangedAt(new Date());
-        return repository.save(notification);
+        return publish(repository.save(notification), ChangeOperationEnum.UPSERT);
     }
 
     public final void delete(UUID uuid) {
-        repository.deleteById(uuid);
+        repository.findById(uuid).ifPresent(notification -> {
+            repository.delete(notification);
+            publish(notification, ChangeOperationEnum.DELETE);
+        });
+    }
+
+    private TEntity publish(TEntity notification, ChangeOperationEnum operation) {
+        // materials of a loaded notification are fetched lazily, then the change is only published on the notification topic
+        List<String> ownMaterialNumbers = notification.getMaterials() == null || !Hibernate.isInitialized(notification.getMaterials()) ? List.of() :
+            notification.getMaterials().stream().map(Material::getOwnMaterialNumber).toList();
+        String partnerBpnl = notification.getPartner() == null ? null : notification.getPartner().getBpnl();
+        changeEventBus.publishNotification(ownMaterialNumbers, notification, notification.getUuid(), partnerBpnl, operation);
+        return notification;
     }
 
     public abstract boolean validate(TEntity notification);
+
+    /**
+     * @param notification the notification
+     * @return true, if the partner of the notification is related to all affected materials
+     */
+    public final boolean validateMaterials(TEntity notification) {
+        if (notification.getMaterials() == null || notification.getMaterials().isEmpty()) {
+            return true;
+        }
+        return mprService.existsForAll(notification.getPartner(), notification.getMaterials());
+    }
+
+    /**
+     * Checks the sites against the location index of the partner instead of comparing them with each site.
+     *
+     * @param sites   the affected sites, may be null
+     * @param partner the partner the sites must belong to
+     * @return true, if all sites belong to the partner
+     */
+    protected final boolean sitesBelongTo(List<Site> sites, Partner partner) {
+        if (sites == null || sites.isEmpty()) {
+            return true;
+        }
+        PartnerLocationIndex locationIndex = partnerService.getLocationIndex(partner);
+        return sites.stream().allMatch(site -> locationIndex.containsSite(site.getBpns()));
+    }
 }
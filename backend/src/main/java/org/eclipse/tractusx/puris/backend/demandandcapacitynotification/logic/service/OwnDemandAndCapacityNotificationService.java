@@ -20,8 +20,6 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service;
 
-import java.util.List;
-
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.OwnDemandAndCapacityNotification;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.ReportedDemandAndCapacityNotification;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.StatusEnumeration;
@@ -40,10 +38,6 @@ public class OwnDemandAndCapacityNotificationService extends DemandAndCapacityNo
         super(ownNotificationRepository, partnerService, mpr);
     }
 
-    public List<OwnDemandAndCapacityNotification>  findAllByPartnerBpnl(String bpnl) {
-        return repository.findAll().stream().filter(notification -> notification.getPartner().getBpnl().equals(bpnl)).toList();
-    }
-
     @Override
     public boolean validate(OwnDemandAndCapacityNotification notification) {
         return notification.getPartner() != null &&
@@ -105,24 +99,8 @@ public class OwnDemandAndCapacityNotificationService extends DemandAndCapacityNo
         return true;
     }
 
-    public boolean validateMaterials(OwnDemandAndCapacityNotification notification) {
-        if (notification.getMaterials() == null || notification.getMaterials().isEmpty()) {
-            return true;
-        }
-        return mprService.findAll().stream().filter(mpr ->
-            mpr.getPartner().equals(notification.getPartner()) &&
-            notification.getMaterials().contains(mpr.getMaterial())).count() == notification.getMaterials().size();
-    }
-
     public boolean validateSites(OwnDemandAndCapacityNotification notification) {
-        return (
-            notification.getAffectedSitesRecipient() == null ||
-            notification.getAffectedSitesRecipient().isEmpty() ||
-            notification.getAffectedSitesRecipient().stream().allMatch(site -> notification.getPartner().getSites().contains(site))
-        ) && (
-            notification.getAffectedSitesSender() == null ||
-            notification.getAffectedSitesSender().isEmpty() ||
-            notification.getAffectedSitesSender().stream().allMatch(site -> partnerService.getOwnPartnerEntity().getSites().contains(site))
-        );
+        return sitesBelongTo(notification.getAffectedSitesRecipient(), notification.getPartner()) &&
+            sitesBelongTo(notification.getAffectedSitesSender(), partnerService.getOwnPartnerEntity());
     }
 }
@@ -20,8 +20,6 @@ SPDX-License-Identifier: Apache-2.0
 
 package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service;
 
-import java.util.List;
-
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.ReportedDemandAndCapacityNotification;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.StatusEnumeration;
 import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository.ReportedDemandAndCapacityNotificationRepository;
@@ -37,11 +35,6 @@ public class ReportedDemandAndCapacityNotificationService extends DemandAndCapac
         super(reportedNotificationRepository, partnerService, mpr);
     }
 
-    public List<ReportedDemandAndCapacityNotification> findAllByPartnerBpnl(String bpnl) {
-        return repository.findAll().stream().filter(notification -> notification.getPartner().getBpnl().equals(bpnl))
-                .toList();
-    }
-
     @Override
     public boolean validate(ReportedDemandAndCapacityNotification notification) {
         return notification.getPartner() != null &&
@@ -77,24 +70,8 @@ public class ReportedDemandAndCapacityNotificationService extends DemandAndCapac
                 validateSites(notification);
     }
 
-    public boolean validateMaterials(ReportedDemandAndCapacityNotification notification) {
-        if (notification.getMaterials() == null || notification.getMaterials().isEmpty()) {
-            return true;
-        }
-        return mprService.findAll().stream().filter(mpr ->
-            mpr.getPartner().equals(notification.getPartner()) &&
-            notification.getMaterials().contains(mpr.getMaterial())).count() == notification.getMaterials().size();
-    }
-
     public boolean validateSites(ReportedDemandAndCapacityNotification notification) {
-        return (
-            notification.getAffectedSitesSender() == null ||
-            notification.getAffectedSitesSender().isEmpty() ||
-            notification.getAffectedSitesSender().stream().allMatch(site -> notification.getPartner().getSites().contains(site))
-        ) && (
-            notification.getAffectedSitesRecipient() == null ||
-            notification.getAffectedSitesRecipient().isEmpty() ||
-            notification.getAffectedSitesRecipient().stream().allMatch(site -> partnerService.getOwnPartnerEntity().getSites().contains(site))
-        );
+        return sitesBelongTo(notification.getAffectedSitesSender(), notification.getPartner()) &&
+            sitesBelongTo(notification.getAffectedSitesRecipient(), partnerService.getOwnPartnerEntity());
     }
 }
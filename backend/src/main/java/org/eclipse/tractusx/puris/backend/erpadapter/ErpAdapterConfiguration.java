@@ -71,6 +71,17 @@ public class ErpAdapterConfiguration {
     @Getter(AccessLevel.NONE)
     private long refreshTimeLimit;
 
+    /**
+     * Maximum number of materials that are requested from the erp adapter with one batch request.
+     * Values below 1 disable batching, then every material is requested on its own.
+     */
+    @Value("${puris.erpadapter.batchsize:0}")
+    private int batchSize;
+
+    @Value("${puris.erpadapter.batchwindow:5}")
+    @Getter(AccessLevel.NONE)
+    private long batchWindow;
+
     /**
      * Period since last received partner request after which no more new update requests to the
      * erp adapter will be sent (milliseconds).
@@ -117,6 +128,25 @@ public class ErpAdapterConfiguration {
         return refreshInterval * 60 * 1000;
     }
 
+    /**
+     * Scheduled requests that become due within this period after the first due request are sent together
+     * in one batch request (milliseconds). Only relevant, if batching is enabled.
+     *
+     * @return the period
+     */
+    public long getBatchWindow() {
+        // translate seconds to milliseconds
+        return batchWindow * 1000;
+    }
+
+    /**
+     * @return true, if due requests for the same partner and request type are sent to the erp adapter as
+     * batch requests covering several materials
+     */
+    public boolean isBatchingEnabled() {
+        return batchSize > 0;
+    }
+
     /**
      * Provides the URL, under which we expect to receive a response from the ERP Adapter
      *
@@ -128,4 +158,13 @@ public class ErpAdapterConfiguration {
         context = context.endsWith("/") ? context : context + "/";
         return url + context + "erp-adapter";
     }
+
+    /**
+     * Provides the URL, under which we expect to receive the response to a batch request from the ERP Adapter
+     *
+     * @return the batch response URL
+     */
+    public String getErpBatchResponseUrl() {
+        return getErpResponseUrl() + "/batch";
+    }
 }
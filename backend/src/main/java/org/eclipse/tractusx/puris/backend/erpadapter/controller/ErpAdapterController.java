@@ -30,17 +30,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.logic.service.ErpAdapterRequestService;
+import org.eclipse.tractusx.puris.backend.erpadapter.logic.service.ErpAdapterResponseService;
 import org.eclipse.tractusx.puris.backend.erpadapter.logic.service.ErpAdapterTriggerService;
-import org.eclipse.tractusx.puris.backend.erpadapter.logic.service.ItemStockErpAdapterService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.eclipse.tractusx.puris.backend.common.util.PatternStore.BPNL_PATTERN;
@@ -52,10 +56,13 @@ import static org.eclipse.tractusx.puris.backend.common.util.PatternStore.NON_EM
 public class ErpAdapterController {
 
     @Autowired
-    private ItemStockErpAdapterService itemStockErpAdapterService;
+    private ErpAdapterTriggerService erpAdapterTriggerService;
 
     @Autowired
-    private ErpAdapterTriggerService erpAdapterTriggerService;
+    private ErpAdapterRequestService erpAdapterRequestService;
+
+    @Autowired
+    private ErpAdapterResponseService erpAdapterResponseService;
 
     @Autowired
     private MaterialPartnerRelationService mprService;
@@ -97,15 +104,16 @@ public class ErpAdapterController {
         "Currently supported: \n\n" +
         "| response-type | samm-version |\n" +
         "|---------------|--------------|\n" +
-        "| ItemStock     | 2.0          |"
+        "| ItemStock     | 2.0          |\n\n" +
+        "Responses are stored and processed asynchronously. Repeated deliveries for the same request-id are " +
+        "acknowledged, but only processed once, unless the processing of the earlier delivery has failed. If too many responses are waiting for processing, the response is " +
+        "rejected and should be sent again after the number of seconds given in the Retry-After header."
         )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "201", description = "accepted"),
+        @ApiResponse(responseCode = "202", description = "accepted for processing"),
         @ApiResponse(responseCode = "400", description = "bad request"),
         @ApiResponse(responseCode = "404", description = "unknown request-id"),
-        @ApiResponse(responseCode = "409", description = "repeated answer for request-id"),
-        @ApiResponse(responseCode = "500", description = "internal server error"),
-        @ApiResponse(responseCode = "501", description = "unsupported response-type")
+        @ApiResponse(responseCode = "429", description = "too many responses waiting for processing, retry after the given time")
     })
     @PutMapping
     public ResponseEntity<?> putMethod(
@@ -127,24 +135,131 @@ public class ErpAdapterController {
         if (!valid) {
             return ResponseEntity.badRequest().build();
         }
+        AssetType assetType = Arrays.stream(AssetType.values()).filter(type -> type.ERP_KEYWORD.equals(responseType)).findFirst().orElse(null);
+        if (!ErpAdapterRequest.SUPPORTED_TYPES.contains(assetType)) {
+            return ResponseEntity.badRequest().body("Unsupported Type");
+        }
         Dto dto = new Dto(requestId, partnerBpnl, responseType, sammVersion, new Date(responseTimestamp), requestBody);
+        Integer rejection = erpAdapterResponseService.check(erpAdapterRequestService.get(requestId), dto);
+        if (rejection != null) {
+            return ResponseEntity.status(rejection).build();
+        }
+        if (erpAdapterResponseService.enqueue(dto) == ErpAdapterResponseService.Admission.REJECTED) {
+            return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(erpAdapterResponseService.getRetryAfter()))
+                .build();
+        }
+        return ResponseEntity.status(202).build();
+    }
+
+    @Operation(description = "This endpoint accepts the response of the ERP adapter to a batch request, which covers several " +
+        "materials. The request-id is the id of the batch request. Every entry of the responses array carries the " +
+        "SAMM for one material in its body and is assigned to the individual request either by its request-id or by " +
+        "its material and direction. \n\n" +
+        "The response lists the status code for every entry, which has the same meaning as the status code of the " +
+        "single response endpoint. Accepted entries are processed asynchronously.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "all responses accepted for processing"),
+        @ApiResponse(responseCode = "207", description = "not all responses accepted, see the body for the status of each entry"),
+        @ApiResponse(responseCode = "400", description = "bad request"),
+        @ApiResponse(responseCode = "404", description = "unknown request-id")
+    })
+    @PutMapping("/batch")
+    public ResponseEntity<?> putBatchMethod(
+        @RequestParam("request-id") UUID batchId,
+        @RequestParam("bpnl") String partnerBpnl,
+        @RequestParam("response-type") String responseType,
+        @RequestParam("samm-version") String sammVersion,
+        @RequestParam(value = "response-timestamp")
+        @Parameter(example = "1719295545654", description = "Represented as the number of milliseconds since January 1, 1970, 00:00:00 GMT")
+        long responseTimestamp,
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {@Content(examples = {
+            @ExampleObject(batchSample)
+        })})
+        @RequestBody JsonNode requestBody
+    ) {
+        boolean valid = BPNL_PATTERN.matcher(partnerBpnl).matches()
+                     && NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN.matcher(responseType).matches()
+                     && NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN.matcher(sammVersion).matches()
+                     && requestBody.path("responses").isArray();
+        if (!valid) {
+            return ResponseEntity.badRequest().build();
+        }
         AssetType assetType = Arrays.stream(AssetType.values()).filter(type -> type.ERP_KEYWORD.equals(responseType)).findFirst().orElse(null);
         if (!ErpAdapterRequest.SUPPORTED_TYPES.contains(assetType)) {
             return ResponseEntity.badRequest().body("Unsupported Type");
         }
-        int responseCode = 501;
-        switch (assetType) {
-            case ITEM_STOCK_SUBMODEL -> responseCode = itemStockErpAdapterService.receiveItemStockUpdate(dto);
-            case null, default -> {
-                return ResponseEntity.status(responseCode).body("Unsupported response type: " + responseType);
+        List<ErpAdapterRequest> batch = erpAdapterRequestService.findByBatchId(batchId);
+        if (batch.isEmpty()) {
+            log.error("Unknown batch request-id {}", batchId);
+            return ResponseEntity.status(404).build();
+        }
+        List<BatchResult> results = new ArrayList<>();
+        boolean allAccepted = true;
+        boolean rejected = false;
+        for (JsonNode entry : requestBody.get("responses")) {
+            ErpAdapterRequest request = findInBatch(batch, entry);
+            int responseCode;
+            if (request == null) {
+                log.error("Batch response {} contains an entry without matching request: {}", batchId, entry.path("material").asText(null));
+                responseCode = 404;
+            } else {
+                Dto dto = new Dto(request.getId(), partnerBpnl, responseType, sammVersion, new Date(responseTimestamp), entry.path("body"));
+                Integer rejection = erpAdapterResponseService.check(request, dto);
+                if (rejection != null) {
+                    responseCode = rejection;
+                } else {
+                    responseCode = erpAdapterResponseService.enqueue(dto) == ErpAdapterResponseService.Admission.REJECTED ? 429 : 202;
+                }
             }
+            allAccepted &= responseCode == 202;
+            rejected |= responseCode == 429;
+            results.add(new BatchResult(request != null ? request.getId() : null,
+                request != null ? request.getOwnMaterialNumber() : entry.path("material").asText(null), responseCode));
+        }
+        var response = ResponseEntity.status(allAccepted ? 202 : 207);
+        if (rejected) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(erpAdapterResponseService.getRetryAfter()));
+        }
+        return response.body(results);
+    }
+
+    /**
+     * Finds the request of the batch, that an entry of a batch response belongs to. Entries are matched by
+     * their request-id or, if that is missing, by material number and direction.
+     */
+    private static ErpAdapterRequest findInBatch(List<ErpAdapterRequest> batch, JsonNode entry) {
+        String requestId = entry.path("request-id").asText(null);
+        if (requestId != null) {
+            return batch.stream().filter(request -> request.getId().toString().equals(requestId)).findFirst().orElse(null);
         }
-        return ResponseEntity.status(responseCode).build();
+        String material = entry.path("material").asText(null);
+        String direction = entry.path("direction").asText(entry.path("body").path("direction").asText(null));
+        return batch.stream()
+            .filter(request -> request.getOwnMaterialNumber().equals(material))
+            .filter(request -> direction == null || request.getDirectionEnum() == null || request.getDirectionEnum().name().equals(direction))
+            .findFirst().orElse(null);
     }
 
+    public record BatchResult(UUID requestId, String material, int status) {}
+
     public record Dto(UUID requestId, String partnerBpnl, String responseType, String sammVersion,
                       Date responseTimeStamp, JsonNode body){}
 
+    private final static String batchSample = "{\n" +
+        "    \"responses\": [\n" +
+        "        {\n" +
+        "            \"request-id\": \"6b0a1d2e-8a8c-4b5f-9f3e-0c1a2b3c4d5e\",\n" +
+        "            \"material\": \"MNR-7307-AU340474.002\",\n" +
+        "            \"body\": {\n" +
+        "                \"materialGlobalAssetId\": null,\n" +
+        "                \"positions\": [],\n" +
+        "                \"direction\": \"INBOUND\"\n" +
+        "            }\n" +
+        "        }\n" +
+        "    ]\n" +
+        "}";
+
     private final static String itemStock20Sample = "{\n" +
         "    \"materialGlobalAssetId\": null,\n" +
         "    \"positions\": [\n" +
@@ -83,6 +83,28 @@ public class ErpAdapterRequest {
     @Enumerated(EnumType.STRING)
     private DirectionEnum directionEnum;
 
+    /**
+     * Id of the batch request this request has been sent with, null if it has been sent on its own.
+     */
+    private UUID batchId;
+
+    /**
+     * Delivery state, null for requests that have been sent before delivery states were recorded.
+     */
+    @Enumerated(EnumType.STRING)
+    private ErpAdapterRequestStatusEnum status;
+
+    private int dispatchAttempts;
+
+    private Date nextDispatchAttempt;
+
+    private Date sentDate;
+
+    /**
+     * Set by the dispatcher that is currently sending this request, so that no other dispatcher sends it as well.
+     */
+    private UUID dispatchClaim;
+
     // AssetType validation helpers:
     @Constraint(validatedBy = RequestTypeValidator.class)
     @Target({ElementType.FIELD, ElementType.PARAMETER})
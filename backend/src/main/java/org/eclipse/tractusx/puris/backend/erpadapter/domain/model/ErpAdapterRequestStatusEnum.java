@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.domain.model;
+
+/**
+ * Delivery state of an {@link ErpAdapterRequest}.
+ */
+public enum ErpAdapterRequestStatusEnum {
+    /**
+     * Waiting to be sent to the erp adapter, possibly after a failed attempt.
+     */
+    PENDING,
+    /**
+     * Accepted by the erp adapter.
+     */
+    SENT,
+    /**
+     * The erp adapter has delivered the response.
+     */
+    ACKNOWLEDGED,
+    /**
+     * All attempts to send the request have failed.
+     */
+    FAILED
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.domain.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * A response of the erp adapter that has been accepted and is processed asynchronously.
+ * <p>
+ * The id is the request-id of the answered {@link ErpAdapterRequest}, so every request can only be
+ * answered once. The body is removed after successful processing.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "body")
+public class ErpAdapterResponse {
+
+    @Id
+    private UUID requestId;
+
+    @NotNull
+    @Column(nullable = false)
+    private String partnerBpnl;
+
+    @NotNull
+    @Column(nullable = false)
+    private String responseType;
+
+    @NotNull
+    @Column(nullable = false)
+    private String sammVersion;
+
+    @NotNull
+    @Column(nullable = false)
+    private Date responseTimestamp;
+
+    @NotNull
+    @Column(nullable = false)
+    private Date receivedDate;
+
+    private Date processedDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ErpAdapterResponseStatusEnum status;
+
+    /**
+     * The status code the response would have been answered with, if it had been processed synchronously.
+     */
+    private Integer resultCode;
+
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    private String body;
+}
@@ -21,11 +21,70 @@
 package org.eclipse.tractusx.puris.backend.erpadapter.domain.repository;
 
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ErpAdapterRequestRepository extends JpaRepository<ErpAdapterRequest, UUID> {
+
+    List<ErpAdapterRequest> findAllByBatchId(UUID batchId);
+
+    List<ErpAdapterRequest> findByStatusAndNextDispatchAttemptLessThanEqual(ErpAdapterRequestStatusEnum status, Date date, Pageable pageable);
+
+    long countByStatus(ErpAdapterRequestStatusEnum status);
+
+    List<ErpAdapterRequest> findAllByDispatchClaim(UUID dispatchClaim);
+
+    /**
+     * Claims the given requests, if they are still pending and due, by setting the claim and postponing the next
+     * dispatch attempt to the end of the lease. Other dispatchers skip the claimed requests until the lease ends.
+     *
+     * @return the number of claimed requests
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update ErpAdapterRequest r set r.dispatchClaim = :claim, r.nextDispatchAttempt = :leaseEnd " +
+        "where r.id in :ids and r.status = org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum.PENDING " +
+        "and r.nextDispatchAttempt <= :now")
+    int claim(@Param("ids") List<UUID> ids, @Param("claim") UUID claim, @Param("now") Date now, @Param("leaseEnd") Date leaseEnd);
+
+    /**
+     * Records the outcome of a dispatch attempt, unless the request has been answered or claimed by another
+     * dispatcher in the meantime.
+     *
+     * @return 1 if the outcome has been recorded, else 0
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update ErpAdapterRequest r set r.status = :status, r.responseCode = :responseCode, " +
+        "r.dispatchAttempts = :dispatchAttempts, r.nextDispatchAttempt = :nextDispatchAttempt, r.sentDate = :sentDate, " +
+        "r.dispatchClaim = null where r.id = :id and r.dispatchClaim = :claim " +
+        "and r.status = org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum.PENDING")
+    int recordDispatch(@Param("id") UUID id, @Param("claim") UUID claim, @Param("status") ErpAdapterRequestStatusEnum status,
+                       @Param("responseCode") Integer responseCode, @Param("dispatchAttempts") int dispatchAttempts,
+                       @Param("nextDispatchAttempt") Date nextDispatchAttempt, @Param("sentDate") Date sentDate);
+
+    /**
+     * Releases the claimed requests that are still pending and postpones their next dispatch attempt.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update ErpAdapterRequest r set r.nextDispatchAttempt = :nextDispatchAttempt, r.dispatchClaim = null " +
+        "where r.dispatchClaim = :claim " +
+        "and r.status = org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum.PENDING")
+    int release(@Param("claim") UUID claim, @Param("nextDispatchAttempt") Date nextDispatchAttempt);
+
+    /**
+     * Marks the request as answered by the erp adapter, without touching the fields written by the dispatcher.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update ErpAdapterRequest r set r.status = org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum.ACKNOWLEDGED, " +
+        "r.responseReceivedDate = :responseReceivedDate where r.id = :id")
+    int acknowledge(@Param("id") UUID id, @Param("responseReceivedDate") Date responseReceivedDate);
 }
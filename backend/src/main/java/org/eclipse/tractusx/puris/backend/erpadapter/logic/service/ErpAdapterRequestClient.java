@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,8 @@ import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequ
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -43,19 +46,49 @@ public class ErpAdapterRequestClient {
     private final ErpAdapterConfiguration erpAdapterConfiguration;
 
     public Integer sendRequest(ErpAdapterRequest erpAdapterRequest){
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(erpAdapterConfiguration.getErpAdapterUrl()).newBuilder();
-        urlBuilder.addQueryParameter("bpnl", erpAdapterRequest.getPartnerBpnl());
-        urlBuilder.addQueryParameter("request-type", erpAdapterRequest.getRequestType().ERP_KEYWORD);
-        urlBuilder.addQueryParameter("request-id", erpAdapterRequest.getId().toString());
-        urlBuilder.addQueryParameter("samm-version", erpAdapterRequest.getSammVersion());
-        urlBuilder.addQueryParameter("request-timestamp", String.valueOf(erpAdapterRequest.getRequestDate().getTime()));
-
         ObjectNode requestBody = mapper.createObjectNode();
 
         requestBody.put("material", erpAdapterRequest.getOwnMaterialNumber());
         requestBody.put("direction", erpAdapterRequest.getDirectionEnum().toString());
         requestBody.put("responseUrl", erpAdapterConfiguration.getErpResponseUrl());
 
+        return post(erpAdapterRequest, erpAdapterRequest.getId(), requestBody);
+    }
+
+    /**
+     * Sends one request for all given materials to the erp adapter. All requests must have the same
+     * partner, request type and samm version and must carry the same batch id.
+     * <p>
+     * The erp adapter is expected to answer with one message to the batch response url, that contains
+     * the response for every listed request-id.
+     *
+     * @param batch the requests to send
+     * @return the response code of the erp adapter or null, if the request could not be sent
+     */
+    public Integer sendBatchRequest(List<ErpAdapterRequest> batch) {
+        ErpAdapterRequest first = batch.get(0);
+
+        ObjectNode requestBody = mapper.createObjectNode();
+        ArrayNode materials = requestBody.putArray("materials");
+        for (var erpAdapterRequest : batch) {
+            ObjectNode material = materials.addObject();
+            material.put("request-id", erpAdapterRequest.getId().toString());
+            material.put("material", erpAdapterRequest.getOwnMaterialNumber());
+            material.put("direction", erpAdapterRequest.getDirectionEnum().toString());
+        }
+        requestBody.put("responseUrl", erpAdapterConfiguration.getErpBatchResponseUrl());
+
+        return post(first, first.getBatchId(), requestBody);
+    }
+
+    private Integer post(ErpAdapterRequest erpAdapterRequest, UUID requestId, ObjectNode requestBody) {
+        HttpUrl.Builder urlBuilder = HttpUrl.parse(erpAdapterConfiguration.getErpAdapterUrl()).newBuilder();
+        urlBuilder.addQueryParameter("bpnl", erpAdapterRequest.getPartnerBpnl());
+        urlBuilder.addQueryParameter("request-type", erpAdapterRequest.getRequestType().ERP_KEYWORD);
+        urlBuilder.addQueryParameter("request-id", requestId.toString());
+        urlBuilder.addQueryParameter("samm-version", erpAdapterRequest.getSammVersion());
+        urlBuilder.addQueryParameter("request-timestamp", String.valueOf(erpAdapterRequest.getRequestDate().getTime()));
+
         RequestBody body = RequestBody.create(requestBody.toString(), MediaType.parse("application/json"));
 
         Request request = new Request.Builder()
@@ -70,6 +103,5 @@ public class ErpAdapterRequestClient {
             log.error("Error while sending ErpAdapterRequest", e);
             return null;
         }
-
     }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the requests of the outbox to the erp adapter.
+ * <p>
+ * Every {@code puris.erpadapter.dispatch.interval} milliseconds all due requests are sent by at most
+ * {@code puris.erpadapter.dispatch.concurrency} threads, requests of the same batch with one call. A request
+ * that is not accepted by the erp adapter is retried with exponential backoff, starting with
+ * {@code puris.erpadapter.dispatch.backoff} seconds, until {@code puris.erpadapter.dispatch.maxattempts}
+ * attempts have failed. Since the outbox is stored in the database, pending requests are sent after a restart.
+ * <p>
+ * Before sending, the requests are claimed for {@code puris.erpadapter.dispatch.lease} seconds, so that several
+ * instances sharing the database do not send the same request twice. The outcome is only recorded for requests that
+ * are still pending, a response of the erp adapter that has been processed in the meantime is never overwritten.
+ * <p>
+ * The number of pending requests is published as gauge {@code puris.erpadapter.outbox.pending}, the time between
+ * creating and sending a request as timer {@code puris.erpadapter.outbox.dispatch.latency}.
+ */
+@Service
+@Slf4j
+public class ErpAdapterRequestDispatcher {
+
+    private static final int FETCH_SIZE = 500;
+
+    @Autowired
+    private ErpAdapterRequestService erpAdapterRequestService;
+
+    @Autowired
+    private ErpAdapterRequestClient erpAdapterRequestClient;
+
+    @Autowired
+    private ErpAdapterConfiguration erpAdapterConfiguration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${puris.erpadapter.dispatch.concurrency:4}")
+    private int concurrency = 4;
+
+    @Value("${puris.erpadapter.dispatch.maxattempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${puris.erpadapter.dispatch.backoff:10}")
+    private long backoff = 10;
+
+    @Value("${puris.erpadapter.dispatch.maxbackoff:600}")
+    private long maxBackoff = 600;
+
+    @Value("${puris.erpadapter.dispatch.lease:300}")
+    private long lease = 300;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private ExecutorService executor;
+
+    private Timer latency;
+
+    private Counter sent;
+
+    private Counter retried;
+
+    private Counter failed;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "erp-adapter-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("puris.erpadapter.outbox.pending", pending, AtomicLong::get)
+            .description("Number of requests waiting to be sent to the erp adapter").register(meterRegistry);
+        latency = Timer.builder("puris.erpadapter.outbox.dispatch.latency")
+            .description("Time between creating a request and its acceptance by the erp adapter").register(meterRegistry);
+        sent = Counter.builder("puris.erpadapter.outbox.dispatches").tag("result", "sent").register(meterRegistry);
+        retried = Counter.builder("puris.erpadapter.outbox.dispatches").tag("result", "retry").register(meterRegistry);
+        failed = Counter.builder("puris.erpadapter.outbox.dispatches").tag("result", "failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${puris.erpadapter.dispatch.interval:1000}")
+    public void dispatch() {
+        if (!erpAdapterConfiguration.isErpAdapterEnabled()) {
+            return;
+        }
+        try {
+            List<ErpAdapterRequest> due;
+            boolean completed;
+            do {
+                due = erpAdapterRequestService.findDue(FETCH_SIZE);
+                List<Callable<Void>> calls = new ArrayList<>();
+                for (var group : groupByBatch(due)) {
+                    calls.add(() -> {
+                        send(group);
+                        return null;
+                    });
+                }
+                // wait for all calls, so that no more than the configured number of calls is in progress
+                completed = true;
+                for (Future<Void> call : executor.invokeAll(calls)) {
+                    try {
+                        call.get();
+                    } catch (ExecutionException e) {
+                        log.error("Failed to dispatch erp adapter requests", e.getCause());
+                        completed = false;
+                    }
+                }
+                // after a failure, the remaining requests are left to the next run
+            } while (completed && due.size() == FETCH_SIZE);
+            pending.set(erpAdapterRequestService.countPending());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to dispatch erp adapter requests", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // unsent requests remain pending in the database
+        executor.shutdownNow();
+    }
+
+    private void send(List<ErpAdapterRequest> group) {
+        ErpAdapterRequest first = group.get(0);
+        // the fetched page may contain only a part of the batch
+        List<UUID> ids = first.getBatchId() == null
+            ? List.of(first.getId())
+            : erpAdapterRequestService.findByBatchId(first.getBatchId()).stream().map(ErpAdapterRequest::getId).toList();
+        UUID claim = UUID.randomUUID();
+        group = erpAdapterRequestService.claim(ids, claim, new Date(System.currentTimeMillis() + lease * 1000));
+        if (group.isEmpty()) {
+            // already sent or claimed by another dispatcher
+            return;
+        }
+        try {
+            send(group, claim);
+        } catch (RuntimeException e) {
+            // don't leave the requests to the end of the lease, but don't retry them right away either
+            erpAdapterRequestService.release(claim, new Date(System.currentTimeMillis() + backoff * 1000));
+            throw e;
+        }
+    }
+
+    private void send(List<ErpAdapterRequest> group, UUID claim) {
+        ErpAdapterRequest first = group.get(0);
+        Integer responseCode;
+        try {
+            responseCode = first.getBatchId() == null
+                ? erpAdapterRequestClient.sendRequest(first)
+                : erpAdapterRequestClient.sendBatchRequest(group);
+        } catch (Exception e) {
+            log.error("Error while sending request to ERP Adapter", e);
+            responseCode = null;
+        }
+        Date now = new Date();
+        boolean accepted = responseCode != null && responseCode >= 200 && responseCode < 400;
+        for (var erpAdapterRequest : group) {
+            erpAdapterRequest.setResponseCode(responseCode);
+            erpAdapterRequest.setDispatchAttempts(erpAdapterRequest.getDispatchAttempts() + 1);
+            if (accepted) {
+                erpAdapterRequest.setStatus(ErpAdapterRequestStatusEnum.SENT);
+                erpAdapterRequest.setSentDate(now);
+                latency.record(now.getTime() - erpAdapterRequest.getRequestDate().getTime(), TimeUnit.MILLISECONDS);
+            } else if (erpAdapterRequest.getDispatchAttempts() >= maxAttempts) {
+                erpAdapterRequest.setStatus(ErpAdapterRequestStatusEnum.FAILED);
+            } else {
+                long delay = Math.min(maxBackoff, backoff << Math.min(30, erpAdapterRequest.getDispatchAttempts() - 1));
+                erpAdapterRequest.setNextDispatchAttempt(new Date(now.getTime() + delay * 1000));
+            }
+        }
+        int recorded = erpAdapterRequestService.recordDispatch(group, claim);
+        if (recorded < group.size()) {
+            log.debug("{} of {} request(s) for partner {} have been answered before the dispatch was recorded",
+                group.size() - recorded, group.size(), first.getPartnerBpnl());
+        }
+        if (accepted) {
+            sent.increment(group.size());
+            log.info("Successfully sent {} request(s) for partner {} to ERP Adapter, got status code {}",
+                group.size(), first.getPartnerBpnl(), responseCode);
+        } else if (first.getStatus() == ErpAdapterRequestStatusEnum.FAILED) {
+            failed.increment(group.size());
+            log.error("Giving up on {} request(s) for partner {} after {} attempts, last status code {}",
+                group.size(), first.getPartnerBpnl(), first.getDispatchAttempts(), responseCode);
+        } else {
+            retried.increment(group.size());
+            log.warn("Failed to send {} request(s) for partner {} to ERP Adapter (status code {}), retrying at {}",
+                group.size(), first.getPartnerBpnl(), responseCode, first.getNextDispatchAttempt());
+        }
+    }
+
+    /**
+     * Groups the requests by batch id, requests without batch id form a group on their own.
+     */
+    private static List<List<ErpAdapterRequest>> groupByBatch(List<ErpAdapterRequest> requests) {
+        Map<Object, List<ErpAdapterRequest>> groups = new LinkedHashMap<>();
+        for (var request : requests) {
+            Object key = request.getBatchId() != null ? request.getBatchId() : request.getId();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(request);
+        }
+        return new ArrayList<>(groups.values());
+    }
+}
@@ -22,10 +22,21 @@ package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterRequestRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -35,7 +46,7 @@ public class ErpAdapterRequestService {
 
     private final ErpAdapterRequestRepository repository;
 
-    private final ErpAdapterRequestClient erpAdapterRequestClient;
+    private final ErpAdapterConfiguration erpAdapterConfiguration;
 
     public ErpAdapterRequest create(ErpAdapterRequest erpAdapterRequest) {
         if (erpAdapterRequest.getId() != null && repository.existsById(erpAdapterRequest.getId())) {
@@ -45,22 +56,109 @@ public class ErpAdapterRequestService {
         return repository.save(erpAdapterRequest);
     }
 
-    public void createAndSend(ErpAdapterRequest erpAdapterRequest) {
-        erpAdapterRequest = create(erpAdapterRequest);
-        if (erpAdapterRequest != null) {
-            Integer responseCode = erpAdapterRequestClient.sendRequest(erpAdapterRequest);
-            if (responseCode != null) {
-                erpAdapterRequest.setResponseCode(responseCode);
-                update(erpAdapterRequest);
-                if (responseCode >= 200 && responseCode < 400) {
-                    log.info("Successfully sent request to ERP Adapter, got status code {} for request:\n{}", responseCode, erpAdapterRequest);
-                } else {
-                    log.warn("Received status code {} from ERP Adapter for request:\n{}", responseCode, erpAdapterRequest);
+    /**
+     * Writes the given requests to the outbox in one transaction, from where they are sent to the erp adapter
+     * by the {@link ErpAdapterRequestDispatcher}. With batching enabled, requests for the same partner and request
+     * type are assigned to batches of up to {@code puris.erpadapter.batchsize} materials, that are sent together.
+     *
+     * @param erpAdapterRequests the new requests
+     * @return the stored requests
+     */
+    @Transactional
+    public List<ErpAdapterRequest> enqueue(List<ErpAdapterRequest> erpAdapterRequests) {
+        Date now = new Date();
+        for (var erpAdapterRequest : erpAdapterRequests) {
+            erpAdapterRequest.setStatus(ErpAdapterRequestStatusEnum.PENDING);
+            erpAdapterRequest.setDispatchAttempts(0);
+            erpAdapterRequest.setNextDispatchAttempt(now);
+        }
+        if (erpAdapterConfiguration.isBatchingEnabled()) {
+            int batchSize = erpAdapterConfiguration.getBatchSize();
+            Map<BatchKey, List<ErpAdapterRequest>> groups = new LinkedHashMap<>();
+            for (var erpAdapterRequest : erpAdapterRequests) {
+                groups.computeIfAbsent(new BatchKey(erpAdapterRequest.getPartnerBpnl(), erpAdapterRequest.getRequestType(),
+                    erpAdapterRequest.getSammVersion()), k -> new ArrayList<>()).add(erpAdapterRequest);
+            }
+            for (var group : groups.values()) {
+                for (int i = 0; i < group.size(); i += batchSize) {
+                    UUID batchId = UUID.randomUUID();
+                    group.subList(i, Math.min(i + batchSize, group.size())).forEach(erpAdapterRequest -> erpAdapterRequest.setBatchId(batchId));
                 }
-            } else {
-                log.error("Failed to send request to ERP Adapter:\n{}", erpAdapterRequest);
             }
         }
+        return repository.saveAll(erpAdapterRequests);
+    }
+
+    /**
+     * @param limit maximum number of requests to return
+     * @return pending requests whose next dispatch attempt is due, the longest waiting first
+     */
+    public List<ErpAdapterRequest> findDue(int limit) {
+        return repository.findByStatusAndNextDispatchAttemptLessThanEqual(ErpAdapterRequestStatusEnum.PENDING, new Date(),
+            PageRequest.of(0, limit, Sort.by("nextDispatchAttempt")));
+    }
+
+    public long countPending() {
+        return repository.countByStatus(ErpAdapterRequestStatusEnum.PENDING);
+    }
+
+    /**
+     * Claims those of the given requests that are still pending and due for the calling dispatcher. Until the lease
+     * ends, they are neither returned by {@link #findDue(int)} nor claimed by another dispatcher.
+     *
+     * @param ids      ids of the requests to claim
+     * @param claim    id of this dispatch attempt
+     * @param leaseEnd end of the lease, when the requests become due again unless the outcome has been recorded
+     * @return the claimed requests
+     */
+    @Transactional
+    public List<ErpAdapterRequest> claim(List<UUID> ids, UUID claim, Date leaseEnd) {
+        if (repository.claim(ids, claim, new Date(), leaseEnd) == 0) {
+            return List.of();
+        }
+        return repository.findAllByDispatchClaim(claim);
+    }
+
+    /**
+     * Records the outcome of the dispatch attempt for the claimed requests. Requests that have been answered by the
+     * erp adapter in the meantime are left unchanged.
+     *
+     * @param erpAdapterRequests the claimed requests with status, response code and attempts of the dispatch
+     * @param claim              id of the dispatch attempt
+     * @return the number of updated requests
+     */
+    @Transactional
+    public int recordDispatch(List<ErpAdapterRequest> erpAdapterRequests, UUID claim) {
+        int updated = 0;
+        for (var erpAdapterRequest : erpAdapterRequests) {
+            updated += repository.recordDispatch(erpAdapterRequest.getId(), claim, erpAdapterRequest.getStatus(),
+                erpAdapterRequest.getResponseCode(), erpAdapterRequest.getDispatchAttempts(),
+                erpAdapterRequest.getNextDispatchAttempt(), erpAdapterRequest.getSentDate());
+        }
+        return updated;
+    }
+
+    /**
+     * Releases the requests of a failed dispatch attempt, so that they are retried at the given date.
+     */
+    @Transactional
+    public void release(UUID claim, Date nextDispatchAttempt) {
+        repository.release(claim, nextDispatchAttempt);
+    }
+
+    /**
+     * Marks the request as answered by the erp adapter. Only status and response date are written, so that a
+     * concurrent dispatcher can neither overwrite nor be overwritten by this update.
+     *
+     * @return true, if the request exists
+     */
+    @Transactional
+    public boolean acknowledge(UUID id, Date responseReceivedDate) {
+        return repository.acknowledge(id, responseReceivedDate) > 0;
+    }
+
+    public List<ErpAdapterRequest> findByBatchId(UUID batchId) {
+        return repository.findAllByBatchId(batchId);
     }
 
     public ErpAdapterRequest get(UUID id) {
@@ -78,4 +176,10 @@ public class ErpAdapterRequestService {
     public void delete(UUID id) {
         repository.deleteById(id);
     }
+
+    /**
+     * Requests with equal keys can be sent to the erp adapter with one batch request.
+     */
+    private record BatchKey(String partnerBpnl, AssetType requestType, String sammVersion) {
+    }
 }
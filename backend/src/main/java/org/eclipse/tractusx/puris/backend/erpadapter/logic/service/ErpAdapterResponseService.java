@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.controller.ErpAdapterController;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterResponse;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterResponseStatusEnum;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterResponseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Accepts responses of the erp adapter and processes them in the background.
+ * <p>
+ * A response is stored in the database before it is acknowledged, so it survives a restart. It is then
+ * processed by one of {@code puris.erpadapter.response.workers} threads. At most
+ * {@code puris.erpadapter.response.queuecapacity} responses are queued or in progress at the same time,
+ * further responses are rejected until the queue has drained. Every request-id is accepted only once,
+ * repeated deliveries of a response are acknowledged without being processed again. A response whose processing
+ * has failed is replaced by a repeated delivery, which is then processed again.
+ */
+@Service
+@Slf4j
+public class ErpAdapterResponseService {
+
+    /**
+     * Outcome of {@link #enqueue(ErpAdapterController.Dto)}.
+     */
+    public enum Admission {
+        /**
+         * The response has been stored and will be processed.
+         */
+        ACCEPTED,
+        /**
+         * A response for the request-id has already been accepted and has not failed.
+         */
+        DUPLICATE,
+        /**
+         * The queue is full, the erp adapter should retry later.
+         */
+        REJECTED
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ErpAdapterResponseRepository repository;
+
+    @Autowired
+    private ItemStockErpAdapterService itemStockErpAdapterService;
+
+    @Value("${puris.erpadapter.response.workers:2}")
+    private int workers = 2;
+
+    @Value("${puris.erpadapter.response.queuecapacity:100}")
+    private int queueCapacity = 100;
+
+    @Value("${puris.erpadapter.response.retryafter:30}")
+    private long retryAfter = 30;
+
+    /**
+     * Request-ids of responses that are currently being accepted, queued or processed.
+     */
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    private Capacity capacity;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        capacity = new Capacity(queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "erp-adapter-response-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the responses that had been accepted but not processed before the last shutdown. They count
+     * against the queue capacity like new responses, if there are more than fit, further responses are
+     * rejected until the backlog has drained below the capacity.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        var queued = repository.findAllByStatus(ErpAdapterResponseStatusEnum.QUEUED);
+        for (var response : queued) {
+            if (pending.add(response.getRequestId())) {
+                capacity.reducePermits(1);
+                submit(response.getRequestId());
+            }
+        }
+        if (!queued.isEmpty()) {
+            log.info("Queued {} erp adapter responses received before the last shutdown", queued.size());
+        }
+    }
+
+    /**
+     * Checks the response against the request it answers, before it is accepted.
+     *
+     * @param request the answered request, null if the request-id is unknown
+     * @param dto     the parameters and the body of the response message
+     * @return the status code to reject the response with, null if it can be accepted
+     */
+    public Integer check(ErpAdapterRequest request, ErpAdapterController.Dto dto) {
+        AssetType assetType = Arrays.stream(AssetType.values()).filter(type -> type.ERP_KEYWORD.equals(dto.responseType())).findFirst().orElse(null);
+        return switch (assetType) {
+            case ITEM_STOCK_SUBMODEL -> itemStockErpAdapterService.checkRequest(request, dto);
+            case null, default -> 501;
+        };
+    }
+
+    /**
+     * Stores the given response and queues it for processing.
+     *
+     * @param dto the parameters and the body of the response message
+     * @return whether the response has been accepted
+     */
+    public Admission enqueue(ErpAdapterController.Dto dto) {
+        UUID requestId = dto.requestId();
+        if (!pending.add(requestId)) {
+            return Admission.DUPLICATE;
+        }
+        boolean queued = false;
+        try {
+            ErpAdapterResponse response = repository.findById(requestId).orElse(null);
+            if (response != null && response.getStatus() != ErpAdapterResponseStatusEnum.FAILED) {
+                return Admission.DUPLICATE;
+            }
+            if (!capacity.tryAcquire()) {
+                log.warn("Rejected erp adapter response for request-id {}, queue is full", requestId);
+                return Admission.REJECTED;
+            }
+            try {
+                if (response == null) {
+                    response = new ErpAdapterResponse();
+                } else {
+                    log.info("Processing erp adapter response for request-id {} again, it had failed with status code {}",
+                        requestId, response.getResultCode());
+                    response.setResultCode(null);
+                    response.setProcessedDate(null);
+                }
+                response.setRequestId(requestId);
+                response.setPartnerBpnl(dto.partnerBpnl());
+                response.setResponseType(dto.responseType());
+                response.setSammVersion(dto.sammVersion());
+                response.setResponseTimestamp(dto.responseTimeStamp());
+                response.setReceivedDate(new Date());
+                response.setStatus(ErpAdapterResponseStatusEnum.QUEUED);
+                response.setBody(dto.body().toString());
+                repository.save(response);
+            } catch (RuntimeException e) {
+                capacity.release();
+                throw e;
+            }
+            submit(requestId);
+            queued = true;
+            return Admission.ACCEPTED;
+        } finally {
+            if (!queued) {
+                pending.remove(requestId);
+            }
+        }
+    }
+
+    /**
+     * @return the number of seconds the erp adapter should wait before retrying a rejected response
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // unprocessed responses remain queued in the database and are recovered after the next start
+        executor.shutdownNow();
+    }
+
+    private void submit(UUID requestId) {
+        executor.execute(() -> {
+            try {
+                process(requestId);
+            } catch (Exception e) {
+                log.error("Failed to process erp adapter response for request-id {}", requestId, e);
+            } finally {
+                pending.remove(requestId);
+                capacity.release();
+            }
+        });
+    }
+
+    private void process(UUID requestId) {
+        ErpAdapterResponse response = repository.findById(requestId).orElse(null);
+        if (response == null || response.getStatus() != ErpAdapterResponseStatusEnum.QUEUED) {
+            return;
+        }
+        int resultCode;
+        try {
+            JsonNode body = objectMapper.readTree(response.getBody());
+            var dto = new ErpAdapterController.Dto(requestId, response.getPartnerBpnl(), response.getResponseType(),
+                response.getSammVersion(), response.getResponseTimestamp(), body);
+            resultCode = receive(dto);
+        } catch (Exception e) {
+            log.error("Error while processing erp adapter response for request-id {}", requestId, e);
+            resultCode = 500;
+        }
+        response.setResultCode(resultCode);
+        response.setProcessedDate(new Date());
+        if (resultCode >= 200 && resultCode < 300) {
+            response.setStatus(ErpAdapterResponseStatusEnum.PROCESSED);
+            // only the request-id is needed to detect repeated deliveries
+            response.setBody(null);
+        } else {
+            response.setStatus(ErpAdapterResponseStatusEnum.FAILED);
+            log.warn("Processing of erp adapter response for request-id {} failed with status code {}", requestId, resultCode);
+        }
+        repository.save(response);
+    }
+
+    /**
+     * Permits for queued responses, which may become negative while a backlog is recovered.
+     */
+    private static class Capacity extends Semaphore {
+
+        Capacity(int permits) {
+            super(permits);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    private int receive(ErpAdapterController.Dto dto) {
+        AssetType assetType = Arrays.stream(AssetType.values()).filter(type -> type.ERP_KEYWORD.equals(dto.responseType())).findFirst().orElse(null);
+        return switch (assetType) {
+            case ITEM_STOCK_SUBMODEL -> itemStockErpAdapterService.receiveItemStockUpdate(dto);
+            case null, default -> 501;
+        };
+    }
+}
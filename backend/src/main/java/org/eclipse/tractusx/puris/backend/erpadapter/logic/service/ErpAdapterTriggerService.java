@@ -21,7 +21,7 @@
 
 package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
@@ -30,18 +30,37 @@ import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterTrig
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterTriggerDatasetRepository;
 import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Schedules regular requests to the erp adapter for every kind of request a partner has recently sent.
+ * <p>
+ * All {@link ErpAdapterTriggerDataset}s are loaded once and then kept in memory. Every dataset has one
+ * entry in a {@link DelayQueue} that becomes available at its {@code nextErpRequestScheduled}. A single
+ * dispatcher thread waits for the next due entry, sends the request and queues the following one, so
+ * the work done depends on the number of due requests only and requests are sent at the scheduled
+ * millisecond, or at the end of the batch window if batching is enabled. Changed and expired datasets are written to the database in batches every
+ * {@code puris.erpadapter.persistinterval} seconds.
+ * <p>
+ * Due requests are written to the outbox, from where the {@link ErpAdapterRequestDispatcher} sends them. If
+ * {@code puris.erpadapter.batchsize} is set, requests that become due within {@code puris.erpadapter.batchwindow}
+ * are written together, so that they can share batch requests covering several materials.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ErpAdapterTriggerService {
 
@@ -51,83 +70,35 @@ public class ErpAdapterTriggerService {
     private ErpAdapterConfiguration erpAdapterConfiguration;
     @Autowired
     private ErpAdapterRequestService erpAdapterRequestService;
-    @Autowired
-    private ExecutorService executorService;
 
-    private final long daemonActivityInterval = 1 * 60 * 1000; // daemon wakes up every minute
+    /**
+     * All known datasets. Changes to a dataset are synchronized on the dataset itself.
+     */
+    private final Map<ErpAdapterTriggerDataset.Key, ErpAdapterTriggerDataset> datasets = new ConcurrentHashMap<>();
 
-    private Future<?> daemonObject;
+    private final DelayQueue<Trigger> triggers = new DelayQueue<>();
 
-    private final List<ErpAdapterTriggerDataset> datasets = new ArrayList<>();
+    /**
+     * Keys of datasets that have been created or changed since they were last persisted.
+     */
+    private final Set<ErpAdapterTriggerDataset.Key> changedKeys = ConcurrentHashMap.newKeySet();
 
     /**
-     * protect accesses to the datasets list
+     * Keys of datasets that have expired since the last persistence run.
      */
-    private final Lock lock = new ReentrantLock();
+    private final Set<ErpAdapterTriggerDataset.Key> expiredKeys = ConcurrentHashMap.newKeySet();
 
-    private final Runnable daemon = () -> {
-        log.info("Daemon thread started");
-        ArrayList<ErpAdapterTriggerDataset> updatedData = new ArrayList<>();
-        while (true) {
-            lock.lock();
-            try {
-                // keep the most recent information in case of conflict
-                for (ErpAdapterTriggerDataset dataset : datasets) {
-                    for (ErpAdapterTriggerDataset updatedDataset : updatedData) {
-                        if (dataset.equals(updatedDataset)) {
-                            dataset.setLastPartnerRequest(
-                                Math.max(dataset.getLastPartnerRequest(), updatedDataset.getLastPartnerRequest()));
-                            dataset.setNextErpRequestScheduled(
-                                Math.max(dataset.getNextErpRequestScheduled(), updatedDataset.getNextErpRequestScheduled()));
-                        }
-                    }
-                }
-                updatedData.clear();
-                repository.saveAll(datasets);
-                datasets.clear();
-            } finally {
-                lock.unlock();
-            }
+    private Thread dispatcher;
 
-            long timeLimit = erpAdapterConfiguration.getRefreshTimeLimit();
-            var allDatasets = repository.findAll();
-            long now = new Date().getTime();
-            log.info("Daemon waking up, found {} datasets", allDatasets.size());
-            for (var dataset : allDatasets) {
-                if (dataset.getLastPartnerRequest() + timeLimit <= now) {
-                    // too much time has passed since last request of this kind, so
-                    // we will stop triggering further updates from the erp adapter
-                    repository.delete(dataset);
-                    log.info("Stopped scheduling further requests for : {}", dataset);
-                } else {
-                    if (dataset.getNextErpRequestScheduled() <= now) {
-                        // the time has come for a new erp adapter request
-                        ErpAdapterRequest request = new ErpAdapterRequest();
-                        request.setOwnMaterialNumber(dataset.getOwnMaterialNumber());
-                        request.setPartnerBpnl(dataset.getPartnerBpnl());
-                        request.setRequestDate(new Date(now));
-                        DirectionEnum directionEnum = dataset.getDirectionEnum().isEmpty() ?
-                            null : DirectionEnum.valueOf(dataset.getDirectionEnum());
-                        request.setDirectionEnum(directionEnum);
-                        request.setRequestType(dataset.getAssetType());
-                        request.setSammVersion(dataset.getAssetType().ERP_SAMM_VERSION);
-                        executorService.submit(() -> erpAdapterRequestService.createAndSend(request));
-
-                        // schedule next request
-                        dataset.setNextErpRequestScheduled(now + erpAdapterConfiguration.getRefreshInterval());
-                        dataset = repository.save(dataset);
-                        updatedData.add(dataset);
-                        log.info("Scheduled next erp adapter request: {}", dataset);
-                    }
-                }
-            }
-            try {
-                // sleep for the defined interval
-                Thread.sleep(daemonActivityInterval);
-            } catch (InterruptedException ignore) {
-            }
+    /**
+     * Loads the stored datasets and starts sending the scheduled requests, if the erp adapter is enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (erpAdapterConfiguration.isErpAdapterEnabled()) {
+            ensureStarted();
         }
-    };
+    }
 
     /**
      * Send a notification about a just received request from a partner via this
@@ -142,48 +113,230 @@ public class ErpAdapterTriggerService {
         if (!erpAdapterConfiguration.isErpAdapterEnabled()) {
             return;
         }
+        ensureStarted();
         String directionString = direction != null ? direction.name() : "";
+        var key = new ErpAdapterTriggerDataset.Key(partnerBpnl, ownMaterialNumber, type, directionString);
+        long now = new Date().getTime();
+        while (true) {
+            ErpAdapterTriggerDataset dataset = datasets.get(key);
+            if (dataset == null) {
+                // unknown request specifics, so we trigger a new request right now
+                dataset = new ErpAdapterTriggerDataset(partnerBpnl, ownMaterialNumber, type, directionString, now,
+                    now + erpAdapterConfiguration.getRefreshInterval());
+                if (datasets.putIfAbsent(key, dataset) != null) {
+                    continue;
+                }
+                expiredKeys.remove(key);
+                changedKeys.add(key);
+                triggers.add(new Trigger(key, dataset.getNextErpRequestScheduled()));
+                sendRequests(List.of(buildRequest(partnerBpnl, ownMaterialNumber, type, direction, now)));
+                log.info("Created {}", dataset);
+                return;
+            }
+            synchronized (dataset) {
+                if (datasets.get(key) != dataset) {
+                    // expired in the meantime
+                    continue;
+                }
+                // we had previous requests of that kind, so we just store the timestamp of this latest request
+                dataset.setLastPartnerRequest(Math.max(dataset.getLastPartnerRequest(), now));
+                changedKeys.add(key);
+                return;
+            }
+        }
+    }
 
-        ErpAdapterTriggerDataset dataset = repository.findById(new ErpAdapterTriggerDataset.Key(partnerBpnl,
-                ownMaterialNumber, type, directionString))
-            .orElse(null);
+    /**
+     * Writes all datasets changed since the last run to the database and deletes the expired ones.
+     */
+    @Scheduled(fixedDelayString = "${puris.erpadapter.persistinterval:30}", timeUnit = TimeUnit.SECONDS)
+    public void persistChanges() {
+        List<ErpAdapterTriggerDataset.Key> expired = drain(expiredKeys);
+        expired.removeIf(datasets::containsKey);
+        List<ErpAdapterTriggerDataset.Key> changed = drain(changedKeys);
+        List<ErpAdapterTriggerDataset> snapshots = new ArrayList<>(changed.size());
+        for (var key : changed) {
+            ErpAdapterTriggerDataset dataset = datasets.get(key);
+            if (dataset != null) {
+                synchronized (dataset) {
+                    snapshots.add(new ErpAdapterTriggerDataset(dataset.getPartnerBpnl(), dataset.getOwnMaterialNumber(),
+                        dataset.getAssetType(), dataset.getDirectionEnum(), dataset.getLastPartnerRequest(),
+                        dataset.getNextErpRequestScheduled()));
+                }
+            }
+        }
+        try {
+            if (!expired.isEmpty()) {
+                repository.deleteAllById(expired);
+            }
+            if (!snapshots.isEmpty()) {
+                repository.saveAll(snapshots);
+                log.debug("Persisted {} erp adapter trigger datasets", snapshots.size());
+            }
+        } catch (Exception e) {
+            log.error("Failed to persist erp adapter trigger datasets, retrying with next run", e);
+            expiredKeys.addAll(expired);
+            changedKeys.addAll(changed);
+        }
+    }
 
-        long now = new Date().getTime();
-        if (dataset == null) {
-            // unknown request specifics, so we trigger a new request right now
-            ErpAdapterRequest erpAdapterRequest = new ErpAdapterRequest();
-            erpAdapterRequest.setRequestDate(new Date(now));
-            erpAdapterRequest.setPartnerBpnl(partnerBpnl);
-            erpAdapterRequest.setOwnMaterialNumber(ownMaterialNumber);
-            erpAdapterRequest.setDirectionEnum(direction);
-            erpAdapterRequest.setRequestType(type);
-            erpAdapterRequest.setSammVersion(type.ERP_SAMM_VERSION);
-            executorService.submit(() -> erpAdapterRequestService.createAndSend(erpAdapterRequest));
-
-            // create dataset for the daemon thread to schedule future erp adapter requests
-            dataset = new ErpAdapterTriggerDataset(partnerBpnl, ownMaterialNumber, type, directionString, now,
-                now + erpAdapterConfiguration.getRefreshInterval());
-            // it seems safer when only the Daemon thread writes to the repository
-            lock.lock();
-            try {
-                datasets.add(dataset);
-            } finally {
-                lock.unlock();
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            if (dispatcher != null) {
+                dispatcher.interrupt();
             }
-            log.info("Created {}", dataset);
-        } else {
-            // we had previous requests of that kind, so we just store the timestamp of this latest request
-            dataset.setLastPartnerRequest(now);
-            lock.lock();
+        }
+        persistChanges();
+    }
+
+    private synchronized void ensureStarted() {
+        if (dispatcher != null) {
+            return;
+        }
+        var stored = repository.findAll();
+        for (var dataset : stored) {
+            var key = keyOf(dataset);
+            datasets.put(key, dataset);
+            triggers.add(new Trigger(key, dataset.getNextErpRequestScheduled()));
+        }
+        log.info("Loaded {} erp adapter trigger datasets", stored.size());
+        dispatcher = Thread.ofPlatform().daemon().name("erp-adapter-trigger").start(this::dispatch);
+    }
+
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Trigger> due = new ArrayList<>();
             try {
-                datasets.add(dataset);
-            } finally {
-                lock.unlock();
+                due.add(triggers.take());
+                collectDue(due);
+            } catch (InterruptedException e) {
+                return;
+            }
+            List<ErpAdapterRequest> requests = new ArrayList<>(due.size());
+            for (var trigger : due) {
+                try {
+                    ErpAdapterRequest request = fire(trigger);
+                    if (request != null) {
+                        requests.add(request);
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to trigger erp adapter request for {}", trigger.key(), e);
+                }
+            }
+            sendRequests(requests);
+        }
+    }
+
+    /**
+     * Adds all further triggers that are due to the given list. With batching enabled, this waits until
+     * the batch window after the first one has passed and includes the triggers that became due in the
+     * meantime, so that they can share a batch request.
+     */
+    private void collectDue(List<Trigger> due) throws InterruptedException {
+        triggers.drainTo(due);
+        if (!erpAdapterConfiguration.isBatchingEnabled()) {
+            return;
+        }
+        long limit = due.get(0).time() + erpAdapterConfiguration.getBatchWindow();
+        long remaining;
+        while ((remaining = limit - System.currentTimeMillis()) > 0) {
+            Trigger next = triggers.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next != null) {
+                due.add(next);
             }
         }
-        if (daemonObject == null) {
-            daemonObject = executorService.submit(daemon);
+        triggers.drainTo(due);
+    }
+
+    private ErpAdapterRequest fire(Trigger trigger) {
+        var key = trigger.key();
+        ErpAdapterTriggerDataset dataset = datasets.get(key);
+        if (dataset == null) {
+            return null;
+        }
+        long now = new Date().getTime();
+        long next;
+        synchronized (dataset) {
+            if (dataset.getNextErpRequestScheduled() != trigger.time()) {
+                // outdated entry of the queue
+                return null;
+            }
+            if (dataset.getLastPartnerRequest() + erpAdapterConfiguration.getRefreshTimeLimit() <= now) {
+                // too much time has passed since last request of this kind, so
+                // we will stop triggering further updates from the erp adapter
+                datasets.remove(key);
+                changedKeys.remove(key);
+                expiredKeys.add(key);
+                log.info("Stopped scheduling further requests for : {}", dataset);
+                return null;
+            }
+            // keep the schedule, unless requests have been missed, e.g. during downtime
+            next = trigger.time() + erpAdapterConfiguration.getRefreshInterval();
+            if (next <= now) {
+                next = now + erpAdapterConfiguration.getRefreshInterval();
+            }
+            dataset.setNextErpRequestScheduled(next);
+            changedKeys.add(key);
         }
+        DirectionEnum direction = key.getDirectionEnum().isEmpty() ? null : DirectionEnum.valueOf(key.getDirectionEnum());
+        triggers.add(new Trigger(key, next));
+        log.debug("Scheduled next erp adapter request: {}", dataset);
+        return buildRequest(key.getPartnerBpnl(), key.getOwnMaterialNumber(), key.getAssetType(), direction, now);
     }
 
+    private ErpAdapterRequest buildRequest(String partnerBpnl, String ownMaterialNumber, AssetType type, DirectionEnum direction, long now) {
+        ErpAdapterRequest request = new ErpAdapterRequest();
+        request.setRequestDate(new Date(now));
+        request.setPartnerBpnl(partnerBpnl);
+        request.setOwnMaterialNumber(ownMaterialNumber);
+        request.setDirectionEnum(direction);
+        request.setRequestType(type);
+        request.setSammVersion(type.ERP_SAMM_VERSION);
+        return request;
+    }
+
+    /**
+     * Writes the given requests to the outbox, from where they are sent to the erp adapter.
+     */
+    private void sendRequests(List<ErpAdapterRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        try {
+            erpAdapterRequestService.enqueue(requests);
+        } catch (Exception e) {
+            log.error("Failed to store {} erp adapter requests", requests.size(), e);
+        }
+    }
+
+    private static ErpAdapterTriggerDataset.Key keyOf(ErpAdapterTriggerDataset dataset) {
+        return new ErpAdapterTriggerDataset.Key(dataset.getPartnerBpnl(), dataset.getOwnMaterialNumber(),
+            dataset.getAssetType(), dataset.getDirectionEnum());
+    }
+
+    private static List<ErpAdapterTriggerDataset.Key> drain(Set<ErpAdapterTriggerDataset.Key> keys) {
+        List<ErpAdapterTriggerDataset.Key> drained = new ArrayList<>();
+        for (Iterator<ErpAdapterTriggerDataset.Key> iterator = keys.iterator(); iterator.hasNext(); ) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    /**
+     * Entry of the delay queue that becomes available at the scheduled time of a dataset.
+     */
+    private record Trigger(ErpAdapterTriggerDataset.Key key, long time) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(time, ((Trigger) other).time);
+        }
+    }
 }
@@ -23,8 +23,11 @@ package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ImportDiff;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ImportKeys;
 import org.eclipse.tractusx.puris.backend.erpadapter.controller.ErpAdapterController;
 import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
@@ -39,6 +42,7 @@ import org.eclipse.tractusx.puris.backend.stock.logic.service.MaterialItemStockS
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -68,12 +72,49 @@ public class ItemStockErpAdapterService {
     @Autowired
     private ProductItemStockService productItemStockService;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private final static String SUPPORTEDSAMMVERSION = "2.0";
 
 
+    /**
+     * Checks a response against the request it answers, without looking at the body. This is done before the
+     * response is accepted, so that the erp adapter is told right away about a response that can't be processed.
+     *
+     * @param request the answered request, null if the request-id is unknown
+     * @param dto     contains the parameters and the body of the response message
+     * @return the status code to reject the response with, null if it can be accepted
+     */
+    public Integer checkRequest(ErpAdapterRequest request, ErpAdapterController.Dto dto) {
+        if (request == null) {
+            log.error("Unknown request-id {}", dto.requestId());
+            return 404;
+        }
+        // the erp adapter may answer before the dispatcher has recorded that the request has been accepted
+        boolean inFlight = request.getStatus() == ErpAdapterRequestStatusEnum.PENDING && request.getDispatchClaim() != null;
+        boolean confirmed = request.getResponseCode() != null && request.getResponseCode() >= 200 && request.getResponseCode() < 400;
+        if (!confirmed && !inFlight) {
+            log.error("Unexpected response, erp adapter had not confirmed request");
+            return 404;
+        }
+        if (!request.getPartnerBpnl().equals(dto.partnerBpnl())) {
+            log.error("BPNL mismatch! request BPNL: {}, message BPNL: {}",
+                request.getPartnerBpnl(), dto.partnerBpnl());
+            return 400;
+        }
+        if (!SUPPORTEDSAMMVERSION.equals(dto.sammVersion()) || !SUPPORTEDSAMMVERSION.equals(request.getSammVersion())) {
+            log.error("Unsupported Samm Version! Supported: " + SUPPORTEDSAMMVERSION + ", request: {}, message: {}",
+                request.getSammVersion(), dto.sammVersion());
+            return 400;
+        }
+        return null;
+    }
+
     /**
      * This method handles a response for an ItemStock Request from the ERP Adapter.
-     * It's return value is the status code that is being sent back to the ERP Adapter.
+     * It's return value is the status code of the processing, which is recorded with the response.
+     * Only stocks that differ from the stored ones of the partner and material are written.
      *
      * @param   dto contains the parameters and the body of the response message
      * @return  the appropriate HTTP response code
@@ -84,33 +125,19 @@ public class ItemStockErpAdapterService {
             ErpAdapterRequest request = erpAdapterRequestService.get(dto.requestId());
             DirectionEnum sammDirectionEnum = DirectionEnum.valueOf(samm.getDirection().name());
 
-            if (request == null) {
-                log.error("Unknown request-id {}", dto.requestId());
-                return 404;
+            Integer rejection = checkRequest(request, dto);
+            if (rejection != null) {
+                return rejection;
             }
             if (request.getResponseReceivedDate() != null) {
                 log.error("Received duplicate response for messageId {}", request.getId());
                 return 409;
             }
-            if (request.getResponseCode() == null || request.getResponseCode() < 200 || request.getResponseCode() >= 400) {
-                log.error("Unexpected response, erp adapter had not confirmed request");
-                return 404;
-            }
-            if (!request.getPartnerBpnl().equals(dto.partnerBpnl())) {
-                log.error("BPNL mismatch! request BPNL: {}, message BPNL: {}",
-                    request.getPartnerBpnl(), dto.partnerBpnl());
-                return 400;
-            }
             if (!request.getDirectionEnum().equals(sammDirectionEnum)) {
                 log.error("Direction mismatch! request direction: {}, message direction: {}",
                     request.getDirectionEnum(), samm.getDirection());
                 return 400;
             }
-            if (!SUPPORTEDSAMMVERSION.equals(dto.sammVersion()) || !SUPPORTEDSAMMVERSION.equals(request.getSammVersion())) {
-                log.error("Unsupported Samm Version! Supported: " + SUPPORTEDSAMMVERSION + ", request: {}, message: {}",
-                    request.getSammVersion(), dto.sammVersion());
-                return 400;
-            }
 
             Partner partner = partnerService.findByBpnl(request.getPartnerBpnl());
             Material material = materialService.findByOwnMaterialNumber(request.getOwnMaterialNumber());
@@ -129,11 +156,13 @@ public class ItemStockErpAdapterService {
                     if (removed > 0) {
                         log.warn("Removed {} out of {} MaterialItemStocks because of failing validation.", removed, initialSize);
                     }
-                    materialItemStockService.findByPartnerAndMaterial(partner, material).forEach(stock -> materialItemStockService.delete(stock.getUuid()));
-                    materialItemStockList.forEach(stock -> materialItemStockService.create(stock));
-                    log.info("Inserted {} MaterialItemStocks for {} and {}", materialItemStockList.size(), material.getOwnMaterialNumber(), partner.getBpnl());
-                    request.setResponseReceivedDate(dto.responseTimeStamp());
-                    erpAdapterRequestService.update(request);
+                    var changes = ImportDiff.of(materialItemStockList, materialItemStockService.findByPartnerAndMaterial(partner, material),
+                        ImportKeys::itemStockKey, ImportKeys::itemStockContent, (stored, received) -> received.setUuid(stored.getUuid()));
+                    transactionTemplate.executeWithoutResult(status -> {
+                        materialItemStockService.applyChanges(changes.getInserts(), changes.getUpdates(), changes.getDeletes());
+                        erpAdapterRequestService.acknowledge(request.getId(), dto.responseTimeStamp());
+                    });
+                    log.info("Updated MaterialItemStocks for {} and {}: {}", material.getOwnMaterialNumber(), partner.getBpnl(), changes.summary());
                     return 201;
                 }
                 case OUTBOUND -> {
@@ -149,11 +178,13 @@ public class ItemStockErpAdapterService {
                     if (removed > 0) {
                         log.warn("Removed {} out of {} ProductItemStocks because of failing validation.", removed, initialSize);
                     }
-                    productItemStockService.findByPartnerAndMaterial(partner, material).forEach(stock -> productItemStockService.delete(stock.getUuid()));
-                    productItemStockList.forEach(stock -> productItemStockService.create(stock));
-                    log.info("Inserted {} ProductItemStocks for {} and {}", productItemStockList.size(), material.getOwnMaterialNumber(), partner.getBpnl());
-                    request.setResponseReceivedDate(dto.responseTimeStamp());
-                    erpAdapterRequestService.update(request);
+                    var changes = ImportDiff.of(productItemStockList, productItemStockService.findByPartnerAndMaterial(partner, material),
+                        ImportKeys::itemStockKey, ImportKeys::itemStockContent, (stored, received) -> received.setUuid(stored.getUuid()));
+                    transactionTemplate.executeWithoutResult(status -> {
+                        productItemStockService.applyChanges(changes.getInserts(), changes.getUpdates(), changes.getDeletes());
+                        erpAdapterRequestService.acknowledge(request.getId(), dto.responseTimeStamp());
+                    });
+                    log.info("Updated ProductItemStocks for {} and {}: {}", material.getOwnMaterialNumber(), partner.getBpnl(), changes.summary());
                     return 201;
                 }
             }
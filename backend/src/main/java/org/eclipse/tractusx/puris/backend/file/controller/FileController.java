@@ -19,19 +19,46 @@
  */
 package org.eclipse.tractusx.puris.backend.file.controller;
 
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportFormatEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportOriginEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportTypeEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportModeEnumeration;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportResult;
+import org.eclipse.tractusx.puris.backend.file.logic.dto.DataImportJobDto;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataExportService;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataImportJobService;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataImportProgressListener;
 import org.eclipse.tractusx.puris.backend.file.logic.service.ExcelService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -41,17 +68,30 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 @RequestMapping("/files")
 public class FileController {
 
+    private static final String TEXT_CSV = "text/csv";
+
+    private static final String TEXT_TSV = "text/tab-separated-values";
+
     @Autowired
     private ExcelService excelService;
 
+    @Autowired
+    private DataImportJobService dataImportJobService;
+
+    @Autowired
+    private DataExportService dataExportService;
+
     @PreAuthorize("hasRole('PURIS_ADMIN')")
     @Operation(
         summary = "Import data via excel file -- ADMIN ONLY",
         description =
-            "Accepts a multipart/form-data upload of an Excel file with `.xlsx` extension. " +
+            "Accepts a multipart/form-data upload of an Excel file with `.xlsx` extension or a UTF-8 encoded " +
+            "CSV or TSV file with `.csv` or `.tsv` extension. " +
             "The import supports Demand, Production, Delivery and Stock information. " +
             "The applicable type of information is automatically determined by the server. \n\n" +
-            "Should any row of the data fail, no data will be saved. In this case detailed error reports are returned."
+            "Should any row of the data fail, no data will be saved. In this case detailed error reports are returned.\n\n" +
+            "With mode `replace` (default) all existing data of the type is replaced by the file. With mode `diff` rows " +
+            "are matched by their business key and only new, changed and removed rows are written."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Data imported successfully", content = @Content(schema = @Schema(implementation = DataImportResult.class))),
@@ -61,23 +101,210 @@ public class FileController {
         @ApiResponse(responseCode = "500", description = "Server error", content = @Content(schema = @Schema(implementation = String.class)))
     })
     @PostMapping(value = "/upload", consumes = "multipart/form-data")
-    public ResponseEntity<?> uploadExcelFile(@RequestParam("file") MultipartFile file) {
-        if (file.isEmpty()) {
-            return ResponseEntity.badRequest().body("File is empty");
+    public ResponseEntity<?> uploadExcelFile(
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Import mode, either `replace` or `diff`.")
+        @RequestParam(value = "mode", defaultValue = "replace") String mode) {
+        String fileError = checkFile(file);
+        if (fileError != null) {
+            return ResponseEntity.badRequest().body(fileError);
+        }
+        DataImportModeEnumeration importMode;
+        try {
+            importMode = DataImportModeEnumeration.fromValue(mode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid import mode");
         }
         try {
-            String filename = file.getOriginalFilename();
-            if (filename != null && !(filename.endsWith(".xlsx"))) {
-                return ResponseEntity.badRequest().body("Invalid File Type");
+            var result = excelService.readFile(file.getInputStream(), file.getOriginalFilename(), importMode, DataImportProgressListener.NONE);
+            if (!result.getErrors().isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(result);
             }
-            var result = excelService.readExcelFile(file.getInputStream());
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Internal Server Error: An error occurred while processing the file. Check the server logs for details");
+        }
+    }
+
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @Operation(
+        summary = "Import data via CSV or TSV request body -- ADMIN ONLY",
+        description =
+            "Accepts a UTF-8 encoded CSV (`text/csv`) or TSV (`text/tab-separated-values`) file as request body, " +
+            "e.g. as generated by an ERP system. The file is read in one pass without being stored or converted. \n\n" +
+            "The first row must contain the column names of one of the excel templates, in any order. Dates are " +
+            "expected as ISO-8601 date time with offset or as ISO-8601 date, booleans as `true` or `false`. " +
+            "Validation, modes and error reports are the same as for `/files/upload` with an excel file."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Data imported successfully", content = @Content(schema = @Schema(implementation = DataImportResult.class))),
+        @ApiResponse(responseCode = "400", description = "Bad request (invalid mode or unsupported columns)", content = @Content(schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized (missing or invalid API key)", content = @Content(schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "422", description = "Invalid data", content = @Content(schema = @Schema(implementation = DataImportResult.class))),
+        @ApiResponse(responseCode = "500", description = "Server error", content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @PostMapping(value = "/upload", consumes = {TEXT_CSV, TEXT_TSV})
+    public ResponseEntity<?> uploadDelimitedFile(
+        InputStream body,
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        @Parameter(description = "Import mode, either `replace` or `diff`.")
+        @RequestParam(value = "mode", defaultValue = "replace") String mode) {
+        DataImportModeEnumeration importMode;
+        try {
+            importMode = DataImportModeEnumeration.fromValue(mode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid import mode");
+        }
+        char separator = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_TSV)) ? '\t' : ',';
+        try {
+            var result = excelService.readDelimitedFile(body, separator, importMode, DataImportProgressListener.NONE);
             if (!result.getErrors().isEmpty()) {
                 return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(result);
             }
             return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Internal Server Error: An error occurred while processing the file. Check the server logs for details");
         }
     }
+
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @Operation(
+        summary = "Start an import of a file in the background -- ADMIN ONLY",
+        description =
+            "Accepts the same files and modes as `/files/upload`, but returns the queued import job right away. " +
+            "Jobs are run one after another. Each job either imports all rows or none. \n\n" +
+            "The state of the job is published via STOMP on `/topic/import/{jobId}` while it is running and can " +
+            "be requested via `/files/import-jobs/{jobId}`. Finished jobs are kept in memory for a limited time only."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import job queued", content = @Content(schema = @Schema(implementation = DataImportJobDto.class))),
+        @ApiResponse(responseCode = "400", description = "Bad request (missing file, invalid file type or mode)", content = @Content(schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized (missing or invalid API key)", content = @Content(schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "500", description = "Server error", content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @PostMapping(value = "/import-jobs", consumes = "multipart/form-data")
+    public ResponseEntity<?> startImportJob(
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "Import mode, either `replace` or `diff`.")
+        @RequestParam(value = "mode", defaultValue = "replace") String mode) {
+        String fileError = checkFile(file);
+        if (fileError != null) {
+            return ResponseEntity.badRequest().body(fileError);
+        }
+        DataImportModeEnumeration importMode;
+        try {
+            importMode = DataImportModeEnumeration.fromValue(mode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid import mode");
+        }
+        try (InputStream is = file.getInputStream()) {
+            var job = dataImportJobService.submit(is, file.getOriginalFilename(), importMode);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(dataImportJobService.toDto(job));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Internal Server Error: An error occurred while storing the file. Check the server logs for details");
+        }
+    }
+
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @Operation(summary = "Get the state of an import job -- ADMIN ONLY")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "State of the import job"),
+        @ApiResponse(responseCode = "404", description = "Import job not found or already removed", content = @Content)
+    })
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<DataImportJobDto> getImportJob(@PathVariable UUID jobId) {
+        var job = dataImportJobService.findById(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(dataImportJobService.toDto(job));
+    }
+
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @Operation(summary = "Get the errors of a finished import job ordered by row -- ADMIN ONLY")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page of errors of the import job"),
+        @ApiResponse(responseCode = "404", description = "Import job not found or already removed", content = @Content)
+    })
+    @GetMapping("/import-jobs/{jobId}/errors")
+    public ResponseEntity<Page<DataImportError>> getImportJobErrors(@PathVariable UUID jobId,
+                                                                    @PageableDefault(size = 100) Pageable pageable) {
+        var errors = dataImportJobService.findErrors(jobId, pageable);
+        if (errors == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(errors);
+    }
+
+    @PreAuthorize("hasRole('PURIS_ADMIN')")
+    @Operation(
+        summary = "Export own and reported data as excel or csv file -- ADMIN ONLY",
+        description =
+            "Streams all Demand, Production, Delivery, Stock or Days of Supply information matching the filters as `.xlsx` " +
+            "or `.csv` file. Demand, Production, Delivery and Stock information is written in the layout of the excel import " +
+            "followed by an `origin` column, so that an export of own data can be imported again. \n\n" +
+            "The date range applies to the day of a demand, the estimated completion of a production, the departure or " +
+            "arrival of a delivery, the last update of a stock and the date of days of supply. Own days of supply are " +
+            "calculated on request and can't be exported."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export file"),
+        @ApiResponse(responseCode = "400", description = "Bad request (invalid type, format, origin or date range)", content = @Content(schema = @Schema(implementation = String.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized (missing or invalid API key)", content = @Content(schema = @Schema(implementation = String.class)))
+    })
+    @GetMapping("/export")
+    public ResponseEntity<?> exportData(
+        @Parameter(description = "Type of data, one of `demand`, `production`, `delivery`, `stock` or `days-of-supply`.")
+        @RequestParam("type") String type,
+        @Parameter(description = "File format, either `xlsx` or `csv`.")
+        @RequestParam(value = "format", defaultValue = "xlsx") String format,
+        @Parameter(description = "Origin of the data, one of `own`, `reported` or `all`.")
+        @RequestParam(value = "origin", defaultValue = "own") String origin,
+        @Parameter(description = "encoded in base64") @RequestParam Optional<String> ownMaterialNumber,
+        @RequestParam Optional<String> partnerBpnl,
+        @Parameter(description = "Inclusive start of the date range as ISO-8601 date time.")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<Date> from,
+        @Parameter(description = "Exclusive end of the date range as ISO-8601 date time.")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<Date> to) {
+        DataExportTypeEnumeration exportType;
+        DataExportFormatEnumeration exportFormat;
+        DataExportOriginEnumeration exportOrigin;
+        try {
+            exportType = DataExportTypeEnumeration.fromValue(type);
+            exportFormat = DataExportFormatEnumeration.fromValue(format);
+            exportOrigin = DataExportOriginEnumeration.fromValue(origin);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        if (exportType == DataExportTypeEnumeration.DAYS_OF_SUPPLY && exportOrigin == DataExportOriginEnumeration.OWN) {
+            return ResponseEntity.badRequest().body("Own days of supply can't be exported");
+        }
+        if (from.isPresent() && to.isPresent() && !from.get().before(to.get())) {
+            return ResponseEntity.badRequest().body("Invalid date range");
+        }
+        Optional<String> materialNumber = ownMaterialNumber.map(number -> new String(Base64.getDecoder().decode(number)));
+        String fileName = DataExportService.fileName(exportType) + "." + exportFormat.getValue();
+        StreamingResponseBody body = outputStream -> dataExportService.export(outputStream, exportFormat, exportType,
+            exportOrigin, materialNumber, partnerBpnl, from, to);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+            .body(body);
+    }
+
+    private static String checkFile(MultipartFile file) {
+        if (file.isEmpty()) {
+            return "File is empty";
+        }
+        String filename = file.getOriginalFilename();
+        if (filename != null && !ExcelService.isSupportedFileName(filename)) {
+            return "Invalid File Type";
+        }
+        return null;
+    }
 }
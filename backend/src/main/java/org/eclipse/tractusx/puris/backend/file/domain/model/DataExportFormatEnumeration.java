@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * File formats data can be exported to.
+ */
+public enum DataExportFormatEnumeration {
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv");
+
+    private String value;
+
+    private String contentType;
+
+    DataExportFormatEnumeration(String value, String contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static DataExportFormatEnumeration fromValue(String value) {
+        for (DataExportFormatEnumeration format : DataExportFormatEnumeration.values()) {
+            if (format.getValue().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export format: " + value);
+    }
+}
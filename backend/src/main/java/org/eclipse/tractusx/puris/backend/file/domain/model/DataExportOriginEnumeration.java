@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Selects whether own data, data reported by partners or both are exported.
+ */
+public enum DataExportOriginEnumeration {
+    OWN("own"),
+    REPORTED("reported"),
+    ALL("all");
+
+    private String value;
+
+    DataExportOriginEnumeration(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public boolean includesOwn() {
+        return this != REPORTED;
+    }
+
+    public boolean includesReported() {
+        return this != OWN;
+    }
+
+    public static DataExportOriginEnumeration fromValue(String value) {
+        for (DataExportOriginEnumeration origin : DataExportOriginEnumeration.values()) {
+            if (origin.getValue().equalsIgnoreCase(value)) {
+                return origin;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export origin: " + value);
+    }
+}
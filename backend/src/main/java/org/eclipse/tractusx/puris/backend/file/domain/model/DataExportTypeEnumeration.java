@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Types of planning data that can be exported.
+ */
+public enum DataExportTypeEnumeration {
+    DEMAND("demand"),
+    PRODUCTION("production"),
+    DELIVERY("delivery"),
+    STOCK("stock"),
+    DAYS_OF_SUPPLY("days-of-supply");
+
+    private String value;
+
+    DataExportTypeEnumeration(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public static DataExportTypeEnumeration fromValue(String value) {
+        for (DataExportTypeEnumeration type : DataExportTypeEnumeration.values()) {
+            if (type.getValue().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export type: " + value);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Getter;
+
+/**
+ * Excel import running in the background. Jobs are only kept in memory: the uploaded file is
+ * not stored durably either, so a job cannot survive a restart of the application.
+ * <p>
+ * A job is changed by the thread running the import only and read by any other thread.
+ */
+@Getter
+public class DataImportJob {
+    private final UUID id;
+    private final String fileName;
+    private final DataImportModeEnumeration mode;
+    private final OffsetDateTime createdAt;
+    private volatile DataImportJobStatusEnumeration status = DataImportJobStatusEnumeration.QUEUED;
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime finishedAt;
+    private volatile int readRows;
+    private volatile int persistedChanges;
+    private volatile int totalChanges;
+    private volatile String message;
+    private volatile List<DataImportError> errors = List.of();
+
+    public DataImportJob(UUID id, String fileName, DataImportModeEnumeration mode) {
+        this.id = id;
+        this.fileName = fileName;
+        this.mode = mode;
+        this.createdAt = OffsetDateTime.now();
+    }
+
+    public int getErrorCount() {
+        return errors.size();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public void start() {
+        startedAt = OffsetDateTime.now();
+        status = DataImportJobStatusEnumeration.RUNNING;
+    }
+
+    public void rowsRead(int rows) {
+        readRows = rows;
+    }
+
+    public void changesPersisted(int persisted, int total) {
+        persistedChanges = persisted;
+        totalChanges = total;
+    }
+
+    /**
+     * Finishes the job with the result of the import. The job failed if the result contains errors.
+     *
+     * @param result result of the import
+     */
+    public void finish(DataImportResult result) {
+        errors = result.getErrors() == null ? List.of() : List.copyOf(result.getErrors());
+        message = result.getMessage();
+        status = errors.isEmpty() ? DataImportJobStatusEnumeration.SUCCEEDED : DataImportJobStatusEnumeration.FAILED;
+        finishedAt = OffsetDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        status = DataImportJobStatusEnumeration.FAILED;
+        finishedAt = OffsetDateTime.now();
+    }
+}
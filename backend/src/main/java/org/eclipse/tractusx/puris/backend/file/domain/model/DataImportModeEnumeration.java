@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Defines how imported rows are merged with the existing own data of the same type.
+ */
+public enum DataImportModeEnumeration {
+    /**
+     * All existing data is deleted and every imported row is created again.
+     */
+    REPLACE("replace"),
+    /**
+     * Imported rows are matched with the existing data by their business key. Only new, changed and
+     * no longer present rows are written. Existing data of material and partner combinations that do
+     * not occur in the file is left unchanged.
+     */
+    DIFF("diff");
+
+    private String value;
+
+    DataImportModeEnumeration(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public static DataImportModeEnumeration fromValue(String value) {
+        for (DataImportModeEnumeration mode : DataImportModeEnumeration.values()) {
+            if (mode.getValue().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown import mode: " + value);
+    }
+}
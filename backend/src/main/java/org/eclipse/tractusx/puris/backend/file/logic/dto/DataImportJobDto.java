@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportJobStatusEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportModeEnumeration;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataImportJobDto {
+    @NotNull
+    private UUID id;
+
+    private String fileName;
+
+    @NotNull
+    private DataImportModeEnumeration mode;
+
+    @NotNull
+    private DataImportJobStatusEnumeration status;
+
+    @NotNull
+    private OffsetDateTime createdAt;
+
+    private OffsetDateTime startedAt;
+
+    private OffsetDateTime finishedAt;
+
+    /**
+     * Number of data rows read and validated so far.
+     */
+    private int readRows;
+
+    /**
+     * Number of inserted, updated and deleted rows written so far. They are committed only when the
+     * job succeeds.
+     */
+    private int persistedChanges;
+
+    private int totalChanges;
+
+    private String message;
+
+    private int errorCount;
+}
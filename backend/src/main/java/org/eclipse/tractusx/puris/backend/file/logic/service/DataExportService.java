@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
+import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
+import org.eclipse.tractusx.puris.backend.delivery.logic.service.ReportedDeliveryService;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
+import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
+import org.eclipse.tractusx.puris.backend.demand.logic.services.ReportedDemandService;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportFormatEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportOriginEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportTypeEnumeration;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
+import org.eclipse.tractusx.puris.backend.production.logic.service.OwnProductionService;
+import org.eclipse.tractusx.puris.backend.production.logic.service.ReportedProductionService;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.MaterialItemStockService;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockService;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ReportedMaterialItemStockService;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ReportedProductItemStockService;
+import org.eclipse.tractusx.puris.backend.supply.domain.model.Supply;
+import org.eclipse.tractusx.puris.backend.supply.logic.service.CustomerSupplyService;
+import org.eclipse.tractusx.puris.backend.supply.logic.service.SupplierSupplyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Exports own and reported planning data as xlsx or csv file.
+ *
+ * <p>Demands, productions, deliveries and stocks are written in the column layout of the excel
+ * import, followed by an {@code origin} column. An export of own data can therefore be imported
+ * again. Rows are read chunk by chunk via keyset queries and written directly to the output
+ * stream, so the memory footprint does not depend on the number of exported rows.</p>
+ */
+@Service
+public class DataExportService {
+
+    static final String ORIGIN_COLUMN = "origin";
+
+    static final List<String> DAYS_OF_SUPPLY_COLUMNS = List.of(
+        "ownMaterialNumber",
+        "partnerBpnl",
+        "stockSiteBpns",
+        "stockAddressBpna",
+        "date",
+        "daysOfSupply",
+        "direction"
+    );
+
+    private static final String OWN = "own";
+    private static final String REPORTED = "reported";
+    private static final String INBOUND = "inbound";
+    private static final String OUTBOUND = "outbound";
+
+    @Autowired
+    private OwnDemandService ownDemandService;
+    @Autowired
+    private ReportedDemandService reportedDemandService;
+    @Autowired
+    private OwnProductionService ownProductionService;
+    @Autowired
+    private ReportedProductionService reportedProductionService;
+    @Autowired
+    private OwnDeliveryService ownDeliveryService;
+    @Autowired
+    private ReportedDeliveryService reportedDeliveryService;
+    @Autowired
+    private MaterialItemStockService materialItemStockService;
+    @Autowired
+    private ProductItemStockService productItemStockService;
+    @Autowired
+    private ReportedMaterialItemStockService reportedMaterialItemStockService;
+    @Autowired
+    private ReportedProductItemStockService reportedProductItemStockService;
+    @Autowired
+    private CustomerSupplyService customerSupplyService;
+    @Autowired
+    private SupplierSupplyService supplierSupplyService;
+
+    /**
+     * Writes all data of the given type matching the filters to the output stream.
+     *
+     * <p>The date range applies to the day of a demand, the estimated completion of a production,
+     * the departure or arrival of a delivery, the last update of a stock and the date of a days of supply.
+     * Own days of supply are calculated on request and not stored, so only reported days of supply
+     * are exported.</p>
+     *
+     * @param outputStream      stream to write the file to, is not closed
+     * @param format            file format
+     * @param type              type of data to export
+     * @param origin            whether to export own data, reported data or both
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpnl              optional filter by partner bpnl
+     * @param from              optional inclusive start of the date range
+     * @param to                optional exclusive end of the date range
+     * @throws IOException if writing to the output stream fails
+     */
+    public void export(OutputStream outputStream, DataExportFormatEnumeration format, DataExportTypeEnumeration type,
+                       DataExportOriginEnumeration origin, Optional<String> ownMaterialNumber, Optional<String> bpnl,
+                       Optional<Date> from, Optional<Date> to) throws IOException {
+        try (DataExportWriter writer = createWriter(outputStream, format, type)) {
+            writer.writeHeader(columns(type));
+            DateRange range = new DateRange(from.orElse(null), to.orElse(null));
+            try {
+                switch (type) {
+                    case DEMAND -> exportDemands(writer, origin, ownMaterialNumber, bpnl, range);
+                    case PRODUCTION -> exportProductions(writer, origin, ownMaterialNumber, bpnl, range);
+                    case DELIVERY -> exportDeliveries(writer, origin, ownMaterialNumber, bpnl, range);
+                    case STOCK -> exportStocks(writer, origin, ownMaterialNumber, bpnl, range);
+                    case DAYS_OF_SUPPLY -> exportDaysOfSupply(writer, origin, ownMaterialNumber, bpnl, range);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * @param type type of data to export
+     * @return the name of the export file without extension
+     */
+    public static String fileName(DataExportTypeEnumeration type) {
+        return type.getValue() + "-export";
+    }
+
+    private DataExportWriter createWriter(OutputStream outputStream, DataExportFormatEnumeration format, DataExportTypeEnumeration type) {
+        return switch (format) {
+            case XLSX -> new XlsxExportWriter(outputStream, type.getValue());
+            case CSV -> new CsvExportWriter(outputStream, ',');
+        };
+    }
+
+    static List<String> columns(DataExportTypeEnumeration type) {
+        List<String> columns = switch (type) {
+            case DEMAND -> ExcelService.DEMAND_COLUMNS;
+            case PRODUCTION -> ExcelService.PRODUCTION_COLUMNS;
+            case DELIVERY -> ExcelService.DELIVERY_COLUMNS;
+            case STOCK -> ExcelService.STOCK_COLUMNS;
+            case DAYS_OF_SUPPLY -> DAYS_OF_SUPPLY_COLUMNS;
+        };
+        return Stream.concat(columns.stream(), Stream.of(ORIGIN_COLUMN)).toList();
+    }
+
+    private void exportDemands(DataExportWriter writer, DataExportOriginEnumeration origin, Optional<String> ownMaterialNumber,
+                               Optional<String> bpnl, DateRange range) {
+        if (origin.includesOwn()) {
+            ownDemandService.forEachByFilters(ownMaterialNumber, bpnl, Optional.empty(),
+                rows(writer, range, Demand::getDay, demand -> demandRow(demand, OWN)));
+        }
+        if (origin.includesReported()) {
+            reportedDemandService.forEachByFilters(ownMaterialNumber, bpnl, Optional.empty(),
+                rows(writer, range, Demand::getDay, demand -> demandRow(demand, REPORTED)));
+        }
+    }
+
+    private void exportProductions(DataExportWriter writer, DataExportOriginEnumeration origin, Optional<String> ownMaterialNumber,
+                                   Optional<String> bpnl, DateRange range) {
+        if (origin.includesOwn()) {
+            ownProductionService.forEachByFilters(ownMaterialNumber, bpnl, Optional.empty(),
+                rows(writer, range, Production::getEstimatedTimeOfCompletion, production -> productionRow(production, OWN)));
+        }
+        if (origin.includesReported()) {
+            reportedProductionService.forEachByFilters(ownMaterialNumber, bpnl, Optional.empty(),
+                rows(writer, range, Production::getEstimatedTimeOfCompletion, production -> productionRow(production, REPORTED)));
+        }
+    }
+
+    private void exportDeliveries(DataExportWriter writer, DataExportOriginEnumeration origin, Optional<String> ownMaterialNumber,
+                                  Optional<String> bpnl, DateRange range) {
+        if (origin.includesOwn()) {
+            ownDeliveryService.forEachByFilters(ownMaterialNumber, Optional.empty(), bpnl, Optional.empty(),
+                deliveryRows(writer, range, OWN));
+        }
+        if (origin.includesReported()) {
+            reportedDeliveryService.forEachByFilters(ownMaterialNumber, Optional.empty(), bpnl, Optional.empty(),
+                deliveryRows(writer, range, REPORTED));
+        }
+    }
+
+    private void exportStocks(DataExportWriter writer, DataExportOriginEnumeration origin, Optional<String> ownMaterialNumber,
+                              Optional<String> bpnl, DateRange range) {
+        if (origin.includesOwn()) {
+            materialItemStockService.forEachByFilters(ownMaterialNumber, bpnl,
+                rows(writer, range, ItemStock::getLastUpdatedOnDateTime, stock -> stockRow(stock, INBOUND, OWN)));
+            productItemStockService.forEachByFilters(ownMaterialNumber, bpnl,
+                rows(writer, range, ItemStock::getLastUpdatedOnDateTime, stock -> stockRow(stock, OUTBOUND, OWN)));
+        }
+        if (origin.includesReported()) {
+            reportedMaterialItemStockService.forEachByFilters(ownMaterialNumber, bpnl,
+                rows(writer, range, ItemStock::getLastUpdatedOnDateTime, stock -> stockRow(stock, INBOUND, REPORTED)));
+            reportedProductItemStockService.forEachByFilters(ownMaterialNumber, bpnl,
+                rows(writer, range, ItemStock::getLastUpdatedOnDateTime, stock -> stockRow(stock, OUTBOUND, REPORTED)));
+        }
+    }
+
+    private void exportDaysOfSupply(DataExportWriter writer, DataExportOriginEnumeration origin, Optional<String> ownMaterialNumber,
+                                    Optional<String> bpnl, DateRange range) {
+        if (origin.includesReported()) {
+            customerSupplyService.forEachReportedByFilters(ownMaterialNumber, bpnl,
+                rows(writer, range, Supply::getDate, supply -> supplyRow(supply, INBOUND)));
+            supplierSupplyService.forEachReportedByFilters(ownMaterialNumber, bpnl,
+                rows(writer, range, Supply::getDate, supply -> supplyRow(supply, OUTBOUND)));
+        }
+    }
+
+    private static <T> Consumer<T> rows(DataExportWriter writer, DateRange range, Function<T, Date> date, Function<T, Object[]> row) {
+        return entity -> {
+            if (range.contains(date.apply(entity))) {
+                writeRow(writer, row.apply(entity));
+            }
+        };
+    }
+
+    private static <T extends Delivery> Consumer<T> deliveryRows(DataExportWriter writer, DateRange range, String origin) {
+        return delivery -> {
+            if (range.contains(delivery.getDateOfDeparture()) || range.contains(delivery.getDateOfArrival())) {
+                writeRow(writer, deliveryRow(delivery, origin));
+            }
+        };
+    }
+
+    private static void writeRow(DataExportWriter writer, Object[] values) {
+        try {
+            writer.writeRow(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object[] demandRow(Demand demand, String origin) {
+        return new Object[]{
+            demand.getMaterial().getOwnMaterialNumber(),
+            demand.getPartner().getBpnl(),
+            demand.getQuantity(),
+            demand.getMeasurementUnit() == null ? null : demand.getMeasurementUnit().getValue(),
+            demand.getSupplierLocationBpns(),
+            demand.getDemandLocationBpns(),
+            demand.getDemandCategoryCode() == null ? null : demand.getDemandCategoryCode().getValue(),
+            demand.getDay(),
+            demand.getLastUpdatedOnDateTime(),
+            origin
+        };
+    }
+
+    private static Object[] productionRow(Production production, String origin) {
+        return new Object[]{
+            production.getMaterial().getOwnMaterialNumber(),
+            production.getPartner().getBpnl(),
+            production.getQuantity(),
+            production.getMeasurementUnit() == null ? null : production.getMeasurementUnit().getValue(),
+            production.getProductionSiteBpns(),
+            production.getEstimatedTimeOfCompletion(),
+            production.getCustomerOrderNumber(),
+            production.getCustomerOrderPositionNumber(),
+            production.getSupplierOrderNumber(),
+            production.getLastUpdatedOnDateTime(),
+            origin
+        };
+    }
+
+    private static Object[] deliveryRow(Delivery delivery, String origin) {
+        return new Object[]{
+            delivery.getMaterial().getOwnMaterialNumber(),
+            delivery.getPartner().getBpnl(),
+            delivery.getQuantity(),
+            delivery.getMeasurementUnit() == null ? null : delivery.getMeasurementUnit().getValue(),
+            delivery.getOriginBpns(),
+            delivery.getOriginBpna(),
+            delivery.getDestinationBpns(),
+            delivery.getDestinationBpna(),
+            delivery.getDepartureType() == null ? null : delivery.getDepartureType().getValue(),
+            delivery.getDateOfDeparture(),
+            delivery.getArrivalType() == null ? null : delivery.getArrivalType().getValue(),
+            delivery.getDateOfArrival(),
+            delivery.getTrackingNumber(),
+            delivery.getIncoterm() == null ? null : delivery.getIncoterm().name(),
+            delivery.getCustomerOrderNumber(),
+            delivery.getCustomerOrderPositionNumber(),
+            delivery.getSupplierOrderNumber(),
+            delivery.getLastUpdatedOnDateTime(),
+            origin
+        };
+    }
+
+    private static Object[] stockRow(ItemStock stock, String direction, String origin) {
+        return new Object[]{
+            stock.getMaterial().getOwnMaterialNumber(),
+            stock.getPartner().getBpnl(),
+            stock.getQuantity(),
+            stock.getMeasurementUnit() == null ? null : stock.getMeasurementUnit().getValue(),
+            stock.getLocationBpns(),
+            stock.getLocationBpna(),
+            stock.getCustomerOrderId(),
+            stock.getCustomerOrderPositionId(),
+            stock.getSupplierOrderId(),
+            stock.isBlocked(),
+            stock.getLastUpdatedOnDateTime(),
+            direction,
+            origin
+        };
+    }
+
+    private static Object[] supplyRow(Supply supply, String direction) {
+        return new Object[]{
+            supply.getMaterial().getOwnMaterialNumber(),
+            supply.getPartner().getBpnl(),
+            supply.getStockLocationBPNS(),
+            supply.getStockLocationBPNA(),
+            supply.getDate(),
+            supply.getDaysOfSupply(),
+            direction,
+            REPORTED
+        };
+    }
+
+    /**
+     * Inclusive start and exclusive end of the exported dates, both optional.
+     */
+    private record DateRange(Date from, Date to) {
+        boolean contains(Date date) {
+            if (from == null && to == null) {
+                return true;
+            }
+            return date != null && (from == null || !date.before(from)) && (to == null || date.before(to));
+        }
+    }
+}
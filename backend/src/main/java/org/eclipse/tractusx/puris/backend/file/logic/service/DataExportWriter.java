@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes exported rows to an output stream one by one. Implementations must not keep
+ * more than a bounded number of rows in memory.
+ */
+interface DataExportWriter extends Closeable {
+
+    /**
+     * Writes the header row. Must be called once before the first data row.
+     *
+     * @param columns names of the columns
+     */
+    void writeHeader(List<String> columns) throws IOException;
+
+    /**
+     * Writes one data row. Supported values are strings, numbers, dates and booleans. Null
+     * values are written as empty cells.
+     *
+     * @param values values of the row in the order of the header columns
+     */
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * Writes all remaining data to the output stream. The output stream itself is not closed.
+     */
+    @Override
+    void close() throws IOException;
+}
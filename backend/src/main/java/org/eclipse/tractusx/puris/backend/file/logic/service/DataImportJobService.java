@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportJob;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportModeEnumeration;
+import org.eclipse.tractusx.puris.backend.file.logic.dto.DataImportJobDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs Excel imports in the background.
+ * <p>
+ * Jobs are executed one after another, so that two imports never replace the same data at the same
+ * time. Each job is imported within one transaction by {@link ExcelService}, i.e. it either changes
+ * all rows or none. The state of a job is published on {@code /topic/import/{jobId}} whenever it
+ * starts, has read {@code puris.import.job.progressinterval} further rows, has written a chunk of
+ * changes and when it is finished.
+ */
+@Service
+@Slf4j
+public class DataImportJobService {
+
+    public static final String TOPIC_PREFIX = "/topic/import/";
+
+    @Autowired
+    private ExcelService excelService;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Value("${puris.import.job.progressinterval:1000}")
+    private int progressInterval = 1000;
+
+    @Value("${puris.import.job.retentionminutes:60}")
+    private long retentionMinutes = 60;
+
+    private final Map<UUID, DataImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "excel-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Stores the given file and queues its import.
+     *
+     * @param is       the file, it is read completely before this method returns
+     * @param fileName original name of the file, determines the format of the file
+     * @param mode     how the rows are merged with the existing data
+     * @return the queued job
+     * @throws IOException if the file cannot be stored
+     */
+    public DataImportJob submit(InputStream is, String fileName, DataImportModeEnumeration mode) throws IOException {
+        Path file = Files.createTempFile("puris-import-job-", ".tmp");
+        try {
+            Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        DataImportJob job = new DataImportJob(UUID.randomUUID(), fileName, mode);
+        jobs.put(job.getId(), job);
+        publish(job);
+        executor.execute(() -> run(job, file));
+        log.info("Queued import job {} for file {}", job.getId(), fileName);
+        return job;
+    }
+
+    public DataImportJob findById(UUID jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * @param jobId    id of the job
+     * @param pageable page of errors to return, sorting is not supported
+     * @return the errors of the job ordered by row, or null if the job does not exist
+     */
+    public Page<DataImportError> findErrors(UUID jobId, Pageable pageable) {
+        DataImportJob job = jobs.get(jobId);
+        if (job == null) {
+            return null;
+        }
+        List<DataImportError> errors = job.getErrors();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(errors);
+        }
+        int from = (int) Math.min(pageable.getOffset(), errors.size());
+        int to = Math.min(from + pageable.getPageSize(), errors.size());
+        return new PageImpl<>(errors.subList(from, to), pageable, errors.size());
+    }
+
+    public DataImportJobDto toDto(DataImportJob job) {
+        return DataImportJobDto.builder()
+            .id(job.getId())
+            .fileName(job.getFileName())
+            .mode(job.getMode())
+            .status(job.getStatus())
+            .createdAt(job.getCreatedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .readRows(job.getReadRows())
+            .persistedChanges(job.getPersistedChanges())
+            .totalChanges(job.getTotalChanges())
+            .message(job.getMessage())
+            .errorCount(job.getErrorCount())
+            .build();
+    }
+
+    /**
+     * Removes finished jobs after {@code puris.import.job.retentionminutes}.
+     */
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void removeFinishedJobs() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(DataImportJob job, Path file) {
+        job.start();
+        publish(job);
+        try (InputStream in = Files.newInputStream(file)) {
+            job.finish(excelService.readFile(in, job.getFileName(), job.getMode(), new JobProgress(job)));
+            log.info("Import job {} finished: {}", job.getId(), job.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.warn("Import job {} failed: {}", job.getId(), e.getMessage());
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("Import job {} failed", job.getId(), e);
+            job.fail("An error occurred while processing the file. Check the server logs for details");
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete file {} of import job {}", file, job.getId());
+            }
+        }
+        publish(job);
+    }
+
+    private void publish(DataImportJob job) {
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + job.getId(), toDto(job));
+        } catch (Exception e) {
+            log.warn("Could not publish state of import job {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private final class JobProgress implements DataImportProgressListener {
+        private final DataImportJob job;
+
+        private JobProgress(DataImportJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void rowsRead(int rows) {
+            job.rowsRead(rows);
+            if (progressInterval > 0 && rows % progressInterval == 0) {
+                publish(job);
+            }
+        }
+
+        @Override
+        public void changesPersisted(int persisted, int total) {
+            job.changesPersisted(persisted, total);
+            publish(job);
+        }
+    }
+}
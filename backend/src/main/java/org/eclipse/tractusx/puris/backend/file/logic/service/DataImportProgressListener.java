@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+/**
+ * Receives the progress of an Excel import, see {@link ExcelService}.
+ */
+public interface DataImportProgressListener {
+
+    /**
+     * Listener ignoring all progress.
+     */
+    DataImportProgressListener NONE = new DataImportProgressListener() {
+    };
+
+    /**
+     * Called after a data row of the sheet has been read. Rows are validated in chunks afterwards.
+     *
+     * @param rows number of data rows read so far
+     */
+    default void rowsRead(int rows) {
+    }
+
+    /**
+     * Called after a chunk of changes has been written to the database. The changes become visible
+     * only when the complete import has succeeded.
+     *
+     * @param persisted number of inserted, updated and deleted rows written so far
+     * @param total     number of inserted, updated and deleted rows to write, known so far. The total grows
+     *                  while the file is read, since the changes are determined chunk by chunk.
+     */
+    default void changesPersisted(int persisted, int total) {
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a UTF-8 encoded CSV or TSV file (RFC 4180) record by record.
+ * <p>
+ * The file is decoded into one reusable character buffer. Unquoted fields are created directly from
+ * that buffer, no string is created for a complete line. Only quoted fields are copied, since their
+ * escaped quotes have to be removed. Fields may contain line breaks if they are quoted.
+ * <p>
+ * Every record is passed to the consumer as {@link ExcelRow} with text cells only. Empty fields are
+ * passed as blank cells. The row number of a record is its 1-based position in the file, which equals
+ * its line number as long as no field contains a line break.
+ */
+public final class DelimitedFileReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int EOF = -1;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+
+    private final char separator;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Start of the unquoted field currently read, -1 if there is none. The buffer content from this
+     * index on is kept when the buffer is refilled.
+     */
+    private int fieldStart = -1;
+
+    private final StringBuilder quoted = new StringBuilder();
+
+    private DelimitedFileReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Passes every record of the given file to the consumer, in the order of the file.
+     *
+     * @param in        the file, it is not closed
+     * @param separator field separator, usually {@code ','} or {@code '\t'}
+     * @param consumer  consumer of the records
+     * @throws IOException if the file cannot be read or contains an unterminated quoted field
+     */
+    public static void read(InputStream in, char separator, Consumer<ExcelRow> consumer) throws IOException {
+        DelimitedFileReader fileReader = new DelimitedFileReader(new InputStreamReader(in, StandardCharsets.UTF_8), separator);
+        fileReader.skipByteOrderMark();
+        List<Object> fields = new ArrayList<>();
+        int rowNumber = 0;
+        while (fileReader.readRecord(fields, rowNumber + 1)) {
+            rowNumber++;
+            consumer.accept(new ExcelRow(rowNumber, fields.toArray(), false));
+            fields.clear();
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (next() != BYTE_ORDER_MARK && limit > 0) {
+            position--;
+        }
+    }
+
+    /**
+     * Reads the fields of the next record.
+     *
+     * @return false if the end of the file has been reached before the record
+     */
+    private boolean readRecord(List<Object> fields, int rowNumber) throws IOException {
+        int c = next();
+        if (c == EOF) {
+            return false;
+        }
+        while (true) {
+            if (c == '"') {
+                fields.add(readQuoted(rowNumber));
+                c = next();
+                if (c != separator && c != '\r' && c != '\n' && c != EOF) {
+                    throw new IOException("Unexpected character after quoted field in row " + rowNumber);
+                }
+            } else {
+                fieldStart = position - 1;
+                while (c != separator && c != '\r' && c != '\n' && c != EOF) {
+                    c = next();
+                }
+                int end = position - 1;
+                fields.add(end > fieldStart ? new String(buffer, fieldStart, end - fieldStart) : null);
+                fieldStart = -1;
+            }
+            if (c == separator) {
+                c = next();
+                continue;
+            }
+            if (c == '\r' && next() != '\n' && limit > 0) {
+                position--;
+            }
+            return true;
+        }
+    }
+
+    private String readQuoted(int rowNumber) throws IOException {
+        quoted.setLength(0);
+        while (true) {
+            int c = next();
+            if (c == EOF) {
+                throw new IOException("Unterminated quoted field in row " + rowNumber);
+            }
+            if (c == '"') {
+                if (next() != '"') {
+                    position--;
+                    return quoted.toString();
+                }
+            }
+            quoted.append((char) c);
+        }
+    }
+
+    private int next() throws IOException {
+        if (position >= limit && !fill()) {
+            // keeps position - 1 pointing behind the last character, as after reading a separator
+            position = limit + 1;
+            return EOF;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Reads the next characters into the buffer. The unquoted field currently read is moved to the
+     * start of the buffer, the buffer grows if the field does not fit.
+     */
+    private boolean fill() throws IOException {
+        int keep = fieldStart >= 0 ? fieldStart : limit;
+        int remaining = limit - keep;
+        if (remaining == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        System.arraycopy(buffer, keep, buffer, 0, remaining);
+        if (fieldStart >= 0) {
+            fieldStart = 0;
+        }
+        limit = remaining;
+        position = remaining;
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+}
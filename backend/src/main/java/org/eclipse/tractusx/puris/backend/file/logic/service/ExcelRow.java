@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellReference;
+
+/**
+ * Values of one spreadsheet row, independent of how the row has been read.
+ * <p>
+ * Cells hold either a {@link String}, a {@link Double}, a {@link Boolean}, a {@link CellError} or
+ * {@code null} for blank and missing cells. Numbers are kept as excel serial numbers and only converted to dates by
+ * {@link #getDate(int)}, because the import knows from the column which cells contain dates.
+ */
+public final class ExcelRow {
+
+    /**
+     * Value of a cell that contains an error, e.g. the result of a formula dividing by zero.
+     *
+     * @param reference reference of the cell, e.g. {@code C5}
+     * @param error     the error as shown in excel, e.g. {@code #DIV/0!}
+     */
+    public record CellError(String reference, String error) {
+    }
+
+    private final int rowNumber;
+    private final Object[] values;
+    private final boolean date1904;
+
+    /**
+     * @param rowNumber 1-based row number as shown in excel
+     * @param values    cell values by 0-based column index
+     * @param date1904  whether the workbook uses the 1904 date system
+     */
+    public ExcelRow(int rowNumber, Object[] values, boolean date1904) {
+        this.rowNumber = rowNumber;
+        this.values = values;
+        this.date1904 = date1904;
+    }
+
+    /**
+     * Creates a row from a row of a workbook that has been loaded completely. Formula cells must
+     * have been evaluated before.
+     *
+     * @param row      row of the workbook
+     * @param date1904 whether the workbook uses the 1904 date system
+     * @return the row values
+     */
+    public static ExcelRow of(Row row, boolean date1904) {
+        Object[] values = new Object[Math.max(row.getLastCellNum(), 0)];
+        for (Cell cell : row) {
+            CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType() : cell.getCellType();
+            values[cell.getColumnIndex()] = switch (type) {
+                case STRING -> cell.getStringCellValue();
+                case NUMERIC -> cell.getNumericCellValue();
+                case BOOLEAN -> cell.getBooleanCellValue();
+                case ERROR -> new CellError(new CellReference(cell).formatAsString(),
+                    FormulaError.forInt(cell.getErrorCellValue()).getString());
+                default -> null;
+            };
+        }
+        return new ExcelRow(row.getRowNum() + 1, values, date1904);
+    }
+
+    /**
+     * Returns a row with the cells of the given columns of this row.
+     *
+     * @param columns 0-based column indexes in the order of the new row
+     * @return the row with the selected cells and the same row number
+     */
+    public ExcelRow select(int[] columns) {
+        Object[] selected = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            selected[i] = get(columns[i]);
+        }
+        return new ExcelRow(rowNumber, selected, date1904);
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the trimmed text of a cell. Numbers and booleans are converted to their string
+     * representation, i.e. {@code 100} becomes {@code "100.0"}.
+     *
+     * @param column 0-based column index
+     * @return text of the cell or null, if the cell is blank or contains an error
+     */
+    public String getString(int column) {
+        Object value = get(column);
+        if (value instanceof String s) {
+            return s.trim();
+        }
+        return value == null || value instanceof CellError ? null : String.valueOf(value).trim();
+    }
+
+    /**
+     * @return a message for each cell of the row that contains an error, empty if there is none
+     */
+    public List<String> getCellErrors() {
+        List<String> errors = new ArrayList<>();
+        for (Object value : values) {
+            if (value instanceof CellError cellError) {
+                errors.add(String.format("Cell %s contains the error '%s'.", cellError.reference(), cellError.error()));
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the date of a cell. Text cells are parsed as ISO-8601 instant or date time with offset.
+     * A text cell with an ISO-8601 date only is interpreted as start of the day in UTC. Numeric cells are
+     * interpreted as excel date.
+     *
+     * @param column 0-based column index
+     * @return the date or null, if the cell is blank or does not contain a date
+     */
+    public Date getDate(int column) {
+        Object value = get(column);
+        try {
+            if (value instanceof String s) {
+                return parseDate(s.trim());
+            }
+            if (value instanceof Double d) {
+                return DateUtil.getJavaDate(d, date1904);
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static Date parseDate(String text) {
+        if (text.length() == 10) {
+            return Date.from(LocalDate.parse(text).atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+        return Date.from(OffsetDateTime.parse(text).toInstant());
+    }
+
+    /**
+     * Returns the boolean value of a cell. Text cells are accepted if they contain {@code true} or
+     * {@code false}, ignoring case.
+     *
+     * @param column 0-based column index
+     * @return the value of the cell, false if the cell is blank
+     * @throws IllegalStateException if the cell does not contain a boolean
+     */
+    public boolean getBoolean(int column) {
+        Object value = get(column);
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        if (value instanceof String s && (s.trim().equalsIgnoreCase("true") || s.trim().equalsIgnoreCase("false"))) {
+            return Boolean.parseBoolean(s.trim());
+        }
+        throw new IllegalStateException("Cannot get a BOOLEAN value from cell " + (column + 1) + " of row " + rowNumber);
+    }
+
+    /**
+     * @return true, if all cells of the row are blank
+     */
+    public boolean isEmpty() {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof CellError) {
+                return false;
+            }
+            String value = getString(i);
+            if (value != null && !value.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object get(int column) {
+        return column < values.length ? values[column] : null;
+    }
+
+    @Override
+    public String toString() {
+        return "ExcelRow{" + rowNumber + ": " + Arrays.toString(values) + "}";
+    }
+}
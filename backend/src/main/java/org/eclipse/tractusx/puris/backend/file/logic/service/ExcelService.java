@@ -21,32 +21,53 @@ package org.eclipse.tractusx.puris.backend.file.logic.service;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.time.Instant;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.formula.FormulaParseException;
 import org.apache.poi.ss.formula.eval.NotImplementedFunctionException;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ImportDiff;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ImportKeys;
+import org.eclipse.tractusx.puris.backend.delivery.domain.model.Delivery;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.IncotermEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.Demand;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.DemandCategoryEnumeration;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataDocumentTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportModeEnumeration;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportResult;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataSnapshot;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.production.domain.model.OwnProduction;
+import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
 import org.eclipse.tractusx.puris.backend.production.logic.service.OwnProductionService;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
@@ -54,17 +75,25 @@ import org.eclipse.tractusx.puris.backend.stock.domain.model.ProductItemStock;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.MaterialItemStockService;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class ExcelService {
-    private final List<String> demandColumns = List.of(
+    /*
+     * Column layouts of the supported sheets. Exports use the same layouts, see DataExportService.
+     */
+    static final List<String> DEMAND_COLUMNS = List.of(
         "ownMaterialNumber",
         "partnerBpnl",
         "quantity",
@@ -75,7 +104,7 @@ public class ExcelService {
         "day",
         "lastUpdatedOnDateTime"
     );
-    private final List<String> deliveryColumns = List.of(
+    static final List<String> DELIVERY_COLUMNS = List.of(
         "ownMaterialNumber",
         "partnerBpnl",
         "quantity",
@@ -95,7 +124,7 @@ public class ExcelService {
         "supplierOrderNumber",
         "lastUpdatedOnDateTime"
     );
-    private final List<String> productionColumns = List.of(
+    static final List<String> PRODUCTION_COLUMNS = List.of(
         "ownMaterialNumber",
         "partnerBpnl",
         "quantity",
@@ -107,7 +136,7 @@ public class ExcelService {
         "supplierOrderNumber",
         "lastUpdatedOnDateTime"
     );
-    private final List<String> stockColumns = List.of(
+    static final List<String> STOCK_COLUMNS = List.of(
         "ownMaterialNumber",
         "partnerBpnl",
         "quantity",
@@ -122,11 +151,29 @@ public class ExcelService {
         "direction"
     );
 
+    /**
+     * Number of rows validated by one task, see {@link #extract}.
+     */
+    private static final int VALIDATION_CHUNK_SIZE = 250;
+
+    /**
+     * Maximum number of values of one bulk lookup query.
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private static final String XLSX_EXTENSION = ".xlsx";
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String TSV_EXTENSION = ".tsv";
+
+    private static final String UNSUPPORTED_FORMAT = "Unsupported Excel file format: column structure does not match any supported data type (Demand, Production, Delivery, or Stock)";
+
     @Autowired
     private MaterialService materialService;
     @Autowired
     private PartnerService partnerService;
     @Autowired
+    private MaterialPartnerRelationService mprService;
+    @Autowired
     private OwnDemandService ownDemandService;
     @Autowired
     private OwnProductionService ownProductionService;
@@ -136,516 +183,952 @@ public class ExcelService {
     private MaterialItemStockService materialItemStockService;
     @Autowired
     private ProductItemStockService productItemStockService;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${puris.import.chunksize:1000}")
+    private int chunkSize = 1000;
     
+    /**
+     * Imports the first sheet of the given Excel file. All existing own data of the detected type is
+     * replaced, or nothing is changed at all if any row is invalid.
+     *
+     * @param is the Excel file
+     * @return result of the import with errors per row
+     * @throws IOException if the file cannot be read
+     * @see #readExcelFile(InputStream, DataImportModeEnumeration, DataImportProgressListener)
+     */
     @Transactional(rollbackFor = Exception.class)
     public DataImportResult readExcelFile(InputStream is) throws IOException {
-        Workbook workbook = WorkbookFactory.create(is);
-        List<DataImportError> formulaErrors = evaluateWorkbook(workbook);
-        if (!formulaErrors.isEmpty()) {
-            return new DataImportResult("Excel formula evaluation failed.", formulaErrors);
-        }
-        Sheet sheet = workbook.getSheetAt(0);
-        var result = extractAndSaveData(sheet);
-        workbook.close();
-        return result;
-    }
-
-    private DataImportResult extractAndSaveData(Sheet sheet) {
-        DataDocumentTypeEnumeration documentType = validateHeaders(sheet);
-        if (documentType == null) {
-            throw new IllegalArgumentException("Unsupported Excel file format: column structure does not match any supported data type (Demand, Production, Delivery, or Stock)");
-        }
-        
-        switch(documentType) {
-            case DataDocumentTypeEnumeration.DEMAND:
-                return extractAndSaveDemands(sheet);
-            case DataDocumentTypeEnumeration.PRODUCTION:
-                return extractAndSaveProductions(sheet);
-            case DataDocumentTypeEnumeration.DELIVERY:
-                return extractAndSaveDeliveries(sheet);
-            case DataDocumentTypeEnumeration.STOCK:
-                return extractAndSaveStocks(sheet);
-            default:
-                throw new IllegalArgumentException("Unsupported Excel file format: column structure does not match any supported data type (Demand, Production, Delivery, or Stock)");
-        }
-    }
-
-    private DataImportResult extractAndSaveDemands(Sheet sheet) {
-        List<OwnDemand> demands = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+        return readExcelFile(is, DataImportModeEnumeration.REPLACE, DataImportProgressListener.NONE);
+    }
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
-        }
+    /**
+     * Imports the first sheet of the given Excel file without reporting progress.
+     *
+     * @param is the Excel file
+     * @param mode how the rows are merged with the existing data
+     * @return result of the import with errors per row
+     * @throws IOException if the file cannot be read
+     * @see #readExcelFile(InputStream, DataImportModeEnumeration, DataImportProgressListener)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public DataImportResult readExcelFile(InputStream is, DataImportModeEnumeration mode) throws IOException {
+        return readExcelFile(is, mode, DataImportProgressListener.NONE);
+    }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
-            }
+    /**
+     * Imports the first sheet of the given Excel file. Existing own data of the detected type is either
+     * replaced or changed to match the file (see {@link DataImportModeEnumeration}). Nothing is changed
+     * at all if any row is invalid.
+     * <p>
+     * The rows are validated and written in chunks of {@code puris.import.chunksize} rows while the file
+     * is read. The master data referenced by a chunk is loaded with one query per type, unless a previous
+     * chunk has already loaded it, and the rows are then validated in parallel against it. All
+     * chunks are committed together at the end of the import. Cells containing an error, e.g.
+     * {@code #DIV/0!}, are reported as invalid rows.
+     * <p>
+     * xlsx files are read row by row without loading the workbook (see {@link XlsxSheetReader}). Only if
+     * the file contains formulas without cached results or is not an xlsx file, the complete workbook is
+     * loaded and its formulas are evaluated.
+     *
+     * @param is the Excel file
+     * @param mode how the rows are merged with the existing data
+     * @param listener receives the progress of the import
+     * @return result of the import with errors per row
+     * @throws IOException if the file cannot be read
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public DataImportResult readExcelFile(InputStream is, DataImportModeEnumeration mode,
+                                          DataImportProgressListener listener) throws IOException {
+        Path file = Files.createTempFile("puris-import-", ".xlsx");
+        try {
+            Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+            ImportRows rows = new ImportRows(mode, listener);
+            boolean streamed;
             try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String expectedSupplierSiteBpns = getStringCellValue(row.getCell(4));
-                String demandSiteBpns = getStringCellValue(row.getCell(5));
-                String demandCategoryCodeStr = getStringCellValue(row.getCell(6));
-                Date day = getDateCellValue(row.getCell(7));
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(8));
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
-                DemandCategoryEnumeration categoryEnum = null;
-                try {
-                    categoryEnum = DemandCategoryEnumeration.fromValue(demandCategoryCodeStr.toUpperCase());
-                } catch (Exception e) {
-                    rowErrors.add("Invalid demand category: " + demandCategoryCodeStr);
+                streamed = XlsxSheetReader.read(file, rows);
+            } catch (IOException e) {
+                log.debug("Excel file cannot be streamed, loading complete workbook: {}", e.getMessage());
+                streamed = false;
+            }
+            if (!streamed) {
+                rows = new ImportRows(mode, listener);
+                try (InputStream in = Files.newInputStream(file); Workbook workbook = WorkbookFactory.create(in)) {
+                    List<DataImportError> formulaErrors = evaluateWorkbook(workbook);
+                    if (!formulaErrors.isEmpty()) {
+                        return new DataImportResult("Excel formula evaluation failed.", formulaErrors);
+                    }
+                    boolean date1904 = isDate1904(workbook);
+                    for (Row row : workbook.getSheetAt(0)) {
+                        rows.accept(ExcelRow.of(row, date1904));
+                    }
                 }
+            }
+            return rows.save();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
-                }
+    /**
+     * Imports a CSV or TSV file with the same columns, validation rules and modes as an Excel file, see
+     * {@link #readExcelFile(InputStream, DataImportModeEnumeration, DataImportProgressListener)}.
+     * <p>
+     * The file must be UTF-8 encoded and start with a header row. The columns are matched by their
+     * header and may be in any order. Dates are expected as ISO-8601 date time with offset (e.g.
+     * {@code 2026-03-01T08:00:00Z}) or as ISO-8601 date, booleans as {@code true} or {@code false}.
+     * No formulas are evaluated, the file is read in one pass without being stored.
+     *
+     * @param is the file
+     * @param separator field separator, {@code ','} for CSV or {@code '\t'} for TSV
+     * @param mode how the rows are merged with the existing data
+     * @param listener receives the progress of the import
+     * @return result of the import with errors per row
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public DataImportResult readDelimitedFile(InputStream is, char separator, DataImportModeEnumeration mode,
+                                              DataImportProgressListener listener) throws IOException {
+        ImportRows rows = new ImportRows(mode, listener);
+        DelimitedFileReader.read(is, separator, rows);
+        return rows.save();
+    }
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
-
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
-
-                OwnDemand demand = OwnDemand.builder()
-                        .material(material)
-                        .partner(partner)
-                        .quantity(quantity)
-                        .measurementUnit(unitEnum)
-                        .supplierLocationBpns(expectedSupplierSiteBpns)
-                        .demandLocationBpns(demandSiteBpns)
-                        .demandCategoryCode(categoryEnum)
-                        .day(day)
-                        .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                        .build();
-                rowErrors.addAll(ownDemandService.validateWithDetails(demand));
-                if (!rowErrors.isEmpty()) {
-                    errors.add(new DataImportError(rowIndex, rowErrors));
+    /**
+     * Imports a file of any supported format. Files named {@code .csv} or {@code .tsv} are imported as
+     * delimited files, all other files as Excel files.
+     *
+     * @param is the file
+     * @param fileName name of the file
+     * @param mode how the rows are merged with the existing data
+     * @param listener receives the progress of the import
+     * @return result of the import with errors per row
+     * @throws IOException if the file cannot be read
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public DataImportResult readFile(InputStream is, String fileName, DataImportModeEnumeration mode,
+                                     DataImportProgressListener listener) throws IOException {
+        String name = fileName == null ? "" : fileName.toLowerCase();
+        if (name.endsWith(CSV_EXTENSION)) {
+            return readDelimitedFile(is, ',', mode, listener);
+        }
+        if (name.endsWith(TSV_EXTENSION)) {
+            return readDelimitedFile(is, '\t', mode, listener);
+        }
+        return readExcelFile(is, mode, listener);
+    }
+
+    /**
+     * @param fileName name of an uploaded file, may be null
+     * @return true, if the file has an extension that can be imported by {@link #readFile}
+     */
+    public static boolean isSupportedFileName(String fileName) {
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.toLowerCase();
+        return name.endsWith(XLSX_EXTENSION) || name.endsWith(CSV_EXTENSION) || name.endsWith(TSV_EXTENSION);
+    }
+
+    /**
+     * Validates and writes the rows of the imported sheet in chunks of {@code puris.import.chunksize}
+     * rows while it is being read, so that only one chunk of rows is kept in memory. The first row is
+     * the header and determines the type of data.
+     * <p>
+     * Chunks are written only as long as no invalid or conflicting row has been found. The following
+     * chunks are still validated to report all errors, and the transaction is rolled back at the end.
+     * The business keys of all rows are kept to find conflicts between rows of different chunks.
+     */
+    private final class ImportRows implements Consumer<ExcelRow> {
+        private final DataImportModeEnumeration mode;
+        private final DataImportProgressListener listener;
+        private final ChunkedWriter writer;
+        private final ImportLookups lookups = new ImportLookups(new HashMap<>(), new HashMap<>(), new MasterDataSnapshot());
+        private final List<ExcelRow> rows = new ArrayList<>();
+        private final List<DataImportError> errors = new ArrayList<>();
+        private final List<DataImportError> conflicts = new ArrayList<>();
+        private final Map<Object, List<Integer>> rowsByKey = new HashMap<>();
+        private DataDocumentTypeEnumeration documentType;
+        private int[] columnIndexes;
+        private List<ImportTarget<?>> targets;
+        private int readRows;
+        private DataImportResult failure;
+
+        private ImportRows(DataImportModeEnumeration mode, DataImportProgressListener listener) {
+            this.mode = mode;
+            this.listener = listener;
+            this.writer = new ChunkedWriter(listener);
+        }
+
+        @Override
+        public void accept(ExcelRow row) {
+            if (documentType == null) {
+                documentType = validateHeaders(row);
+                if (documentType == null) {
+                    throw new IllegalArgumentException(UNSUPPORTED_FORMAT);
                 }
-                demands.add(demand);
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
+                columnIndexes = columnIndexes(row, columns(documentType));
+                targets = targets(documentType, mode, writer);
+                return;
+            }
+            if (failure != null || row.isEmpty()) {
+                return;
+            }
+            rows.add(columnIndexes == null ? row : row.select(columnIndexes));
+            listener.rowsRead(++readRows);
+            if (rows.size() >= writer.size()) {
+                process();
+            }
+        }
+
+        private void process() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            ExtractedRows extracted = extract(documentType, rows, loadLookups(rows, lookups));
+            rows.clear();
+            errors.addAll(extracted.errors);
+            conflicts.addAll(checkConflicts(extracted.entities(), extracted.rowNumbers, rowsByKey));
+            if (errors.isEmpty() && conflicts.isEmpty()) {
+                write(() -> targets.forEach(target -> target.write(extracted)));
+            }
+        }
+
+        private DataImportResult save() {
+            if (documentType == null) {
+                throw new IllegalArgumentException(UNSUPPORTED_FORMAT);
+            }
+            process();
+            if (failure == null && !errors.isEmpty()) {
+                log.info(errors.toString());
+                markCurrentTransactionForRollback();
+                return new DataImportResult(switch (documentType) {
+                    case DEMAND -> "Failed to process Demand rows";
+                    case PRODUCTION -> "Failed to process Production rows";
+                    case DELIVERY -> "Failed to process Delivery rows";
+                    case STOCK -> "Failed to process stock rows";
+                }, errors);
+            }
+            if (failure == null && !conflicts.isEmpty()) {
+                markCurrentTransactionForRollback();
+                return new DataImportResult("One or more conflicting rows found.", conflicts);
+            }
+            if (failure == null) {
+                write(() -> targets.forEach(ImportTarget::finish));
             }
+            return failure != null ? failure : new DataImportResult(successMessage(), errors);
         }
 
-        if (errors.isEmpty()) {
+        private void write(Runnable writing) {
             try {
-                var conflictErrors = checkConflicts(demands);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
-                }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
-            }
-            List<OwnDemand> existingDemands = ownDemandService.findAll();
-            existingDemands.forEach(d -> ownDemandService.delete(d.getUuid()));
-            for (var newDemand : demands) {
-                try {
-                    ownDemandService.create(newDemand);
-                } catch (Exception e) {
-                    int idx = demands.indexOf(newDemand);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    markCurrentTransactionForRollback();
-                    return new DataImportResult("Failed to persist demands", errors);
-                }
+                writing.run();
+            } catch (Exception e) {
+                log.error("Failed to persist {}: {}", typeName(documentType), e.getMessage());
+                errors.add(new DataImportError(0, List.of(String.valueOf(e.getMessage()))));
+                markCurrentTransactionForRollback();
+                failure = new DataImportResult(switch (documentType) {
+                    case DEMAND -> "Failed to persist demands";
+                    case PRODUCTION -> "Failed to persist Productions";
+                    case DELIVERY -> "Failed to persist Deliveries";
+                    case STOCK -> "Failed to persist stocks";
+                }, errors);
             }
-            return new DataImportResult("Successfully imported demands", errors);
-        } else {
-            log.info(errors.toString());
         }
 
-        return new DataImportResult("Failed to process Demand rows", errors);
+        private String successMessage() {
+            if (mode != DataImportModeEnumeration.DIFF) {
+                return "Successfully imported " + typeName(documentType);
+            }
+            if (documentType == DataDocumentTypeEnumeration.STOCK) {
+                return String.format("Successfully imported stocks (material stocks: %s; product stocks: %s)",
+                    targets.get(0).summary(), targets.get(1).summary());
+            }
+            return String.format("Successfully imported %s (%s)", typeName(documentType), targets.get(0).summary());
+        }
     }
 
-    private DataImportResult extractAndSaveProductions(Sheet sheet) {
-        List<OwnProduction> productions = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+    private static String typeName(DataDocumentTypeEnumeration documentType) {
+        return switch (documentType) {
+            case DEMAND -> "demands";
+            case PRODUCTION -> "productions";
+            case DELIVERY -> "deliveries";
+            case STOCK -> "stocks";
+        };
+    }
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
+    /**
+     * @return the services the entities of the given type are written with, material stocks before
+     * product stocks
+     */
+    private List<ImportTarget<?>> targets(DataDocumentTypeEnumeration documentType, DataImportModeEnumeration mode,
+                                          ChunkedWriter writer) {
+        return switch (documentType) {
+            case DEMAND -> List.of(new ImportTarget<OwnDemand>(mode, writer, extracted -> extracted.demands,
+                ownDemandService::applyChanges,
+                (position, limit) -> ownDemandService.findWindowByFilters(Optional.empty(), Optional.empty(), Optional.empty(), position, limit),
+                (ownMaterialNumber, bpnl) -> ownDemandService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.of(bpnl), Optional.empty()),
+                new ImportDiff.Matcher<>(ImportKeys::demandKey, ImportKeys::demandContent, (stored, imported) -> imported.setUuid(stored.getUuid()))));
+            case PRODUCTION -> List.of(new ImportTarget<OwnProduction>(mode, writer, extracted -> extracted.productions,
+                ownProductionService::applyChanges,
+                (position, limit) -> ownProductionService.findWindowByFilters(Optional.empty(), Optional.empty(), Optional.empty(), position, limit),
+                (ownMaterialNumber, bpnl) -> ownProductionService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.of(bpnl), Optional.empty(), Optional.empty()),
+                new ImportDiff.Matcher<>(ImportKeys::productionKey, ImportKeys::productionContent, (stored, imported) -> imported.setUuid(stored.getUuid()))));
+            case DELIVERY -> List.of(new ImportTarget<OwnDelivery>(mode, writer, extracted -> extracted.deliveries,
+                ownDeliveryService::applyChanges,
+                (position, limit) -> ownDeliveryService.findWindowByFilters(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), position, limit),
+                (ownMaterialNumber, bpnl) -> ownDeliveryService.findAllByFilters(Optional.of(ownMaterialNumber), Optional.empty(), Optional.of(bpnl), Optional.empty(), Optional.empty()),
+                new ImportDiff.Matcher<>(ImportKeys::deliveryKey, ImportKeys::deliveryContent, (stored, imported) -> imported.setUuid(stored.getUuid()))));
+            case STOCK -> List.of(
+                new ImportTarget<MaterialItemStock>(mode, writer, extracted -> extracted.materialStocks,
+                    materialItemStockService::applyChanges,
+                    (position, limit) -> materialItemStockService.findWindowByFilters(Optional.empty(), Optional.empty(), position, limit),
+                    materialItemStockService::findAllByMaterialAndPartner,
+                    new ImportDiff.Matcher<>(ImportKeys::itemStockKey, ImportKeys::itemStockContent, (stored, imported) -> imported.setUuid(stored.getUuid()))),
+                new ImportTarget<ProductItemStock>(mode, writer, extracted -> extracted.productStocks,
+                    productItemStockService::applyChanges,
+                    (position, limit) -> productItemStockService.findWindowByFilters(Optional.empty(), Optional.empty(), position, limit),
+                    productItemStockService::findAllByMaterialAndPartner,
+                    new ImportDiff.Matcher<>(ImportKeys::itemStockKey, ImportKeys::itemStockContent, (stored, imported) -> imported.setUuid(stored.getUuid()))));
+        };
+    }
+
+    /**
+     * Loads one page of stored entities, see the {@code findWindowByFilters} methods of the services.
+     */
+    @FunctionalInterface
+    private interface WindowLoader<T> {
+        Window<T> load(ScrollPosition position, int limit);
+    }
+
+    /**
+     * Writes the imported entities of one type chunk by chunk, see {@link ImportRows}.
+     * <p>
+     * A replacement deletes all stored entities page by page before the first chunk is inserted. A diff
+     * loads the stored entities of a material and partner combination when the combination first occurs
+     * in the file and matches the following rows with them. The stored entities that have not been
+     * matched are deleted at the end. Data of other materials and partners is neither read nor changed.
+     */
+    private final class ImportTarget<T> {
+        private final DataImportModeEnumeration mode;
+        private final ChunkedWriter writer;
+        private final Function<ExtractedRows, List<T>> entities;
+        private final ChangeApplier<T> applier;
+        private final WindowLoader<T> stored;
+        private final BiFunction<String, String, List<T>> covered;
+        private final ImportDiff.Matcher<T> matcher;
+        private final Set<List<String>> coveredScopes = new HashSet<>();
+        private boolean storedDeleted;
+        private int inserts;
+        private int updates;
+        private int deletes;
+        private int unchanged;
+
+        /**
+         * @param entities extracts the entities of this type from a chunk
+         * @param stored   loads a page of all stored entities
+         * @param covered  loads the stored entities of one own material number and partner bpnl
+         * @param matcher  matches the imported with the stored entities
+         */
+        private ImportTarget(DataImportModeEnumeration mode, ChunkedWriter writer, Function<ExtractedRows, List<T>> entities,
+                             ChangeApplier<T> applier, WindowLoader<T> stored, BiFunction<String, String, List<T>> covered,
+                             ImportDiff.Matcher<T> matcher) {
+            this.mode = mode;
+            this.writer = writer;
+            this.entities = entities;
+            this.applier = applier;
+            this.stored = stored;
+            this.covered = covered;
+            this.matcher = matcher;
         }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
+        private void write(ExtractedRows extracted) {
+            List<T> imported = entities.apply(extracted);
+            if (mode == DataImportModeEnumeration.DIFF) {
+                for (T entity : imported) {
+                    List<String> scope = scope(entity);
+                    if (coveredScopes.add(scope)) {
+                        matcher.addExisting(covered.apply(scope.get(0), scope.get(1)));
+                    }
+                }
+                ImportDiff<T> changes = matcher.match(imported);
+                inserts += changes.getInserts().size();
+                updates += changes.getUpdates().size();
+                unchanged += changes.getUnchanged();
+                writer.write(changes.getInserts(), changes.getUpdates(), List.of(), applier);
+            } else {
+                deleteStored();
+                inserts += imported.size();
+                writer.write(imported, List.of(), List.of(), applier);
             }
-            try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String productionSiteBpns = getStringCellValue(row.getCell(4));
-                Date estimatedTimeOfCompletion = getDateCellValue(row.getCell(5));
-                String customerOrderNumber = getStringCellValue(row.getCell(6));
-                String customerPositionNumber = getStringCellValue(row.getCell(7));
-                String supplierOrderNumber = getStringCellValue(row.getCell(8));
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(9));
-
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
+        }
+
+        private void finish() {
+            if (mode == DataImportModeEnumeration.DIFF) {
+                List<T> unmatched = matcher.unmatched();
+                deletes += unmatched.size();
+                writer.write(List.of(), List.of(), unmatched, applier);
+            } else {
+                deleteStored();
+            }
+        }
+
+        private void deleteStored() {
+            if (storedDeleted) {
+                return;
+            }
+            storedDeleted = true;
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<T> window;
+            do {
+                window = stored.load(position, writer.size());
+                if (window.isEmpty()) {
+                    return;
                 }
+                deletes += window.size();
+                writer.write(List.of(), List.of(), window.getContent(), applier);
+                position = window.positionAt(window.size() - 1);
+            } while (window.hasNext());
+        }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
+        private String summary() {
+            return ImportDiff.summary(inserts, updates, deletes, unchanged);
+        }
+    }
+
+    /**
+     * @return own material number and partner bpnl of an imported entity
+     */
+    private static List<String> scope(Object entity) {
+        return switch (entity) {
+            case Demand demand -> List.of(demand.getMaterial().getOwnMaterialNumber(), demand.getPartner().getBpnl());
+            case Production production -> List.of(production.getMaterial().getOwnMaterialNumber(), production.getPartner().getBpnl());
+            case Delivery delivery -> List.of(delivery.getMaterial().getOwnMaterialNumber(), delivery.getPartner().getBpnl());
+            case ItemStock stock -> List.of(stock.getMaterial().getOwnMaterialNumber(), stock.getPartner().getBpnl());
+            default -> throw new IllegalArgumentException("Unsupported import entity " + entity);
+        };
+    }
+
+    /**
+     * Master data referenced by the imported sheet. Numbers and bpnls without a stored material or
+     * partner are mapped to null. The material partner relations and location indexes the validators
+     * need are kept in the snapshot.
+     */
+    private record ImportLookups(Map<String, Material> materials, Map<String, Partner> partners,
+                                 MasterDataSnapshot masterData) {
+    }
+
+    /**
+     * Adds the master data referenced by the given rows to the lookups. Materials and partners that have
+     * not been referenced by previous chunks are loaded with one query each, the material partner
+     * relations of the rows with one query. The location indexes of the partners and of the own partner
+     * are added as well, so that validating the rows does not access the database.
+     */
+    private ImportLookups loadLookups(List<ExcelRow> rows, ImportLookups lookups) {
+        Set<String> ownMaterialNumbers = new HashSet<>();
+        Set<String> bpnls = new HashSet<>();
+        for (ExcelRow row : rows) {
+            addIfPresent(ownMaterialNumbers, row.getString(0));
+            addIfPresent(bpnls, row.getString(1));
+        }
+        Set<String> newMaterialNumbers = new HashSet<>(ownMaterialNumbers);
+        newMaterialNumbers.removeAll(lookups.materials().keySet());
+        newMaterialNumbers.forEach(number -> lookups.materials().put(number, null));
+        for (List<String> chunk : partition(newMaterialNumbers)) {
+            materialService.findAllByOwnMaterialNumbers(chunk).forEach(m -> lookups.materials().put(m.getOwnMaterialNumber(), m));
+        }
+        Set<String> newBpnls = new HashSet<>(bpnls);
+        newBpnls.removeAll(lookups.partners().keySet());
+        newBpnls.forEach(bpnl -> lookups.partners().put(bpnl, null));
+        for (List<String> chunk : partition(newBpnls)) {
+            partnerService.findAllByBpnls(chunk).forEach(p -> lookups.partners().put(p.getBpnl(), p));
+        }
+        List<Material> materials = ownMaterialNumbers.stream().map(lookups.materials()::get).filter(Objects::nonNull).toList();
+        List<Partner> partners = bpnls.stream().map(lookups.partners()::get).filter(Objects::nonNull).toList();
+        MasterDataSnapshot masterData = lookups.masterData();
+        if (!materials.isEmpty() && !partners.isEmpty()) {
+            masterData.addRelations(mprService.findAll(materials, partners));
+        }
+        Partner ownPartner = partnerService.getOwnPartnerEntity();
+        masterData.setOwnPartner(ownPartner);
+        if (ownPartner != null) {
+            masterData.addLocationIndex(ownPartner, partnerService.getLocationIndex(ownPartner));
+        }
+        partners.forEach(partner -> masterData.addLocationIndex(partner, partnerService.getLocationIndex(partner)));
+        return lookups;
+    }
+
+    private static void addIfPresent(Set<String> values, String value) {
+        if (value != null && !value.isEmpty()) {
+            values.add(value);
+        }
+    }
+
+    private static List<List<String>> partition(Set<String> values) {
+        List<String> list = new ArrayList<>(values);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += LOOKUP_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(list.size(), from + LOOKUP_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Maps and validates the rows in chunks on all available cores. The validators only see the master
+     * data loaded by {@link #loadLookups}, see {@link MasterDataSnapshot}. The results of the chunks are
+     * merged in the order of the rows.
+     */
+    private ExtractedRows extract(DataDocumentTypeEnumeration documentType, List<ExcelRow> rows, ImportLookups lookups) {
+        int chunks = (rows.size() + VALIDATION_CHUNK_SIZE - 1) / VALIDATION_CHUNK_SIZE;
+        List<ExtractedRows> results = IntStream.range(0, chunks).parallel()
+            .mapToObj(chunk -> lookups.masterData().callWith(() -> {
+                ExtractedRows extracted = new ExtractedRows(documentType, lookups);
+                int to = Math.min(rows.size(), (chunk + 1) * VALIDATION_CHUNK_SIZE);
+                for (int i = chunk * VALIDATION_CHUNK_SIZE; i < to; i++) {
+                    extracted.extract(rows.get(i));
                 }
+                return extracted;
+            }))
+            .toList();
+        ExtractedRows merged = new ExtractedRows(documentType, lookups);
+        results.forEach(merged::addAll);
+        return merged;
+    }
+
+    /**
+     * Entities and errors of a chunk of rows.
+     */
+    private final class ExtractedRows {
+        private final DataDocumentTypeEnumeration documentType;
+        private final ImportLookups lookups;
+        private final List<DataImportError> errors = new ArrayList<>();
+        private final List<Integer> rowNumbers = new ArrayList<>();
+        private final List<OwnDemand> demands = new ArrayList<>();
+        private final List<OwnProduction> productions = new ArrayList<>();
+        private final List<OwnDelivery> deliveries = new ArrayList<>();
+        private final List<MaterialItemStock> materialStocks = new ArrayList<>();
+        private final List<ProductItemStock> productStocks = new ArrayList<>();
+        private final List<ItemStock> allStocks = new ArrayList<>();
+
+        private ExtractedRows(DataDocumentTypeEnumeration documentType, ImportLookups lookups) {
+            this.documentType = documentType;
+            this.lookups = lookups;
+        }
+
+        private void extract(ExcelRow row) {
+            List<String> cellErrors = row.getCellErrors();
+            if (!cellErrors.isEmpty()) {
+                errors.add(new DataImportError(row.getRowNumber(), cellErrors));
+                return;
+            }
+            int extracted = entities().size();
+            switch (documentType) {
+                case DEMAND -> extractDemand(row, lookups, demands, errors);
+                case PRODUCTION -> extractProduction(row, lookups, productions, errors);
+                case DELIVERY -> extractDelivery(row, lookups, deliveries, errors);
+                case STOCK -> extractStock(row, lookups, materialStocks, productStocks, allStocks, errors);
+            }
+            if (entities().size() > extracted) {
+                rowNumbers.add(row.getRowNumber());
+            }
+        }
+
+        private void addAll(ExtractedRows other) {
+            errors.addAll(other.errors);
+            rowNumbers.addAll(other.rowNumbers);
+            demands.addAll(other.demands);
+            productions.addAll(other.productions);
+            deliveries.addAll(other.deliveries);
+            materialStocks.addAll(other.materialStocks);
+            productStocks.addAll(other.productStocks);
+            allStocks.addAll(other.allStocks);
+        }
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
+        /**
+         * @return the entities of all rows in the order of {@link #rowNumbers}
+         */
+        private List<?> entities() {
+            return switch (documentType) {
+                case DEMAND -> demands;
+                case PRODUCTION -> productions;
+                case DELIVERY -> deliveries;
+                case STOCK -> allStocks;
+            };
+        }
+    }
 
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
+    private void extractDemand(ExcelRow row, ImportLookups lookups, List<OwnDemand> demands, List<DataImportError> errors) {
+        List<String> rowErrors = new ArrayList<>();
+        try {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String expectedSupplierSiteBpns = row.getString(4);
+            String demandSiteBpns = row.getString(5);
+            String demandCategoryCodeStr = row.getString(6);
+            Date day = row.getDate(7);
+            Date lastUpdatedOnDateTime = row.getDate(8);
+            ItemUnitEnumeration unitEnum = null;
+            try {
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
+            }
+            DemandCategoryEnumeration categoryEnum = null;
+            try {
+                categoryEnum = DemandCategoryEnumeration.fromValue(demandCategoryCodeStr.toUpperCase());
+            } catch (Exception e) {
+                rowErrors.add("Invalid demand category: " + demandCategoryCodeStr);
+            }
 
-                OwnProduction production = OwnProduction.builder()
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
+
+            Material material = lookups.materials().get(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
+
+            Partner partner = lookups.partners().get(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            OwnDemand demand = OwnDemand.builder()
                     .material(material)
                     .partner(partner)
                     .quantity(quantity)
                     .measurementUnit(unitEnum)
-                    .productionSiteBpns(productionSiteBpns)
-                    .estimatedTimeOfCompletion(estimatedTimeOfCompletion)
-                    .customerOrderNumber(customerOrderNumber)
-                    .customerOrderPositionNumber(customerPositionNumber)
-                    .supplierOrderNumber(supplierOrderNumber)
+                    .supplierLocationBpns(expectedSupplierSiteBpns)
+                    .demandLocationBpns(demandSiteBpns)
+                    .demandCategoryCode(categoryEnum)
+                    .day(day)
                     .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
                     .build();
-                rowErrors.addAll(ownProductionService.validateWithDetails(production));
-                if (!rowErrors.isEmpty()) {
-                    errors.add(new DataImportError(rowIndex, rowErrors));
-                }
-                productions.add(production);
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
+            rowErrors.addAll(ownDemandService.validateWithDetails(demand));
+            if (!rowErrors.isEmpty()) {
+                errors.add(new DataImportError(row.getRowNumber(), rowErrors));
             }
+            demands.add(demand);
+        } catch (Exception e) {
+            errors.add(new DataImportError(row.getRowNumber(), List.of(e.getMessage() + " Further validations for this row are not possible.")));
         }
+    }
+
+    private void extractProduction(ExcelRow row, ImportLookups lookups, List<OwnProduction> productions, List<DataImportError> errors) {
+        List<String> rowErrors = new ArrayList<>();
+        try {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String productionSiteBpns = row.getString(4);
+            Date estimatedTimeOfCompletion = row.getDate(5);
+            String customerOrderNumber = row.getString(6);
+            String customerPositionNumber = row.getString(7);
+            String supplierOrderNumber = row.getString(8);
+            Date lastUpdatedOnDateTime = row.getDate(9);
 
-        if (errors.isEmpty()) {
+            ItemUnitEnumeration unitEnum = null;
             try {
-                var conflictErrors = checkConflicts(productions);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
-                }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
-            }
-            List<OwnProduction> existingProductions = ownProductionService.findAll();
-            existingProductions.forEach(p -> ownProductionService.delete(p.getUuid()));
-            for (var newProduction : productions) {
-                try {
-                    ownProductionService.create(newProduction);
-                } catch (Exception e) {
-                    log.error("Failed to persist production: {}", newProduction);
-                    var idx = productions.indexOf(newProduction);
-                    errors.add(new DataImportError(idx + 2, List.of("Failed to persist")));
-                    markCurrentTransactionForRollback();
-                    return new DataImportResult("Failed to persist Productions", errors);
-                }
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
             }
-            return new DataImportResult("Successfully imported productions", errors);
-        } else {
-            log.info(errors.toString());
+
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
+
+            Material material = lookups.materials().get(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
+
+            Partner partner = lookups.partners().get(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            OwnProduction production = OwnProduction.builder()
+                .material(material)
+                .partner(partner)
+                .quantity(quantity)
+                .measurementUnit(unitEnum)
+                .productionSiteBpns(productionSiteBpns)
+                .estimatedTimeOfCompletion(estimatedTimeOfCompletion)
+                .customerOrderNumber(customerOrderNumber)
+                .customerOrderPositionNumber(customerPositionNumber)
+                .supplierOrderNumber(supplierOrderNumber)
+                .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                .build();
+            rowErrors.addAll(ownProductionService.validateWithDetails(production));
+            if (!rowErrors.isEmpty()) {
+                errors.add(new DataImportError(row.getRowNumber(), rowErrors));
+            }
+            productions.add(production);
+        } catch (Exception e) {
+            errors.add(new DataImportError(row.getRowNumber(), List.of(e.getMessage() + " Further validations for this row are not possible.")));
         }
-        return new DataImportResult("Failed to process Production rows", errors);
     }
 
-    private DataImportResult extractAndSaveDeliveries(Sheet sheet) {
-        List<OwnDelivery> deliveries = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+    private void extractDelivery(ExcelRow row, ImportLookups lookups, List<OwnDelivery> deliveries, List<DataImportError> errors) {
+        List<String> rowErrors = new ArrayList<>();
+        try {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String originSiteBpns = row.getString(4);
+            String originAddressBpna = row.getString(5);
+            String destinationSiteBpns = row.getString(6);
+            String destinationAddressBpna = row.getString(7);
+            String departureType = row.getString(8);
+            Date departureTime = row.getDate(9);
+            String arrivalType = row.getString(10);
+            Date arrivalTime = row.getDate(11);
+            String trackingNumber = row.getString(12);
+            String incoterm = row.getString(13);
+            String customerOrderNumber = row.getString(14);
+            String customerPositionNumber = row.getString(15);
+            String supplierOrderNumber = row.getString(16);
+            Date lastUpdatedOnDateTime = row.getDate(17);
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
-        }
+            ItemUnitEnumeration unitEnum = null;
+            try {
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
+            }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
+            IncotermEnumeration incotermEnum = null;
+            try {
+                incotermEnum = IncotermEnumeration.valueOf(incoterm.toUpperCase());
+            } catch (Exception e) {
+                rowErrors.add("Invalid incoterm: " + incoterm);
             }
+
+            EventTypeEnumeration departureTypeEnum = null;
             try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String originSiteBpns = getStringCellValue(row.getCell(4));
-                String originAddressBpna = getStringCellValue(row.getCell(5));
-                String destinationSiteBpns = getStringCellValue(row.getCell(6));
-                String destinationAddressBpna = getStringCellValue(row.getCell(7));
-                String departureType = getStringCellValue(row.getCell(8));
-                Date departureTime = getDateCellValue(row.getCell(9));
-                String arrivalType = getStringCellValue(row.getCell(10));
-                Date arrivalTime = getDateCellValue(row.getCell(11));
-                String trackingNumber = getStringCellValue(row.getCell(12));
-                String incoterm = getStringCellValue(row.getCell(13));
-                String customerOrderNumber = getStringCellValue(row.getCell(14));
-                String customerPositionNumber = getStringCellValue(row.getCell(15));
-                String supplierOrderNumber = getStringCellValue(row.getCell(16));
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(17));
-
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
+                departureTypeEnum = EventTypeEnumeration.fromValue(departureType);
+            } catch (Exception e) {
+                rowErrors.add("Invalid departure type: " + departureType);
+            }
 
-                IncotermEnumeration incotermEnum = null;
-                try {
-                    incotermEnum = IncotermEnumeration.valueOf(incoterm.toUpperCase());
-                } catch (Exception e) {
-                    rowErrors.add("Invalid incoterm: " + incoterm);
-                }
+            EventTypeEnumeration arrivalTypeEnum = null;
+            try {
+                arrivalTypeEnum = EventTypeEnumeration.fromValue(arrivalType);
+            } catch (Exception e) {
+                rowErrors.add("Invalid arrival type: " + arrivalType);
+            }
 
-                EventTypeEnumeration departureTypeEnum = null;
-                try {
-                    departureTypeEnum = EventTypeEnumeration.fromValue(departureType);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid departure type: " + departureType);
-                }
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
 
-                EventTypeEnumeration arrivalTypeEnum = null;
-                try {
-                    arrivalTypeEnum = EventTypeEnumeration.fromValue(arrivalType);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid arrival type: " + arrivalType);
-                }
+            Material material = lookups.materials().get(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
-                }
+            Partner partner = lookups.partners().get(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            OwnDelivery delivery = OwnDelivery.builder()
+                .material(material)
+                .partner(partner)
+                .quantity(quantity)
+                .measurementUnit(unitEnum)
+                .originBpns(originSiteBpns)
+                .originBpna(originAddressBpna)
+                .destinationBpns(destinationSiteBpns)
+                .destinationBpna(destinationAddressBpna)
+                .departureType(departureTypeEnum)
+                .dateOfDeparture(departureTime)
+                .arrivalType(arrivalTypeEnum)
+                .dateOfArrival(arrivalTime)
+                .trackingNumber(trackingNumber)
+                .incoterm(incotermEnum)
+                .customerOrderNumber(customerOrderNumber)
+                .customerOrderPositionNumber(customerPositionNumber)
+                .supplierOrderNumber(supplierOrderNumber)
+                .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                .build();
+            rowErrors.addAll(ownDeliveryService.validateWithDetails(delivery));
+            if (!rowErrors.isEmpty()) {
+                errors.add(new DataImportError(row.getRowNumber(), rowErrors));
+            }
+            deliveries.add(delivery);
+        } catch (Exception e) {
+            errors.add(new DataImportError(row.getRowNumber(), List.of(e.getMessage() + " Further validations for this row are not possible.")));
+        }
+    }
+
+    private void extractStock(ExcelRow row, ImportLookups lookups, List<MaterialItemStock> materialStocks, List<ProductItemStock> productStocks,
+                              List<ItemStock> allStocks, List<DataImportError> errors) {
+        List<String> rowErrors = new ArrayList<>();
+        try {
+            String ownMaterialNumber = row.getString(0);
+            String partnerBpnl = row.getString(1);
+            double quantity = Double.parseDouble(row.getString(2));
+            String unitOfMeasurement = row.getString(3);
+            String stockSiteBpns = row.getString(4);
+            String stockAddressBpna = row.getString(5);
+            String customerOrderNumber = row.getString(6);
+            String customerPositionNumber = row.getString(7);
+            String supplierOrderNumber = row.getString(8);
+            boolean isBlocked = row.getBoolean(9);
+            Date lastUpdatedOnDateTime = row.getDate(10);
+            String direction = row.getString(11);
 
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
+            ItemUnitEnumeration unitEnum = null;
+            try {
+                unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
+            } catch (Exception e) {
+                rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
+            }
+
+            if (lastUpdatedOnDateTime == null) {
+                lastUpdatedOnDateTime = new Date();
+            }
 
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
+            Material material = lookups.materials().get(ownMaterialNumber);
+            if (material == null) throw new IllegalArgumentException("Material not found.");
 
-                OwnDelivery delivery = OwnDelivery.builder()
+            Partner partner = lookups.partners().get(partnerBpnl);
+            if (partner == null) throw new IllegalArgumentException("Partner not found.");
+
+            if ("inbound".equalsIgnoreCase(direction)) {
+                MaterialItemStock stock = MaterialItemStock.builder()
                     .material(material)
                     .partner(partner)
                     .quantity(quantity)
                     .measurementUnit(unitEnum)
-                    .originBpns(originSiteBpns)
-                    .originBpna(originAddressBpna)
-                    .destinationBpns(destinationSiteBpns)
-                    .destinationBpna(destinationAddressBpna)
-                    .departureType(departureTypeEnum)
-                    .dateOfDeparture(departureTime)
-                    .arrivalType(arrivalTypeEnum)
-                    .dateOfArrival(arrivalTime)
-                    .trackingNumber(trackingNumber)
-                    .incoterm(incotermEnum)
-                    .customerOrderNumber(customerOrderNumber)
-                    .customerOrderPositionNumber(customerPositionNumber)
-                    .supplierOrderNumber(supplierOrderNumber)
+                    .locationBpns(stockSiteBpns)
+                    .locationBpna(stockAddressBpna)
+                    .customerOrderId(customerOrderNumber)
+                    .customerOrderPositionId(customerPositionNumber)
+                    .supplierOrderId(supplierOrderNumber)
+                    .isBlocked(isBlocked)
                     .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
                     .build();
-                rowErrors.addAll(ownDeliveryService.validateWithDetails(delivery));
+                rowErrors.addAll(materialItemStockService.validateWithDetails(stock));
                 if (!rowErrors.isEmpty()) {
-                    errors.add(new DataImportError(rowIndex, rowErrors));
-                }
-                deliveries.add(delivery);
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
-            }
-        }
-
-        if (errors.isEmpty()) {
-            try {
-                var conflictErrors = checkConflicts(deliveries);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
+                    errors.add(new DataImportError(row.getRowNumber(), rowErrors));
                 }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
-            }
-            List<OwnDelivery> existingDeliveries = ownDeliveryService.findAll();
-            existingDeliveries.forEach(d -> ownDeliveryService.delete(d.getUuid()));
-            for (var newDelivery : deliveries) {
-                try {
-                    ownDeliveryService.create(newDelivery);
-                } catch(Exception e) {
-                    log.error("Failed to persist delivery: {}", newDelivery);
-                    int idx = deliveries.indexOf(newDelivery);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    markCurrentTransactionForRollback();
-                    return new DataImportResult("Failed to persist Deliveries", errors);
+                materialStocks.add(stock);
+                allStocks.add(stock);
+            } else if ("outbound".equalsIgnoreCase(direction)) {
+                ProductItemStock stock = ProductItemStock.builder()
+                    .material(material)
+                    .partner(partner)
+                    .quantity(quantity)
+                    .measurementUnit(unitEnum)
+                    .locationBpns(stockSiteBpns)
+                    .locationBpna(stockAddressBpna)
+                    .customerOrderId(customerOrderNumber)
+                    .customerOrderPositionId(customerPositionNumber)
+                    .supplierOrderId(supplierOrderNumber)
+                    .isBlocked(isBlocked)
+                    .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
+                    .build();
+                rowErrors.addAll(productItemStockService.validateWithDetails(stock));
+                if (!rowErrors.isEmpty()) {
+                    errors.add(new DataImportError(row.getRowNumber(), rowErrors));
                 }
+                productStocks.add(stock);
+                allStocks.add(stock);
+            } else {
+                throw new IllegalArgumentException("Invalid direction: " + direction);
             }
-            return new DataImportResult("Successfully imported deliveries", errors);
-        } else {
-            log.info(errors.toString());
+        } catch (Exception e) {
+            errors.add(new DataImportError(row.getRowNumber(), List.of(e.getMessage() + " Further validations for this row are not possible.")));
         }
+    }
 
-        return new DataImportResult("Failed to process Delivery rows", errors);
+    /**
+     * Applies one set of changes of a service.
+     */
+    @FunctionalInterface
+    private interface ChangeApplier<T> {
+        void apply(List<T> inserts, List<T> updates, List<T> deletes);
     }
 
-    private DataImportResult extractAndSaveStocks(Sheet sheet) {
-        List<MaterialItemStock> materialStocks = new ArrayList<>();
-        List<ProductItemStock> productStocks = new ArrayList<>();
-        List<ItemStock> allStocks = new ArrayList<>();
-        List<DataImportError> errors = new ArrayList<>();
-        Iterator<Row> rowIterator = sheet.iterator();
-        int rowIndex = 0;
+    /**
+     * Writes changes in chunks and flushes the persistence context after each chunk, so that the
+     * statements are sent in JDBC batches while the import is running. The persistence context is
+     * cleared after each flush, so that it does not grow with the size of the import. The surrounding
+     * transaction still commits or rolls back all chunks together.
+     */
+    private final class ChunkedWriter {
+        private final DataImportProgressListener listener;
+        private int total;
+        private int persisted;
+        private boolean cleared;
 
-        if (rowIterator.hasNext()) {
-            rowIterator.next();
-            rowIndex++;
+        private ChunkedWriter(DataImportProgressListener listener) {
+            this.listener = listener;
         }
 
-        while (rowIterator.hasNext()) {
-            List<String> rowErrors = new ArrayList<>();
-            Row row = rowIterator.next();
-            rowIndex++;
-            if (isRowEmpty(row)) {
-                continue;
-            }
-            try {
-                String ownMaterialNumber = getStringCellValue(row.getCell(0));
-                String partnerBpnl = getStringCellValue(row.getCell(1));
-                double quantity = Double.parseDouble(getStringCellValue(row.getCell(2)));
-                String unitOfMeasurement = getStringCellValue(row.getCell(3));
-                String stockSiteBpns = getStringCellValue(row.getCell(4));
-                String stockAddressBpna = getStringCellValue(row.getCell(5));
-                String customerOrderNumber = getStringCellValue(row.getCell(6));
-                String customerPositionNumber = getStringCellValue(row.getCell(7));
-                String supplierOrderNumber = getStringCellValue(row.getCell(8));
-                boolean isBlocked = row.getCell(9).getBooleanCellValue();
-                Date lastUpdatedOnDateTime = getDateCellValue(row.getCell(10));
-                String direction = getStringCellValue(row.getCell(11));
-
-                ItemUnitEnumeration unitEnum = null;
-                try {
-                    unitEnum = ItemUnitEnumeration.fromValue(unitOfMeasurement);
-                } catch (Exception e) {
-                    rowErrors.add("Invalid unit of measurement: " + unitOfMeasurement);
-                }
+        private int size() {
+            return Math.max(1, chunkSize);
+        }
 
-                if (lastUpdatedOnDateTime == null) {
-                    lastUpdatedOnDateTime = new Date();
+        private <T> void write(List<T> inserts, List<T> updates, List<T> deletes, ChangeApplier<T> applier) {
+            total += inserts.size() + updates.size() + deletes.size();
+            int size = size();
+            int longest = Math.max(inserts.size(), Math.max(updates.size(), deletes.size()));
+            for (int from = 0; from < longest; from += size) {
+                List<T> insertChunk = chunk(inserts, from, size);
+                List<T> updateChunk = chunk(updates, from, size);
+                List<T> deleteChunk = chunk(deletes, from, size);
+                if (cleared) {
+                    // materials and partners are shared by all rows and have been detached by clearing
+                    insertChunk.forEach(ExcelService.this::attachReferences);
+                    updateChunk.forEach(ExcelService.this::attachReferences);
                 }
-
-                Material material = materialService.findByOwnMaterialNumber(ownMaterialNumber);
-                if (material == null) throw new IllegalArgumentException("Material not found.");
-
-                Partner partner = partnerService.findByBpnl(partnerBpnl);
-                if (partner == null) throw new IllegalArgumentException("Partner not found.");
-
-                if ("inbound".equalsIgnoreCase(direction)) {
-                    MaterialItemStock stock = MaterialItemStock.builder()
-                        .material(material)
-                        .partner(partner)
-                        .quantity(quantity)
-                        .measurementUnit(unitEnum)
-                        .locationBpns(stockSiteBpns)
-                        .locationBpna(stockAddressBpna)
-                        .customerOrderId(customerOrderNumber)
-                        .customerOrderPositionId(customerPositionNumber)
-                        .supplierOrderId(supplierOrderNumber)
-                        .isBlocked(isBlocked)
-                        .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                        .build();
-                    rowErrors.addAll(materialItemStockService.validateWithDetails(stock));
-                    if (!rowErrors.isEmpty()) {
-                        errors.add(new DataImportError(rowIndex, rowErrors));
-                    }
-                    materialStocks.add(stock);
-                    allStocks.add(stock);
-                } else if ("outbound".equalsIgnoreCase(direction)) {
-                    ProductItemStock stock = ProductItemStock.builder()
-                        .material(material)
-                        .partner(partner)
-                        .quantity(quantity)
-                        .measurementUnit(unitEnum)
-                        .locationBpns(stockSiteBpns)
-                        .locationBpna(stockAddressBpna)
-                        .customerOrderId(customerOrderNumber)
-                        .customerOrderPositionId(customerPositionNumber)
-                        .supplierOrderId(supplierOrderNumber)
-                        .isBlocked(isBlocked)
-                        .lastUpdatedOnDateTime(lastUpdatedOnDateTime)
-                        .build();
-                    rowErrors.addAll(productItemStockService.validateWithDetails(stock));
-                    if (!rowErrors.isEmpty()) {
-                        errors.add(new DataImportError(rowIndex, rowErrors));
-                    }
-                    productStocks.add(stock);
-                    allStocks.add(stock);
-                } else {
-                    throw new IllegalArgumentException("Invalid direction: " + direction);
-                }
-            } catch (Exception e) {
-                errors.add(new DataImportError(rowIndex, List.of(e.getMessage() + " Further validations for this row are not possible.")));
+                applier.apply(insertChunk, updateChunk, deleteChunk);
+                entityManager.flush();
+                entityManager.clear();
+                cleared = true;
+                persisted += insertChunk.size() + updateChunk.size() + deleteChunk.size();
+                listener.changesPersisted(persisted, total);
             }
         }
 
-        if (errors.isEmpty()) {
-            try {
-                var conflictErrors = checkConflicts(allStocks);
-                if (!conflictErrors.isEmpty()) {
-                    return new DataImportResult("One or more conflicting rows found.", conflictErrors);
-                }
-            } catch(Exception e) {
-                return new DataImportResult("Error while checking conflicts", List.of(new DataImportError(0, List.of(e.getMessage()))));
-            }
-            List<MaterialItemStock> existingMaterialStocks = materialItemStockService.findAll();
-            List<ProductItemStock> existingProductStocks = productItemStockService.findAll();
-            existingMaterialStocks.forEach(s -> materialItemStockService.delete(s.getUuid()));
-            existingProductStocks.forEach(s -> productItemStockService.delete(s.getUuid()));
-            for (var newStock : materialStocks) {
-                try {
-                    materialItemStockService.create(newStock);
-                } catch (Exception e) {
-                    int idx = allStocks.indexOf(newStock);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    markCurrentTransactionForRollback();
-                    return new DataImportResult("Failed to persist stocks", errors);
-                }
+        private static <T> List<T> chunk(List<T> list, int from, int size) {
+            if (from >= list.size()) {
+                return List.of();
             }
+            return list.subList(from, Math.min(list.size(), from + size));
+        }
+    }
 
-            for (var newStock : productStocks) {
-                try {
-
-                    productItemStockService.create(newStock);                    
-                } catch (Exception e) {
-                    int idx = allStocks.indexOf(newStock);
-                    errors.add(new DataImportError(idx + 2, List.of(e.getMessage())));
-                    markCurrentTransactionForRollback();
-                    return new DataImportResult("Failed to persist stocks", errors);
-                }
+    /**
+     * Replaces the material and partner of an imported entity by references managed by the current
+     * persistence context. The references are created without querying the database.
+     */
+    private void attachReferences(Object entity) {
+        switch (entity) {
+            case Demand demand -> {
+                demand.setMaterial(managed(demand.getMaterial()));
+                demand.setPartner(managed(demand.getPartner()));
+            }
+            case Production production -> {
+                production.setMaterial(managed(production.getMaterial()));
+                production.setPartner(managed(production.getPartner()));
+            }
+            case Delivery delivery -> {
+                delivery.setMaterial(managed(delivery.getMaterial()));
+                delivery.setPartner(managed(delivery.getPartner()));
+            }
+            case ItemStock stock -> {
+                stock.setMaterial(managed(stock.getMaterial()));
+                stock.setPartner(managed(stock.getPartner()));
+            }
+            default -> {
             }
-
-            return new DataImportResult("Successfully imported stocks", errors);
-        } else {
-            log.info(errors.toString());
         }
+    }
+
+    private Material managed(Material material) {
+        return entityManager.contains(material) ? material : entityManager.getReference(Material.class, material.getOwnMaterialNumber());
+    }
 
-        return new DataImportResult("Failed to process stock rows", errors);
+    private Partner managed(Partner partner) {
+        return entityManager.contains(partner) ? partner : entityManager.getReference(Partner.class, partner.getUuid());
     }
 
     private void markCurrentTransactionForRollback() {
@@ -654,103 +1137,124 @@ public class ExcelService {
         }
     }
 
-    private DataDocumentTypeEnumeration validateHeaders(Sheet sheet) {
-        var headerNames = extractHeader(sheet);
-        if (headerNames.containsAll(demandColumns)) {
+    private DataDocumentTypeEnumeration validateHeaders(ExcelRow header) {
+        var headerNames = extractHeader(header);
+        if (headerNames.containsAll(DEMAND_COLUMNS)) {
             return DataDocumentTypeEnumeration.DEMAND;
-        } else if (headerNames.containsAll(deliveryColumns)) {
+        } else if (headerNames.containsAll(DELIVERY_COLUMNS)) {
             return DataDocumentTypeEnumeration.DELIVERY;
-        } else if (headerNames.containsAll(productionColumns)) {
+        } else if (headerNames.containsAll(PRODUCTION_COLUMNS)) {
             return DataDocumentTypeEnumeration.PRODUCTION;
-        } else if (headerNames.containsAll(stockColumns)) {
+        } else if (headerNames.containsAll(STOCK_COLUMNS)) {
             return DataDocumentTypeEnumeration.STOCK;
         } else {
             return null;
         }
     }
 
-    private List<String> extractHeader(Sheet sheet) {
-        Row headerRows = sheet.getRow(0);
-        List<String> headerNames = new ArrayList<String>();
-        headerRows.forEach(cell -> {
-            headerNames.add(cell.getStringCellValue());
-        });
-        return headerNames;
+    private static List<String> columns(DataDocumentTypeEnumeration documentType) {
+        return switch (documentType) {
+            case DEMAND -> DEMAND_COLUMNS;
+            case PRODUCTION -> PRODUCTION_COLUMNS;
+            case DELIVERY -> DELIVERY_COLUMNS;
+            case STOCK -> STOCK_COLUMNS;
+        };
     }
 
-    private String getStringCellValue(Cell cell) {
-        if (cell == null || cell.getCellType() == CellType.BLANK) {
-            return null;
-        }
-        CellType type = cell.getCellType();
-        if (type == CellType.FORMULA) {
-            type = cell.getCachedFormulaResultType();
+    /**
+     * Maps the expected columns to the columns of the file by their header, so that the columns of a
+     * file may be in any order.
+     *
+     * @return the index of each expected column in the file, or null if the file has the expected order
+     */
+    private static int[] columnIndexes(ExcelRow header, List<String> columns) {
+        int[] indexes = new int[columns.size()];
+        boolean ordered = true;
+        for (int i = 0; i < columns.size(); i++) {
+            for (int column = 0; column < header.size(); column++) {
+                if (columns.get(i).equals(header.getString(column))) {
+                    indexes[i] = column;
+                    break;
+                }
+            }
+            ordered &= indexes[i] == i;
         }
-        switch (type) {
-            case STRING:
-                return cell.getStringCellValue() == null ? null : cell.getStringCellValue().trim();
-            case NUMERIC:
-                return String.valueOf(cell.getNumericCellValue()).trim();
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            default:
-                return null;
+        return ordered ? null : indexes;
+    }
+
+    private List<String> extractHeader(ExcelRow header) {
+        List<String> headerNames = new ArrayList<String>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.getString(i);
+            if (name != null) {
+                headerNames.add(name);
+            }
         }
+        return headerNames;
     }
 
-    private Date getDateCellValue(Cell cell) {
-        try {
-            return cell == null || cell.getCellType() == CellType.BLANK ? null : cell.getCellType() == CellType.STRING
-                ? Date.from(Instant.parse(cell.getStringCellValue().trim()))
-                : cell.getDateCellValue();
-        } catch(Exception e) {
-            return null;
+    private static boolean isDate1904(Workbook workbook) {
+        if (workbook instanceof XSSFWorkbook xssfWorkbook) {
+            return xssfWorkbook.isDate1904();
         }
+        return workbook instanceof HSSFWorkbook hssfWorkbook && hssfWorkbook.getInternalWorkbook().isUsing1904DateWindowing();
     }
 
     /**
-     * Checks a given List of imported rows for duplicates by comparing
-     * each current object with the previous one using Object.equals. This method works
-     * for all types of imported data (demand, production, delivery and stock).
+     * Checks a given List of imported rows for duplicates. Rows are grouped by their business key
+     * (the attributes compared by Object.equals) in a hash map, so every row is looked at only once.
+     * This method works for all types of imported data (demand, production, delivery and stock).
+     * The rows are expected to start at the second row of the sheet.
      * @param <T> the type of imported data
      * @param importEntries the list of imported data rows
      * @return list of errors for each row that conflicts with one or more previous rows 
      */
     public <T> List<DataImportError> checkConflicts(List<T> importEntries) {
-        List<DataImportError> errors = new ArrayList<>();
+        List<Integer> rowNumbers = new ArrayList<>(importEntries.size());
         for (int i = 0; i < importEntries.size(); i++) {
-            T current = importEntries.get(i);
-            List<Integer> conflictingIndexes = new ArrayList<>();
-
-            for (int j = 0; j < i; j++) {
-                if (current.equals(importEntries.get(j))) {
-                    conflictingIndexes.add(j + 2);
-                }
-            }
-
-            if (!conflictingIndexes.isEmpty()) {
-                errors.add(new DataImportError(i + 2, List.of("The row " + (i + 2) + " conflicts with the following rows: " + conflictingIndexes.toString())));
-            }
+            rowNumbers.add(i + 2);
         }
-        return errors;
+        return checkConflicts(importEntries, rowNumbers);
     }
 
     /**
-     * Checks if a given row is empty (i.e. all cells are blank or null).
-     * @param row the row to check
-     * @return true if the row is empty, false otherwise
+     * Checks a given List of imported rows for duplicates, see {@link #checkConflicts(List)}.
+     * @param <T> the type of imported data
+     * @param importEntries the list of imported data rows
+     * @param rowNumbers the sheet row number of each entry
+     * @return list of errors for each row that conflicts with one or more previous rows 
      */
-    private boolean isRowEmpty(Row row) {
-        if (row == null) return true;
-        for (Cell cell : row) {
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getStringCellValue(cell);
-                if (value != null && !value.trim().isEmpty()) {
-                    return false;
-                }
+    public <T> List<DataImportError> checkConflicts(List<T> importEntries, List<Integer> rowNumbers) {
+        return checkConflicts(importEntries, rowNumbers, new HashMap<>(Math.max(16, importEntries.size() * 4 / 3 + 1)));
+    }
+
+    /**
+     * Checks imported rows for duplicates among themselves and with the rows of previous chunks.
+     *
+     * @param rowsByKey the row numbers by business key of the previous chunks, the given rows are added
+     */
+    private static List<DataImportError> checkConflicts(List<?> importEntries, List<Integer> rowNumbers,
+                                                        Map<Object, List<Integer>> rowsByKey) {
+        List<DataImportError> errors = new ArrayList<>();
+        for (int i = 0; i < importEntries.size(); i++) {
+            int rowNumber = rowNumbers.get(i);
+            List<Integer> conflictingRows = rowsByKey.computeIfAbsent(naturalKey(importEntries.get(i)), k -> new ArrayList<>());
+            if (!conflictingRows.isEmpty()) {
+                errors.add(new DataImportError(rowNumber, List.of("The row " + rowNumber + " conflicts with the following rows: " + conflictingRows.toString())));
             }
+            conflictingRows.add(rowNumber);
         }
-        return true;
+        return errors;
+    }
+
+    private static Object naturalKey(Object entry) {
+        return switch (entry) {
+            case Demand demand -> ImportKeys.demandKey(demand);
+            case Production production -> ImportKeys.productionKey(production);
+            case Delivery delivery -> ImportKeys.deliveryKey(delivery);
+            case ItemStock stock -> ImportKeys.itemStockKey(stock);
+            default -> entry;
+        };
     }
 
     private List<DataImportError> evaluateWorkbook(Workbook workbook) {
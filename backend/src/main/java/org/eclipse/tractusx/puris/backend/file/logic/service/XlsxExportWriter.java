@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes rows into an xlsx workbook using the windowed SXSSF writer. Only the last
+ * {@link #ROW_WINDOW} rows are kept in memory, older rows are flushed to a compressed
+ * temporary file until the workbook is written to the output stream.
+ *
+ * <p>If the rows exceed the row limit of a sheet, the export is continued on another
+ * sheet with the same header.</p>
+ */
+class XlsxExportWriter implements DataExportWriter {
+
+    /**
+     * Number of rows kept in memory.
+     */
+    static final int ROW_WINDOW = 100;
+
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream outputStream;
+
+    private final SXSSFWorkbook workbook;
+
+    private final CellStyle dateStyle;
+
+    private final String sheetName;
+
+    private final int maxRowsPerSheet;
+
+    private List<String> columns;
+
+    private SXSSFSheet sheet;
+
+    private int rowIndex;
+
+    XlsxExportWriter(OutputStream outputStream, String sheetName) {
+        this(outputStream, sheetName, MAX_ROWS_PER_SHEET);
+    }
+
+    XlsxExportWriter(OutputStream outputStream, String sheetName, int maxRowsPerSheet) {
+        this.outputStream = outputStream;
+        this.sheetName = sheetName;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) {
+        this.columns = columns;
+        startSheet();
+    }
+
+    @Override
+    public void writeRow(Object... values) {
+        if (rowIndex >= maxRowsPerSheet) {
+            startSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Date date) {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(String.valueOf(value));
+            }
+        }
+    }
+
+    private void startSheet() {
+        int number = workbook.getNumberOfSheets();
+        sheet = workbook.createSheet(number == 0 ? sheetName : sheetName + " " + (number + 1));
+        rowIndex = 0;
+        Row header = sheet.createRow(rowIndex++);
+        for (int i = 0; i < columns.size(); i++) {
+            header.createCell(i).setCellValue(columns.get(i));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            // removes the temporary files of the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
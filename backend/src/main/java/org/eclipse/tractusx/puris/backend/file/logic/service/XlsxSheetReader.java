@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads the first sheet of an xlsx file row by row with a SAX parser.
+ * <p>
+ * In contrast to loading the workbook with {@link org.apache.poi.ss.usermodel.WorkbookFactory}, only the
+ * shared strings table and the current row are kept in memory, so the memory needed does not depend on
+ * the number of rows. Formula cells are read from the result cached by the application that saved the
+ * file. If a formula cell has no cached result, the file is not read, see {@link #read(Path, Consumer)}.
+ * Error cells are passed on as {@link ExcelRow.CellError}.
+ */
+public final class XlsxSheetReader {
+
+    private XlsxSheetReader() {
+    }
+
+    /**
+     * Passes every row of the first sheet of the given file to the consumer, in the order of the file.
+     * Rows that are not present in the file are skipped.
+     * <p>
+     * The sheet is scanned for formula cells without cached result before the first row is passed on,
+     * so the consumer receives either all rows or none.
+     *
+     * @param file     xlsx file
+     * @param consumer consumer of the rows
+     * @return true if all rows have been read, false if no row has been read because a formula cell
+     * without cached result has been found. In this case the workbook needs to be evaluated completely.
+     * @throws IOException if the file is not a readable xlsx file
+     */
+    public static boolean read(Path file, Consumer<ExcelRow> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            SharedStrings sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            boolean date1904 = isDate1904(reader);
+            if (!parseFirstSheet(reader, new FormulaHandler())) {
+                return true;
+            }
+            parseFirstSheet(reader, new SheetHandler(sharedStrings, date1904, consumer));
+            return true;
+        } catch (UncachedFormulaException e) {
+            return false;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException
+                 | InvalidOperationException | UnsupportedFileFormatException e) {
+            throw new IOException("Unable to read xlsx file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return false, if the workbook has no sheet
+     */
+    private static boolean parseFirstSheet(XSSFReader reader, DefaultHandler handler)
+        throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            return false;
+        }
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(handler);
+            parser.parse(new InputSource(sheet));
+        }
+        return true;
+    }
+
+    private static boolean isDate1904(XSSFReader reader) throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        boolean[] date1904 = new boolean[1];
+        try (InputStream workbook = reader.getWorkbookData()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if ("workbookPr".equals(localName)) {
+                        String value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+            parser.parse(new InputSource(workbook));
+        }
+        return date1904[0];
+    }
+
+    /**
+     * Thrown to stop parsing as soon as a formula without cached result is found.
+     */
+    private static final class UncachedFormulaException extends SAXException {
+        UncachedFormulaException(String cellReference) {
+            super("Formula without cached result at " + cellReference);
+        }
+    }
+
+    /**
+     * Only looks for formula cells without cached result.
+     */
+    private static final class FormulaHandler extends DefaultHandler {
+        private String cellReference;
+        private boolean hasFormula;
+        private boolean hasValue;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "c" -> {
+                    cellReference = attributes.getValue("r");
+                    hasFormula = false;
+                    hasValue = false;
+                }
+                case "f" -> hasFormula = true;
+                case "v" -> hasValue = true;
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if ("c".equals(localName) && hasFormula && !hasValue) {
+                throw new UncachedFormulaException(cellReference);
+            }
+        }
+    }
+
+    /**
+     * Collects the cells of the {@code sheetData} of a worksheet part.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+        private final SharedStrings sharedStrings;
+        private final boolean date1904;
+        private final Consumer<ExcelRow> consumer;
+
+        private final List<Object> cells = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private int rowNumber;
+        private int column;
+        private String cellType;
+        private boolean inValue;
+        private boolean inInlineText;
+
+        SheetHandler(SharedStrings sharedStrings, boolean date1904, Consumer<ExcelRow> consumer) {
+            this.sharedStrings = sharedStrings;
+            this.date1904 = date1904;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    String r = attributes.getValue("r");
+                    rowNumber = r == null ? rowNumber + 1 : Integer.parseInt(r);
+                    column = -1;
+                    cells.clear();
+                }
+                case "c" -> {
+                    String cellReference = attributes.getValue("r");
+                    column = cellReference == null ? column + 1 : new CellReference(cellReference).getCol();
+                    cellType = attributes.getValue("t");
+                    text.setLength(0);
+                }
+                case "v" -> inValue = true;
+                case "t" -> inInlineText = "inlineStr".equals(cellType);
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || inInlineText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v" -> inValue = false;
+                case "t" -> inInlineText = false;
+                case "c" -> {
+                    while (cells.size() <= column) {
+                        cells.add(null);
+                    }
+                    cells.set(column, cellValue());
+                }
+                case "row" -> consumer.accept(new ExcelRow(rowNumber, cells.toArray(), date1904));
+                default -> {
+                }
+            }
+        }
+
+        private Object cellValue() {
+            String value = text.toString();
+            if (cellType == null || "n".equals(cellType)) {
+                return value.isBlank() ? null : Double.valueOf(value);
+            }
+            return switch (cellType) {
+                case "s" -> sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString();
+                case "inlineStr", "str", "d" -> value;
+                case "b" -> "1".equals(value.trim()) || "true".equalsIgnoreCase(value.trim());
+                case "e" -> new ExcelRow.CellError(new CellReference(rowNumber - 1, column).formatAsString(), value.trim());
+                default -> null;
+            };
+        }
+    }
+}
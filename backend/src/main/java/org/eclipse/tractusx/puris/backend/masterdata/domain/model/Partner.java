@@ -45,12 +45,27 @@ import java.util.*;
  */
 @Entity
 @Table(name = "partner")
+@NamedEntityGraph(
+    name = Partner.SITES_AND_ADDRESSES_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("addresses"),
+        @NamedAttributeNode(value = "sites", subgraph = "site")
+    },
+    subgraphs = @NamedSubgraph(name = "site", attributeNodes = @NamedAttributeNode("addresses"))
+)
 @Getter
 @Setter
 @ToString
 @NoArgsConstructor
 public class Partner {
 
+    /**
+     * Fetch plan loading the partner together with its addresses, its sites and the
+     * addresses of its sites. Use it wherever the location data of a partner is validated
+     * or mapped, so that it is not loaded lazily per site.
+     */
+    public static final String SITES_AND_ADDRESSES_GRAPH = "Partner.sitesAndAddresses";
+
     @Id
     @GeneratedValue
     private UUID uuid;
@@ -23,25 +23,50 @@ package org.eclipse.tractusx.puris.backend.masterdata.domain.repository;
 
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MaterialPartnerRelationRepository extends JpaRepository<MaterialPartnerRelation, MaterialPartnerRelation.Key> {
 
+    /**
+     * Fetches the relation together with the partner's sites and addresses, since the relation
+     * lookup is mostly followed by a validation of the partner's locations.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"material", "partner.addresses", "partner.sites.addresses"})
+    Optional<MaterialPartnerRelation> findById(MaterialPartnerRelation.Key key);
+
+    /**
+     * Fetches all relations between the given materials and partners, see {@link #findById(MaterialPartnerRelation.Key)}.
+     */
+    @EntityGraph(attributePaths = {"material", "partner.addresses", "partner.sites.addresses"})
+    List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(Collection<String> ownMaterialNumbers,
+                                                                                      Collection<UUID> partnerUuids);
+
     List<MaterialPartnerRelation> findAllByPartner_Uuid(UUID partnerUuid);
 
+    /**
+     * Counts the relations of the partner to the given materials. Answered from the primary key index.
+     */
+    long countByPartner_UuidAndMaterial_OwnMaterialNumberIn(UUID partnerUuid, Collection<String> ownMaterialNumbers);
+
     List<MaterialPartnerRelation> findAllByPartner_UuidAndPartnerSuppliesMaterialIsTrue(UUID partnerUuid);
 
     List<MaterialPartnerRelation> findAllByPartner_UuidAndPartnerBuysMaterialIsTrue(UUID partnerUuid);
 
     List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumber(String ownMaterialNumber);
 
+    @EntityGraph(attributePaths = {"partner.addresses", "partner.sites.addresses"})
     List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumberAndPartnerSuppliesMaterialIsTrue(String ownMaterialNumber);
 
+    @EntityGraph(attributePaths = {"partner.addresses", "partner.sites.addresses"})
     List<MaterialPartnerRelation> findAllByMaterial_OwnMaterialNumberAndPartnerBuysMaterialIsTrue(String ownMaterialNumber);
 
     List<MaterialPartnerRelation> findAllByPartnerMaterialNumber(String partnerMaterialNumber);
@@ -22,9 +22,12 @@
 package org.eclipse.tractusx.puris.backend.masterdata.domain.repository;
 
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,4 +37,40 @@ public interface PartnerRepository extends JpaRepository<Partner, UUID> {
     Optional<Partner> findFirstByBpnl(String bpnl);
 
     Optional<Partner> findFirstBySites_Bpns(String siteBpns);
+
+    /**
+     * Same as {@link #findFirstByBpnl(String)}, but fetches sites and addresses in the same query.
+     * Not limited to the first result, because limits cannot be applied to collection fetches.
+     *
+     * @param bpnl the BPNL
+     * @return all partners with the given BPNL
+     */
+    @EntityGraph(Partner.SITES_AND_ADDRESSES_GRAPH)
+    List<Partner> findAllWithSitesAndAddressesByBpnl(String bpnl);
+
+    /**
+     * Same as {@link #findFirstBySites_Bpns(String)}, but fetches sites and addresses in the same query.
+     *
+     * @param siteBpns the BPNS
+     * @return all partners having a site with the given BPNS
+     */
+    @EntityGraph(Partner.SITES_AND_ADDRESSES_GRAPH)
+    List<Partner> findAllWithSitesAndAddressesBySites_Bpns(String siteBpns);
+
+    /**
+     * Fetches all partners with one of the given BPNLs together with their sites and addresses.
+     *
+     * @param bpnls the BPNLs
+     * @return the partners found
+     */
+    @EntityGraph(Partner.SITES_AND_ADDRESSES_GRAPH)
+    List<Partner> findAllWithSitesAndAddressesByBpnlIn(Collection<String> bpnls);
+
+    @Override
+    @EntityGraph(Partner.SITES_AND_ADDRESSES_GRAPH)
+    Optional<Partner> findById(UUID uuid);
+
+    @Override
+    @EntityGraph(Partner.SITES_AND_ADDRESSES_GRAPH)
+    List<Partner> findAll();
 }
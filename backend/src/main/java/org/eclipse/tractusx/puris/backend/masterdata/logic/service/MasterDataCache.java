@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Address;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through near cache for the master data entities (Partner, Material and
+ * MaterialPartnerRelation) that are looked up once per row by nearly every
+ * validation and mapping path, and for the {@link PartnerLocationIndex} derived from the partners.
+ * <p>
+ * Only non-null lookup results are cached. The cache keeps detached copies of the entities and
+ * returns a new copy on every hit, so that callers may modify the returned entities (e.g. before
+ * passing them to an update) without affecting the cache or other threads. All writes to master data go through the
+ * corresponding services, which invalidate the affected regions. Entries additionally
+ * expire after a configurable time to live, so changes made outside of this application
+ * instance become visible eventually.
+ * <p>
+ * Hits, misses and invalidations are recorded as micrometer metrics
+ * ({@code puris.masterdata.cache.requests}, {@code puris.masterdata.cache.invalidations}
+ * and {@code puris.masterdata.cache.size}), tagged with the region.
+ */
+@Component
+@Slf4j
+public class MasterDataCache {
+
+    public enum Region {
+        PARTNER_BY_BPNL,
+        PARTNER_BY_BPNS,
+        MATERIAL_BY_OWN_MATERIAL_NUMBER,
+        MATERIAL_BY_MATERIAL_NUMBER_CX,
+        MPR_BY_KEY,
+        LOCATION_INDEX_BY_BPNL
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private final class RegionCache {
+        final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+        /**
+         * Incremented on every invalidation. A value that was loaded while an
+         * invalidation happened must not end up in the cache.
+         */
+        final AtomicLong generation = new AtomicLong();
+        final Counter hits;
+        final Counter misses;
+        final Counter invalidations;
+
+        RegionCache(Region region, MeterRegistry meterRegistry) {
+            String tag = region.name().toLowerCase();
+            hits = Counter.builder("puris.masterdata.cache.requests").tag("region", tag).tag("result", "hit")
+                .register(meterRegistry);
+            misses = Counter.builder("puris.masterdata.cache.requests").tag("region", tag).tag("result", "miss")
+                .register(meterRegistry);
+            invalidations = Counter.builder("puris.masterdata.cache.invalidations").tag("region", tag)
+                .register(meterRegistry);
+            Gauge.builder("puris.masterdata.cache.size", entries, Map::size).tag("region", tag)
+                .register(meterRegistry);
+        }
+    }
+
+    private final Map<Region, RegionCache> regions = new EnumMap<>(Region.class);
+
+    /**
+     * Incremented on every invalidation of any region, allows caches of data derived
+     * from master data to detect changes.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final boolean enabled;
+
+    private final long timeToLiveMillis;
+
+    private final int maxEntries;
+
+    public MasterDataCache(MeterRegistry meterRegistry,
+                           @Value("${puris.masterdata.cache.enabled:true}") boolean enabled,
+                           @Value("${puris.masterdata.cache.ttl:600}") long timeToLiveSeconds,
+                           @Value("${puris.masterdata.cache.maxentries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.timeToLiveMillis = timeToLiveSeconds * 1000;
+        this.maxEntries = maxEntries;
+        for (Region region : Region.values()) {
+            regions.put(region, new RegionCache(region, meterRegistry));
+        }
+    }
+
+    /**
+     * Returns the cached value for the given key or loads it with the given loader on a miss.
+     *
+     * @param region the cache region
+     * @param key    the lookup key
+     * @param loader loads the value from the database, may return null
+     * @return the value or null, if the loader found nothing
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(Region region, K key, Function<K, V> loader) {
+        if (!enabled || key == null) {
+            return loader.apply(key);
+        }
+        RegionCache cache = regions.get(region);
+        Entry entry = cache.entries.get(key);
+        long now = System.currentTimeMillis();
+        if (entry != null && entry.expiresAt() > now) {
+            cache.hits.increment();
+            return (V) copy(entry.value());
+        }
+        cache.misses.increment();
+        long generation = cache.generation.get();
+        V value = loader.apply(key);
+        if (value != null && (entry != null || cache.entries.size() < maxEntries)) {
+            cache.entries.put(key, new Entry(copy(value), now + timeToLiveMillis));
+            if (cache.generation.get() != generation) {
+                // invalidated while loading, the loaded value may already be outdated
+                cache.entries.remove(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the cached value for the given key, e.g. after the entity was saved.
+     *
+     * @param region the cache region
+     * @param key    the lookup key
+     * @param value  the current value
+     */
+    public void put(Region region, Object key, Object value) {
+        if (!enabled || key == null || value == null) {
+            return;
+        }
+        RegionCache cache = regions.get(region);
+        if (cache.entries.containsKey(key) || cache.entries.size() < maxEntries) {
+            cache.entries.put(key, new Entry(copy(value), System.currentTimeMillis() + timeToLiveMillis));
+        }
+    }
+
+    /**
+     * Removes all entries of the given regions.
+     *
+     * @param regionsToInvalidate the regions
+     */
+    public void invalidate(Region... regionsToInvalidate) {
+        generation.incrementAndGet();
+        for (Region region : regionsToInvalidate) {
+            RegionCache cache = regions.get(region);
+            cache.generation.incrementAndGet();
+            cache.entries.clear();
+            cache.invalidations.increment();
+            log.debug("Invalidated master data cache region {}", region);
+        }
+    }
+
+    /**
+     * Returns a value that changes whenever master data is invalidated.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Creates a detached deep copy of a cached entity. Associations of the given entity must be
+     * initialized.
+     *
+     * @param value the entity
+     * @return the copy
+     */
+    static Object copy(Object value) {
+        return switch (value) {
+            case Partner partner -> copy(partner);
+            case Material material -> copy(material);
+            case MaterialPartnerRelation relation -> copy(relation);
+            default -> value;
+        };
+    }
+
+    private static Partner copy(Partner partner) {
+        Partner copy = new Partner();
+        copy.setUuid(partner.getUuid());
+        copy.setName(partner.getName());
+        copy.setEdcUrl(partner.getEdcUrl());
+        copy.setPolicyProfileVersion(partner.getPolicyProfileVersion());
+        copy.setBpnl(partner.getBpnl());
+        copy.setAddresses(copy(partner.getAddresses()));
+        SortedSet<Site> sites = new TreeSet<>();
+        for (Site site : partner.getSites()) {
+            sites.add(new Site(site.getBpns(), site.getName(), copy(site.getAddresses())));
+        }
+        copy.setSites(sites);
+        return copy;
+    }
+
+    private static SortedSet<Address> copy(SortedSet<Address> addresses) {
+        SortedSet<Address> copy = new TreeSet<>();
+        for (Address address : addresses) {
+            copy.add(new Address(address.getBpna(), address.getStreetAndNumber(), address.getZipCodeAndCity(),
+                address.getCountry()));
+        }
+        return copy;
+    }
+
+    private static Material copy(Material material) {
+        return Material.builder()
+            .materialFlag(material.isMaterialFlag())
+            .productFlag(material.isProductFlag())
+            .ownMaterialNumber(material.getOwnMaterialNumber())
+            .materialNumberCx(material.getMaterialNumberCx())
+            .name(material.getName())
+            .lastUpdatedOn(material.getLastUpdatedOn() == null ? null : new Date(material.getLastUpdatedOn().getTime()))
+            .build();
+    }
+
+    private static MaterialPartnerRelation copy(MaterialPartnerRelation relation) {
+        MaterialPartnerRelation copy = new MaterialPartnerRelation();
+        copy.setKey(new MaterialPartnerRelation.Key(relation.getKey().getOwnMaterialNumber(), relation.getKey().getPartnerUuid()));
+        copy.setPartnerCXNumber(relation.getPartnerCXNumber());
+        copy.setPartnerMaterialNumber(relation.getPartnerMaterialNumber());
+        copy.setNameAtManufacturer(relation.getNameAtManufacturer());
+        copy.setPartnerSuppliesMaterial(relation.isPartnerSuppliesMaterial());
+        copy.setPartnerBuysMaterial(relation.isPartnerBuysMaterial());
+        copy.setMaterial(relation.getMaterial() == null ? null : copy(Hibernate.unproxy(relation.getMaterial(), Material.class)));
+        copy.setPartner(relation.getPartner() == null ? null : copy(Hibernate.unproxy(relation.getPartner(), Partner.class)));
+        return copy;
+    }
+}
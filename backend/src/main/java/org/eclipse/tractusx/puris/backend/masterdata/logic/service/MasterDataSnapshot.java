@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
+
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Master data loaded in advance for validating many entities at once, e.g. the rows of an import.
+ * <p>
+ * While a snapshot is active on a thread (see {@link #callWith(Supplier)}), the own partner, the material
+ * partner relations and the partners' location indexes are only looked up in the snapshot. Anything that
+ * has not been added is treated as not found instead of being loaded from the database, so validation
+ * can run on any thread, outside of the transaction that loaded the snapshot.
+ * <p>
+ * A snapshot must be completely filled before it is activated. It may then be read by several threads.
+ */
+public final class MasterDataSnapshot {
+
+    private static final ThreadLocal<MasterDataSnapshot> ACTIVE = new ThreadLocal<>();
+
+    private final Map<MaterialPartnerRelation.Key, MaterialPartnerRelation> relations = new HashMap<>();
+
+    private final Map<UUID, PartnerLocationIndex> locationIndexes = new HashMap<>();
+
+    private Partner ownPartner;
+
+    /**
+     * @return the snapshot active on the current thread or null
+     */
+    public static MasterDataSnapshot active() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Runs the given task with this snapshot active on the current thread.
+     *
+     * @param task the task
+     * @return the result of the task
+     */
+    public <T> T callWith(Supplier<T> task) {
+        MasterDataSnapshot previous = ACTIVE.get();
+        ACTIVE.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    public void setOwnPartner(Partner ownPartner) {
+        this.ownPartner = ownPartner;
+    }
+
+    public void addRelations(Collection<MaterialPartnerRelation> relations) {
+        relations.forEach(relation -> this.relations.put(relation.getKey(), relation));
+    }
+
+    public void addLocationIndex(Partner partner, PartnerLocationIndex index) {
+        if (partner.getUuid() != null && index != null) {
+            locationIndexes.put(partner.getUuid(), index);
+        }
+    }
+
+    /**
+     * @return the own partner or null, if it has not been added
+     */
+    Partner getOwnPartner() {
+        return ownPartner;
+    }
+
+    /**
+     * @return the relation or null, if it has not been added
+     */
+    MaterialPartnerRelation getRelation(String ownMaterialNumber, UUID partnerUuid) {
+        return relations.get(new MaterialPartnerRelation.Key(ownMaterialNumber, partnerUuid));
+    }
+
+    /**
+     * @return the location index of the partner or an index without locations, if it has not been added
+     */
+    PartnerLocationIndex getLocationIndex(Partner partner) {
+        PartnerLocationIndex index = partner.getUuid() == null ? null : locationIndexes.get(partner.getUuid());
+        return index == null ? PartnerLocationIndex.EMPTY : index;
+    }
+}
@@ -25,6 +25,7 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -39,6 +40,25 @@ public interface MaterialPartnerRelationService {
 
     MaterialPartnerRelation find(Material material, Partner partner);
 
+    /**
+     * Finds all relations between the given materials and partners with one query, e.g. for
+     * validating imports. Subsequent lookups of the relations found are answered from the cache.
+     *
+     * @param materials the materials
+     * @param partners  the partners
+     * @return the relations found
+     */
+    List<MaterialPartnerRelation> findAll(Collection<Material> materials, Collection<Partner> partners);
+
+    /**
+     * Checks with one query whether there is a relation between the partner and each of the given materials.
+     *
+     * @param partner   the partner
+     * @param materials the materials
+     * @return true, if the partner is related to all of the materials
+     */
+    boolean existsForAll(Partner partner, Collection<Material> materials);
+
     List<Material> findAllMaterialsThatPartnerSupplies(Partner partner);
 
     List<Material> findAllProductsThatPartnerBuys(Partner partner);
@@ -31,6 +31,8 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialPartnerRelationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache.Region;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -62,6 +64,9 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
     @Autowired
     private ExecutorService executorService;
 
+    @Autowired
+    private MasterDataCache masterDataCache;
+
 
     /**
      * Contains all MaterialPartnerRelations, for which there are
@@ -82,7 +87,9 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
         var searchResult = find(materialPartnerRelation.getMaterial(), materialPartnerRelation.getPartner());
         if (searchResult == null) {
             executorService.submit(new DtrRegistrationTask(materialPartnerRelation, 3));
-            return mprRepository.save(materialPartnerRelation);
+            var savedRelation = mprRepository.save(materialPartnerRelation);
+            masterDataCache.invalidate(Region.MPR_BY_KEY);
+            return savedRelation;
         }
         log.error("Could not create MaterialPartnerRelation, " + materialPartnerRelation.getKey() + " already exists");
         return null;
@@ -187,8 +194,16 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
                 }
                 String partnerCXId = edcAdapterService.getCxIdFromPartTypeInformation(materialPartnerRelation);
                 if (partnerCXId != null && PatternStore.URN_OR_UUID_PATTERN.matcher(partnerCXId).matches()) {
-                    materialPartnerRelation.setPartnerCXNumber(partnerCXId);
-                    mprRepository.save(materialPartnerRelation);
+                    // reload the relation, it may have been changed since the task was created
+                    var currentRelation = mprRepository.findById(materialPartnerRelation.getKey()).orElse(null);
+                    if (currentRelation == null) {
+                        log.warn("MaterialPartnerRelation " + materialPartnerRelation.getKey() + " was deleted, dropping Partner CX Id");
+                        done = true;
+                        return false;
+                    }
+                    currentRelation.setPartnerCXNumber(partnerCXId);
+                    mprRepository.save(currentRelation);
+                    masterDataCache.invalidate(Region.MPR_BY_KEY);
                     log.info("Successfully inserted Partner CX Id for Partner " +
                         materialPartnerRelation.getPartner().getBpnl() + " and Material "
                         + materialPartnerRelation.getMaterial().getOwnMaterialNumber() +
@@ -378,10 +393,15 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
     @Override
     public MaterialPartnerRelation update(MaterialPartnerRelation materialPartnerRelation) {
         flagConsistencyTest(materialPartnerRelation);
-        var foundEntity = mprRepository.findById(materialPartnerRelation.getKey());
-        if (foundEntity.isPresent()) {
-            executorService.submit(new DtrRegistrationTask(materialPartnerRelation, 3));
-            return mprRepository.save(materialPartnerRelation);
+        try {
+            var foundEntity = mprRepository.findById(materialPartnerRelation.getKey());
+            if (foundEntity.isPresent()) {
+                executorService.submit(new DtrRegistrationTask(materialPartnerRelation, 3));
+                return mprRepository.save(materialPartnerRelation);
+            }
+        } finally {
+            // cached copies of the relation are outdated now
+            masterDataCache.invalidate(Region.MPR_BY_KEY);
         }
         log.error("Could not update MaterialPartnerRelation, " + materialPartnerRelation.getKey() + " didn't exist before");
         return null;
@@ -493,11 +513,50 @@ public class MaterialPartnerRelationServiceImpl implements MaterialPartnerRelati
      */
     @Override
     public MaterialPartnerRelation find(String ownMaterialNumber, UUID partnerUuid) {
-        var searchResult = mprRepository.findById(new MaterialPartnerRelation.Key(ownMaterialNumber, partnerUuid));
-        if (searchResult.isPresent()) {
-            return searchResult.get();
+        MasterDataSnapshot snapshot = MasterDataSnapshot.active();
+        if (snapshot != null) {
+            return snapshot.getRelation(ownMaterialNumber, partnerUuid);
         }
-        return null;
+        return masterDataCache.get(Region.MPR_BY_KEY, new MaterialPartnerRelation.Key(ownMaterialNumber, partnerUuid),
+            key -> {
+                var searchResult = mprRepository.findById(key);
+                if (searchResult.isPresent()) {
+                    // the partner's collections are needed to copy the relation into the cache
+                    Partner partner = searchResult.get().getPartner();
+                    Hibernate.initialize(partner.getAddresses());
+                    Hibernate.initialize(partner.getSites());
+                    partner.getSites().forEach(site -> Hibernate.initialize(site.getAddresses()));
+                    return searchResult.get();
+                }
+                return null;
+            });
+    }
+
+    @Override
+    public List<MaterialPartnerRelation> findAll(Collection<Material> materials, Collection<Partner> partners) {
+        if (materials.isEmpty() || partners.isEmpty()) {
+            return List.of();
+        }
+        var relations = mprRepository.findAllByMaterial_OwnMaterialNumberInAndPartner_UuidIn(
+            materials.stream().map(Material::getOwnMaterialNumber).toList(),
+            partners.stream().map(Partner::getUuid).toList());
+        for (var relation : relations) {
+            masterDataCache.put(Region.MPR_BY_KEY, relation.getKey(), relation);
+        }
+        return relations;
+    }
+
+    @Override
+    public boolean existsForAll(Partner partner, Collection<Material> materials) {
+        Set<String> ownMaterialNumbers = materials.stream().map(Material::getOwnMaterialNumber).collect(Collectors.toSet());
+        if (ownMaterialNumbers.isEmpty()) {
+            return true;
+        }
+        if (partner.getUuid() == null || ownMaterialNumbers.contains(null)) {
+            return false;
+        }
+        return mprRepository.countByPartner_UuidAndMaterial_OwnMaterialNumberIn(partner.getUuid(), ownMaterialNumbers)
+            == ownMaterialNumbers.size();
     }
 
     /**
@@ -24,6 +24,7 @@ package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MaterialService {
@@ -38,6 +39,14 @@ public interface MaterialService {
 
     Material findByOwnMaterialNumber(String ownMaterialNumber);
 
+    /**
+     * Finds all materials with one of the given numbers with one query, e.g. for validating imports.
+     *
+     * @param ownMaterialNumbers the own material numbers
+     * @return the materials found
+     */
+    List<Material> findAllByOwnMaterialNumbers(Collection<String> ownMaterialNumbers);
+
     Material findByMaterialNumberCx(String materialNumberCx);
     
     List<Material> findAll();
@@ -21,6 +21,7 @@
  */
 package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -36,6 +37,7 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache.Region;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -57,6 +59,9 @@ public class MaterialServiceImpl implements MaterialService {
     @Autowired
     private DigitalTwinMappingService dtmService;
 
+    @Autowired
+    private MasterDataCache masterDataCache;
+
 
     @Override
     public Material create(Material material) {
@@ -93,6 +98,15 @@ public class MaterialServiceImpl implements MaterialService {
 
     @Override
     public Material update(Material material) {
+        try {
+            return updateMaterial(material);
+        } finally {
+            masterDataCache.invalidate(Region.MATERIAL_BY_OWN_MATERIAL_NUMBER, Region.MATERIAL_BY_MATERIAL_NUMBER_CX,
+                Region.MPR_BY_KEY);
+        }
+    }
+
+    private Material updateMaterial(Material material) {
         Optional<Material> existingMaterial =
             materialRepository.findById(material.getOwnMaterialNumber());
 
@@ -128,12 +142,23 @@ public class MaterialServiceImpl implements MaterialService {
 
     @Override
     public Material findByOwnMaterialNumber(String ownMaterialNumber) {
-        var searchResult = materialRepository.findById(ownMaterialNumber);
-        return searchResult.orElse(null);
+        return masterDataCache.get(Region.MATERIAL_BY_OWN_MATERIAL_NUMBER, ownMaterialNumber,
+            key -> materialRepository.findById(key).orElse(null));
+    }
+
+    @Override
+    public List<Material> findAllByOwnMaterialNumbers(Collection<String> ownMaterialNumbers) {
+        List<Material> materials = materialRepository.findAllById(ownMaterialNumbers);
+        materials.forEach(material -> masterDataCache.put(Region.MATERIAL_BY_OWN_MATERIAL_NUMBER, material.getOwnMaterialNumber(), material));
+        return materials;
     }
 
     @Override
     public Material findByMaterialNumberCx(String materialNumberCx) {
+        return masterDataCache.get(Region.MATERIAL_BY_MATERIAL_NUMBER_CX, materialNumberCx, this::loadByMaterialNumberCx);
+    }
+
+    private Material loadByMaterialNumberCx(String materialNumberCx) {
         List<Material> foundMaterial = materialRepository.findByMaterialNumberCx(materialNumberCx);
         if (foundMaterial.isEmpty()) {
             return null;
@@ -155,7 +180,10 @@ public class MaterialServiceImpl implements MaterialService {
         var searchResult = findByOwnMaterialNumber(ownMaterialNumber);
         if (searchResult != null) {
             searchResult.setLastUpdatedOn(new Date());
-            return materialRepository.save(searchResult);
+            Material savedMaterial = materialRepository.save(searchResult);
+            masterDataCache.put(Region.MATERIAL_BY_OWN_MATERIAL_NUMBER, ownMaterialNumber, savedMaterial);
+            masterDataCache.put(Region.MATERIAL_BY_MATERIAL_NUMBER_CX, savedMaterial.getMaterialNumberCx(), savedMaterial);
+            return savedMaterial;
         }
         return searchResult;
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
+
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Address;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup structure over the sites (BPNS) and addresses (BPNA) of a partner.
+ * <p>
+ * Validators check the locations of every row against the sites of the partner.
+ * Instead of iterating over all sites and their addresses per row, they use this
+ * index, which is built per partner by {@link PartnerService#getLocationIndex(Partner)}
+ * and cached with the other master data.
+ */
+public final class PartnerLocationIndex {
+
+    /**
+     * Index of a partner without sites and addresses.
+     */
+    public static final PartnerLocationIndex EMPTY = new PartnerLocationIndex(0, Map.of(), Map.of(), Set.of());
+
+    private final long version;
+
+    private final Map<String, Site> sitesByBpns;
+
+    private final Map<String, Site> sitesByBpna;
+
+    private final Set<String> partnerBpnas;
+
+    private PartnerLocationIndex(long version, Map<String, Site> sitesByBpns, Map<String, Site> sitesByBpna,
+                                 Set<String> partnerBpnas) {
+        this.version = version;
+        this.sitesByBpns = sitesByBpns;
+        this.sitesByBpna = sitesByBpna;
+        this.partnerBpnas = partnerBpnas;
+    }
+
+    /**
+     * Builds the index for the current sites and addresses of the given partner.
+     *
+     * @param partner the partner
+     * @param version the generation of the master data the index was built from
+     * @return the index
+     */
+    public static PartnerLocationIndex of(Partner partner, long version) {
+        Map<String, Site> sitesByBpns = new HashMap<>();
+        Map<String, Site> sitesByBpna = new HashMap<>();
+        Set<String> partnerBpnas = new HashSet<>();
+        for (Site site : partner.getSites()) {
+            sitesByBpns.put(site.getBpns(), site);
+            for (Address address : site.getAddresses()) {
+                sitesByBpna.put(address.getBpna(), site);
+            }
+        }
+        for (Address address : partner.getAddresses()) {
+            partnerBpnas.add(address.getBpna());
+        }
+        return new PartnerLocationIndex(version, Collections.unmodifiableMap(sitesByBpns),
+            Collections.unmodifiableMap(sitesByBpna), Collections.unmodifiableSet(partnerBpnas));
+    }
+
+    /**
+     * @return the version of the master data this index was built from. A higher version
+     * reflects a later state of the partners.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param bpns the BPNS
+     * @return true, if the partner has a site with the given BPNS
+     */
+    public boolean containsSite(String bpns) {
+        return bpns != null && sitesByBpns.containsKey(bpns);
+    }
+
+    /**
+     * @param bpns the BPNS
+     * @return the site with the given BPNS or null
+     */
+    public Site getSite(String bpns) {
+        return bpns == null ? null : sitesByBpns.get(bpns);
+    }
+
+    /**
+     * @param bpna the BPNA
+     * @return the site the given BPNA belongs to or null, if it is no site address of the partner
+     */
+    public Site getSiteOfAddress(String bpna) {
+        return bpna == null ? null : sitesByBpna.get(bpna);
+    }
+
+    /**
+     * @param bpna the BPNA
+     * @return true, if the given BPNA belongs to one of the partner's sites or directly to the partner
+     */
+    public boolean containsAddress(String bpna) {
+        return bpna != null && (sitesByBpna.containsKey(bpna) || partnerBpnas.contains(bpna));
+    }
+
+    /**
+     * @param bpns the BPNS
+     * @param bpna the BPNA
+     * @return true, if the partner has a site with the given BPNS and the given BPNA belongs to that site
+     */
+    public boolean siteContainsAddress(String bpns, String bpna) {
+        Site site = getSiteOfAddress(bpna);
+        return site != null && site.getBpns().equals(bpns);
+    }
+
+    /**
+     * @return the BPNS of all sites of the partner
+     */
+    public Set<String> getSiteBpns() {
+        return sitesByBpns.keySet();
+    }
+}
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.puris.backend.masterdata.logic.service;
 
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -44,8 +45,26 @@ public interface PartnerService {
 
     Partner findByBpnl(String bpnl);
 
+    /**
+     * Finds all partners with one of the given BPNLs with one query, e.g. for validating imports.
+     *
+     * @param bpnls the BPNLs
+     * @return the partners found
+     */
+    List<Partner> findAllByBpnls(Collection<String> bpnls);
+
     Partner findByBpns(String bpns);
 
     Partner getOwnPartnerEntity();
 
+    /**
+     * Returns the location index of the given partner. The index is built from the stored partner
+     * and cached in the {@link MasterDataCache}, so it expires and is invalidated together with the
+     * cached partners. While a {@link MasterDataSnapshot} is active, the index is taken from the snapshot.
+     *
+     * @param partner the partner
+     * @return the index of the partner's sites and addresses
+     */
+    PartnerLocationIndex getLocationIndex(Partner partner);
+
 }
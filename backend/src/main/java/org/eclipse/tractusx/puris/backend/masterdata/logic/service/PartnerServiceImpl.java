@@ -29,10 +29,13 @@ import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache.Region;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.net.URL;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -64,6 +67,9 @@ public class PartnerServiceImpl implements PartnerService {
     @Autowired
     private EdcContractMappingService edcContractMappingService;
 
+    @Autowired
+    private MasterDataCache masterDataCache;
+
     private final Pattern bpnlPattern = PatternStore.BPNL_PATTERN;
     private final Pattern bpnsPattern = PatternStore.BPNS_PATTERN;
     private final Pattern bpnaPattern = PatternStore.BPNA_PATTERN;
@@ -188,6 +194,16 @@ public class PartnerServiceImpl implements PartnerService {
 
     @Override
     public Partner update(Partner partner) {
+        try {
+            return updatePartner(partner);
+        } finally {
+            // cached copies of the partner and its relations are outdated now
+            masterDataCache.invalidate(Region.PARTNER_BY_BPNL, Region.PARTNER_BY_BPNS, Region.MPR_BY_KEY,
+                Region.LOCATION_INDEX_BY_BPNL);
+        }
+    }
+
+    private Partner updatePartner(Partner partner) {
         if (!testConstraints(partner)) {
             log.error("Could not update Partner " + partner.getBpnl() + " because of constraint violation");
             throw new IllegalArgumentException("Partner violates constraints.");
@@ -216,16 +232,66 @@ public class PartnerServiceImpl implements PartnerService {
 
     @Override
     public Partner findByBpnl(String bpnl) {
-        return partnerRepository.findFirstByBpnl(bpnl).orElse(null);
+        return masterDataCache.get(Region.PARTNER_BY_BPNL, bpnl,
+            key -> initialized(first(partnerRepository.findAllWithSitesAndAddressesByBpnl(key))));
+    }
+
+    @Override
+    public List<Partner> findAllByBpnls(Collection<String> bpnls) {
+        List<Partner> partners = partnerRepository.findAllWithSitesAndAddressesByBpnlIn(bpnls);
+        partners.forEach(partner -> masterDataCache.put(Region.PARTNER_BY_BPNL, partner.getBpnl(), initialized(partner)));
+        return partners;
     }
 
     @Override
     public Partner findByBpns(String bpns) {
-        return partnerRepository.findFirstBySites_Bpns(bpns).orElse(null);
+        return masterDataCache.get(Region.PARTNER_BY_BPNS, bpns,
+            key -> initialized(first(partnerRepository.findAllWithSitesAndAddressesBySites_Bpns(key))));
+    }
+
+    private static Partner first(List<Partner> partners) {
+        return partners.isEmpty() ? null : partners.get(0);
     }
 
     @Override
     public Partner getOwnPartnerEntity() {
-        return partnerRepository.findFirstByBpnl(variablesService.getOwnBpnl()).orElse(null);
+        MasterDataSnapshot snapshot = MasterDataSnapshot.active();
+        if (snapshot != null) {
+            return snapshot.getOwnPartner();
+        }
+        return findByBpnl(variablesService.getOwnBpnl());
+    }
+
+    @Override
+    public PartnerLocationIndex getLocationIndex(Partner partner) {
+        MasterDataSnapshot snapshot = MasterDataSnapshot.active();
+        if (snapshot != null) {
+            return snapshot.getLocationIndex(partner);
+        }
+        PartnerLocationIndex index = partner.getUuid() == null ? null
+            : masterDataCache.get(Region.LOCATION_INDEX_BY_BPNL, partner.getBpnl(), bpnl -> {
+                long version = masterDataCache.getGeneration();
+                Partner stored = findByBpnl(bpnl);
+                return stored == null ? null : PartnerLocationIndex.of(stored, version);
+            });
+        // not persisted, e.g. while validating a new partner
+        return index != null ? index : PartnerLocationIndex.of(partner, masterDataCache.getGeneration());
+    }
+
+    /**
+     * Cached partners are shared between threads, so their sites and addresses
+     * must be loaded before they are handed out. This is a no-op for partners that
+     * were loaded with the {@link Partner#SITES_AND_ADDRESSES_GRAPH}.
+     *
+     * @param partner the partner, may be null
+     * @return the given partner
+     */
+    private Partner initialized(Partner partner) {
+        if (partner != null) {
+            Hibernate.initialize(partner.getAddresses());
+            Hibernate.initialize(partner.getSites());
+            partner.getSites().forEach(site -> Hibernate.initialize(site.getAddresses()));
+        }
+        return partner;
     }
 }
@@ -31,7 +31,11 @@ import java.util.stream.Collectors;
 
 import javax.management.openmbean.KeyAlreadyExistsException;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.CursorPageDto;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.util.DuplicateEntityException;
+import org.eclipse.tractusx.puris.backend.common.util.JsonArrayStreamer;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -47,8 +51,10 @@ import org.eclipse.tractusx.puris.backend.production.logic.service.ProductionReq
 import org.eclipse.tractusx.puris.backend.production.logic.service.ReportedProductionService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponseException;
@@ -64,12 +70,16 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
 
 @RestController
@@ -99,11 +109,23 @@ public class ProductionController {
     @Autowired
     private Validator validator;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
     @Autowired
     private ExecutorService executorService;
 
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
+    @PostConstruct
+    private void registerChangeConverters() {
+        changeEventBus.addConverter(OwnProduction.class, this::convertToDto);
+        changeEventBus.addConverter(ReportedProduction.class, this::convertToDto);
+    }
+
     @GetMapping()
     @ResponseBody
     @Operation(summary = "Get all planned productions for the given Material", description = "Get all planned productions for the given material number. Optionally the production site can be filtered by its bpns.")
@@ -115,6 +137,30 @@ public class ProductionController {
                 .stream().map(this::convertToDto).collect(Collectors.toList());
     }
 
+    @GetMapping("page")
+    @ResponseBody
+    @Operation(summary = "Get a page of planned productions", description = "Get own planned productions page by page using keyset pagination, sorted by estimated time of completion. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number and production site bpns.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the page."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<ProductionDto> getProductionPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> site, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(ownProductionService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), Optional.empty(), site,
+                decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all planned productions", description = "Streams all own planned productions as one JSON array without loading them into memory at once. " +
+        "Optionally filtered by material number and production site bpns.")
+    public ResponseEntity<StreamingResponseBody> streamProductions(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> site) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<ProductionDto>of(objectMapper,
+            sink -> ownProductionService.forEachByFilters(materialNumber, Optional.empty(), site, production -> sink.accept(convertToDto(production)))));
+    }
+
     @PostMapping()
     @ResponseBody
     @Operation(summary = "Creates a new planned production", description = "Creates a new production. \n" +
@@ -262,6 +308,30 @@ public class ProductionController {
                 .stream().map(this::convertToDto).collect(Collectors.toList());
     }
 
+    @GetMapping("reported/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of productions of partners", description = "Get productions of partners page by page using keyset pagination, sorted by estimated time of completion. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number, partner bpnl and production site bpns.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the page."),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<ProductionDto> getReportedProductionPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> site, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(reportedProductionService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpnl, site,
+                decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "reported/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all productions of partners", description = "Streams all productions of partners as one JSON array without loading them into memory at once. " +
+        "Optionally filtered by material number, partner bpnl and production site bpns.")
+    public ResponseEntity<StreamingResponseBody> streamReportedProductions(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> site) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<ProductionDto>of(objectMapper,
+            sink -> reportedProductionService.forEachByFilters(materialNumber, bpnl, site, production -> sink.accept(convertToDto(production)))));
+    }
+
     @GetMapping("reported/refresh")
     @ResponseBody
     @Operation(
@@ -288,6 +358,18 @@ public class ProductionController {
             .toList());
     }
 
+    private Optional<String> decodeMaterialNumber(Optional<String> ownMaterialNumber) {
+        return ownMaterialNumber.map(number -> new String(Base64.getDecoder().decode(number)));
+    }
+
+    private ScrollPosition decodeCursor(Optional<String> cursor) {
+        try {
+            return KeysetCursor.decode(cursor.orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+
     private ProductionDto convertToDto(OwnProduction entity) {
         ProductionDto dto = modelMapper.map(entity, ProductionDto.class);
 
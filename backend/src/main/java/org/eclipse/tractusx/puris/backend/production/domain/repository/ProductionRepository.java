@@ -22,9 +22,10 @@ package org.eclipse.tractusx.puris.backend.production.domain.repository;
 
 import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.UUID;
 
-public interface ProductionRepository<T extends Production> extends JpaRepository<T, UUID> {
+public interface ProductionRepository<T extends Production> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
     
 }
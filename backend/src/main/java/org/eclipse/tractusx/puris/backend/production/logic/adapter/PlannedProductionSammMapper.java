@@ -35,6 +35,7 @@ import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -105,13 +106,21 @@ public class PlannedProductionSammMapper {
             log.warn("Can't map production list with different materials");
             return null;
         }
+        // all identifiers are anonymized at once, each distinct one only once
+        List<String> identifiers = new ArrayList<>();
+        identifiers.add(material.getMaterialNumberCx());
+        for (var production : productionList) {
+            identifiers.add(production.getProductionSiteBpns());
+        }
+        Iterator<String> anonymized = anonymizationService.anonymizeAll(identifiers, salt).iterator();
+
         PlannedProductionOutputAnonymized samm = new PlannedProductionOutputAnonymized();
-        samm.setMaterialGlobalAssetIdAnonymized(anonymizationService.anonymize(material.getMaterialNumberCx(), salt));
+        samm.setMaterialGlobalAssetIdAnonymized(anonymized.next());
         samm.setAllocatedPlannedProductionOutputs(new HashSet<>());
         for (var production : productionList) {
             var anonymizedAllocatedPlannedProductionOutput = new AllocatedPlannedProductionOutputAnonymized(
                 new ItemQuantityEntity(production.getQuantity(), production.getMeasurementUnit()),
-                anonymizationService.anonymize(production.getProductionSiteBpns(), salt),
+                anonymized.next(),
                 production.getEstimatedTimeOfCompletion(),
                 production.getLastUpdatedOnDateTime()
             );
@@ -60,7 +60,7 @@ public class OwnProductionService extends ProductionService<OwnProduction> {
                 "Production already exists.", e.getUuid(), e.getQuantity(), e.getMeasurementUnit()
             );
         }
-        return repository.save(production);
+        return publishUpsert(repository.save(production));
     }
 
     public final List<OwnProduction> createAll(List<OwnProduction> productions) {
@@ -71,7 +71,7 @@ public class OwnProductionService extends ProductionService<OwnProduction> {
                 .anyMatch(existing -> productions.stream().anyMatch(production -> production.equals(existing)))) {
             throw new KeyAlreadyExistsException("Production already exists");
         }
-        return repository.saveAll(productions);
+        return publishUpserts(repository.saveAll(productions));
     }
 
     public boolean validate(OwnProduction production) {
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshError;
@@ -66,6 +67,8 @@ public class ProductionRequestApiService {
     private PlannedProductionSammMapper sammMapper;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SubmodelResponseCache responseCache;
 
     public PlannedProductionOutput handleProductionSubmodelRequest(String bpnl, String materialNumberCx) {
         Partner partner = partnerService.findByBpnl(bpnl);
@@ -80,8 +83,11 @@ public class ProductionRequestApiService {
             // only send an answer if partner is registered as customer
             return null;
         }
-        var currentProduction = ownProductionService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
-        return sammMapper.ownProductionToSamm(currentProduction, partner, material);
+        var key = new SubmodelResponseCache.Key(AssetType.PRODUCTION_SUBMODEL, bpnl, materialNumberCx, null, null);
+        return responseCache.get(key, material.getOwnMaterialNumber(), () -> {
+            var currentProduction = ownProductionService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
+            return sammMapper.ownProductionToSamm(currentProduction, partner, material);
+        });
     }
 
     public PlannedProductionOutputAnonymized handleProductionAnonymizedSubmodelRequest(String bpnl, String materialNumberCx, String contractAgreementId) {
@@ -100,8 +106,11 @@ public class ProductionRequestApiService {
             log.error("Partner with BPNL {} is not registered as customer for material {}", bpnl, materialNumberCx);
             return null;
         }
-        List<OwnProduction> currentProduction = ownProductionService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
-        return sammMapper.ownProductionToAnonymizedSamm(currentProduction, partner, material, contractAgreementId);
+        var key = new SubmodelResponseCache.Key(AssetType.PRODUCTION_ANONYMIZED_SUBMODEL, bpnl, materialNumberCx, null, contractAgreementId);
+        return responseCache.get(key, material.getOwnMaterialNumber(), () -> {
+            List<OwnProduction> currentProduction = ownProductionService.findAllByFilters(Optional.of(material.getOwnMaterialNumber()), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
+            return sammMapper.ownProductionToAnonymizedSamm(currentProduction, partner, material, contractAgreementId);
+        });
     }
 
     public RefreshResult doReportedProductionRequest(Partner partner, Material material) {
@@ -109,6 +118,11 @@ public class ProductionRequestApiService {
         try {
             var mpr = mprService.find(material, partner);
             var data = edcAdapterService.doSubmodelRequest(AssetType.PRODUCTION_SUBMODEL, mpr, DirectionEnum.OUTBOUND, 1);
+            if (data == EdcAdapterService.SUBMODEL_NOT_MODIFIED) {
+                log.info("ReportedProductions for {} and partner {} are up to date", material.getOwnMaterialNumber(), partner.getBpnl());
+                materialService.updateTimestamp(material.getOwnMaterialNumber());
+                return new RefreshResult("ReportedProductions for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl() + " are up to date", errors);
+            }
             var samm = objectMapper.treeToValue(data, PlannedProductionOutput.class);
             var productions = sammMapper.sammToReportedProduction(samm, partner);
             for (var production : productions) {
@@ -144,6 +158,7 @@ public class ProductionRequestApiService {
             for (var newProduction : productions) {
                 reportedProductionService.create(newProduction);
             }
+            edcAdapterService.confirmSubmodelProcessed(AssetType.PRODUCTION_SUBMODEL, mpr, DirectionEnum.OUTBOUND);
             log.info("Successfully updated ReportedProduction for {} and partner {}", 
                         material.getOwnMaterialNumber(), partner.getBpnl());
             materialService.updateTimestamp(material.getOwnMaterialNumber());
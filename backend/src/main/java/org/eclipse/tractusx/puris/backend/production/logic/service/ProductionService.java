@@ -19,22 +19,51 @@
  */
 package org.eclipse.tractusx.puris.backend.production.logic.service;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.production.domain.model.Production;
 import org.eclipse.tractusx.puris.backend.production.domain.repository.ProductionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public abstract class ProductionService<T extends Production>  {
+    /**
+     * Stable sort order for keyset pagination. The uuid makes the order unique.
+     */
+    private static final Sort KEYSET_SORT = Sort.by("estimatedTimeOfCompletion", "uuid");
+
     @Autowired
     protected ProductionRepository<T> repository;
 
+    @Autowired
+    private PartnerService partnerService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
     public final List<T> findAll() {
         return repository.findAll();
     }
@@ -44,13 +73,11 @@ public abstract class ProductionService<T extends Production>  {
     }    
 
     public final List<T> findAllByBpnl(String bpnl) {
-        return repository.findAll().stream().filter(production -> production.getPartner().getBpnl().equals(bpnl))
-                .toList();
+        return repository.findAll(filterSpecification(Optional.empty(), Optional.of(bpnl), Optional.empty()));
     }
 
     public final List<T> findAllByOwnMaterialNumber(String ownMaterialNumber) {
-        return repository.findAll().stream().filter(production -> production.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber))
-                .toList();
+        return repository.findAll(filterSpecification(Optional.of(ownMaterialNumber), Optional.empty(), Optional.empty()));
     }
 
     public final List<T> findAllByFilters(
@@ -58,16 +85,7 @@ public abstract class ProductionService<T extends Production>  {
         Optional<String> bpnl,
         Optional<String> bpns,
         Optional<Date> dayOfCompletion) {
-        Stream<T> stream = repository.findAll().stream();
-        if (ownMaterialNumber.isPresent()) {
-            stream = stream.filter(production -> production.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber.get()));
-        }
-        if (bpnl.isPresent()) {
-            stream = stream.filter(production -> production.getPartner().getBpnl().equals(bpnl.get()));
-        }
-        if (bpns.isPresent()) {
-            stream = stream.filter(production -> production.getProductionSiteBpns().equals(bpns.get()));
-        }
+        Stream<T> stream = repository.findAll(filterSpecification(ownMaterialNumber, bpnl, bpns)).stream();
         if (dayOfCompletion.isPresent()) {
             LocalDate localEstimatedTimeOfCompletion = Instant.ofEpochMilli(dayOfCompletion.get().getTime())
                 .atOffset(ZoneOffset.UTC)
@@ -82,6 +100,65 @@ public abstract class ProductionService<T extends Production>  {
         return stream.toList();
     }
 
+    /**
+     * Returns one page of productions matching the filters, ordered by estimated time of completion and uuid.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpnl              optional filter by partner bpnl
+     * @param bpns              optional filter by production site
+     * @param position          keyset position after which the page starts
+     * @param limit             maximum number of productions in the page
+     * @return the window of productions
+     */
+    public final Window<T> findWindowByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> bpns,
+        ScrollPosition position,
+        int limit) {
+        return repository.findBy(filterSpecification(ownMaterialNumber, bpnl, bpns),
+            query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position));
+    }
+
+    /**
+     * Passes all productions matching the filters to the action, loading them chunk by chunk
+     * so that the memory footprint does not depend on the size of the result.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpnl              optional filter by partner bpnl
+     * @param bpns              optional filter by production site
+     * @param action            action to be applied on each production
+     */
+    public final void forEachByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> bpns,
+        Consumer<T> action) {
+        WindowIterator.of(position -> {
+                // entities of the previous chunk have already been consumed. Inside a caller's
+                // transaction the context may hold pending changes and must be left alone.
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    entityManager.clear();
+                }
+                return findWindowByFilters(ownMaterialNumber, bpnl, bpns, position, KeysetCursor.STREAM_CHUNK_SIZE);
+            })
+            .startingAt(ScrollPosition.keyset())
+            .forEachRemaining(action);
+    }
+
+    private Specification<T> filterSpecification(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Optional<String> bpns) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            ownMaterialNumber.ifPresent(number -> predicates.add(builder.equal(root.get("material").get("ownMaterialNumber"), number)));
+            bpnl.ifPresent(partnerBpnl -> predicates.add(builder.equal(root.get("partner").get("bpnl"), partnerBpnl)));
+            bpns.ifPresent(siteBpns -> predicates.add(builder.equal(root.get("productionSiteBpns"), siteBpns)));
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     public final List<Double> getQuantityForDays(String material, Optional<String> partnerBpnl, Optional<String> siteBpns, int numberOfDays) {
         List<Double> quantities = new ArrayList<>();
         LocalDate localDate = LocalDate.now();
@@ -137,7 +214,7 @@ public abstract class ProductionService<T extends Production>  {
         if (production.getPartner().equals(ownPartnerEntity)) {
             errors.add(String.format("Partner cannot be the same as own partner entity '%s'.", production.getPartner().getBpnl()));
         }
-        if (ownPartnerEntity.getSites().stream().noneMatch(site -> site.getBpns().equals(production.getProductionSiteBpns()))) {
+        if (!partnerService.getLocationIndex(ownPartnerEntity).containsSite(production.getProductionSiteBpns())) {
             errors.add(String.format("Production site BPNS '%s' must match to one site of the partner '%s' .", production.getProductionSiteBpns(), production.getPartner().getBpnl()));
         }
         return errors;
@@ -145,7 +222,7 @@ public abstract class ProductionService<T extends Production>  {
 
     protected List<String> validateReportedProduction(Production production) {
         List<String> errors = new ArrayList<>();
-        if (production.getPartner().getSites().stream().noneMatch(site -> site.getBpns().equals(production.getProductionSiteBpns()))) {
+        if (!partnerService.getLocationIndex(production.getPartner()).containsSite(production.getProductionSiteBpns())) {
             errors.add(String.format("Production site BPNS '%s' must match to one site of the partner '%s' .", production.getProductionSiteBpns(), production.getPartner().getBpnl()));
         }
         return errors;
@@ -155,11 +232,61 @@ public abstract class ProductionService<T extends Production>  {
         if (production.getUuid() == null || repository.findById(production.getUuid()).isEmpty()) {
             return null;
         }
-        return repository.save(production);
+        return publishUpsert(repository.save(production));
     }
 
     public final void delete(UUID uuid) {
-        repository.deleteById(uuid);
+        repository.findById(uuid).ifPresent(entity -> {
+            repository.delete(entity);
+            publish(entity, ChangeOperationEnum.DELETE);
+        });
+    }
+
+    /**
+     * Applies a precomputed set of changes, e.g. the result of a file import. The productions are neither
+     * validated nor checked for duplicates, this has to be done by the caller. All statements are sent
+     * in JDBC batches when the surrounding transaction is flushed.
+     *
+     * @param inserts productions to create
+     * @param updates existing productions carrying their uuid and the new values
+     * @param deletes existing productions to remove
+     */
+    public final void applyChanges(List<T> inserts, List<T> updates, List<T> deletes) {
+        repository.deleteAll(deletes);
+        repository.saveAll(updates);
+        repository.saveAll(inserts);
+        deletes.forEach(entity -> publish(entity, ChangeOperationEnum.DELETE));
+        publishUpserts(updates);
+        publishUpserts(inserts);
+    }
+
+    /**
+     * Publishes the creation or update of the entity to the clients.
+     *
+     * @param entity the saved entity, may be null
+     * @return the given entity
+     */
+    protected final <E extends T> E publishUpsert(E entity) {
+        if (entity != null) {
+            publish(entity, ChangeOperationEnum.UPSERT);
+        }
+        return entity;
+    }
+
+    /**
+     * Publishes the creation or update of the entities to the clients.
+     *
+     * @param entities the saved entities
+     * @return the given entities
+     */
+    protected final <E extends T> List<E> publishUpserts(List<E> entities) {
+        entities.forEach(this::publishUpsert);
+        return entities;
+    }
+
+    private void publish(T entity, ChangeOperationEnum operation) {
+        changeEventBus.publish(entity.getMaterial() == null ? null : entity.getMaterial().getOwnMaterialNumber(),
+            entity, entity.getUuid(), entity.getPartner() == null ? null : entity.getPartner().getBpnl(), operation);
     }
 
     private final double getSumOfQuantities(List<T> productions) {
@@ -47,7 +47,7 @@ public class ReportedProductionService extends ProductionService<ReportedProduct
         if (!validator.apply(production)) {
             return null;
         }
-        return repository.save(production);
+        return publishUpsert(repository.save(production));
     }
 
     public final List<ReportedProduction> createAll(List<ReportedProduction> productions) {
@@ -58,7 +58,7 @@ public class ReportedProductionService extends ProductionService<ReportedProduct
                 .anyMatch(existing -> productions.stream().anyMatch(production -> production.equals(existing)))) {
             return null;
         }
-        return repository.saveAll(productions);
+        return publishUpserts(repository.saveAll(productions));
     }
 
     public boolean validate(ReportedProduction production) {
@@ -34,6 +34,10 @@ import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.CursorPageDto;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.JsonArrayStreamer;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -59,8 +63,10 @@ import org.eclipse.tractusx.puris.backend.supply.logic.service.CustomerSupplySer
 import org.eclipse.tractusx.puris.backend.supply.logic.service.SupplierSupplyService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponseException;
@@ -76,6 +82,9 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -83,6 +92,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
@@ -134,8 +144,22 @@ public class StockViewController {
     @Autowired
     private ExecutorService executorService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private final Pattern materialPattern = PatternStore.NON_EMPTY_NON_VERTICAL_WHITESPACE_PATTERN;
 
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
+    @PostConstruct
+    private void registerChangeConverters() {
+        changeEventBus.addConverter(MaterialItemStock.class, this::convertToDto);
+        changeEventBus.addConverter(ProductItemStock.class, this::convertToDto);
+        changeEventBus.addConverter(ReportedMaterialItemStock.class, this::convertToDto);
+        changeEventBus.addConverter(ReportedProductItemStock.class, this::convertToDto);
+    }
+
     @GetMapping("materials")
     @ResponseBody
     @Operation(description = "Returns a list of all materials (excluding products)")
@@ -204,6 +228,28 @@ public class StockViewController {
             .collect(Collectors.toList());
     }
 
+    @GetMapping("product-stocks/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of own product stocks", description = "Get own product stocks page by page using keyset pagination, sorted by last update. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number and partner bpnl.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Returns the page."),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<ProductStockDto> getProductStocksPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(productItemStockService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpnl,
+            decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "product-stocks/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all own product stocks", description = "Streams all own product stocks as one JSON array without loading them into memory at once. Optionally filtered by material number and partner bpnl.")
+    public ResponseEntity<StreamingResponseBody> streamProductStocks(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber, Optional<String> bpnl) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<ProductStockDto>of(objectMapper,
+            sink -> productItemStockService.forEachByFilters(materialNumber, bpnl, stock -> sink.accept(convertToDto(stock)))));
+    }
+
     @PostMapping("product-stocks")
     @ResponseBody
     @Operation(description = "Creates a new product-stock. \n" + 
@@ -389,6 +435,28 @@ public class StockViewController {
         return allMaterialStocks;
     }
 
+    @GetMapping("material-stocks/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of own material stocks", description = "Get own material stocks page by page using keyset pagination, sorted by last update. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number and partner bpnl.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Returns the page."),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<MaterialStockDto> getMaterialStocksPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(materialItemStockService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpnl,
+            decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "material-stocks/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all own material stocks", description = "Streams all own material stocks as one JSON array without loading them into memory at once. Optionally filtered by material number and partner bpnl.")
+    public ResponseEntity<StreamingResponseBody> streamMaterialStocks(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber, Optional<String> bpnl) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<MaterialStockDto>of(objectMapper,
+            sink -> materialItemStockService.forEachByFilters(materialNumber, bpnl, stock -> sink.accept(convertToDto(stock)))));
+    }
+
     @PostMapping("material-stocks")
     @ResponseBody
     @Operation(description = "Creates a new material-stock. \n" + 
@@ -580,6 +648,28 @@ public class StockViewController {
             .toList());
     }
 
+    @GetMapping("reported-material-stocks/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of material stocks reported by suppliers", description = "Get material stocks reported by suppliers page by page using keyset pagination, sorted by last update. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number and partner bpnl.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Returns the page."),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<ReportedMaterialStockDto> getReportedMaterialStocksPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(reportedMaterialItemStockService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpnl,
+            decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "reported-material-stocks/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all material stocks reported by suppliers", description = "Streams all material stocks reported by suppliers as one JSON array without loading them into memory at once. Optionally filtered by material number and partner bpnl.")
+    public ResponseEntity<StreamingResponseBody> streamReportedMaterialStocks(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber, Optional<String> bpnl) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<ReportedMaterialStockDto>of(objectMapper,
+            sink -> reportedMaterialItemStockService.forEachByFilters(materialNumber, bpnl, stock -> sink.accept(convertToDto(stock)))));
+    }
+
     private ReportedMaterialStockDto convertToDto(ReportedMaterialItemStock entity) {
         ReportedMaterialStockDto dto = modelMapper.map(entity, ReportedMaterialStockDto.class);
         dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
@@ -622,6 +712,28 @@ public class StockViewController {
             .toList());
     }
 
+    @GetMapping("reported-product-stocks/page")
+    @ResponseBody
+    @Operation(summary = "Get a page of product stocks reported by customers", description = "Get product stocks reported by customers page by page using keyset pagination, sorted by last update. " +
+        "Pass the `nextCursor` of a page as `cursor` to fetch the following page. Optionally filtered by material number and partner bpnl.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Returns the page."),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor.", content = @Content)
+    })
+    public CursorPageDto<ReportedProductStockDto> getReportedProductStocksPage(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber,
+            Optional<String> bpnl, Optional<String> cursor, Optional<Integer> size) {
+        return CursorPageDto.of(reportedProductItemStockService.findWindowByFilters(decodeMaterialNumber(ownMaterialNumber), bpnl,
+            decodeCursor(cursor), KeysetCursor.pageSize(size.orElse(null))), this::convertToDto);
+    }
+
+    @GetMapping(value = "reported-product-stocks/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all product stocks reported by customers", description = "Streams all product stocks reported by customers as one JSON array without loading them into memory at once. Optionally filtered by material number and partner bpnl.")
+    public ResponseEntity<StreamingResponseBody> streamReportedProductStocks(@Parameter(description = "encoded in base64") Optional<String> ownMaterialNumber, Optional<String> bpnl) {
+        Optional<String> materialNumber = decodeMaterialNumber(ownMaterialNumber);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(JsonArrayStreamer.<ReportedProductStockDto>of(objectMapper,
+            sink -> reportedProductItemStockService.forEachByFilters(materialNumber, bpnl, stock -> sink.accept(convertToDto(stock)))));
+    }
+
     private ReportedProductStockDto convertToDto(ReportedProductItemStock entity) {
         ReportedProductStockDto dto = modelMapper.map(entity, ReportedProductStockDto.class);
         dto.getMaterial().setMaterialNumberCx(entity.getMaterial().getMaterialNumberCx());
@@ -756,4 +868,15 @@ public class StockViewController {
         return modelMapper.map(entity, PartnerDto.class);
     }
 
+    private Optional<String> decodeMaterialNumber(Optional<String> ownMaterialNumber) {
+        return ownMaterialNumber.map(number -> new String(Base64.getDecoder().decode(number)));
+    }
+
+    private ScrollPosition decodeCursor(Optional<String> cursor) {
+        try {
+            return KeysetCursor.decode(cursor.orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
 }
@@ -24,11 +24,12 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.List;
 import java.util.UUID;
 
-public interface ItemStockRepository<T extends ItemStock> extends JpaRepository<T, UUID> {
+public interface ItemStockRepository<T extends ItemStock> extends JpaRepository<T, UUID>, JpaSpecificationExecutor<T> {
 
     default List<T> getForPartnerAndMaterial(Partner partner, Material material) {
         // default implementation prevents Jpa from trying to
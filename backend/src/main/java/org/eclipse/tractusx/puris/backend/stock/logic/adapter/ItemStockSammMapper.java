@@ -37,6 +37,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -128,19 +129,26 @@ public class ItemStockSammMapper {
             return null;
         }
 
-        ItemStockAnonymizedSamm samm = new ItemStockAnonymizedSamm();
-
+        // all identifiers are anonymized at once, each distinct one only once
+        List<String> identifiers = new ArrayList<>();
         if (directionCharacteristic == DirectionCharacteristic.INBOUND) {
-            samm.setMaterialGlobalAssetIdAnonymized(anonymizationService.anonymize(mprService.find(material, partner).getPartnerCXNumber(), salt));
+            identifiers.add(mprService.find(material, partner).getPartnerCXNumber());
         } else {
-            samm.setMaterialGlobalAssetIdAnonymized(anonymizationService.anonymize(material.getMaterialNumberCx(), salt));
+            identifiers.add(material.getMaterialNumberCx());
+        }
+        for (var itemStock : itemStocks) {
+            identifiers.add(itemStock.getLocationBpns());
         }
+        Iterator<String> anonymized = anonymizationService.anonymizeAll(identifiers, salt).iterator();
+
+        ItemStockAnonymizedSamm samm = new ItemStockAnonymizedSamm();
+        samm.setMaterialGlobalAssetIdAnonymized(anonymized.next());
 
         samm.setDirection(directionCharacteristic);
         var anonymizedAllocatedStockList = new HashSet<AllocatedStockAnonymized>();
         for (var itemStock : itemStocks) {
             ItemQuantityEntity itemQuantityEntity = new ItemQuantityEntity(itemStock.getQuantity(), itemStock.getMeasurementUnit());
-            AllocatedStockAnonymized allocatedStock = new AllocatedStockAnonymized(itemQuantityEntity, anonymizationService.anonymize(itemStock.getLocationBpns(), salt), itemStock.isBlocked(), itemStock.getLastUpdatedOnDateTime());
+            AllocatedStockAnonymized allocatedStock = new AllocatedStockAnonymized(itemQuantityEntity, anonymized.next(), itemStock.isBlocked(), itemStock.getLastUpdatedOnDateTime());
             anonymizedAllocatedStockList.add(allocatedStock);
         }
         samm.setAllocatedStocksAnonymized(anonymizedAllocatedStockList);
@@ -25,6 +25,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.erpadapter.logic.service.ErpAdapterTriggerService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -33,8 +34,6 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.RefreshResult;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
-import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
-import org.eclipse.tractusx.puris.backend.stock.domain.model.ProductItemStock;
 import org.eclipse.tractusx.puris.backend.stock.logic.adapter.ItemStockSammMapper;
 import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
 import org.eclipse.tractusx.puris.backend.stock.logic.dto.anonymizeditemstocksamm.ItemStockAnonymizedSamm;
@@ -74,6 +73,8 @@ public class ItemStockRequestApiService {
     private ItemStockSammMapper sammMapper;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private SubmodelResponseCache responseCache;
 
     public ItemStockSamm handleItemStockSubmodelRequest(String bpnl, String materialNumber, DirectionEnum direction) {
         ItemStockRequestData data = getItemStockRequestData(bpnl, materialNumber, direction, true);
@@ -81,11 +82,14 @@ public class ItemStockRequestApiService {
             return null;
         }
 
-        return switch (direction) {
-            case OUTBOUND -> sammMapper.productItemStocksToItemStockSamm(data.productStocks(), data.partner(), data.material());
-            case INBOUND -> sammMapper.materialItemStocksToItemStockSamm(data.materialStocks(), data.partner(), data.material());
+        var key = new SubmodelResponseCache.Key(AssetType.ITEM_STOCK_SUBMODEL, bpnl, materialNumber, direction, null);
+        return responseCache.get(key, data.material().getOwnMaterialNumber(), () -> switch (direction) {
+            case OUTBOUND -> sammMapper.productItemStocksToItemStockSamm(
+                productItemStockService.findByPartnerAndMaterial(data.partner(), data.material()), data.partner(), data.material());
+            case INBOUND -> sammMapper.materialItemStocksToItemStockSamm(
+                materialItemStockService.findByPartnerAndMaterial(data.partner(), data.material()), data.partner(), data.material());
             default -> null;
-        };
+        });
 
     }
 
@@ -95,11 +99,14 @@ public class ItemStockRequestApiService {
             return null;
         }
 
-        return switch (direction) {
-            case OUTBOUND -> sammMapper.productItemStocksToItemStockAnonymizedSamm(data.productStocks(), data.partner(), data.material(), contractAgreementId);
-            case INBOUND -> sammMapper.materialItemStocksToItemStockAnonymizedSamm(data.materialStocks(), data.partner(), data.material(), contractAgreementId);
+        var key = new SubmodelResponseCache.Key(AssetType.ITEM_STOCK_ANONYMIZED_SUBMODEL, bpnl, materialNumber, direction, contractAgreementId);
+        return responseCache.get(key, data.material().getOwnMaterialNumber(), () -> switch (direction) {
+            case OUTBOUND -> sammMapper.productItemStocksToItemStockAnonymizedSamm(
+                productItemStockService.findByPartnerAndMaterial(data.partner(), data.material()), data.partner(), data.material(), contractAgreementId);
+            case INBOUND -> sammMapper.materialItemStocksToItemStockAnonymizedSamm(
+                materialItemStockService.findByPartnerAndMaterial(data.partner(), data.material()), data.partner(), data.material(), contractAgreementId);
             default -> null;
-        };
+        });
 
     }
 
@@ -130,8 +137,7 @@ public class ItemStockRequestApiService {
                     erpAdapterTriggerService.notifyPartnerRequest(bpnl, material.getOwnMaterialNumber(), AssetType.ITEM_STOCK_SUBMODEL, direction);
                 }
 
-                var currentStocks = productItemStockService.findByPartnerAndMaterial(partner, material);
-                return new ItemStockRequestData(partner, material, currentStocks, null);
+                return new ItemStockRequestData(partner, material);
             }
 
             case INBOUND -> {
@@ -167,8 +173,7 @@ public class ItemStockRequestApiService {
                     );
                 }
 
-                var currentStocks = materialItemStockService.findByPartnerAndMaterial(partner, material);
-                return new ItemStockRequestData(partner, material, null, currentStocks);
+                return new ItemStockRequestData(partner, material);
             }
 
             default -> {
@@ -179,9 +184,7 @@ public class ItemStockRequestApiService {
 
     private record ItemStockRequestData(
             Partner partner,
-            Material material,
-            List<ProductItemStock> productStocks,
-            List<MaterialItemStock> materialStocks
+            Material material
     ) {}
 
     public RefreshResult doItemStockSubmodelReportedMaterialItemStockRequest(Partner partner, Material material) {
@@ -189,6 +192,11 @@ public class ItemStockRequestApiService {
         try {
             var mpr = mprService.find(material, partner);
             var data = edcAdapterService.doSubmodelRequest(AssetType.ITEM_STOCK_SUBMODEL, mpr, DirectionEnum.OUTBOUND, 1);
+            if (data == EdcAdapterService.SUBMODEL_NOT_MODIFIED) {
+                log.info("ReportedMaterialItemStocks for {} and partner {} are up to date", material.getOwnMaterialNumber(), partner.getBpnl());
+                materialService.updateTimestamp(material.getOwnMaterialNumber());
+                return new RefreshResult("ReportedMaterialItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl() + " are up to date", errors);
+            }
             var samm = objectMapper.treeToValue(data, ItemStockSamm.class);
             var stocks = sammMapper.itemStockSammToReportedMaterialItemStock(samm, partner);
             for (var stock : stocks) {
@@ -224,6 +232,7 @@ public class ItemStockRequestApiService {
             }
             log.info("Updated ReportedMaterialItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl());
 
+            edcAdapterService.confirmSubmodelProcessed(AssetType.ITEM_STOCK_SUBMODEL, mpr, DirectionEnum.OUTBOUND);
             materialService.updateTimestamp(material.getOwnMaterialNumber());
             return new RefreshResult("Updated ReportedMaterialItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl(), errors);
         } catch (Exception e) {
@@ -242,6 +251,11 @@ public class ItemStockRequestApiService {
                 mpr = mprService.find(material, partner);
             }
             var data = edcAdapterService.doSubmodelRequest(AssetType.ITEM_STOCK_SUBMODEL ,mpr, DirectionEnum.INBOUND, 1);
+            if (data == EdcAdapterService.SUBMODEL_NOT_MODIFIED) {
+                log.info("ReportedProductItemStocks for {} and partner {} are up to date", material.getOwnMaterialNumber(), partner.getBpnl());
+                materialService.updateTimestamp(material.getOwnMaterialNumber());
+                return new RefreshResult("ReportedProductItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl() + " are up to date", errors);
+            }
             var samm = objectMapper.treeToValue(data, ItemStockSamm.class);
             var stocks = sammMapper.itemStockSammToReportedProductItemStock(samm, partner);
             for (var stock : stocks) {
@@ -273,6 +287,7 @@ public class ItemStockRequestApiService {
             }
             log.info("Updated ReportedProductItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl());
 
+            edcAdapterService.confirmSubmodelProcessed(AssetType.ITEM_STOCK_SUBMODEL, mpr, DirectionEnum.INBOUND);
             materialService.updateTimestamp(material.getOwnMaterialNumber());
             return new RefreshResult("Updated ReportedProductItemStocks for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl(), errors);
         } catch (Exception e) {
@@ -19,8 +19,14 @@
  */
 package org.eclipse.tractusx.puris.backend.stock.logic.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
 import lombok.extern.slf4j.Slf4j;
 
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -28,18 +34,36 @@ import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartn
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.eclipse.tractusx.puris.backend.stock.domain.repository.ItemStockRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 @Slf4j
 public abstract class ItemStockService<T extends ItemStock> {
 
+    /**
+     * Stable sort order for keyset pagination. The uuid makes the order unique.
+     */
+    private static final Sort KEYSET_SORT = Sort.by("lastUpdatedOnDateTime", "uuid");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
+
     protected final PartnerService partnerService;
 
     protected final MaterialPartnerRelationService mprService;
@@ -63,14 +87,14 @@ public abstract class ItemStockService<T extends ItemStock> {
         if (!validator.apply(itemStock)) {
             return null;
         }
-        return repository.save(itemStock);
+        return publishUpsert(repository.save(itemStock));
     }
 
     public final T update(T itemStock) {
         if (itemStock.getUuid() == null || repository.findById(itemStock.getUuid()).isEmpty()) {
             return null;
         }
-        return repository.save(itemStock);
+        return publishUpsert(repository.save(itemStock));
     }
 
     public final T findById(UUID uuid) {
@@ -78,7 +102,57 @@ public abstract class ItemStockService<T extends ItemStock> {
     }
 
     public final void delete(UUID uuid) {
-        repository.deleteById(uuid);
+        repository.findById(uuid).ifPresent(entity -> {
+            repository.delete(entity);
+            publish(entity, ChangeOperationEnum.DELETE);
+        });
+    }
+
+    /**
+     * Applies a precomputed set of changes, e.g. the result of a file import. The stocks are neither
+     * validated nor checked for duplicates, this has to be done by the caller. All statements are sent
+     * in JDBC batches when the surrounding transaction is flushed.
+     *
+     * @param inserts stocks to create
+     * @param updates existing stocks carrying their uuid and the new values
+     * @param deletes existing stocks to remove
+     */
+    public final void applyChanges(List<T> inserts, List<T> updates, List<T> deletes) {
+        repository.deleteAll(deletes);
+        repository.saveAll(updates);
+        repository.saveAll(inserts);
+        deletes.forEach(entity -> publish(entity, ChangeOperationEnum.DELETE));
+        publishUpserts(updates);
+        publishUpserts(inserts);
+    }
+
+    /**
+     * Publishes the creation or update of the entity to the clients.
+     *
+     * @param entity the saved entity, may be null
+     * @return the given entity
+     */
+    protected final <E extends T> E publishUpsert(E entity) {
+        if (entity != null) {
+            publish(entity, ChangeOperationEnum.UPSERT);
+        }
+        return entity;
+    }
+
+    /**
+     * Publishes the creation or update of the entities to the clients.
+     *
+     * @param entities the saved entities
+     * @return the given entities
+     */
+    protected final <E extends T> List<E> publishUpserts(List<E> entities) {
+        entities.forEach(this::publishUpsert);
+        return entities;
+    }
+
+    private void publish(T entity, ChangeOperationEnum operation) {
+        changeEventBus.publish(entity.getMaterial() == null ? null : entity.getMaterial().getOwnMaterialNumber(),
+            entity, entity.getUuid(), entity.getPartner() == null ? null : entity.getPartner().getBpnl(), operation);
     }
 
     public final List<T> findAll() {
@@ -110,11 +184,58 @@ public abstract class ItemStockService<T extends ItemStock> {
     }
 
     public final List<T> findAllByMaterialAndPartner(String ownMaterialNumber, String partnerBpnl) {
-        Stream<T> stream = repository.findAll().stream();
+        return repository.getForPartnerBpnlAndOwnMatNbr(partnerBpnl, ownMaterialNumber);
+    }
+
+    /**
+     * Returns one page of stocks matching the filters, ordered by last update and uuid.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpnl              optional filter by partner bpnl
+     * @param position          keyset position after which the page starts
+     * @param limit             maximum number of stocks in the page
+     * @return the window of stocks
+     */
+    public final Window<T> findWindowByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        ScrollPosition position,
+        int limit) {
+        return repository.findBy(filterSpecification(ownMaterialNumber, bpnl),
+            query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position));
+    }
+
+    /**
+     * Passes all stocks matching the filters to the action, loading them chunk by chunk
+     * so that the memory footprint does not depend on the size of the result.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpnl              optional filter by partner bpnl
+     * @param action            action to be applied on each stock
+     */
+    public final void forEachByFilters(
+        Optional<String> ownMaterialNumber,
+        Optional<String> bpnl,
+        Consumer<T> action) {
+        WindowIterator.of(position -> {
+                // entities of the previous chunk have already been consumed. Inside a caller's
+                // transaction the context may hold pending changes and must be left alone.
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    entityManager.clear();
+                }
+                return findWindowByFilters(ownMaterialNumber, bpnl, position, KeysetCursor.STREAM_CHUNK_SIZE);
+            })
+            .startingAt(ScrollPosition.keyset())
+            .forEachRemaining(action);
+    }
 
-        stream = stream.filter(stock -> stock.getMaterial().getOwnMaterialNumber().equals(ownMaterialNumber));
-        stream = stream.filter(stock -> stock.getPartner().getBpnl().equals(partnerBpnl));
-        return stream.toList();
+    private Specification<T> filterSpecification(Optional<String> ownMaterialNumber, Optional<String> bpnl) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            ownMaterialNumber.ifPresent(number -> predicates.add(builder.equal(root.get("material").get("ownMaterialNumber"), number)));
+            bpnl.ifPresent(partnerBpnl -> predicates.add(builder.equal(root.get("partner").get("bpnl"), partnerBpnl)));
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
     }
 
     public final double getSumOfQuantities(List<T> stocks) {
@@ -126,12 +247,8 @@ public abstract class ItemStockService<T extends ItemStock> {
     }
 
     public final double getInitialStockQuantity(String material, Optional<String> partnerBpnl, Optional<String> siteBpns) {
-        List<T> stocks = repository.findAll().stream()
-                .filter(stock -> 
-                    stock.getMaterial().getOwnMaterialNumber().equals(material) &&
-                    (partnerBpnl.isEmpty() || stock.getPartner().getBpnl().equals(partnerBpnl.get())) &&
-                    (siteBpns.isEmpty() || stock.getLocationBpns().equals(siteBpns.get()))
-                )
+        List<T> stocks = repository.findAll(filterSpecification(Optional.of(material), partnerBpnl)).stream()
+                .filter(stock -> siteBpns.isEmpty() || stock.getLocationBpns().equals(siteBpns.get()))
                 .toList();
         double initialStockQuantity = getSumOfQuantities(stocks);
 
@@ -235,16 +352,11 @@ public abstract class ItemStockService<T extends ItemStock> {
     protected List<String> validateLocation(ItemStock itemStock, Partner partner) {
         List<String> errors = new ArrayList<>();
         try {
-            var stockSite = partner.getSites().stream()
-                    .filter(site -> site.getBpns().equals(itemStock.getLocationBpns()))
-                    .findFirst().orElse(null);
-            if (stockSite == null) {
+            var locations = partnerService.getLocationIndex(partner);
+            if (!locations.containsSite(itemStock.getLocationBpns())) {
                 errors.add("Site not found.");
             }
-            var stockAddress = stockSite != null ? stockSite.getAddresses().stream()
-                    .filter(addr -> addr.getBpna().equals(itemStock.getLocationBpna()))
-                    .findFirst().orElse(null) : null;
-            if (stockAddress == null) {
+            if (!locations.siteContainsAddress(itemStock.getLocationBpns(), itemStock.getLocationBpna())) {
                 errors.add("Address not found for partner and site.");
             }
         } catch (Exception e) {
@@ -26,6 +26,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.common.util.PatternStore;
 import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
 import org.eclipse.tractusx.puris.backend.supply.logic.dto.daysofsupplysamm.DaysOfSupply;
@@ -48,6 +49,9 @@ public class DaysOfSupplyRequestApiController {
     @Autowired
     private DaysOfSupplyRequestApiService daysOfSupplyRequestApiService;
 
+    @Autowired
+    private SubmodelResponseCache responseCache;
+
     private final Pattern bpnlPattern = PatternStore.BPNL_PATTERN;
 
     private final Pattern urnPattern = PatternStore.URN_OR_UUID_PATTERN;
@@ -61,6 +65,7 @@ public class DaysOfSupplyRequestApiController {
     @Operation(summary = "This endpoint receives the DaysOfSupply Submodel 2.0.0 requests")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "304", description = "Not Modified, the submodel matches the ETag given in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad Request"),
             @ApiResponse(responseCode = "500", description = "Internal Server Error"),
             @ApiResponse(responseCode = "501", description = "Unsupported representation")
@@ -83,6 +88,6 @@ public class DaysOfSupplyRequestApiController {
         if (samm == null) {
             return ResponseEntity.status(500).build();
         }
-        return ResponseEntity.ok(samm);
+        return ResponseEntity.ok().eTag(responseCache.getETag(samm)).body(samm);
     }
 }
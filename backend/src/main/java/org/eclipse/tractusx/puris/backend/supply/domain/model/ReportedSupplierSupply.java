@@ -21,11 +21,17 @@
 package org.eclipse.tractusx.puris.backend.supply.domain.model;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_reported_supplier_supply_natural_key",
+    columnNames = {"partner_uuid", "material_ownMaterialNumber", "stockLocationBPNS", "stockLocationBPNA", "date"}
+))
 @SuperBuilder
 @NoArgsConstructor
 @ToString(callSuper = true)
@@ -24,8 +24,9 @@ import java.util.List;
 import java.util.UUID;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.ReportedSupplierSupply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface ReportedSupplierSupplyRepository extends JpaRepository<ReportedSupplierSupply, UUID> {
+public interface ReportedSupplierSupplyRepository extends JpaRepository<ReportedSupplierSupply, UUID>, JpaSpecificationExecutor<ReportedSupplierSupply> {
         List<ReportedSupplierSupply> findByMaterial_OwnMaterialNumberAndPartner_Bpnl(String ownMaterialNumber, String bpnl);
 }
 
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
@@ -65,6 +66,8 @@ public class DaysOfSupplyRequestApiService {
     private ObjectMapper objectMapper;
     @Autowired
     private ModelMapper modelMapper;
+    @Autowired
+    private SubmodelResponseCache responseCache;
 
     public DaysOfSupply handleDaysOfSupplySubmodelRequest(String bpnl, String materialNumberCx, DirectionEnum direction) {
         Partner partner = partnerService.findByBpnl(bpnl);
@@ -84,6 +87,12 @@ public class DaysOfSupplyRequestApiService {
         }
         Material material = mpr.getMaterial();
 
+        // days of supply depend on the current date, outdated responses expire with the cache's time to live
+        var key = new SubmodelResponseCache.Key(AssetType.DAYS_OF_SUPPLY, bpnl, materialNumberCx, direction, null);
+        return responseCache.get(key, material.getOwnMaterialNumber(), () -> calculateDaysOfSupply(partner, material, direction));
+    }
+
+    private DaysOfSupply calculateDaysOfSupply(Partner partner, Material material, DirectionEnum direction) {
         var sites = partnerService.getOwnPartnerEntity().getSites();
         if (direction == DirectionEnum.OUTBOUND) {
             List<List<OwnSupplierSupply>> suppliesBySite = new ArrayList<>();
@@ -121,6 +130,10 @@ public class DaysOfSupplyRequestApiService {
                 mpr = mprService.find(material, partner);
             }
             var data = edcAdapterService.doSubmodelRequest(AssetType.DAYS_OF_SUPPLY, mpr, direction, 1);
+            if (data == EdcAdapterService.SUBMODEL_NOT_MODIFIED) {
+                log.info("ReportedSupplies for {} and partner {} are up to date", material.getOwnMaterialNumber(), partner.getBpnl());
+                return new RefreshResult("ReportedSupplies for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl() + " are up to date", errors);
+            }
             var samm = objectMapper.treeToValue(data, DaysOfSupply.class);
             if (direction == DirectionEnum.INBOUND) {
                 var reportedCustomerSupplies = sammMapper.sammToReportedCustomerSupply(samm, partner);
@@ -177,6 +190,9 @@ public class DaysOfSupplyRequestApiService {
                     supplierSupplyService.createReportedSupply(modelMapper.map(newSupply, ReportedSupplierSupply.class));
                 }
             }
+            if (errors.isEmpty()) {
+                edcAdapterService.confirmSubmodelProcessed(AssetType.DAYS_OF_SUPPLY, mpr, direction);
+            }
             log.info("Updated ReportedSupply for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl());
             return new RefreshResult("Updated ReportedSupply for " + material.getOwnMaterialNumber() + " and partner " + partner.getBpnl(), errors);
         } catch (Exception e) {
@@ -27,19 +27,44 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
-import javax.management.openmbean.KeyAlreadyExistsException;
-
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
+import org.eclipse.tractusx.puris.backend.common.util.UniqueConstraints;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.stock.domain.model.ItemStock;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ItemStockService;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.Supply;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+
+public abstract class SupplyService<T extends Supply, TReported extends Supply, TRepository extends JpaRepository<TReported, UUID> & JpaSpecificationExecutor<TReported>, TStock extends ItemStock, TStockService extends ItemStockService<TStock>> {
+    /**
+     * Stable sort order for keyset pagination. The uuid makes the order unique.
+     */
+    private static final Sort KEYSET_SORT = Sort.by("date", "uuid");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChangeEventBus changeEventBus;
 
-public abstract class SupplyService<T extends Supply, TReported extends Supply, TRepository extends JpaRepository<TReported, UUID>, TStock extends ItemStock, TStockService extends ItemStockService<TStock>> {
     private TStockService stockService;
     private MaterialService materialService;
     protected PartnerService partnerService;
@@ -64,14 +89,48 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
         if (!validator.apply(supply)) {
             throw new IllegalArgumentException("Invalid days of supply");
         }
-        if (repository.findAll().stream().anyMatch(d -> d.equals(supply))) {
-            throw new KeyAlreadyExistsException("Supply already exists");
-        }
-        return repository.save(supply);
+        // one supply per partner, material, location and date is enforced by the database
+        TReported saved = UniqueConstraints.insert(() -> repository.saveAndFlush(supply), "Supply already exists");
+        publish(saved, ChangeOperationEnum.UPSERT);
+        return saved;
     }
 
     public final void deleteReportedSupply(TReported entity) {
         repository.delete(entity);
+        publish(entity, ChangeOperationEnum.DELETE);
+    }
+
+    private void publish(TReported entity, ChangeOperationEnum operation) {
+        changeEventBus.publish(entity.getMaterial() == null ? null : entity.getMaterial().getOwnMaterialNumber(),
+            entity, entity.getUuid(), entity.getPartner() == null ? null : entity.getPartner().getBpnl(), operation);
+    }
+
+    /**
+     * Passes all reported days of supply matching the filters to the action, loading them chunk by chunk
+     * so that the memory footprint does not depend on the size of the result.
+     *
+     * @param ownMaterialNumber optional filter by own material number
+     * @param bpnl              optional filter by partner bpnl
+     * @param action            action to be applied on each reported days of supply
+     */
+    public final void forEachReportedByFilters(Optional<String> ownMaterialNumber, Optional<String> bpnl, Consumer<TReported> action) {
+        Specification<TReported> specification = (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            ownMaterialNumber.ifPresent(number -> predicates.add(builder.equal(root.get("material").get("ownMaterialNumber"), number)));
+            bpnl.ifPresent(partnerBpnl -> predicates.add(builder.equal(root.get("partner").get("bpnl"), partnerBpnl)));
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+        WindowIterator.of(position -> {
+                // entities of the previous chunk have already been consumed. Inside a caller's
+                // transaction the context may hold pending changes and must be left alone.
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    entityManager.clear();
+                }
+                return repository.findBy(specification,
+                    query -> query.sortBy(KEYSET_SORT).limit(KeysetCursor.STREAM_CHUNK_SIZE).scroll(position));
+            })
+            .startingAt(ScrollPosition.keyset())
+            .forEachRemaining(action);
     }
 
     /**
@@ -198,10 +257,8 @@ public abstract class SupplyService<T extends Supply, TReported extends Supply,
         if (supply.getPartner().equals(ownPartnerEntity)) {
             errors.add(String.format("Partner cannot be the same as own partner entity '%s'.", supply.getPartner().getBpnl()));
         }
-        if (supply.getPartner().getSites().stream().noneMatch(site ->
-                site.getBpns().equals(supply.getStockLocationBPNS()) ||
-                site.getAddresses().stream().noneMatch(address -> address.getBpna().equals(supply.getStockLocationBPNA()))
-            )) {
+        if (!partnerService.getLocationIndex(supply.getPartner())
+            .siteContainsAddress(supply.getStockLocationBPNS(), supply.getStockLocationBPNA())) {
             errors.add(String.format("Stock location '%s' and or stock address '%s' don't belong to each other or partner '%s'.", supply.getStockLocationBPNS(), supply.getStockLocationBPNA(), supply.getPartner().getBpnl()));
         }
         return errors;
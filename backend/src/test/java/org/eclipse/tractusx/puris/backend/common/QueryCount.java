@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common;
+
+import org.eclipse.tractusx.puris.backend.common.util.QueryCountInspector;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test helper to assert the number of SQL statements of a use case. Requires the
+ * {@link JpaConfig} to be part of the test context, e.g. via {@code @Import(JpaConfig.class)}
+ * in a {@code @DataJpaTest}.
+ */
+public final class QueryCount {
+
+    private QueryCount() {
+    }
+
+    /**
+     * @param action the use case
+     * @return the number of statements executed by the given action on the current thread
+     */
+    public static long of(Runnable action) {
+        QueryCountInspector.reset();
+        action.run();
+        return QueryCountInspector.count();
+    }
+
+    /**
+     * Fails if the given action executes more than the given number of statements.
+     *
+     * @param maxQueries the upper bound
+     * @param action     the use case
+     */
+    public static void assertAtMost(long maxQueries, Runnable action) {
+        long queries = of(action);
+        assertTrue(queries <= maxQueries,
+            "Expected at most " + maxQueries + " queries, but " + queries + " were executed");
+    }
+}
@@ -28,6 +28,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 
 import org.eclipse.tractusx.puris.backend.common.edc.domain.model.DspProtocolVersionEnum;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService.DspaceVersionParams;
@@ -48,6 +50,7 @@ import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -436,6 +439,28 @@ public class EdcAdapterServiceTest {
         verify(edcAdapterService, times(1)).sendPostRequest(any(), any());
     }
 
+    @Test
+    public void eTagGiven_getProxyPullRequest_sendsConditionalRequest() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(304));
+            server.enqueue(new MockResponse().setBody("{}").setHeader("ETag", "\"v2\""));
+            server.start();
+            String url = server.url("/api/public").toString();
+
+            try (Response response = edcAdapterService.getProxyPullRequest(url, "Authorization", "token", new String[]{"$value"}, "\"v1\"")) {
+                assertEquals(304, response.code());
+            }
+            var conditionalRequest = server.takeRequest();
+            assertEquals("/api/public/$value", conditionalRequest.getPath());
+            assertEquals("\"v1\"", conditionalRequest.getHeader("If-None-Match"));
+
+            try (Response response = edcAdapterService.getProxyPullRequest(url, "Authorization", "token", new String[]{"$value"})) {
+                assertEquals("\"v2\"", response.header("ETag"));
+            }
+            assertNull(server.takeRequest().getHeader("If-None-Match"));
+        }
+    }
+
     private final static String unexpectedProhibition = "{\n" +
         "    \"@id\" : \"PartTypeInformationSubmodelApi@BPNL00000007RXRX\",\n" +
         "    \"@type\" : \"dcat:Dataset\",\n" +
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeEventDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeSetDto;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeEventBusTest {
+
+    private static final String TOPIC = "/topic/material/MNR-7307-AU340474.001/changes";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private ChangeEventBus changeEventBus;
+
+    @Test
+    void flush_MergesChangesOfSameEntity() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        changeEventBus.publish("MNR-7307-AU340474.001", new Material(), first, "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+        changeEventBus.publish("MNR-7307-AU340474.001", new Material(), second, "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+        changeEventBus.publish("MNR-7307-AU340474.001", new Material(), first, "BPNL1234567890ZZ", ChangeOperationEnum.DELETE);
+
+        changeEventBus.flush();
+
+        ArgumentCaptor<ChangeSetDto> captor = ArgumentCaptor.forClass(ChangeSetDto.class);
+        verify(messagingTemplate).convertAndSend(eq(TOPIC), captor.capture());
+        ChangeSetDto changeSet = captor.getValue();
+        assertFalse(changeSet.isReload());
+        assertEquals("MNR-7307-AU340474.001", changeSet.getOwnMaterialNumber());
+        List<ChangeEventDto> changes = changeSet.getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(second, changes.get(0).getUuid());
+        assertEquals(first, changes.get(1).getUuid());
+        assertEquals(ChangeOperationEnum.DELETE, changes.get(1).getOperation());
+        assertEquals("Material", changes.get(1).getType());
+
+        assertEquals(1, changeSet.getSequence());
+
+        // nothing is sent if nothing changed
+        changeEventBus.flush();
+        verify(messagingTemplate).convertAndSend(any(String.class), any(Object.class));
+
+        changeEventBus.publish("MNR-7307-AU340474.001", new Material(), first, "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+        changeEventBus.flush();
+        verify(messagingTemplate, times(2)).convertAndSend(eq(TOPIC), captor.capture());
+        assertEquals(2, captor.getValue().getSequence());
+    }
+
+    @Test
+    void flush_RequestsReloadIfTooManyEntitiesChanged() {
+        ReflectionTestUtils.setField(changeEventBus, "maxBatch", 2);
+        for (int i = 0; i < 3; i++) {
+            changeEventBus.publish("MNR-7307-AU340474.001", new Material(), UUID.randomUUID(), "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+        }
+
+        changeEventBus.flush();
+
+        ArgumentCaptor<ChangeSetDto> captor = ArgumentCaptor.forClass(ChangeSetDto.class);
+        verify(messagingTemplate).convertAndSend(eq(TOPIC), captor.capture());
+        assertTrue(captor.getValue().isReload());
+        assertTrue(captor.getValue().getChanges().isEmpty());
+    }
+
+    @Test
+    void flush_UpsertCarriesConvertedEntity() {
+        UUID upserted = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        changeEventBus.addConverter(Material.class, material -> "dto of " + material.getOwnMaterialNumber());
+        Material material = new Material();
+        material.setOwnMaterialNumber("MNR-7307-AU340474.001");
+        changeEventBus.publish("MNR-7307-AU340474.001", material, upserted, "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+        changeEventBus.publish("MNR-7307-AU340474.001", material, deleted, "BPNL1234567890ZZ", ChangeOperationEnum.DELETE);
+
+        changeEventBus.flush();
+
+        ArgumentCaptor<ChangeSetDto> captor = ArgumentCaptor.forClass(ChangeSetDto.class);
+        verify(messagingTemplate).convertAndSend(eq(TOPIC), captor.capture());
+        List<ChangeEventDto> changes = captor.getValue().getChanges();
+        assertEquals("dto of MNR-7307-AU340474.001", changes.get(0).getData());
+        assertNull(changes.get(1).getData());
+    }
+
+    @Test
+    void publish_WithinTransaction_BuffersChangesInOneSynchronizationUntilCommit() {
+        List<String> changedMaterials = new ArrayList<>();
+        changeEventBus.addListener((partnerBpnl, ownMaterialNumber) -> changedMaterials.add(ownMaterialNumber));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (int i = 0; i < 3; i++) {
+                changeEventBus.publish("MNR-7307-AU340474.001", new Material(), UUID.randomUUID(), "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+            }
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+
+            changeEventBus.flush();
+            verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+            assertTrue(changedMaterials.isEmpty());
+
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(TransactionSynchronizationManager.getResource(changeEventBus));
+        assertEquals(List.of("MNR-7307-AU340474.001"), changedMaterials);
+
+        changeEventBus.flush();
+
+        ArgumentCaptor<ChangeSetDto> captor = ArgumentCaptor.forClass(ChangeSetDto.class);
+        verify(messagingTemplate).convertAndSend(eq(TOPIC), captor.capture());
+        assertEquals(3, captor.getValue().getChanges().size());
+    }
+
+    @Test
+    void publish_DoesNothingIfDisabled() {
+        ReflectionTestUtils.setField(changeEventBus, "enabled", false);
+        changeEventBus.publish("MNR-7307-AU340474.001", new Material(), UUID.randomUUID(), "BPNL1234567890ZZ", ChangeOperationEnum.UPSERT);
+
+        changeEventBus.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+}
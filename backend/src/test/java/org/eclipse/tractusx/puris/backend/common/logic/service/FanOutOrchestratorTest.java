@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutEntryDto;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.FanOutStatusEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FanOutOrchestratorTest {
+
+    private FanOutOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        orchestrator = new FanOutOrchestrator();
+        orchestrator.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orchestrator.shutdown();
+    }
+
+    @Test
+    void start_DeliversPendingEntriesAndReportsEachPartner() throws Exception {
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicInteger sent = new AtomicInteger();
+        List<FanOutOrchestrator.Delivery> deliveries = List.of(
+            new FanOutOrchestrator.Delivery(entry("BPNL1111111111LE", FanOutStatusEnum.PENDING), () -> {
+                sent.incrementAndGet();
+                done.countDown();
+                return true;
+            }),
+            new FanOutOrchestrator.Delivery(entry("BPNL2222222222LE", FanOutStatusEnum.PENDING), () -> {
+                sent.incrementAndGet();
+                done.countDown();
+                return false;
+            }),
+            new FanOutOrchestrator.Delivery(entry("BPNL3333333333LE", FanOutStatusEnum.REJECTED), () -> {
+                sent.incrementAndGet();
+                return true;
+            })
+        );
+
+        FanOutDto started = orchestrator.start(deliveries);
+        assertEquals(3, started.getEntries().size());
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        FanOutDto fanOut = awaitCompletion(started.getUuid());
+        assertEquals(2, sent.get());
+        assertEquals(FanOutStatusEnum.DELIVERED, fanOut.getEntries().get(0).getStatus());
+        assertEquals(FanOutStatusEnum.FAILED, fanOut.getEntries().get(1).getStatus());
+        assertEquals(FanOutStatusEnum.REJECTED, fanOut.getEntries().get(2).getStatus());
+    }
+
+    @Test
+    void find_UnknownFanOut_ReturnsNull() {
+        assertNull(orchestrator.find(UUID.randomUUID()));
+    }
+
+    private FanOutDto awaitCompletion(UUID uuid) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            FanOutDto fanOut = orchestrator.find(uuid);
+            if (fanOut.getEntries().stream().noneMatch(entry -> entry.getStatus() == FanOutStatusEnum.PENDING)) {
+                return fanOut;
+            }
+            Thread.sleep(100);
+        }
+        return orchestrator.find(uuid);
+    }
+
+    private static FanOutEntryDto entry(String bpnl, FanOutStatusEnum status) {
+        return FanOutEntryDto.builder().partnerBpnl(bpnl).uuid(UUID.randomUUID()).status(status).build();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.logic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SubmodelResponseCacheTest {
+
+    private static final String BPNL_CUSTOMER = "BPNL4444444444XX";
+
+    private static final String BPNL_OTHER_CUSTOMER = "BPNL5555555555XX";
+
+    private static final String OWN_MATERIAL_NUMBER = "MNR-7307-AU340474.001";
+
+    private static final String MATERIAL_NUMBER_CX = UUID.randomUUID().toString();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MasterDataCache masterDataCache = new MasterDataCache(new SimpleMeterRegistry(), true, 600, 10000);
+
+    private final ChangeEventBus changeEventBus = new ChangeEventBus();
+
+    private final SubmodelResponseCache cache = new SubmodelResponseCache();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeEventBus, "enabled", false);
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(cache, "masterDataCache", masterDataCache);
+        ReflectionTestUtils.setField(cache, "changeEventBus", changeEventBus);
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+    }
+
+    @Test
+    void get_ReturnsCachedResponseUntilDataOfPartnerAndMaterialChanges() {
+        var key = key(BPNL_CUSTOMER, null);
+
+        assertEquals("1", get(key));
+        assertEquals("1", get(key));
+
+        // changes of other partners do not affect the response
+        changeEventBus.publish(OWN_MATERIAL_NUMBER, new Material(), UUID.randomUUID(), BPNL_OTHER_CUSTOMER, ChangeOperationEnum.UPSERT);
+        assertEquals("1", get(key));
+
+        changeEventBus.publish(OWN_MATERIAL_NUMBER, new Material(), UUID.randomUUID(), BPNL_CUSTOMER, ChangeOperationEnum.DELETE);
+        assertEquals("2", get(key));
+
+        masterDataCache.invalidate(MasterDataCache.Region.MPR_BY_KEY);
+        assertEquals("3", get(key));
+        assertEquals("3", get(key));
+
+        assertEquals(3.0, meterRegistry.get("puris.submodel.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(3.0, meterRegistry.get("puris.submodel.cache.requests").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_DoesNotCacheResponseCreatedDuringInvalidation() {
+        var key = key(BPNL_CUSTOMER, null);
+
+        cache.get(key, OWN_MATERIAL_NUMBER, () -> {
+            cache.invalidate(null, OWN_MATERIAL_NUMBER);
+            return "outdated";
+        });
+
+        assertEquals("1", get(key));
+        assertEquals("1", get(key));
+    }
+
+    @Test
+    void get_EvictsLeastRecentlyUsedResponse() {
+        var first = key(BPNL_CUSTOMER, null);
+        var second = key(BPNL_CUSTOMER, "contract-1");
+        var third = key(BPNL_OTHER_CUSTOMER, null);
+
+        assertEquals("1", get(first));
+        assertEquals("2", get(second));
+        assertEquals("1", get(first));
+        assertEquals("3", get(third));
+
+        // second was the least recently used one
+        assertEquals("1", get(first));
+        assertEquals("4", get(second));
+        assertEquals(2.0, meterRegistry.get("puris.submodel.cache.size").gauge().value());
+    }
+
+    @Test
+    void getETag_IsStrongAndDependsOnContent() {
+        var key = key(BPNL_CUSTOMER, null);
+        String response = get(key);
+
+        String eTag = cache.getETag(response);
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+        // uncached responses with the same content have the same ETag
+        assertEquals(eTag, cache.getETag(new String(response)));
+        assertNotEquals(eTag, cache.getETag("other"));
+    }
+
+    @Test
+    void getETag_IgnoresOrderOfSetsAndMaps() {
+        Set<String> ascending = new LinkedHashSet<>(List.of("a", "b", "c"));
+        Set<String> descending = new LinkedHashSet<>(List.of("c", "b", "a"));
+        Map<String, Set<String>> first = new LinkedHashMap<>();
+        first.put("x", ascending);
+        first.put("y", descending);
+        Map<String, Set<String>> second = new LinkedHashMap<>();
+        second.put("y", ascending);
+        second.put("x", descending);
+
+        assertEquals(cache.getETag(first), cache.getETag(second));
+        assertNotEquals(cache.getETag(List.of("a", "b")), cache.getETag(List.of("b", "a")));
+    }
+
+    private SubmodelResponseCache.Key key(String partnerBpnl, String contractAgreementId) {
+        return new SubmodelResponseCache.Key(AssetType.ITEM_STOCK_SUBMODEL, partnerBpnl, MATERIAL_NUMBER_CX,
+            DirectionEnum.OUTBOUND, contractAgreementId);
+    }
+
+    private String get(SubmodelResponseCache.Key key) {
+        return cache.get(key, OWN_MATERIAL_NUMBER, () -> String.valueOf(loads.incrementAndGet()));
+    }
+}
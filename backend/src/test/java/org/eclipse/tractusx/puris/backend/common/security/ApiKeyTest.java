@@ -20,6 +20,7 @@
 package org.eclipse.tractusx.puris.backend.common.security;
 
 import org.eclipse.tractusx.puris.backend.common.TestConfig;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.security.annotation.WithMockApiKey;
 import org.eclipse.tractusx.puris.backend.common.security.logic.ApiKeyAuthenticationProvider;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
@@ -87,6 +88,9 @@ public class ApiKeyTest {
     @MockitoBean
     private ModelMapper modelMapper;
 
+    @MockitoBean
+    private ChangeEventBus changeEventBus;
+
     @Test
     void StockViewController_MaterialsRequestWithoutAuthHeader_ShouldReturn403() throws Exception {
         this.mockMvc.perform(
@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.puris.backend.common.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.Interceptor;
 import okhttp3.Protocol;
 import okhttp3.Request;
@@ -38,7 +39,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +65,8 @@ public class OAuth2ClientInterceptorTest {
      **/
     private final String SERVICE_URL_PATH = "/actual/service";
 
+    private OAuth2ClientTokenManager tokenManager;
+
     private OAuth2ClientInterceptor oAuth2ClientInterceptor;
 
     /**
@@ -93,18 +96,22 @@ public class OAuth2ClientInterceptorTest {
 
         ObjectMapper objectMapper = new ObjectMapper();
 
-        oAuth2ClientInterceptor = new OAuth2ClientInterceptor(objectMapper,
+        tokenManager = new OAuth2ClientTokenManager(objectMapper,
             tokenServer.url(TOKEN_URL_PATH).toString(),
             VALUE_CLIENT_ID,
             VALUE_CLIENT_SECRET,
-            VALUE_GRANT_TYPE
+            VALUE_GRANT_TYPE,
+            Duration.ofSeconds(30),
+            new SimpleMeterRegistry()
         );
+        oAuth2ClientInterceptor = new OAuth2ClientInterceptor(tokenManager);
     }
 
     @AfterEach
     public void teardown() throws IOException {
         tokenServer.shutdown();
         actualRequestServer.shutdown();
+        tokenManager.shutdown();
         oAuth2ClientInterceptor = null;
     }
 
@@ -170,9 +177,9 @@ public class OAuth2ClientInterceptorTest {
 
         // assert tokenRequest Values
         assertEquals(TOKEN_URL_PATH, recordedRequest.getPath());
-        assertEquals(VALUE_CLIENT_ID, formFieldMap.get(OAuth2ClientInterceptor.KEY_CLIENT_ID));
-        assertEquals(VALUE_CLIENT_SECRET, formFieldMap.get(OAuth2ClientInterceptor.KEY_CLIENT_SECRET));
-        assertEquals(VALUE_GRANT_TYPE, formFieldMap.get(OAuth2ClientInterceptor.KEY_GRANT_TYPE));
+        assertEquals(VALUE_CLIENT_ID, formFieldMap.get(OAuth2ClientTokenManager.KEY_CLIENT_ID));
+        assertEquals(VALUE_CLIENT_SECRET, formFieldMap.get(OAuth2ClientTokenManager.KEY_CLIENT_SECRET));
+        assertEquals(VALUE_GRANT_TYPE, formFieldMap.get(OAuth2ClientTokenManager.KEY_GRANT_TYPE));
 
         // Verify the intercepted request has the bearer token
         Request interceptedRequest = requestCaptor.getValue();
@@ -181,14 +188,17 @@ public class OAuth2ClientInterceptorTest {
     }
 
     /**
-     * assumes that an invalid token has been set and needs to be renewed
+     * assumes that the first token is rejected although not expired and needs to be renewed
      */
     @Test
     public void testInterceptor_refreshTokenSuccessfully() throws Exception {
 
         // GIVEN
-        // outdated Token already set
-        setJwtToken(VALUE_INVALID_MOCK_BEARER_TOKEN);
+        // first token is rejected by the service
+        tokenServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"access_token\": \"" + VALUE_INVALID_MOCK_BEARER_TOKEN + "\", \"expires_in\": 300}")
+            .addHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE));
 
         MockResponse tokenResponse = new MockResponse()
             .setResponseCode(200)
@@ -239,7 +249,8 @@ public class OAuth2ClientInterceptorTest {
         Request interceptedRequestWithValidToken = interceptedRequests.get(1);
         assertEquals("Bearer " + VALUE_VALID_MOCK_BEARER_TOKEN,
             interceptedRequestWithValidToken.header("Authorization"));
-        assertEquals(VALUE_VALID_MOCK_BEARER_TOKEN, getJwtToken());
+        assertEquals(VALUE_VALID_MOCK_BEARER_TOKEN, tokenManager.getToken());
+        assertEquals(2, tokenServer.getRequestCount());
     }
 
     /**
@@ -280,27 +291,4 @@ public class OAuth2ClientInterceptorTest {
         verify(chain, times(0)).proceed(any(Request.class));
         assertEquals(403, response.code());
     }
-
-    /**
-     * helper to get private field value of {@code oAuth2ClientInterceptor.jwtToken}
-     *
-     * @return value of the jwtToken field
-     * @throws Exception if field can not be accessed (illegal, not existing)
-     */
-    private String getJwtToken() throws Exception {
-        Field jwtTokenField = oAuth2ClientInterceptor.getClass().getDeclaredField("jwtAccessToken");
-        jwtTokenField.setAccessible(true);
-        return (String) jwtTokenField.get(oAuth2ClientInterceptor);
-    }
-
-    /**
-     * helper to set private field value of {@code oAuth2ClientInterceptor.jwtToken}
-     *
-     * @throws Exception if field can not be accessed (illegal, not existing)
-     */
-    private void setJwtToken(String jwtToken) throws Exception {
-        Field jwtTokenField = oAuth2ClientInterceptor.getClass().getDeclaredField("jwtAccessToken");
-        jwtTokenField.setAccessible(true);
-        jwtTokenField.set(oAuth2ClientInterceptor, jwtToken);
-    }
 }
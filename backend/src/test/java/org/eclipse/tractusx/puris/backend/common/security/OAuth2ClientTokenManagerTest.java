@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class OAuth2ClientTokenManagerTest {
+
+    private MockWebServer tokenServer;
+
+    private MutableClock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OAuth2ClientTokenManager tokenManager;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        tokenServer = new MockWebServer();
+        tokenServer.start();
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        tokenManager = new OAuth2ClientTokenManager(new ObjectMapper(), tokenServer.url("/token").toString(),
+            "clientId", "clientSecret", "client_credentials", Duration.ofSeconds(30), meterRegistry, clock);
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        tokenManager.shutdown();
+        tokenServer.shutdown();
+    }
+
+    @Test
+    public void getToken_ReusesTokenUntilItExpires() {
+        tokenServer.enqueue(tokenResponse("first", 300));
+        tokenServer.enqueue(tokenResponse("second", 300));
+
+        assertEquals("first", tokenManager.getToken());
+        clock.advance(Duration.ofSeconds(200));
+        assertEquals("first", tokenManager.getToken());
+        assertEquals(1, tokenServer.getRequestCount());
+
+        // expired, the caller has to wait for the new token
+        clock.advance(Duration.ofSeconds(100));
+        assertEquals("second", tokenManager.getToken());
+        assertEquals(2, tokenServer.getRequestCount());
+        assertEquals(2, meterRegistry.get("puris.oauth2.client.token.requests").tag("result", "success").timer().count());
+    }
+
+    @Test
+    public void getToken_RefreshesInBackgroundBeforeExpiry() throws Exception {
+        tokenServer.enqueue(tokenResponse("first", 300));
+        tokenServer.enqueue(tokenResponse("second", 300));
+        assertEquals("first", tokenManager.getToken());
+
+        // within the refresh ahead time the current token is returned while the new one is obtained
+        clock.advance(Duration.ofSeconds(280));
+        assertEquals("first", tokenManager.getToken());
+        assertNotNull(tokenServer.takeRequest(5, TimeUnit.SECONDS));
+        assertNotNull(tokenServer.takeRequest(5, TimeUnit.SECONDS));
+
+        String token = tokenManager.getToken();
+        for (int i = 0; i < 50 && !"second".equals(token); i++) {
+            Thread.sleep(20);
+            token = tokenManager.getToken();
+        }
+        assertEquals("second", token);
+        assertEquals(2, tokenServer.getRequestCount());
+    }
+
+    @Test
+    public void getToken_ConcurrentCallersShareOneTokenRequest() throws Exception {
+        tokenServer.enqueue(tokenResponse("first", 300).setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tokens.add(executor.submit(tokenManager::getToken));
+            }
+            for (Future<String> token : tokens) {
+                assertEquals("first", token.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, tokenServer.getRequestCount());
+    }
+
+    @Test
+    public void invalidate_ObtainsNewTokenOnlyOnce() {
+        tokenServer.enqueue(tokenResponse("first", 300));
+        tokenServer.enqueue(tokenResponse("second", 300));
+        assertEquals("first", tokenManager.getToken());
+
+        tokenManager.invalidate("first");
+        assertEquals("second", tokenManager.getToken());
+        // a caller still holding the rejected token does not discard the new one
+        tokenManager.invalidate("first");
+        assertEquals("second", tokenManager.getToken());
+        assertEquals(2, tokenServer.getRequestCount());
+    }
+
+    private static MockResponse tokenResponse(String token, long expiresIn) {
+        return new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"access_token\": \"" + token + "\", \"expires_in\": " + expiresIn + "}")
+            .addHeader("Content-Type", "application/json");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
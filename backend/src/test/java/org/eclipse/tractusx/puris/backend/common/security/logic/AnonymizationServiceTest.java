@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security.logic;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class AnonymizationServiceTest {
+
+    private static final String BPNS = "BPNS4444444444XX";
+
+    private final AnonymizationService anonymizationService = new AnonymizationService();
+
+    @Test
+    void anonymize_UsesHmacOfSalt() throws Exception {
+        assertEquals(hmac(BPNS, "agreement-1"), anonymizationService.anonymize(BPNS, "agreement-1"));
+        // the reused mac of the first salt must not be affected by the second salt
+        assertEquals(hmac(BPNS, "agreement-2"), anonymizationService.anonymize(BPNS, "agreement-2"));
+        assertEquals(hmac(BPNS, "agreement-1"), anonymizationService.anonymize(BPNS, "agreement-1"));
+        assertNotEquals(anonymizationService.anonymize(BPNS, "agreement-1"), anonymizationService.anonymize(BPNS, "agreement-2"));
+    }
+
+    @Test
+    void anonymizeAll_ReturnsValuesInGivenOrder() throws Exception {
+        List<String> anonymized = anonymizationService.anonymizeAll(List.of(BPNS, "BPNS1111111111SI", BPNS), "agreement-1");
+
+        assertEquals(List.of(hmac(BPNS, "agreement-1"), hmac("BPNS1111111111SI", "agreement-1"), hmac(BPNS, "agreement-1")), anonymized);
+        assertArrayEquals(anonymized.toArray(String[]::new),
+            anonymizationService.anonymizeAll(new String[]{BPNS, "BPNS1111111111SI", BPNS}, "agreement-1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void anonymizeAll_CachesHashesPerSaltAndValue() throws Exception {
+        ReflectionTestUtils.setField(anonymizationService, "maxEntries", 2);
+        Map<?, ? extends Map<?, ?>> hashes = (Map<?, ? extends Map<?, ?>>) ReflectionTestUtils.getField(anonymizationService, "hashes");
+
+        anonymizationService.anonymizeAll(List.of(BPNS, BPNS), "agreement-1");
+        assertEquals(1, hashes.get("agreement-1").size());
+        // the same value under another agreement is hashed with its own salt
+        assertEquals(hmac(BPNS, "agreement-2"), anonymizationService.anonymize(BPNS, "agreement-2"));
+        assertEquals(1, hashes.get("agreement-2").size());
+
+        // exceeding the bound drops the other agreement first
+        anonymizationService.anonymize("BPNS1111111111SI", "agreement-1");
+        assertEquals(Set.of("agreement-1"), hashes.keySet());
+        assertEquals(2, hashes.get("agreement-1").size());
+        assertEquals(hmac(BPNS, "agreement-1"), anonymizationService.anonymize(BPNS, "agreement-1"));
+
+        // a single agreement exceeding the bound is dropped as well
+        anonymizationService.anonymize("BPNS2222222222SI", "agreement-1");
+        assertEquals(0, hashes.size());
+        assertEquals(hmac("BPNS2222222222SI", "agreement-1"), anonymizationService.anonymize("BPNS2222222222SI", "agreement-1"));
+        assertEquals(1, hashes.get("agreement-1").size());
+    }
+
+    @Test
+    void anonymizeAll_IsThreadSafe() throws Exception {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add("BPNS" + i);
+        }
+        List<String> expected = anonymizationService.anonymizeAll(values, "agreement-1");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                String salt = i % 2 == 0 ? "agreement-1" : "agreement-2";
+                results.add(executor.submit(() -> anonymizationService.anonymizeAll(values, salt)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                List<String> result = results.get(i).get(10, TimeUnit.SECONDS);
+                if (i % 2 == 0) {
+                    assertEquals(expected, result);
+                } else {
+                    assertEquals(hmac("BPNS0", "agreement-2"), result.get(0));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String hmac(String value, String salt) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(salt.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
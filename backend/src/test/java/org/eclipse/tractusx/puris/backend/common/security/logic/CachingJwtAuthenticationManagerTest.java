@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.security.logic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingJwtAuthenticationManagerTest {
+
+    private static final String CLIENT_ID = "puris-customer";
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final JwtDecoder jwtDecoder = mock(JwtDecoder.class);
+
+    private final Clock clock = mock(Clock.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingJwtAuthenticationManager authenticationManager;
+
+    @BeforeEach
+    public void setup() {
+        when(clock.instant()).thenReturn(NOW);
+        authenticationManager = new CachingJwtAuthenticationManager(jwtDecoder,
+            new KeycloakJwtAuthenticationConverter(CLIENT_ID), 10, meterRegistry, clock);
+    }
+
+    @Test
+    public void authenticate_ValidatesTokenOnlyOnceUntilExpiry() {
+        when(jwtDecoder.decode("token")).thenReturn(jwt("token", NOW.plusSeconds(300)));
+
+        Authentication first = authenticationManager.authenticate(new BearerTokenAuthenticationToken("token"));
+        Authentication second = authenticationManager.authenticate(new BearerTokenAuthenticationToken("token"));
+
+        verify(jwtDecoder, times(1)).decode("token");
+        assertTrue(second.isAuthenticated());
+        assertEquals(first.getName(), second.getName());
+        assertEquals(List.of("ROLE_PURIS_USER"), second.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertEquals(1, meterRegistry.get("puris.security.jwt.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("puris.security.jwt.cache.requests").tag("result", "miss").counter().count());
+
+        // expired tokens are validated again, and then rejected by the decoder
+        when(clock.instant()).thenReturn(NOW.plusSeconds(300));
+        authenticationManager.authenticate(new BearerTokenAuthenticationToken("token"));
+        verify(jwtDecoder, times(2)).decode("token");
+    }
+
+    @Test
+    public void authenticate_DoesNotCacheInvalidTokens() {
+        when(jwtDecoder.decode("invalid")).thenThrow(new BadJwtException("invalid signature"));
+
+        assertThrows(InvalidBearerTokenException.class,
+            () -> authenticationManager.authenticate(new BearerTokenAuthenticationToken("invalid")));
+        assertThrows(InvalidBearerTokenException.class,
+            () -> authenticationManager.authenticate(new BearerTokenAuthenticationToken("invalid")));
+
+        verify(jwtDecoder, times(2)).decode("invalid");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user")
+            .issuedAt(NOW)
+            .expiresAt(expiresAt)
+            .claim("azp", CLIENT_ID)
+            .claim("resource_access", Map.of(CLIENT_ID, Map.of("roles", List.of("PURIS_USER"))))
+            .build();
+    }
+}
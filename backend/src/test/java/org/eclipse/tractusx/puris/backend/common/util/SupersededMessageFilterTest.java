@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class SupersededMessageFilterTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    private final SupersededMessageFilter filter = new SupersededMessageFilter(List.of("/topic/material/*"));
+
+    @Test
+    void beforeHandle_DropsQueuedMessageSupersededByNewerMessage() {
+        Message<?> first = filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001", "first"), channel);
+        Message<?> otherSession = filter.preSend(message("session-2", "/topic/material/MNR-7307-AU340474.001", "other"), channel);
+        Message<?> second = filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001", "second"), channel);
+
+        assertNull(filter.beforeHandle(first, channel, handler));
+        assertNotNull(filter.beforeHandle(otherSession, channel, handler));
+        Message<?> sent = filter.beforeHandle(second, channel, handler);
+        assertNotNull(sent);
+        assertEquals("second", sent.getPayload());
+        assertEquals(1, filter.getDropped());
+
+        // a message that is queued after the previous one has been sent is not dropped
+        Message<?> third = filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001", "third"), channel);
+        assertNotNull(filter.beforeHandle(third, channel, handler));
+    }
+
+    @Test
+    void beforeHandle_KeepsMessagesOfOtherDestinations() {
+        Message<?> first = filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001/changes", "first"), channel);
+        Message<?> second = filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001/changes", "second"), channel);
+
+        assertNotNull(filter.beforeHandle(first, channel, handler));
+        assertNotNull(filter.beforeHandle(second, channel, handler));
+        assertEquals(0, filter.getDropped());
+    }
+
+    @Test
+    void discard_ForgetsRejectedMessage() {
+        Message<?> rejected = filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001", "rejected"), channel);
+
+        filter.discard(rejected);
+
+        assertTrue(latest().isEmpty());
+    }
+
+    @Test
+    void onApplicationEvent_SessionDisconnected_ForgetsMessagesOfSession() {
+        filter.preSend(message("session-1", "/topic/material/MNR-7307-AU340474.001", "first"), channel);
+        Message<?> otherSession = filter.preSend(message("session-2", "/topic/material/MNR-7307-AU340474.001", "other"), channel);
+
+        SimpMessageHeaderAccessor disconnect = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        disconnect.setSessionId("session-1");
+        filter.onApplicationEvent(new SessionDisconnectEvent(this,
+            MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), "session-1", CloseStatus.NORMAL));
+
+        assertEquals(1, latest().size());
+        assertNotNull(filter.beforeHandle(otherSession, channel, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<?, Long> latest() {
+        return (Map<?, Long>) ReflectionTestUtils.getField(filter, "latest");
+    }
+
+    private static Message<String> message(String sessionId, String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
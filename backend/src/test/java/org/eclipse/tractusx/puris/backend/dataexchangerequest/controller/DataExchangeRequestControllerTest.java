@@ -17,7 +17,6 @@ under the License.
 SPDX-License-Identifier: Apache-2.0
 */
 package org.eclipse.tractusx.puris.backend.dataexchangerequest.controller;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -66,11 +65,10 @@ public class DataExchangeRequestControllerTest {
     @Test
     void testCreateValidRequest_returnsSavedEntity() {
         OwnDataExchangeRequest request = createValidRequest();
-        when(repository.findAll()).thenReturn(Collections.emptyList());
-        when(repository.save(request)).thenReturn(request);
+        when(repository.saveAndFlush(request)).thenReturn(request);
         OwnDataExchangeRequest result = ownDataExchangeRequestService.create(request);
         assertEquals(request, result);
-        verify(repository).save(request);
+        verify(repository).saveAndFlush(request);
     }
 
     private OwnDataExchangeRequest createValidRequest() {
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.puris.backend.dataexchangerequest.logic.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import javax.management.openmbean.KeyAlreadyExistsException;
+
+import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.CriticalityEnumeration;
+import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.OwnDataExchangeRequest;
+import org.eclipse.tractusx.puris.backend.dataexchangerequest.domain.model.RequestedTypeEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.EffectEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.LeadingRootCauseEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.ReportedDemandAndCapacityNotification;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.StatusEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository.ReportedDemandAndCapacityNotificationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(OwnDataExchangeRequestService.class)
+public class OwnDataExchangeRequestServiceTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Autowired
+    private OwnDataExchangeRequestService ownDataExchangeRequestService;
+
+    @Autowired
+    private ReportedDemandAndCapacityNotificationRepository notificationRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    private Partner supplier;
+
+    @BeforeEach
+    void setUp() {
+        supplier = partnerRepository.save(new Partner(
+            "Scenario Supplier",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ",
+            "BPNS1234567890ZZ",
+            "Konzernzentrale Dudelsdorf",
+            "BPNA1234567890AA",
+            "Heinrich-Supplier-Straße 1",
+            "77785 Dudelsdorf",
+            "Germany",
+            PolicyProfileVersionEnumeration.POLICY_PROFILE_2509
+        ));
+    }
+
+    @Test
+    void create_WithNewRequestId_IsFoundByRequestId() {
+        // given
+        OwnDataExchangeRequest request = request(notification(), UUID.randomUUID().toString());
+
+        // when
+        OwnDataExchangeRequest created = ownDataExchangeRequestService.create(request);
+
+        // then
+        assertEquals(created.getUuid(), ownDataExchangeRequestService.findByRequestId(request.getRequestId()).getUuid());
+    }
+
+    @Test
+    void create_WithExistingRequestId_ThrowsKeyAlreadyExistsException() {
+        // given
+        String requestId = UUID.randomUUID().toString();
+        ownDataExchangeRequestService.create(request(notification(), requestId));
+
+        // when / then
+        assertThrows(KeyAlreadyExistsException.class,
+            () -> ownDataExchangeRequestService.create(request(notification(), requestId)));
+    }
+
+    @Test
+    void validateAgainstNotification_DesiredEndAfterEndOfEffect_ReturnsOnlyNotificationError() {
+        // given
+        OwnDataExchangeRequest request = request(notification(), null);
+        request.setDesiredEndDateTime(new Date(System.currentTimeMillis() + 20 * DAY));
+
+        // when
+        List<String> payloadErrors = ownDataExchangeRequestService.validatePayload(request);
+        List<String> notificationErrors = ownDataExchangeRequestService.validateAgainstNotification(request);
+
+        // then
+        assertEquals(List.of(), payloadErrors);
+        assertEquals(List.of("desiredEndDateTime must not be after notification expectedEndDateOfEffect."), notificationErrors);
+        assertEquals(notificationErrors, ownDataExchangeRequestService.validateWithDetails(request));
+    }
+
+    private ReportedDemandAndCapacityNotification notification() {
+        ReportedDemandAndCapacityNotification notification = new ReportedDemandAndCapacityNotification();
+        notification.setNotificationId(UUID.randomUUID());
+        notification.setPartner(supplier);
+        notification.setLeadingRootCause(LeadingRootCauseEnumeration.STRIKE);
+        notification.setEffect(EffectEnumeration.DEMAND_REDUCTION);
+        notification.setStatus(StatusEnumeration.OPEN);
+        notification.setStartDateOfEffect(new Date(System.currentTimeMillis() + DAY));
+        notification.setExpectedEndDateOfEffect(new Date(System.currentTimeMillis() + 10 * DAY));
+        notification.setContentChangedAt(new Date());
+        return notificationRepository.save(notification);
+    }
+
+    private OwnDataExchangeRequest request(ReportedDemandAndCapacityNotification notification, String requestId) {
+        OwnDataExchangeRequest request = new OwnDataExchangeRequest();
+        request.setRequestId(requestId);
+        request.setNotification(notification);
+        request.setCriticality(CriticalityEnumeration.values()[0]);
+        request.setDesiredStartDateTime(new Date(System.currentTimeMillis() + 2 * DAY));
+        request.setDesiredEndDateTime(new Date(System.currentTimeMillis() + 3 * DAY));
+        request.setRequestedTypes(List.of(RequestedTypeEnumeration.values()[0]));
+        request.setText("Please provide the requested data.");
+        return request;
+    }
+}
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.puris.backend.delivery.controller;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
 import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.EventTypeEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.IncotermEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
@@ -48,6 +49,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
@@ -73,6 +75,8 @@ public class DeliveryRequestApiServiceTest {
     private EdcAdapterService edcAdapterService;
     @Mock
     private DeliveryInformationSammMapper sammMapper;
+    @Mock
+    private SubmodelResponseCache responseCache;
 
     private static final String MATERIAL_NUMBER_CX_CUSTOMER = UUID.randomUUID().toString();
     private static final String BPNL_CUSTOMER = "BPNL4444444444XX";
@@ -100,6 +104,7 @@ public class DeliveryRequestApiServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(responseCache.get(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2, Supplier.class).get());
 
         CUSTOMER_PARTNER = new Partner(
             "Test Customer",
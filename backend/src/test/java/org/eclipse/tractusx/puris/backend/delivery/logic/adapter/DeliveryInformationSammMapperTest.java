@@ -52,6 +52,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -161,7 +162,7 @@ class DeliveryInformationSammMapperTest {
                 .lastUpdatedOnDateTime(now)
                 .build();
 
-        when(anonymizationService.anonymize(anyString(), anyString())).thenAnswer(invocation -> "enc:" + invocation.getArgument(0));
+        when(anonymizationService.anonymizeAll(anyList(), anyString())).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(value -> "enc:" + value).toList());
 
         var samm = mapper.ownDeliveryToAnonymizedSamm(List.of(od), PARTNER, MATERIAL_3, "SALT");
         assertNotNull(samm);
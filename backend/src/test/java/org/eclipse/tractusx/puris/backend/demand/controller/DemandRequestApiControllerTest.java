@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.puris.backend.demand.controller;
 
 import org.eclipse.tractusx.puris.backend.common.TestConfig;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.common.security.DtrSecurityConfiguration;
 import org.eclipse.tractusx.puris.backend.common.security.SecurityConfig;
 import org.eclipse.tractusx.puris.backend.common.security.annotation.WithMockApiKey;
@@ -47,6 +48,9 @@ class DemandRequestApiControllerTest {
     @MockitoBean
     DemandRequestApiService demandRequestApiService;
 
+    @MockitoBean
+    SubmodelResponseCache responseCache;
+
     @Test
     @WithMockApiKey
     void getItemStockSamm_GivenNotImplementPath_Returns501() throws Exception {
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demand.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.common.util.KeysetCursor;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.DemandCategoryEnumeration;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
+import org.eclipse.tractusx.puris.backend.demand.domain.repository.OwnDemandRepository;
+import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+@DataJpaTest
+@Import(OwnDemandService.class)
+public class OwnDemandServiceTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Autowired
+    private OwnDemandService ownDemandService;
+
+    @Autowired
+    private OwnDemandRepository ownDemandRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @MockBean
+    private PartnerService partnerService;
+
+    @MockBean
+    private ChangeEventBus changeEventBus;
+
+    @MockBean
+    private MaterialPartnerRelationService mprService;
+
+    private Material material;
+
+    private Material otherMaterial;
+
+    private Partner supplier;
+
+    @BeforeEach
+    void setUp() {
+        material = materialRepository.save(new Material(true, false, "MNR-7307-AU340474.001", UUID.randomUUID().toString(), "Semiconductor", new Date()));
+        otherMaterial = materialRepository.save(new Material(true, false, "MNR-4177", UUID.randomUUID().toString(), "Wafer", new Date()));
+        supplier = partnerRepository.save(new Partner(
+            "Scenario Supplier",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ",
+            "BPNS1234567890ZZ",
+            "Konzernzentrale Dudelsdorf",
+            "BPNA1234567890AA",
+            "Heinrich-Supplier-Straße 1",
+            "77785 Dudelsdorf",
+            "Germany",
+            PolicyProfileVersionEnumeration.POLICY_PROFILE_2509
+        ));
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            ownDemandRepository.save(demand(material, new Date(start + i * DAY)));
+        }
+        ownDemandRepository.save(demand(otherMaterial, new Date(start)));
+    }
+
+    @Test
+    void findWindowByFilters_WithCursorOfPreviousPage_ReturnsNextPageWithoutGapsOrDuplicates() {
+        // given
+        List<OwnDemand> collected = new ArrayList<>();
+        ScrollPosition position = KeysetCursor.decode(null);
+        String cursor;
+
+        // when
+        do {
+            Window<OwnDemand> window = ownDemandService.findWindowByFilters(Optional.of(material.getOwnMaterialNumber()),
+                Optional.empty(), Optional.empty(), position, 2);
+            collected.addAll(window.getContent());
+            cursor = window.hasNext() ? KeysetCursor.encode(window.positionAt(window.size() - 1)) : null;
+            if (cursor != null) {
+                position = KeysetCursor.decode(cursor);
+            }
+        } while (cursor != null);
+
+        // then
+        assertEquals(5, collected.size());
+        assertEquals(5, collected.stream().map(OwnDemand::getUuid).distinct().count());
+        for (int i = 1; i < collected.size(); i++) {
+            assertFalse(collected.get(i).getDay().before(collected.get(i - 1).getDay()));
+        }
+        assertTrue(collected.stream().allMatch(d -> d.getMaterial().getOwnMaterialNumber().equals(material.getOwnMaterialNumber())));
+    }
+
+    @Test
+    void forEachByFilters_WithoutFilters_VisitsAllDemands() {
+        // given
+        List<UUID> visited = new ArrayList<>();
+
+        // when
+        ownDemandService.forEachByFilters(Optional.empty(), Optional.empty(), Optional.empty(), demand -> visited.add(demand.getUuid()));
+
+        // then
+        assertEquals(6, visited.size());
+        assertEquals(6, visited.stream().distinct().count());
+    }
+
+    private OwnDemand demand(Material demandMaterial, Date day) {
+        return OwnDemand.builder()
+            .material(demandMaterial)
+            .partner(supplier)
+            .quantity(20)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .day(day)
+            .demandCategoryCode(DemandCategoryEnumeration.DEMAND_DEFAULT)
+            .demandLocationBpns("BPNS4444444444XX")
+            .lastUpdatedOnDateTime(new Date())
+            .build();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository;
+
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DemandAndCapacityNotificationDelivery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+public class DemandAndCapacityNotificationDeliveryRepositoryTest {
+
+    @Autowired
+    private DemandAndCapacityNotificationDeliveryRepository repository;
+
+    @Test
+    void reschedule_DeliveryInFlight_LeavesDeliveryUnchanged() {
+        var delivery = repository.save(delivery());
+        Date now = new Date();
+        assertEquals(1, repository.claim(List.of(delivery.getUuid()), UUID.randomUUID(), now, new Date(now.getTime() + 600_000)));
+
+        assertEquals(0, repository.reschedule(delivery.getNotificationUuid(), now));
+        assertEquals(0, repository.claim(List.of(delivery.getUuid()), UUID.randomUUID(), now, new Date(now.getTime() + 600_000)));
+    }
+
+    @Test
+    void recordDelivery_ReleasesClaim() {
+        var delivery = repository.save(delivery());
+        UUID claim = UUID.randomUUID();
+        Date now = new Date();
+        repository.claim(List.of(delivery.getUuid()), claim, now, new Date(now.getTime() + 600_000));
+
+        assertEquals(1, repository.recordDelivery(delivery.getUuid(), claim, DeliveryStatusEnumeration.PENDING, 1, now, null, "Partner could not be reached"));
+
+        assertEquals(1, repository.reschedule(delivery.getNotificationUuid(), now));
+        assertEquals(0, repository.findAllByDeliveryClaim(claim).size());
+    }
+
+    private static DemandAndCapacityNotificationDelivery delivery() {
+        var delivery = new DemandAndCapacityNotificationDelivery();
+        delivery.setNotificationUuid(UUID.randomUUID());
+        delivery.setPartnerBpnl("BPNL1234567890ZZ");
+        delivery.setStatus(DeliveryStatusEnumeration.PENDING);
+        delivery.setCreatedAt(new Date());
+        delivery.setNextAttempt(new Date(System.currentTimeMillis() - 1000));
+        return delivery;
+    }
+}
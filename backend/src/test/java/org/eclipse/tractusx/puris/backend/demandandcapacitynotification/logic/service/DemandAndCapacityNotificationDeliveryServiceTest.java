@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.puris.backend.common.edc.logic.service.EdcAdapterService;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DeliveryStatusEnumeration;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.DemandAndCapacityNotificationDelivery;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.OwnDemandAndCapacityNotification;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository.DemandAndCapacityNotificationDeliveryRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DemandAndCapacityNotificationDeliveryServiceTest {
+
+    private static final String PARTNER_BPNL = "BPNL1234567890ZZ";
+
+    @Mock
+    private DemandAndCapacityNotificationDeliveryRepository repository;
+    @Mock
+    private OwnDemandAndCapacityNotificationService ownNotificationService;
+    @Mock
+    private DemandAndCapacityNotifcationRequestApiService requestApiService;
+    @Mock
+    private EdcAdapterService edcAdapterService;
+    @Mock
+    private PartnerService partnerService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DemandAndCapacityNotificationDeliveryService deliveryService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        deliveryService.init();
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        deliveryService.shutdown();
+    }
+
+    @Test
+    void enqueue_PendingDeliveryExists_ReusesDelivery() {
+        var notification = notification();
+        var pending = delivery(notification.getUuid());
+        when(repository.reschedule(eq(notification.getUuid()), any())).thenReturn(1);
+        when(repository.findFirstByNotificationUuidAndStatusAndDeliveryClaimIsNull(notification.getUuid(), DeliveryStatusEnumeration.PENDING))
+            .thenReturn(Optional.of(pending));
+
+        var result = deliveryService.enqueue(notification);
+
+        assertEquals(pending, result);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void enqueue_DeliveryInFlight_CreatesNewDelivery() {
+        var notification = notification();
+        when(repository.reschedule(eq(notification.getUuid()), any())).thenReturn(0);
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = deliveryService.enqueue(notification);
+
+        assertEquals(notification.getUuid(), result.getNotificationUuid());
+        assertEquals(DeliveryStatusEnumeration.PENDING, result.getStatus());
+        assertEquals(0, result.getAttempts());
+        assertNotNull(result.getNextAttempt());
+    }
+
+    @Test
+    void deliver_SeveralNotificationsForPartner_SendsThemTogether() {
+        var first = notification();
+        var second = notification();
+        var firstDelivery = delivery(first.getUuid());
+        var secondDelivery = delivery(second.getUuid());
+        when(repository.findByStatusAndNextAttemptLessThanEqual(eq(DeliveryStatusEnumeration.PENDING), any(), any()))
+            .thenReturn(List.of(firstDelivery, secondDelivery));
+        when(repository.claim(eq(List.of(firstDelivery.getUuid(), secondDelivery.getUuid())), any(), any(), any())).thenReturn(2);
+        when(repository.findAllByDeliveryClaim(any())).thenReturn(List.of(firstDelivery, secondDelivery));
+        when(partnerService.findByBpnl(PARTNER_BPNL)).thenReturn(first.getPartner());
+        when(ownNotificationService.findById(first.getUuid())).thenReturn(first);
+        when(ownNotificationService.findById(second.getUuid())).thenReturn(second);
+        JsonNode body = objectMapper.createObjectNode();
+        when(requestApiService.createNotificationRequestBody(any())).thenReturn(body);
+        when(edcAdapterService.doNotificationPostRequests(eq(first.getPartner()), anyList()))
+            .thenReturn(Arrays.asList(objectMapper.createObjectNode(), null));
+
+        deliveryService.deliver();
+
+        verify(edcAdapterService, times(1)).doNotificationPostRequests(first.getPartner(), List.of(body, body));
+        assertEquals(DeliveryStatusEnumeration.DELIVERED, firstDelivery.getStatus());
+        assertNotNull(firstDelivery.getDeliveredAt());
+        assertEquals(DeliveryStatusEnumeration.PENDING, secondDelivery.getStatus());
+        assertEquals(1, secondDelivery.getAttempts());
+        assertNotNull(secondDelivery.getLastError());
+        verify(repository).recordDelivery(eq(firstDelivery.getUuid()), any(), eq(DeliveryStatusEnumeration.DELIVERED),
+            eq(1), isNull(), any(), isNull());
+        verify(repository).recordDelivery(eq(secondDelivery.getUuid()), any(), eq(DeliveryStatusEnumeration.PENDING),
+            eq(1), any(), isNull(), any());
+    }
+
+    @Test
+    void deliver_ClaimedByOtherInstance_SendsNothing() {
+        var notification = notification();
+        var delivery = delivery(notification.getUuid());
+        when(repository.findByStatusAndNextAttemptLessThanEqual(eq(DeliveryStatusEnumeration.PENDING), any(), any()))
+            .thenReturn(List.of(delivery));
+        when(repository.claim(any(), any(), any(), any())).thenReturn(0);
+
+        deliveryService.deliver();
+
+        verify(edcAdapterService, never()).doNotificationPostRequests(any(), anyList());
+        verify(repository, never()).recordDelivery(any(), any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void deliver_NotificationDeleted_MarksDeliveryFailed() {
+        var notification = notification();
+        var delivery = delivery(notification.getUuid());
+        when(repository.findByStatusAndNextAttemptLessThanEqual(eq(DeliveryStatusEnumeration.PENDING), any(), any()))
+            .thenReturn(List.of(delivery));
+        when(repository.claim(any(), any(), any(), any())).thenReturn(1);
+        when(repository.findAllByDeliveryClaim(any())).thenReturn(List.of(delivery));
+        when(partnerService.findByBpnl(PARTNER_BPNL)).thenReturn(notification.getPartner());
+        when(ownNotificationService.findById(notification.getUuid())).thenReturn(null);
+
+        deliveryService.deliver();
+
+        verify(edcAdapterService, never()).doNotificationPostRequests(any(), anyList());
+        assertEquals(DeliveryStatusEnumeration.FAILED, delivery.getStatus());
+        assertNull(delivery.getNextAttempt());
+    }
+
+    private OwnDemandAndCapacityNotification notification() {
+        var partner = new Partner();
+        partner.setBpnl(PARTNER_BPNL);
+        var notification = new OwnDemandAndCapacityNotification();
+        notification.setUuid(UUID.randomUUID());
+        notification.setPartner(partner);
+        return notification;
+    }
+
+    private DemandAndCapacityNotificationDelivery delivery(UUID notificationUuid) {
+        var delivery = new DemandAndCapacityNotificationDelivery();
+        delivery.setUuid(UUID.randomUUID());
+        delivery.setNotificationUuid(notificationUuid);
+        delivery.setPartnerBpnl(PARTNER_BPNL);
+        delivery.setStatus(DeliveryStatusEnumeration.PENDING);
+        delivery.setCreatedAt(new Date());
+        delivery.setNextAttempt(new Date());
+        return delivery;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.demandandcapacitynotification.logic.service;
+
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.model.OwnDemandAndCapacityNotification;
+import org.eclipse.tractusx.puris.backend.demandandcapacitynotification.domain.repository.OwnDemandAndCapacityNotificationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class OwnDemandAndCapacityNotificationServiceTest {
+
+    private static final Partner CUSTOMER_PARTNER = new Partner(
+        "Scenario Customer",
+        "http://customer-control-plane:8184/api/v1/dsp",
+        "BPNL4444444444XX",
+        "BPNS4444444444XX",
+        "Hauptwerk Musterhausen",
+        "BPNA4444444444ZZ",
+        "Musterstraße 35b",
+        "77777 Musterhausen",
+        "Germany",
+        PolicyProfileVersionEnumeration.POLICY_PROFILE_2509
+    );
+
+    private static final Partner OWN_PARTNER = new Partner(
+        "Scenario Supplier",
+        "http://supplier-control-plane:9184/api/v1/dsp",
+        "BPNL1111111111LE",
+        "BPNS1111111111SI",
+        "Konzernzentrale Dudelsdorf",
+        "BPNA1111111111AD",
+        "Heinrich-Supplier-Straße 1",
+        "77785 Dudelsdorf",
+        "Germany",
+        PolicyProfileVersionEnumeration.POLICY_PROFILE_2509
+    );
+
+    @Mock
+    private OwnDemandAndCapacityNotificationRepository repository;
+    @Mock
+    private PartnerService partnerService;
+    @Mock
+    private MaterialPartnerRelationService mprService;
+
+    private OwnDemandAndCapacityNotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new OwnDemandAndCapacityNotificationService(repository, partnerService, mprService);
+    }
+
+    @Test
+    void validateMaterials_AllMaterialsRelated_UsesSingleLookup() {
+        var material = new Material(false, true, "MNR-8101-ID146955.001", UUID.randomUUID().toString(), "Semiconductor", new Date());
+        var notification = OwnDemandAndCapacityNotification.builder()
+            .partner(CUSTOMER_PARTNER)
+            .materials(List.of(material))
+            .build();
+        when(mprService.existsForAll(CUSTOMER_PARTNER, List.of(material))).thenReturn(true);
+
+        assertTrue(notificationService.validateMaterials(notification));
+        verify(mprService, never()).findAll();
+    }
+
+    @Test
+    void validateSites_SiteOfOtherPartner_IsRejected() {
+        when(partnerService.getOwnPartnerEntity()).thenReturn(OWN_PARTNER);
+        when(partnerService.getLocationIndex(any())).thenAnswer(invocation -> PartnerLocationIndex.of(invocation.getArgument(0), 0));
+        Site customerSite = CUSTOMER_PARTNER.getSites().first();
+        Site ownSite = OWN_PARTNER.getSites().first();
+
+        var valid = OwnDemandAndCapacityNotification.builder()
+            .partner(CUSTOMER_PARTNER)
+            .affectedSitesRecipient(List.of(customerSite))
+            .affectedSitesSender(List.of(ownSite))
+            .build();
+        var swapped = OwnDemandAndCapacityNotification.builder()
+            .partner(CUSTOMER_PARTNER)
+            .affectedSitesRecipient(List.of(ownSite))
+            .affectedSitesSender(List.of(customerSite))
+            .build();
+
+        assertTrue(notificationService.validateSites(valid));
+        assertFalse(notificationService.validateSites(swapped));
+    }
+}
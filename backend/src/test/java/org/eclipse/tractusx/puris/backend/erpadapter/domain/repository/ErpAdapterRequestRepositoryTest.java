@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.domain.repository;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest
+public class ErpAdapterRequestRepositoryTest {
+
+    @Autowired
+    private ErpAdapterRequestRepository repository;
+
+    @Test
+    void claim_ClaimedByOtherDispatcher_ClaimsNothing() {
+        var request = repository.save(request());
+        Date now = new Date();
+        Date leaseEnd = new Date(now.getTime() + 300_000);
+
+        assertEquals(1, repository.claim(List.of(request.getId()), UUID.randomUUID(), now, leaseEnd));
+        assertEquals(0, repository.claim(List.of(request.getId()), UUID.randomUUID(), now, leaseEnd));
+    }
+
+    @Test
+    void recordDispatch_AcknowledgedInTheMeantime_KeepsAcknowledgement() {
+        var request = repository.save(request());
+        UUID claim = UUID.randomUUID();
+        Date now = new Date();
+        repository.claim(List.of(request.getId()), claim, now, new Date(now.getTime() + 300_000));
+
+        assertEquals(1, repository.acknowledge(request.getId(), now));
+        assertEquals(0, repository.recordDispatch(request.getId(), claim, ErpAdapterRequestStatusEnum.SENT, 201, 1, null, now));
+
+        var stored = repository.findById(request.getId()).orElseThrow();
+        assertEquals(ErpAdapterRequestStatusEnum.ACKNOWLEDGED, stored.getStatus());
+        assertNotNull(stored.getResponseReceivedDate());
+    }
+
+    @Test
+    void release_FailedDispatch_PostponesRequest() {
+        var request = repository.save(request());
+        UUID claim = UUID.randomUUID();
+        Date now = new Date();
+        repository.claim(List.of(request.getId()), claim, now, new Date(now.getTime() + 300_000));
+        Date retry = new Date(now.getTime() + 10_000);
+
+        assertEquals(1, repository.release(claim, retry));
+
+        var stored = repository.findById(request.getId()).orElseThrow();
+        assertEquals(retry.getTime(), stored.getNextDispatchAttempt().getTime());
+        assertEquals(0, repository.claim(List.of(request.getId()), UUID.randomUUID(), now, retry));
+    }
+
+    private static ErpAdapterRequest request() {
+        return ErpAdapterRequest.builder()
+            .requestDate(new Date())
+            .partnerBpnl("BPNL1234567890AB")
+            .ownMaterialNumber("MNR-4711")
+            .directionEnum(DirectionEnum.INBOUND)
+            .requestType(AssetType.ITEM_STOCK_SUBMODEL)
+            .sammVersion(AssetType.ITEM_STOCK_SUBMODEL.ERP_SAMM_VERSION)
+            .status(ErpAdapterRequestStatusEnum.PENDING)
+            .nextDispatchAttempt(new Date(System.currentTimeMillis() - 1000))
+            .build();
+    }
+}
@@ -40,6 +40,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.InputStream;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -132,4 +133,46 @@ public class ErpAdapterRequestClientTest {
             Assertions.assertThat(requestBodyNode.get("responseUrl").asText()).isEqualTo(erpResponseUrl);
         }
     }
+
+    @Test
+    public void test_batch_should_success() throws Exception {
+        // given
+        UUID batchId = UUID.randomUUID();
+        Date requestDate = new Date();
+        List<ErpAdapterRequest> batch = Stream.of(matNbrCustomer, "MNR-4711").map(material -> ErpAdapterRequest.builder()
+            .requestDate(requestDate)
+            .partnerBpnl(supplierPartnerBpnl)
+            .id(UUID.randomUUID())
+            .batchId(batchId)
+            .directionEnum(DirectionEnum.INBOUND)
+            .ownMaterialNumber(material)
+            .requestType(requestType)
+            .sammVersion(sammVersion)
+            .build()).toList();
+
+        // when
+        Mockito.when(erpAdapterConfiguration.getErpAdapterUrl()).thenReturn(mockWebServer.url("/").toString());
+        Mockito.when(erpAdapterConfiguration.getErpAdapterAuthKey()).thenReturn(apiKey);
+        Mockito.when(erpAdapterConfiguration.getErpAdapterAuthSecret()).thenReturn(apiSecret);
+        Mockito.when(erpAdapterConfiguration.getErpBatchResponseUrl()).thenReturn(erpResponseUrl + "/batch");
+        erpAdapterRequestClient.sendBatchRequest(batch);
+        RecordedRequest request = mockWebServer.takeRequest(2, TimeUnit.SECONDS);
+
+        // then
+        Assertions.assertThat(request.getMethod()).isEqualTo("POST");
+        Assertions.assertThat(request.getRequestUrl().queryParameter("request-id")).isEqualTo(batchId.toString());
+        Assertions.assertThat(request.getRequestUrl().queryParameter("bpnl")).isEqualTo(supplierPartnerBpnl);
+
+        try (InputStream stream = request.getBody().inputStream()) {
+            JsonNode requestBodyNode = objectMapper.readTree(new String(stream.readAllBytes()));
+            Assertions.assertThat(requestBodyNode.get("responseUrl").asText()).isEqualTo(erpResponseUrl + "/batch");
+            JsonNode materials = requestBodyNode.get("materials");
+            Assertions.assertThat(materials.size()).isEqualTo(2);
+            for (int i = 0; i < batch.size(); i++) {
+                Assertions.assertThat(materials.get(i).get("request-id").asText()).isEqualTo(batch.get(i).getId().toString());
+                Assertions.assertThat(materials.get(i).get("material").asText()).isEqualTo(batch.get(i).getOwnMaterialNumber());
+                Assertions.assertThat(materials.get(i).get("direction").asText()).isEqualTo(DirectionEnum.INBOUND.toString());
+            }
+        }
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ErpAdapterRequestDispatcherTest {
+
+    @Mock
+    private ErpAdapterRequestService erpAdapterRequestService;
+    @Mock
+    private ErpAdapterRequestClient erpAdapterRequestClient;
+    @Mock
+    private ErpAdapterConfiguration erpAdapterConfiguration;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ErpAdapterRequestDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.init();
+        when(erpAdapterConfiguration.isErpAdapterEnabled()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_AcceptedRequest_MarksRequestSent() {
+        var request = request(null);
+        when(erpAdapterRequestService.findDue(anyInt())).thenReturn(List.of(request));
+        when(erpAdapterRequestService.claim(eq(List.of(request.getId())), any(), any())).thenReturn(List.of(request));
+        when(erpAdapterRequestClient.sendRequest(request)).thenReturn(201);
+
+        dispatcher.dispatch();
+
+        assertEquals(ErpAdapterRequestStatusEnum.SENT, request.getStatus());
+        assertEquals(201, request.getResponseCode());
+        assertNotNull(request.getSentDate());
+        verify(erpAdapterRequestService).recordDispatch(eq(List.of(request)), any());
+        assertEquals(1, meterRegistry.get("puris.erpadapter.outbox.dispatch.latency").timer().count());
+    }
+
+    @Test
+    void dispatch_RejectedRequest_RetriesWithBackoffUntilMaxAttempts() {
+        var request = request(null);
+        when(erpAdapterRequestService.findDue(anyInt())).thenReturn(List.of(request));
+        when(erpAdapterRequestService.claim(eq(List.of(request.getId())), any(), any())).thenReturn(List.of(request));
+        when(erpAdapterRequestClient.sendRequest(request)).thenReturn(503);
+
+        long before = new Date().getTime();
+        dispatcher.dispatch();
+
+        assertEquals(ErpAdapterRequestStatusEnum.PENDING, request.getStatus());
+        assertEquals(1, request.getDispatchAttempts());
+        assertTrue(request.getNextDispatchAttempt().getTime() >= before + 10_000);
+
+        request.setDispatchAttempts(4);
+        dispatcher.dispatch();
+
+        assertEquals(ErpAdapterRequestStatusEnum.FAILED, request.getStatus());
+    }
+
+    @Test
+    void dispatch_BatchRequest_SendsWholeBatchOnce() {
+        UUID batchId = UUID.randomUUID();
+        var first = request(batchId);
+        var second = request(batchId);
+        when(erpAdapterRequestService.findDue(anyInt())).thenReturn(List.of(first));
+        when(erpAdapterRequestService.findByBatchId(batchId)).thenReturn(List.of(first, second));
+        when(erpAdapterRequestService.claim(eq(List.of(first.getId(), second.getId())), any(), any())).thenReturn(List.of(first, second));
+        when(erpAdapterRequestClient.sendBatchRequest(List.of(first, second))).thenReturn(202);
+
+        dispatcher.dispatch();
+
+        verify(erpAdapterRequestClient, never()).sendRequest(any());
+        assertEquals(ErpAdapterRequestStatusEnum.SENT, first.getStatus());
+        assertEquals(ErpAdapterRequestStatusEnum.SENT, second.getStatus());
+    }
+
+    @Test
+    void dispatch_RecordingFails_PostponesRequestsAndStopsRun() {
+        UUID batchId = UUID.randomUUID();
+        List<ErpAdapterRequest> batch = IntStream.range(0, 500).mapToObj(i -> request(batchId)).toList();
+        when(erpAdapterRequestService.findDue(anyInt())).thenReturn(batch);
+        when(erpAdapterRequestService.findByBatchId(batchId)).thenReturn(batch);
+        when(erpAdapterRequestService.claim(any(), any(), any())).thenReturn(batch);
+        when(erpAdapterRequestClient.sendBatchRequest(batch)).thenReturn(202);
+        when(erpAdapterRequestService.recordDispatch(eq(batch), any())).thenThrow(new IllegalStateException("database unavailable"));
+
+        long before = new Date().getTime();
+        dispatcher.dispatch();
+
+        ArgumentCaptor<Date> retry = ArgumentCaptor.forClass(Date.class);
+        verify(erpAdapterRequestService).release(any(), retry.capture());
+        assertTrue(retry.getValue().getTime() >= before + 10_000);
+        verify(erpAdapterRequestService, times(1)).findDue(anyInt());
+    }
+
+    private static ErpAdapterRequest request(UUID batchId) {
+        return ErpAdapterRequest.builder()
+            .id(UUID.randomUUID())
+            .batchId(batchId)
+            .requestDate(new Date())
+            .partnerBpnl("BPNL1234567890AB")
+            .ownMaterialNumber("MNR-4711")
+            .directionEnum(DirectionEnum.INBOUND)
+            .requestType(AssetType.ITEM_STOCK_SUBMODEL)
+            .sammVersion(AssetType.ITEM_STOCK_SUBMODEL.ERP_SAMM_VERSION)
+            .status(ErpAdapterRequestStatusEnum.PENDING)
+            .nextDispatchAttempt(new Date())
+            .build();
+    }
+}
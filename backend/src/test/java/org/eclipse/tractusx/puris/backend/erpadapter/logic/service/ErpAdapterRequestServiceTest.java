@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequestStatusEnum;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterRequestRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ErpAdapterRequestServiceTest {
+
+    private static final String BPNL = "BPNL1234567890AB";
+    private static final String OTHER_BPNL = "BPNL1234567890CD";
+
+    @Mock
+    private ErpAdapterRequestRepository repository;
+    @Mock
+    private ErpAdapterConfiguration erpAdapterConfiguration;
+
+    @InjectMocks
+    private ErpAdapterRequestService erpAdapterRequestService;
+
+    @Test
+    void enqueue_BatchingDisabled_StoresPendingRequestsWithoutBatch() {
+        when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        var requests = List.of(request(BPNL, "MNR-1"), request(BPNL, "MNR-2"));
+
+        erpAdapterRequestService.enqueue(requests);
+
+        for (var request : requests) {
+            assertEquals(ErpAdapterRequestStatusEnum.PENDING, request.getStatus());
+            assertNotNull(request.getNextDispatchAttempt());
+            assertNull(request.getBatchId());
+        }
+    }
+
+    @Test
+    void enqueue_BatchingEnabled_GroupsRequestsByPartnerUpToBatchSize() {
+        when(erpAdapterConfiguration.isBatchingEnabled()).thenReturn(true);
+        when(erpAdapterConfiguration.getBatchSize()).thenReturn(2);
+        when(repository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        var requests = List.of(request(BPNL, "MNR-1"), request(OTHER_BPNL, "MNR-1"), request(BPNL, "MNR-2"),
+            request(BPNL, "MNR-3"));
+
+        erpAdapterRequestService.enqueue(requests);
+
+        assertTrue(requests.stream().allMatch(request -> request.getBatchId() != null));
+        assertEquals(requests.get(0).getBatchId(), requests.get(2).getBatchId());
+        assertNotEquals(requests.get(0).getBatchId(), requests.get(3).getBatchId());
+        assertNotEquals(requests.get(0).getBatchId(), requests.get(1).getBatchId());
+        assertNotEquals(requests.get(1).getBatchId(), requests.get(3).getBatchId());
+    }
+
+    private static ErpAdapterRequest request(String bpnl, String material) {
+        return ErpAdapterRequest.builder()
+            .requestDate(new Date())
+            .partnerBpnl(bpnl)
+            .ownMaterialNumber(material)
+            .directionEnum(DirectionEnum.INBOUND)
+            .requestType(AssetType.ITEM_STOCK_SUBMODEL)
+            .sammVersion(AssetType.ITEM_STOCK_SUBMODEL.ERP_SAMM_VERSION)
+            .build();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.puris.backend.erpadapter.controller.ErpAdapterController;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterResponse;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterResponseStatusEnum;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterResponseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ErpAdapterResponseServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private ErpAdapterResponseRepository repository;
+    @Mock
+    private ItemStockErpAdapterService itemStockErpAdapterService;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ErpAdapterResponseService erpAdapterResponseService;
+
+    @AfterEach
+    void tearDown() {
+        erpAdapterResponseService.shutdown();
+    }
+
+    @Test
+    void enqueue_NewResponse_StoresAndProcessesResponse() throws Exception {
+        erpAdapterResponseService.init();
+        var dto = dto(UUID.randomUUID());
+        ArgumentCaptor<ErpAdapterResponse> saved = ArgumentCaptor.forClass(ErpAdapterResponse.class);
+        when(repository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findById(dto.requestId())).thenReturn(Optional.empty())
+            .thenAnswer(invocation -> Optional.of(saved.getValue()));
+        when(itemStockErpAdapterService.receiveItemStockUpdate(any())).thenReturn(201);
+
+        assertEquals(ErpAdapterResponseService.Admission.ACCEPTED, erpAdapterResponseService.enqueue(dto));
+
+        verify(repository, timeout(2000).times(2)).save(any());
+        ErpAdapterResponse response = saved.getValue();
+        assertEquals(ErpAdapterResponseStatusEnum.PROCESSED, response.getStatus());
+        assertEquals(201, response.getResultCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void enqueue_KnownRequestId_IsNotProcessedAgain() throws Exception {
+        erpAdapterResponseService.init();
+        var dto = dto(UUID.randomUUID());
+        when(repository.findById(dto.requestId())).thenReturn(Optional.of(response(dto, ErpAdapterResponseStatusEnum.PROCESSED)));
+
+        assertEquals(ErpAdapterResponseService.Admission.DUPLICATE, erpAdapterResponseService.enqueue(dto));
+
+        verify(repository, never()).save(any());
+        verify(itemStockErpAdapterService, never()).receiveItemStockUpdate(any());
+    }
+
+    @Test
+    void enqueue_FailedResponse_IsProcessedAgain() throws Exception {
+        erpAdapterResponseService.init();
+        var dto = dto(UUID.randomUUID());
+        var failed = response(dto, ErpAdapterResponseStatusEnum.FAILED);
+        failed.setResultCode(404);
+        when(repository.findById(dto.requestId())).thenReturn(Optional.of(failed));
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(itemStockErpAdapterService.receiveItemStockUpdate(any())).thenReturn(201);
+
+        assertEquals(ErpAdapterResponseService.Admission.ACCEPTED, erpAdapterResponseService.enqueue(dto));
+
+        verify(repository, timeout(2000).times(2)).save(failed);
+        assertEquals(ErpAdapterResponseStatusEnum.PROCESSED, failed.getStatus());
+        assertEquals(201, failed.getResultCode());
+    }
+
+    @Test
+    void enqueue_QueueFull_RejectsResponse() throws Exception {
+        ReflectionTestUtils.setField(erpAdapterResponseService, "queueCapacity", 1);
+        erpAdapterResponseService.init();
+        var first = dto(UUID.randomUUID());
+        var second = dto(UUID.randomUUID());
+        ArgumentCaptor<ErpAdapterResponse> saved = ArgumentCaptor.forClass(ErpAdapterResponse.class);
+        CountDownLatch processing = new CountDownLatch(1);
+        when(repository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findById(first.requestId())).thenReturn(Optional.empty())
+            .thenAnswer(invocation -> Optional.of(saved.getAllValues().get(0)));
+        when(repository.findById(second.requestId())).thenReturn(Optional.empty());
+        when(itemStockErpAdapterService.receiveItemStockUpdate(any())).thenAnswer(invocation -> {
+            processing.await(2, TimeUnit.SECONDS);
+            return 201;
+        });
+
+        assertEquals(ErpAdapterResponseService.Admission.ACCEPTED, erpAdapterResponseService.enqueue(first));
+        assertEquals(ErpAdapterResponseService.Admission.REJECTED, erpAdapterResponseService.enqueue(second));
+        processing.countDown();
+
+        verify(repository, timeout(2000).times(2)).save(any());
+        assertEquals(first.requestId(), saved.getAllValues().get(0).getRequestId());
+    }
+
+    @Test
+    void recover_Backlog_TakesQueueCapacity() throws Exception {
+        ReflectionTestUtils.setField(erpAdapterResponseService, "queueCapacity", 1);
+        erpAdapterResponseService.init();
+        var first = response(dto(UUID.randomUUID()), ErpAdapterResponseStatusEnum.QUEUED);
+        var second = response(dto(UUID.randomUUID()), ErpAdapterResponseStatusEnum.QUEUED);
+        first.setBody("{}");
+        second.setBody("{}");
+        var next = dto(UUID.randomUUID());
+        CountDownLatch processing = new CountDownLatch(1);
+        when(repository.findAllByStatus(ErpAdapterResponseStatusEnum.QUEUED)).thenReturn(List.of(first, second));
+        when(repository.findById(first.getRequestId())).thenReturn(Optional.of(first));
+        when(repository.findById(second.getRequestId())).thenReturn(Optional.of(second));
+        when(repository.findById(next.requestId())).thenReturn(Optional.empty());
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(itemStockErpAdapterService.receiveItemStockUpdate(any())).thenAnswer(invocation -> {
+            processing.await(2, TimeUnit.SECONDS);
+            return 201;
+        });
+
+        erpAdapterResponseService.recover();
+        Semaphore capacity = (Semaphore) ReflectionTestUtils.getField(erpAdapterResponseService, "capacity");
+        assertEquals(-1, capacity.availablePermits());
+        assertEquals(ErpAdapterResponseService.Admission.REJECTED, erpAdapterResponseService.enqueue(next));
+        processing.countDown();
+
+        verify(repository, timeout(2000)).save(first);
+        verify(repository, timeout(2000)).save(second);
+        assertEquals(ErpAdapterResponseStatusEnum.PROCESSED, second.getStatus());
+    }
+
+    private static ErpAdapterResponse response(ErpAdapterController.Dto dto, ErpAdapterResponseStatusEnum status) {
+        var response = new ErpAdapterResponse();
+        response.setRequestId(dto.requestId());
+        response.setPartnerBpnl(dto.partnerBpnl());
+        response.setResponseType(dto.responseType());
+        response.setSammVersion(dto.sammVersion());
+        response.setResponseTimestamp(dto.responseTimeStamp());
+        response.setReceivedDate(new Date());
+        response.setStatus(status);
+        return response;
+    }
+
+    private static ErpAdapterController.Dto dto(UUID requestId) throws Exception {
+        return new ErpAdapterController.Dto(requestId, "BPNL1234567890AB", "ItemStock", "2.0", new Date(),
+            MAPPER.readTree("{\"positions\": [], \"direction\": \"INBOUND\"}"));
+    }
+}
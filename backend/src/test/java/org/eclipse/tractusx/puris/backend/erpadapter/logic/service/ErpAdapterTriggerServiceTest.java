@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.erpadapter.logic.service;
+
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.edc.domain.model.AssetType;
+import org.eclipse.tractusx.puris.backend.erpadapter.ErpAdapterConfiguration;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterRequest;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.model.ErpAdapterTriggerDataset;
+import org.eclipse.tractusx.puris.backend.erpadapter.domain.repository.ErpAdapterTriggerDatasetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ErpAdapterTriggerServiceTest {
+
+    private static final String BPNL = "BPNL1234567890AB";
+    private static final String MATERIAL_NUMBER = "MNR-4711";
+    private static final long REFRESH_INTERVAL = 100;
+    private static final long TIME_LIMIT = 24 * 60 * 60 * 1000;
+
+    @Mock
+    private ErpAdapterTriggerDatasetRepository repository;
+    @Mock
+    private ErpAdapterConfiguration erpAdapterConfiguration;
+    @Mock
+    private ErpAdapterRequestService erpAdapterRequestService;
+
+    @InjectMocks
+    private ErpAdapterTriggerService erpAdapterTriggerService;
+
+    @BeforeEach
+    void setUp() {
+        when(erpAdapterConfiguration.isErpAdapterEnabled()).thenReturn(true);
+        lenient().when(erpAdapterConfiguration.getRefreshInterval()).thenReturn(REFRESH_INTERVAL);
+        lenient().when(erpAdapterConfiguration.getRefreshTimeLimit()).thenReturn(TIME_LIMIT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        erpAdapterTriggerService.shutdown();
+    }
+
+    @Test
+    void notifyPartnerRequest_UnknownDataset_SendsRequestsAtRefreshInterval() {
+        when(repository.findAll()).thenReturn(List.of());
+
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, MATERIAL_NUMBER, AssetType.ITEM_STOCK_SUBMODEL, DirectionEnum.INBOUND);
+
+        verify(erpAdapterRequestService, atLeast(1)).enqueue(argThat(requests -> requests.size() == 1 && isExpectedRequest(requests.get(0))));
+        verify(erpAdapterRequestService, timeout(2000).atLeast(3)).enqueue(argThat(requests -> requests.size() == 1 && isExpectedRequest(requests.get(0))));
+
+        erpAdapterTriggerService.persistChanges();
+        verify(repository).saveAll(argThat(datasets -> {
+            var dataset = ((List<ErpAdapterTriggerDataset>) datasets).get(0);
+            return ((List<?>) datasets).size() == 1 && dataset.getNextErpRequestScheduled() > dataset.getLastPartnerRequest() + REFRESH_INTERVAL;
+        }));
+    }
+
+    @Test
+    void start_ExpiredDataset_DeletesDatasetWithoutRequest() {
+        long now = new Date().getTime();
+        var dataset = new ErpAdapterTriggerDataset(BPNL, MATERIAL_NUMBER, AssetType.ITEM_STOCK_SUBMODEL, "INBOUND",
+            now - 2 * TIME_LIMIT, now - 1);
+        when(repository.findAll()).thenReturn(List.of(dataset));
+
+        erpAdapterTriggerService.start();
+
+        verify(erpAdapterRequestService, after(300).never()).enqueue(any());
+        erpAdapterTriggerService.persistChanges();
+        verify(repository).deleteAllById(List.of(new ErpAdapterTriggerDataset.Key(BPNL, MATERIAL_NUMBER, AssetType.ITEM_STOCK_SUBMODEL, "INBOUND")));
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    void notifyPartnerRequest_KnownDataset_OnlyUpdatesLastPartnerRequest() {
+        long now = new Date().getTime();
+        var dataset = new ErpAdapterTriggerDataset(BPNL, MATERIAL_NUMBER, AssetType.ITEM_STOCK_SUBMODEL, "INBOUND",
+            now - 1000, now + TIME_LIMIT);
+        when(repository.findAll()).thenReturn(List.of(dataset));
+
+        erpAdapterTriggerService.notifyPartnerRequest(BPNL, MATERIAL_NUMBER, AssetType.ITEM_STOCK_SUBMODEL, DirectionEnum.INBOUND);
+        erpAdapterTriggerService.persistChanges();
+
+        verify(erpAdapterRequestService, never()).enqueue(any());
+        verify(repository).saveAll(argThat(datasets -> {
+            var saved = ((List<ErpAdapterTriggerDataset>) datasets).get(0);
+            return saved.getLastPartnerRequest() >= now && saved.getNextErpRequestScheduled() == now + TIME_LIMIT;
+        }));
+    }
+
+    @Test
+    void start_BatchingEnabled_EnqueuesRequestsDueWithinBatchWindowTogether() {
+        String otherBpnl = "BPNL1234567890CD";
+        when(erpAdapterConfiguration.isBatchingEnabled()).thenReturn(true);
+        when(erpAdapterConfiguration.getBatchWindow()).thenReturn(1000L);
+        long now = new Date().getTime();
+        when(repository.findAll()).thenReturn(List.of(
+            new ErpAdapterTriggerDataset(BPNL, "MNR-1", AssetType.ITEM_STOCK_SUBMODEL, "INBOUND", now, now - 1),
+            new ErpAdapterTriggerDataset(BPNL, "MNR-2", AssetType.ITEM_STOCK_SUBMODEL, "INBOUND", now, now - 1),
+            new ErpAdapterTriggerDataset(BPNL, "MNR-3", AssetType.ITEM_STOCK_SUBMODEL, "OUTBOUND", now, now + 500),
+            new ErpAdapterTriggerDataset(otherBpnl, "MNR-1", AssetType.ITEM_STOCK_SUBMODEL, "INBOUND", now, now - 1)
+        ));
+
+        erpAdapterTriggerService.start();
+
+        verify(erpAdapterRequestService, timeout(2000)).enqueue(argThat(requests -> requests.size() == 4));
+    }
+
+    private static boolean isExpectedRequest(ErpAdapterRequest request) {
+        return BPNL.equals(request.getPartnerBpnl()) && MATERIAL_NUMBER.equals(request.getOwnMaterialNumber())
+            && request.getDirectionEnum() == DirectionEnum.INBOUND && request.getRequestType() == AssetType.ITEM_STOCK_SUBMODEL;
+    }
+}
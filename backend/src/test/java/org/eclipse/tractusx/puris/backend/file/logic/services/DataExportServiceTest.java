@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
+import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
+import org.eclipse.tractusx.puris.backend.delivery.logic.service.ReportedDeliveryService;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.DemandCategoryEnumeration;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
+import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
+import org.eclipse.tractusx.puris.backend.demand.logic.services.ReportedDemandService;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportFormatEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportOriginEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataExportTypeEnumeration;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataExportService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.production.logic.service.OwnProductionService;
+import org.eclipse.tractusx.puris.backend.production.logic.service.ReportedProductionService;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.MaterialItemStock;
+import org.eclipse.tractusx.puris.backend.stock.domain.model.ReportedProductItemStock;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.MaterialItemStockService;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockService;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ReportedMaterialItemStockService;
+import org.eclipse.tractusx.puris.backend.stock.logic.service.ReportedProductItemStockService;
+import org.eclipse.tractusx.puris.backend.supply.logic.service.CustomerSupplyService;
+import org.eclipse.tractusx.puris.backend.supply.logic.service.SupplierSupplyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class DataExportServiceTest {
+
+    private static final Date DAY = Date.from(Instant.parse("2026-03-02T00:00:00Z"));
+    private static final Date NEXT_DAY = Date.from(Instant.parse("2026-03-03T00:00:00Z"));
+    private static final Date LAST_UPDATE = Date.from(Instant.parse("2026-03-01T08:30:00Z"));
+
+    @Mock
+    private OwnDemandService ownDemandService;
+    @Mock
+    private ReportedDemandService reportedDemandService;
+    @Mock
+    private OwnProductionService ownProductionService;
+    @Mock
+    private ReportedProductionService reportedProductionService;
+    @Mock
+    private OwnDeliveryService ownDeliveryService;
+    @Mock
+    private ReportedDeliveryService reportedDeliveryService;
+    @Mock
+    private MaterialItemStockService materialItemStockService;
+    @Mock
+    private ProductItemStockService productItemStockService;
+    @Mock
+    private ReportedMaterialItemStockService reportedMaterialItemStockService;
+    @Mock
+    private ReportedProductItemStockService reportedProductItemStockService;
+    @Mock
+    private CustomerSupplyService customerSupplyService;
+    @Mock
+    private SupplierSupplyService supplierSupplyService;
+
+    @InjectMocks
+    private DataExportService dataExportService;
+
+    private Material material;
+
+    private Partner partner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        material = new Material();
+        material.setOwnMaterialNumber("MNR-1,A");
+        partner = new Partner();
+        partner.setUuid(UUID.randomUUID());
+        partner.setBpnl("BPNL1234567890AB");
+    }
+
+    @Test
+    void export_OwnDemandsAsCsv_WritesImportLayoutWithinDateRange() throws IOException {
+        OwnDemand inRange = demand(DAY);
+        OwnDemand outOfRange = demand(NEXT_DAY);
+        doAnswer(invocation -> {
+            Consumer<OwnDemand> action = invocation.getArgument(3);
+            action.accept(inRange);
+            action.accept(outOfRange);
+            return null;
+        }).when(ownDemandService).forEachByFilters(eq(Optional.of("MNR-1,A")), eq(Optional.empty()), eq(Optional.empty()), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataExportService.export(out, DataExportFormatEnumeration.CSV, DataExportTypeEnumeration.DEMAND, DataExportOriginEnumeration.OWN,
+            Optional.of("MNR-1,A"), Optional.empty(), Optional.of(DAY), Optional.of(NEXT_DAY));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("ownMaterialNumber,partnerBpnl,quantity,unitOfMeasurement,expectedSupplierSiteBpns,demandSiteBpns," +
+            "demandCategoryCode,day,lastUpdatedOnDateTime,origin", lines[0]);
+        assertEquals("\"MNR-1,A\",BPNL1234567890AB,10.0,unit:piece,,BPNS1234567890AB,0001," +
+            "2026-03-02T00:00:00Z,2026-03-01T08:30:00Z,own", lines[1]);
+        verify(reportedDemandService, never()).forEachByFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    void export_AllStocksAsXlsx_WritesOwnAndReportedRows() throws IOException {
+        MaterialItemStock ownStock = MaterialItemStock.builder()
+            .material(material).partner(partner).quantity(5).measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .locationBpns("BPNS1234567890AB").locationBpna("BPNA1234567890AB").isBlocked(true)
+            .lastUpdatedOnDateTime(LAST_UPDATE).build();
+        ReportedProductItemStock reportedStock = ReportedProductItemStock.builder()
+            .material(material).partner(partner).quantity(7).measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .locationBpns("BPNS0000000000AB").locationBpna("BPNA0000000000AB")
+            .lastUpdatedOnDateTime(LAST_UPDATE).build();
+        doAnswer(invocation -> {
+            Consumer<MaterialItemStock> action = invocation.getArgument(2);
+            action.accept(ownStock);
+            return null;
+        }).when(materialItemStockService).forEachByFilters(any(), any(), any());
+        doAnswer(invocation -> {
+            Consumer<ReportedProductItemStock> action = invocation.getArgument(2);
+            action.accept(reportedStock);
+            return null;
+        }).when(reportedProductItemStockService).forEachByFilters(any(), any(), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataExportService.export(out, DataExportFormatEnumeration.XLSX, DataExportTypeEnumeration.STOCK, DataExportOriginEnumeration.ALL,
+            Optional.empty(), Optional.of(partner.getBpnl()), Optional.empty(), Optional.empty());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("stock", sheet.getSheetName());
+            assertEquals(2, sheet.getLastRowNum());
+            assertEquals("direction", sheet.getRow(0).getCell(11).getStringCellValue());
+            assertEquals("origin", sheet.getRow(0).getCell(12).getStringCellValue());
+
+            Row own = sheet.getRow(1);
+            assertEquals(5.0, own.getCell(2).getNumericCellValue());
+            assertEquals(true, own.getCell(9).getBooleanCellValue());
+            assertEquals(LAST_UPDATE, own.getCell(10).getDateCellValue());
+            assertEquals("inbound", own.getCell(11).getStringCellValue());
+            assertEquals("own", own.getCell(12).getStringCellValue());
+
+            Row reported = sheet.getRow(2);
+            assertEquals(7.0, reported.getCell(2).getNumericCellValue());
+            assertFalse(reported.getCell(9).getBooleanCellValue());
+            assertEquals("outbound", reported.getCell(11).getStringCellValue());
+            assertEquals("reported", reported.getCell(12).getStringCellValue());
+        }
+        verify(productItemStockService).forEachByFilters(eq(Optional.empty()), eq(Optional.of(partner.getBpnl())), any());
+        verify(reportedMaterialItemStockService).forEachByFilters(eq(Optional.empty()), eq(Optional.of(partner.getBpnl())), any());
+    }
+
+    private OwnDemand demand(Date day) {
+        return OwnDemand.builder()
+            .material(material)
+            .partner(partner)
+            .quantity(10)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .demandLocationBpns("BPNS1234567890AB")
+            .demandCategoryCode(DemandCategoryEnumeration.DEMAND_DEFAULT)
+            .day(day)
+            .lastUpdatedOnDateTime(LAST_UPDATE)
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportJob;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportJobStatusEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportModeEnumeration;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportResult;
+import org.eclipse.tractusx.puris.backend.file.logic.dto.DataImportJobDto;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataImportJobService;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataImportProgressListener;
+import org.eclipse.tractusx.puris.backend.file.logic.service.ExcelService;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+public class DataImportJobServiceTest {
+
+    @Mock
+    private ExcelService excelService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private DataImportJobService dataImportJobService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataImportJobService.shutdown();
+    }
+
+    @Test
+    void testSubmit_Success_PublishesProgressAndResult() throws Exception {
+        when(excelService.readFile(any(InputStream.class), any(), eq(DataImportModeEnumeration.DIFF), any(DataImportProgressListener.class)))
+            .thenAnswer(invocation -> {
+                DataImportProgressListener listener = invocation.getArgument(3);
+                listener.rowsRead(1000);
+                listener.changesPersisted(10, 20);
+                listener.changesPersisted(20, 20);
+                return new DataImportResult("Successfully imported demands", List.of());
+            });
+
+        DataImportJob job = dataImportJobService.submit(new ByteArrayInputStream(new byte[] {1}), "demands.xlsx", DataImportModeEnumeration.DIFF);
+        awaitFinished(job);
+
+        assertEquals(DataImportJobStatusEnumeration.SUCCEEDED, job.getStatus());
+        assertEquals(1000, job.getReadRows());
+        assertEquals(20, job.getPersistedChanges());
+        assertEquals("Successfully imported demands", job.getMessage());
+        String topic = DataImportJobService.TOPIC_PREFIX + job.getId();
+        verify(messagingTemplate, timeout(5000)).convertAndSend(eq(topic),
+            argThat((DataImportJobDto dto) -> dto.getStatus() == DataImportJobStatusEnumeration.SUCCEEDED));
+        // queued, running, 1000 rows read, two chunks written
+        verify(messagingTemplate, atLeast(5)).convertAndSend(eq(topic),
+            argThat((DataImportJobDto dto) -> dto.getStatus() != DataImportJobStatusEnumeration.SUCCEEDED));
+    }
+
+    @Test
+    void testSubmit_Errors_FailsJobAndPagesErrors() throws Exception {
+        List<DataImportError> errors = List.of(
+            new DataImportError(2, List.of("Material not found.")),
+            new DataImportError(3, List.of("Material not found.")),
+            new DataImportError(4, List.of("Partner not found."))
+        );
+        when(excelService.readFile(any(InputStream.class), any(), eq(DataImportModeEnumeration.REPLACE), any(DataImportProgressListener.class)))
+            .thenReturn(new DataImportResult("Failed to process Demand rows", errors));
+
+        DataImportJob job = dataImportJobService.submit(new ByteArrayInputStream(new byte[] {1}), "demands.xlsx", DataImportModeEnumeration.REPLACE);
+        awaitFinished(job);
+
+        assertEquals(DataImportJobStatusEnumeration.FAILED, job.getStatus());
+        Page<DataImportError> page = dataImportJobService.findErrors(job.getId(), PageRequest.of(1, 2));
+        assertEquals(3, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        assertEquals(4, page.getContent().get(0).getRow());
+    }
+
+    @Test
+    void testSubmit_UnsupportedFile_FailsJob() throws Exception {
+        when(excelService.readFile(any(InputStream.class), any(), any(DataImportModeEnumeration.class), any(DataImportProgressListener.class)))
+            .thenThrow(new IllegalArgumentException("Unsupported Excel file format"));
+
+        DataImportJob job = dataImportJobService.submit(new ByteArrayInputStream(new byte[] {1}), "demands.xlsx", DataImportModeEnumeration.REPLACE);
+        awaitFinished(job);
+
+        assertEquals(DataImportJobStatusEnumeration.FAILED, job.getStatus());
+        assertEquals("Unsupported Excel file format", job.getMessage());
+        assertTrue(dataImportJobService.findErrors(job.getId(), PageRequest.of(0, 10)).isEmpty());
+    }
+
+    private void awaitFinished(DataImportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished(), "import job did not finish");
+    }
+}
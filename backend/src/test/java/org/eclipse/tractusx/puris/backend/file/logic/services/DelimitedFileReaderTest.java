@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.tractusx.puris.backend.file.logic.service.DelimitedFileReader;
+import org.eclipse.tractusx.puris.backend.file.logic.service.ExcelRow;
+import org.junit.jupiter.api.Test;
+
+public class DelimitedFileReaderTest {
+
+    @Test
+    void read_CsvWithQuotedFields_ReturnsRecords() throws IOException {
+        // given
+        String csv = "\uFEFFownMaterialNumber,quantity,trackingNumber\r\n"
+            + "MNR-4711,42.5,\"TRACK \"\"A\"\", 1\"\r\n"
+            + "\r\n"
+            + "MNR-4712,,\"multi\nline\"";
+
+        // when
+        List<ExcelRow> rows = read(csv, ',');
+
+        // then
+        assertEquals(4, rows.size());
+        assertEquals("ownMaterialNumber", rows.get(0).getString(0));
+        assertEquals("trackingNumber", rows.get(0).getString(2));
+        assertEquals("MNR-4711", rows.get(1).getString(0));
+        assertEquals("42.5", rows.get(1).getString(1));
+        assertEquals("TRACK \"A\", 1", rows.get(1).getString(2));
+        assertEquals(3, rows.get(2).getRowNumber());
+        assertEquals(true, rows.get(2).isEmpty());
+        assertNull(rows.get(3).getString(1));
+        assertEquals("multi\nline", rows.get(3).getString(2));
+        assertEquals(4, rows.get(3).getRowNumber());
+    }
+
+    @Test
+    void read_TsvWithFieldsLargerThanBuffer_ReturnsCompleteFields() throws IOException {
+        // given
+        String longValue = "x".repeat(200_000);
+        StringBuilder tsv = new StringBuilder("a\tb\n");
+        for (int i = 0; i < 3; i++) {
+            tsv.append(longValue).append(i).append('\t').append(i).append('\n');
+        }
+
+        // when
+        List<ExcelRow> rows = read(tsv.toString(), '\t');
+
+        // then
+        assertEquals(4, rows.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(longValue + i, rows.get(i + 1).getString(0));
+            assertEquals(String.valueOf(i), rows.get(i + 1).getString(1));
+        }
+    }
+
+    @Test
+    void read_UnterminatedQuotedField_ThrowsException() {
+        assertThrows(IOException.class, () -> read("a,b\n1,\"open\n", ','));
+    }
+
+    private static List<ExcelRow> read(String content, char separator) throws IOException {
+        List<ExcelRow> rows = new ArrayList<>();
+        DelimitedFileReader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), separator, rows::add);
+        return rows;
+    }
+}
@@ -22,12 +22,18 @@ package org.eclipse.tractusx.puris.backend.file.logic.services;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.FormulaEvaluator;
@@ -35,15 +41,21 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.eclipse.tractusx.puris.backend.common.domain.model.measurement.ItemUnitEnumeration;
 import org.eclipse.tractusx.puris.backend.delivery.domain.model.OwnDelivery;
 import org.eclipse.tractusx.puris.backend.delivery.logic.service.OwnDeliveryService;
+import org.eclipse.tractusx.puris.backend.demand.domain.model.DemandCategoryEnumeration;
 import org.eclipse.tractusx.puris.backend.demand.domain.model.OwnDemand;
 import org.eclipse.tractusx.puris.backend.demand.logic.services.OwnDemandService;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportError;
+import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportModeEnumeration;
 import org.eclipse.tractusx.puris.backend.file.domain.model.DataImportResult;
+import org.eclipse.tractusx.puris.backend.file.logic.service.DataImportProgressListener;
 import org.eclipse.tractusx.puris.backend.file.logic.service.ExcelService;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataSnapshot;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerService;
 import org.eclipse.tractusx.puris.backend.production.domain.model.OwnProduction;
@@ -54,18 +66,28 @@ import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockSe
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
 
 public class ExcelServiceTest {
 
@@ -74,6 +96,9 @@ public class ExcelServiceTest {
     
     @Mock
     private PartnerService partnerService;
+
+    @Mock
+    private MaterialPartnerRelationService mprService;
     
     @Mock
     private OwnDemandService ownDemandService;
@@ -90,6 +115,9 @@ public class ExcelServiceTest {
     @Mock
     private ProductItemStockService productItemStockService;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ExcelService excelService;
 
@@ -183,8 +211,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Demand_MaterialNotFound_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFile();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(null);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of());
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -197,8 +225,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Demand_PartnerNotFound_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFile();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(null);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of());
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -212,8 +240,8 @@ public class ExcelServiceTest {
     void testReadExcelFile_Demand_ValidationErrors_ReturnsErrors() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFile();
         List<String> validationErrors = List.of("Validation error 1", "Validation error 2");
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownDemandService.validateWithDetails(any(OwnDemand.class)))
             .thenReturn(validationErrors);
 
@@ -250,33 +278,65 @@ public class ExcelServiceTest {
         ByteArrayInputStream inputStream = createDemandExcelFile();
         OwnDemand existingDemand = new OwnDemand();
         existingDemand.setUuid(UUID.randomUUID());
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
-        when(ownDemandService.findAll()).thenReturn(List.of(existingDemand));
-        when(ownDemandService.create(any(OwnDemand.class))).thenReturn(new OwnDemand());
+        when(ownDemandService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(List.of(existingDemand)));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
         assertNotNull(result);
         assertEquals("Successfully imported demands", result.getMessage());
         assertTrue(result.getErrors().isEmpty());
-        verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
-        verify(partnerService).findByBpnl(testPartner.getBpnl());
+        verify(materialService).findAllByOwnMaterialNumbers(List.of(testMaterial.getOwnMaterialNumber()));
+        verify(partnerService).findAllByBpnls(List.of(testPartner.getBpnl()));
         verify(ownDemandService).validateWithDetails(any(OwnDemand.class));
         InOrder inOrder = inOrder(ownDemandService);
-        inOrder.verify(ownDemandService).findAll();
-        inOrder.verify(ownDemandService).delete(existingDemand.getUuid());
-        inOrder.verify(ownDemandService).create(any(OwnDemand.class));
+        inOrder.verify(ownDemandService).applyChanges(List.of(), List.of(), List.of(existingDemand));
+        inOrder.verify(ownDemandService).applyChanges(argThat(inserts -> inserts.size() == 1), eq(List.of()), eq(List.of()));
+    }
+
+    @Test
+    void testReadExcelFile_Demand_FormulaWithoutCachedResult_EvaluatesWorkbook() throws IOException {
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Demands");
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < DEMAND_HEADERS.size(); i++) {
+            headerRow.createCell(i).setCellValue(DEMAND_HEADERS.get(i));
+        }
+        Row dataRow = sheet.createRow(1);
+        for (int i = 0; i < 7; i++) {
+            Object value = SAMPLE_DEMAND_ROW.get(i);
+            if (value instanceof Double d) {
+                dataRow.createCell(i).setCellValue(d);
+            } else {
+                dataRow.createCell(i).setCellValue(value.toString());
+            }
+        }
+        // no evaluation, so the file contains the formula without a cached result
+        dataRow.createCell(7).setCellFormula("TODAY()");
+        ByteArrayInputStream inputStream = convertWorkbookToInputStream(workbook);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+        when(ownDemandService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Successfully imported demands", result.getMessage());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OwnDemand>> demandCaptor = ArgumentCaptor.forClass(List.class);
+        verify(ownDemandService).applyChanges(demandCaptor.capture(), eq(List.of()), eq(List.of()));
+        assertNotNull(demandCaptor.getValue().get(0).getDay());
     }
 
     @Test
     void testReadExcelFile_Demand_ConflictingData_ReturnsErrors() throws IOException {
         ByteArrayInputStream inputStream = createConflictingDemandExcelFile();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
-        when(ownDemandService.findAll()).thenReturn(Collections.emptyList());
+        when(ownDemandService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
         when(ownDemandService.create(any(OwnDemand.class))).thenReturn(new OwnDemand());
 
         DataImportResult result = excelService.readExcelFile(inputStream);
@@ -288,38 +348,210 @@ public class ExcelServiceTest {
         assertEquals("The row 3 conflicts with the following rows: [2]", result.getErrors().get(0).getErrors().get(0));
     }
 
+    @Test
+    void testReadExcelFile_Demand_NonAdjacentConflictingData_ReturnsErrors() throws IOException {
+        List<Object> otherDemandRow = new ArrayList<>(SAMPLE_DEMAND_ROW);
+        otherDemandRow.set(6, "SR99");
+        ByteArrayInputStream inputStream = createExcelFile("Demands", DEMAND_HEADERS,
+            List.of(SAMPLE_DEMAND_ROW, otherDemandRow, SAMPLE_DEMAND_ROW, SAMPLE_DEMAND_ROW));
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("One or more conflicting rows found.", result.getMessage());
+        assertEquals(2, result.getErrors().size());
+        assertEquals("The row 4 conflicts with the following rows: [2]", result.getErrors().get(0).getErrors().get(0));
+        assertEquals("The row 5 conflicts with the following rows: [2, 4]", result.getErrors().get(1).getErrors().get(0));
+    }
+
+    @Test
+    void testReadExcelFile_Demand_DiffMode_AppliesOnlyChanges() throws IOException {
+        String lastUpdated = "2026-05-01T10:00:00Z";
+        ByteArrayInputStream inputStream = createExcelFile("Demands", DEMAND_HEADERS, List.of(
+            demandRow(100.0, "2026-05-04T00:00:00Z", lastUpdated),
+            demandRow(50.0, "2026-05-05T00:00:00Z", lastUpdated),
+            demandRow(10.0, "2026-05-06T00:00:00Z", lastUpdated)
+        ));
+        OwnDemand unchangedDemand = existingDemand(100.0, "2026-05-04T00:00:00Z", lastUpdated);
+        OwnDemand changedDemand = existingDemand(40.0, "2026-05-05T00:00:00Z", lastUpdated);
+        OwnDemand removedDemand = existingDemand(10.0, "2026-05-07T00:00:00Z", lastUpdated);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+        when(ownDemandService.findAllByFilters(Optional.of(testMaterial.getOwnMaterialNumber()), Optional.of(testPartner.getBpnl()), Optional.empty()))
+            .thenReturn(List.of(unchangedDemand, changedDemand, removedDemand));
+
+        DataImportResult result = excelService.readExcelFile(inputStream, DataImportModeEnumeration.DIFF);
+
+        assertEquals("Successfully imported demands (1 created, 1 updated, 1 deleted, 1 unchanged)", result.getMessage());
+        assertTrue(result.getErrors().isEmpty());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OwnDemand>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OwnDemand>> updateCaptor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(ownDemandService);
+        inOrder.verify(ownDemandService).applyChanges(insertCaptor.capture(), updateCaptor.capture(), eq(List.of()));
+        inOrder.verify(ownDemandService).applyChanges(List.of(), List.of(), List.of(removedDemand));
+        assertEquals(1, insertCaptor.getValue().size());
+        assertEquals(10.0, insertCaptor.getValue().get(0).getQuantity());
+        assertEquals(1, updateCaptor.getValue().size());
+        assertEquals(changedDemand.getUuid(), updateCaptor.getValue().get(0).getUuid());
+        assertEquals(50.0, updateCaptor.getValue().get(0).getQuantity());
+        verify(ownDemandService, never()).findAll();
+    }
+
+    @Test
+    void testReadExcelFile_Demand_Chunks_ClearPersistenceContextAndReattachMasterData() throws IOException {
+        ReflectionTestUtils.setField(excelService, "chunkSize", 2);
+        String lastUpdated = "2026-05-01T10:00:00Z";
+        ByteArrayInputStream inputStream = createExcelFile("Demands", DEMAND_HEADERS, List.of(
+            demandRow(100.0, "2026-05-04T00:00:00Z", lastUpdated),
+            demandRow(50.0, "2026-05-05T00:00:00Z", lastUpdated),
+            demandRow(10.0, "2026-05-06T00:00:00Z", lastUpdated)
+        ));
+        Material materialReference = new Material();
+        materialReference.setOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
+        Partner partnerReference = new Partner();
+        partnerReference.setUuid(testPartner.getUuid());
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+        when(ownDemandService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
+        when(entityManager.getReference(Material.class, testMaterial.getOwnMaterialNumber())).thenReturn(materialReference);
+        when(entityManager.getReference(Partner.class, testPartner.getUuid())).thenReturn(partnerReference);
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Successfully imported demands", result.getMessage());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OwnDemand>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(ownDemandService, times(2)).applyChanges(insertCaptor.capture(), eq(List.of()), eq(List.of()));
+        assertSame(testMaterial, insertCaptor.getAllValues().get(0).get(0).getMaterial());
+        assertSame(materialReference, insertCaptor.getAllValues().get(1).get(0).getMaterial());
+        assertSame(partnerReference, insertCaptor.getAllValues().get(1).get(0).getPartner());
+        InOrder inOrder = inOrder(ownDemandService, entityManager);
+        inOrder.verify(ownDemandService).applyChanges(any(), any(), any());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(ownDemandService).applyChanges(any(), any(), any());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+    }
+
+    @Test
+    void testReadExcelFile_Demand_ConflictInLaterChunk_StopsWritingAndReportsConflict() throws IOException {
+        ReflectionTestUtils.setField(excelService, "chunkSize", 2);
+        String lastUpdated = "2026-05-01T10:00:00Z";
+        ByteArrayInputStream inputStream = createExcelFile("Demands", DEMAND_HEADERS, List.of(
+            demandRow(100.0, "2026-05-04T00:00:00Z", lastUpdated),
+            demandRow(50.0, "2026-05-05T00:00:00Z", lastUpdated),
+            demandRow(10.0, "2026-05-06T00:00:00Z", lastUpdated),
+            demandRow(20.0, "2026-05-04T00:00:00Z", lastUpdated)
+        ));
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+        when(ownDemandService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("One or more conflicting rows found.", result.getMessage());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("The row 5 conflicts with the following rows: [2]", result.getErrors().get(0).getErrors().get(0));
+        verify(ownDemandService).applyChanges(argThat(inserts -> inserts.size() == 2), eq(List.of()), eq(List.of()));
+        verify(ownDemandService, times(4)).validateWithDetails(any(OwnDemand.class));
+        verify(materialService).findAllByOwnMaterialNumbers(List.of(testMaterial.getOwnMaterialNumber()));
+    }
+
+    @Test
+    void testReadExcelFile_Demand_ErrorCell_ReturnsError() throws IOException {
+        ByteArrayInputStream inputStream = createExcelFile("Demands", DEMAND_HEADERS, List.of(List.of(
+            testMaterial.getOwnMaterialNumber(), testPartner.getBpnl(), "=1/0", "unit:piece",
+            OWN_BPNS, PARTNER_BPNS, "0001", "2026-05-04T00:00:00Z", "2026-05-01T10:00:00Z"
+        )));
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Failed to process Demand rows", result.getMessage());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(2, result.getErrors().get(0).getRow());
+        assertEquals(List.of("Cell C2 contains the error '#DIV/0!'."), result.getErrors().get(0).getErrors());
+        verify(ownDemandService, never()).applyChanges(any(), any(), any());
+    }
+
+    @Test
+    void testReadExcelFile_Demand_ManyRows_LoadsMasterDataOnceAndKeepsRowOrder() throws IOException {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 700; i++) {
+            String unit = i % 100 == 50 ? "invalid-unit" : "unit:piece";
+            rows.add(List.of(
+                testMaterial.getOwnMaterialNumber(), testPartner.getBpnl(), 100.0, unit,
+                OWN_BPNS, PARTNER_BPNS, "0001", Instant.parse("2026-05-04T00:00:00Z").plusSeconds(86400L * i).toString(),
+                "2026-05-01T10:00:00Z"
+            ));
+        }
+        ByteArrayInputStream inputStream = createExcelFile("Demands", DEMAND_HEADERS, rows);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        Instant firstDay = Instant.parse("2026-05-04T00:00:00Z");
+        Set<Boolean> snapshotActive = ConcurrentHashMap.newKeySet();
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenAnswer(invocation -> {
+            snapshotActive.add(MasterDataSnapshot.active() != null);
+            OwnDemand demand = invocation.getArgument(0);
+            long index = (demand.getDay().getTime() - firstDay.toEpochMilli()) / 86400000L;
+            if (index < 250) {
+                // the first chunk finishes last
+                Thread.sleep(1);
+            }
+            return index % 100 == 75 ? List.of("Invalid row " + index) : Collections.emptyList();
+        });
+
+        DataImportResult result = excelService.readExcelFile(inputStream);
+
+        assertEquals("Failed to process Demand rows", result.getMessage());
+        assertEquals(List.of(52, 77, 152, 177, 252, 277, 352, 377, 452, 477, 552, 577, 652, 677),
+            result.getErrors().stream().map(DataImportError::getRow).toList());
+        assertEquals(List.of("Invalid row 75"), result.getErrors().get(1).getErrors());
+        verify(materialService).findAllByOwnMaterialNumbers(List.of(testMaterial.getOwnMaterialNumber()));
+        verify(partnerService).findAllByBpnls(List.of(testPartner.getBpnl()));
+        verify(mprService).findAll(any(), any());
+        assertEquals(Set.of(true), snapshotActive);
+    }
+
     @Test
     void testReadExcelFile_Production_ValidData_CallsServices() throws IOException {
         ByteArrayInputStream inputStream = createProductionExcelFile();
         OwnProduction existingProduction = new OwnProduction();
         existingProduction.setUuid(UUID.randomUUID());
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownProductionService.validateWithDetails(any(OwnProduction.class))).thenReturn(Collections.emptyList());
-        when(ownProductionService.findAll()).thenReturn(List.of(existingProduction));
-        when(ownProductionService.create(any(OwnProduction.class))).thenReturn(new OwnProduction());
+        when(ownProductionService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(List.of(existingProduction)));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
         assertNotNull(result);
         assertEquals("Successfully imported productions", result.getMessage());
         assertTrue(result.getErrors().isEmpty());
-        verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
-        verify(partnerService).findByBpnl(testPartner.getBpnl());
+        verify(materialService).findAllByOwnMaterialNumbers(List.of(testMaterial.getOwnMaterialNumber()));
+        verify(partnerService).findAllByBpnls(List.of(testPartner.getBpnl()));
         verify(ownProductionService).validateWithDetails(any(OwnProduction.class));
         InOrder inOrder = inOrder(ownProductionService);
-        inOrder.verify(ownProductionService).findAll();
-        inOrder.verify(ownProductionService).delete(existingProduction.getUuid());
-        inOrder.verify(ownProductionService).create(any(OwnProduction.class));
+        inOrder.verify(ownProductionService).applyChanges(List.of(), List.of(), List.of(existingProduction));
+        inOrder.verify(ownProductionService).applyChanges(argThat(inserts -> inserts.size() == 1), eq(List.of()), eq(List.of()));
     }
 
     @Test
     void testReadExcelFile_Production_ConflictingData_ReturnsErrors() throws IOException {
         ByteArrayInputStream inputStream = createConflictingProductionExcelFile();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownProductionService.validateWithDetails(any(OwnProduction.class))).thenReturn(Collections.emptyList());
-        when(ownProductionService.findAll()).thenReturn(Collections.emptyList());
+        when(ownProductionService.findWindowByFilters(any(), any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
         when(ownProductionService.create(any(OwnProduction.class))).thenReturn(new OwnProduction());
 
         DataImportResult result = excelService.readExcelFile(inputStream);
@@ -336,33 +568,31 @@ public class ExcelServiceTest {
         ByteArrayInputStream inputStream = createDeliveryExcelFile();
         OwnDelivery existingDelivery = new OwnDelivery();
         existingDelivery.setUuid(UUID.randomUUID());
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownDeliveryService.validateWithDetails(any(OwnDelivery.class))).thenReturn(Collections.emptyList());
-        when(ownDeliveryService.findAll()).thenReturn(List.of(existingDelivery));
-        when(ownDeliveryService.create(any(OwnDelivery.class))).thenReturn(new OwnDelivery());
+        when(ownDeliveryService.findWindowByFilters(any(), any(), any(), any(), any(), anyInt())).thenReturn(window(List.of(existingDelivery)));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
         assertNotNull(result);
         assertEquals("Successfully imported deliveries", result.getMessage());
         assertTrue(result.getErrors().isEmpty());
-        verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
-        verify(partnerService).findByBpnl(testPartner.getBpnl());
+        verify(materialService).findAllByOwnMaterialNumbers(List.of(testMaterial.getOwnMaterialNumber()));
+        verify(partnerService).findAllByBpnls(List.of(testPartner.getBpnl()));
         verify(ownDeliveryService).validateWithDetails(any(OwnDelivery.class));
         InOrder inOrder = inOrder(ownDeliveryService);
-        inOrder.verify(ownDeliveryService).findAll();
-        inOrder.verify(ownDeliveryService).delete(existingDelivery.getUuid());
-        inOrder.verify(ownDeliveryService).create(any(OwnDelivery.class));
+        inOrder.verify(ownDeliveryService).applyChanges(List.of(), List.of(), List.of(existingDelivery));
+        inOrder.verify(ownDeliveryService).applyChanges(argThat(inserts -> inserts.size() == 1), eq(List.of()), eq(List.of()));
     }
 
     @Test
     void testReadExcelFile_Delivery_ConflictingData_ReturnsErrors() throws IOException {
         ByteArrayInputStream inputStream = createConflictingDeliveryExcelFile();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(ownDeliveryService.validateWithDetails(any(OwnDelivery.class))).thenReturn(Collections.emptyList());
-        when(ownDeliveryService.findAll()).thenReturn(Collections.emptyList());
+        when(ownDeliveryService.findWindowByFilters(any(), any(), any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
         when(ownDeliveryService.create(any(OwnDelivery.class))).thenReturn(new OwnDelivery());
 
         DataImportResult result = excelService.readExcelFile(inputStream);
@@ -379,34 +609,78 @@ public class ExcelServiceTest {
         ByteArrayInputStream inputStream = createStockExcelFile();
         MaterialItemStock existingMaterialStock = new MaterialItemStock();
         existingMaterialStock.setUuid(UUID.randomUUID());
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(materialItemStockService.validateWithDetails(any(MaterialItemStock.class))).thenReturn(Collections.emptyList());
-        when(materialItemStockService.findAll()).thenReturn(List.of(existingMaterialStock));
-        when(productItemStockService.findAll()).thenReturn(Collections.emptyList());
-        when(materialItemStockService.create(any(MaterialItemStock.class))).thenReturn(new MaterialItemStock());
+        when(materialItemStockService.findWindowByFilters(any(), any(), any(), anyInt())).thenReturn(window(List.of(existingMaterialStock)));
+        when(productItemStockService.findWindowByFilters(any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
         assertNotNull(result);
         assertEquals("Successfully imported stocks", result.getMessage());
         assertTrue(result.getErrors().isEmpty());
-        verify(materialService).findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber());
-        verify(partnerService).findByBpnl(testPartner.getBpnl());
+        verify(materialService).findAllByOwnMaterialNumbers(List.of(testMaterial.getOwnMaterialNumber()));
+        verify(partnerService).findAllByBpnls(List.of(testPartner.getBpnl()));
         verify(materialItemStockService).validateWithDetails(any(MaterialItemStock.class));
         InOrder inOrder = inOrder(materialItemStockService);
-        inOrder.verify(materialItemStockService).findAll();
-        inOrder.verify(materialItemStockService).delete(existingMaterialStock.getUuid());
-        inOrder.verify(materialItemStockService).create(any(MaterialItemStock.class));
+        inOrder.verify(materialItemStockService).applyChanges(List.of(), List.of(), List.of(existingMaterialStock));
+        inOrder.verify(materialItemStockService).applyChanges(argThat(inserts -> inserts.size() == 1), eq(List.of()), eq(List.of()));
+    }
+
+    @Test
+    void testReadDelimitedFile_StockWithReorderedColumns_CallsServices() throws IOException {
+        String csv = "direction,isBlocked,ownMaterialNumber,partnerBpnl,quantity,unitOfMeasurement,stockSiteBpns,stockAddressBpna,"
+            + "customerOrderNumber,customerPositionId,supplierOrderNumber,lastUpdatedOnDateTime\r\n"
+            + "inbound,TRUE," + testMaterial.getOwnMaterialNumber() + "," + testPartner.getBpnl() + ",100,unit:piece,"
+            + OWN_BPNS + "," + OWN_BPNA + ",\"ORDER, 001\",POS-001,SUPPLY-001,2026-03-01T08:00:00Z\r\n";
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(materialItemStockService.validateWithDetails(any(MaterialItemStock.class))).thenReturn(Collections.emptyList());
+        when(materialItemStockService.findWindowByFilters(any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
+        when(productItemStockService.findWindowByFilters(any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
+
+        DataImportResult result = excelService.readDelimitedFile(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ',',
+            DataImportModeEnumeration.REPLACE, DataImportProgressListener.NONE);
+
+        assertEquals("Successfully imported stocks", result.getMessage());
+        assertTrue(result.getErrors().isEmpty());
+        verify(materialItemStockService).validateWithDetails(argThat(stock -> stock.isBlocked()
+            && stock.getQuantity() == 100
+            && "ORDER, 001".equals(stock.getCustomerOrderId())
+            && Instant.parse("2026-03-01T08:00:00Z").equals(stock.getLastUpdatedOnDateTime().toInstant())));
+        verify(materialItemStockService).applyChanges(argThat(inserts -> inserts.size() == 1), eq(List.of()), eq(List.of()));
+    }
+
+    @Test
+    void testReadDelimitedFile_TsvWithInvalidUnit_ReturnsErrorWithRowNumber() throws IOException {
+        String tsv = String.join("\t", DEMAND_HEADERS) + "\n"
+            + String.join("\t", testMaterial.getOwnMaterialNumber(), testPartner.getBpnl(), "10", "unit:piece",
+                OWN_BPNS, PARTNER_BPNS, "0001", "2026-03-02", "2026-03-01T08:00:00Z") + "\n"
+            + String.join("\t", testMaterial.getOwnMaterialNumber(), testPartner.getBpnl(), "10", "unit:unknown",
+                OWN_BPNS, PARTNER_BPNS, "0001", "2026-03-03", "2026-03-01T08:00:00Z") + "\n";
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
+        when(ownDemandService.validateWithDetails(any(OwnDemand.class))).thenReturn(Collections.emptyList());
+
+        DataImportResult result = excelService.readDelimitedFile(new ByteArrayInputStream(tsv.getBytes(StandardCharsets.UTF_8)), '\t',
+            DataImportModeEnumeration.REPLACE, DataImportProgressListener.NONE);
+
+        assertEquals("Failed to process Demand rows", result.getMessage());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertTrue(result.getErrors().get(0).getErrors().contains("Invalid unit of measurement: unit:unknown"));
+        verify(ownDemandService).validateWithDetails(argThat(demand -> demand.getDay() != null
+            && Instant.parse("2026-03-02T00:00:00Z").equals(demand.getDay().toInstant())));
     }
 
     @Test
     void testReadExcelFile_Stock_ConflictingData_ReturnsErrors() throws IOException {
         ByteArrayInputStream inputStream = createConflictingStockExcelFile();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
         when(materialItemStockService.validateWithDetails(any(MaterialItemStock.class))).thenReturn(Collections.emptyList());
-        when(materialItemStockService.findAll()).thenReturn(Collections.emptyList());
+        when(materialItemStockService.findWindowByFilters(any(), any(), any(), anyInt())).thenReturn(window(Collections.emptyList()));
         when(materialItemStockService.create(any(MaterialItemStock.class))).thenReturn(new MaterialItemStock());
 
         DataImportResult result = excelService.readExcelFile(inputStream);
@@ -421,8 +695,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Demand_InvalidUnitOfMeasurement_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFileWithInvalidUnit();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -436,8 +710,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Demand_InvalidDemandCategory_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDemandExcelFileWithInvalidCategory();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -451,8 +725,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Delivery_InvalidIncoterm_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDeliveryExcelFileWithInvalidIncoterm();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -466,8 +740,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Delivery_InvalidDepartureType_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDeliveryExcelFileWithInvalidDepartureType();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -481,8 +755,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Delivery_InvalidArrivalType_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createDeliveryExcelFileWithInvalidArrivalType();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -496,8 +770,8 @@ public class ExcelServiceTest {
     @Test
     void testReadExcelFile_Stock_InvalidDirection_ReturnsError() throws IOException {
         ByteArrayInputStream inputStream = createStockExcelFileWithInvalidDirection();
-        when(materialService.findByOwnMaterialNumber(testMaterial.getOwnMaterialNumber())).thenReturn(testMaterial);
-        when(partnerService.findByBpnl(testPartner.getBpnl())).thenReturn(testPartner);
+        when(materialService.findAllByOwnMaterialNumbers(any())).thenReturn(List.of(testMaterial));
+        when(partnerService.findAllByBpnls(any())).thenReturn(List.of(testPartner));
 
         DataImportResult result = excelService.readExcelFile(inputStream);
 
@@ -617,6 +891,32 @@ public class ExcelServiceTest {
         return convertWorkbookToInputStream(workbook);
     }
 
+    private List<Object> demandRow(double quantity, String day, String lastUpdatedOnDateTime) {
+        return List.of(
+            testMaterial.getOwnMaterialNumber(), testPartner.getBpnl(), quantity, "unit:piece",
+            OWN_BPNS, PARTNER_BPNS, "0001", day, lastUpdatedOnDateTime
+        );
+    }
+
+    private OwnDemand existingDemand(double quantity, String day, String lastUpdatedOnDateTime) {
+        return OwnDemand.builder()
+            .uuid(UUID.randomUUID())
+            .material(testMaterial)
+            .partner(testPartner)
+            .quantity(quantity)
+            .measurementUnit(ItemUnitEnumeration.UNIT_PIECE)
+            .supplierLocationBpns(OWN_BPNS)
+            .demandLocationBpns(PARTNER_BPNS)
+            .demandCategoryCode(DemandCategoryEnumeration.DEMAND_DEFAULT)
+            .day(Date.from(Instant.parse(day)))
+            .lastUpdatedOnDateTime(Date.from(Instant.parse(lastUpdatedOnDateTime)))
+            .build();
+    }
+
+    private static <T> Window<T> window(List<T> content) {
+        return Window.from(content, ScrollPosition::offset);
+    }
+
     private ByteArrayInputStream createExcelFile(String sheetName, List<String> headers, List<List<Object>> rows) throws IOException {
         Workbook workbook = new XSSFWorkbook();
         FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.file.logic.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.eclipse.tractusx.puris.backend.file.logic.service.ExcelRow;
+import org.eclipse.tractusx.puris.backend.file.logic.service.XlsxSheetReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class XlsxSheetReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_WorkbookWithMixedCells_ReturnsRowsWithValuesOfFirstSheet() throws IOException {
+        // given
+        Date day = Date.from(Instant.parse("2026-03-01T00:00:00Z"));
+        Path file = write(workbook -> {
+            Sheet sheet = workbook.createSheet("Stocks");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("ownMaterialNumber");
+            header.createCell(2).setCellValue("quantity");
+            Row data = sheet.createRow(3);
+            data.createCell(0).setCellValue(" MNR-4711 ");
+            data.createCell(1).setCellValue(true);
+            data.createCell(2).setCellValue(42.5);
+            data.createCell(3).setCellValue(day);
+            Cell formula = data.createCell(4);
+            formula.setCellFormula("C4*2");
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateFormulaCell(formula);
+            workbook.createSheet("Other").createRow(0).createCell(0).setCellValue("ignored");
+        });
+        List<ExcelRow> rows = new ArrayList<>();
+
+        // when
+        boolean complete = XlsxSheetReader.read(file, rows::add);
+
+        // then
+        assertTrue(complete);
+        assertEquals(2, rows.size());
+        assertEquals("ownMaterialNumber", rows.get(0).getString(0));
+        assertNull(rows.get(0).getString(1));
+        assertEquals("quantity", rows.get(0).getString(2));
+
+        ExcelRow row = rows.get(1);
+        assertEquals(4, row.getRowNumber());
+        assertEquals("MNR-4711", row.getString(0));
+        assertTrue(row.getBoolean(1));
+        assertEquals("42.5", row.getString(2));
+        assertEquals(day, row.getDate(3));
+        assertEquals("85.0", row.getString(4));
+        assertNull(row.getString(5));
+        assertFalse(row.isEmpty());
+    }
+
+    @Test
+    void read_FormulaWithoutCachedResult_AbortsReading() throws IOException {
+        // given
+        Path file = write(workbook -> {
+            Sheet sheet = workbook.createSheet("Demands");
+            sheet.createRow(0).createCell(0).setCellValue("day");
+            sheet.createRow(1).createCell(0).setCellValue("2026-03-01");
+            sheet.createRow(2).createCell(0).setCellFormula("TODAY()");
+        });
+        List<ExcelRow> rows = new ArrayList<>();
+
+        // when
+        boolean complete = XlsxSheetReader.read(file, rows::add);
+
+        // then
+        assertFalse(complete);
+        assertTrue(rows.isEmpty());
+    }
+
+    @Test
+    void read_ErrorCell_ReturnsCellError() throws IOException {
+        // given
+        Path file = write(workbook -> {
+            Sheet sheet = workbook.createSheet("Demands");
+            sheet.createRow(0).createCell(0).setCellValue("quantity");
+            Cell error = sheet.createRow(1).createCell(0);
+            error.setCellFormula("1/0");
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateFormulaCell(error);
+        });
+        List<ExcelRow> rows = new ArrayList<>();
+
+        // when
+        boolean complete = XlsxSheetReader.read(file, rows::add);
+
+        // then
+        assertTrue(complete);
+        assertEquals(2, rows.size());
+        ExcelRow row = rows.get(1);
+        assertNull(row.getString(0));
+        assertFalse(row.isEmpty());
+        assertEquals(List.of("Cell A2 contains the error '#DIV/0!'."), row.getCellErrors());
+    }
+
+    private Path write(Consumer<XSSFWorkbook> content) throws IOException {
+        Path file = tempDir.resolve("import.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            content.accept(workbook);
+            workbook.write(out);
+        }
+        return file;
+    }
+}
@@ -19,21 +19,31 @@
  */
 package org.eclipse.tractusx.puris.backend.masterdata.domain.repository;
 
+import org.eclipse.tractusx.puris.backend.common.JpaConfig;
+import org.eclipse.tractusx.puris.backend.common.QueryCount;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DataJpaTest
+@Import(JpaConfig.class)
 public class PartnerRepositoryTest {
 
     @Autowired
     private PartnerRepository partnerRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void addSite_WhenSitesArePresent_ReturnsAllSites() {
         // Given
@@ -68,4 +78,64 @@ public class PartnerRepositoryTest {
 
         assertEquals(2, updatedSupplierPartner.getSites().size());
     }
+
+    @Test
+    void findAllWithSitesAndAddressesByBpnl_WhenSitesAreAccessed_ExecutesSingleQuery() {
+        // Given
+        Partner partner = createPartnerWithSites(5);
+
+        // When
+        List<Partner> result = partnerRepository.findAllWithSitesAndAddressesByBpnl(partner.getBpnl());
+
+        // Then
+        assertEquals(1, result.size());
+        QueryCount.assertAtMost(0, () -> result.get(0).getSites().forEach(site -> site.getAddresses().size()));
+        assertEquals(6, result.get(0).getSites().size());
+    }
+
+    @Test
+    void findAllWithSitesAndAddressesBySites_Bpns_ReturnsAllSitesOfPartner() {
+        // Given
+        Partner partner = createPartnerWithSites(3);
+
+        // When
+        long queries = QueryCount.of(() -> {
+            List<Partner> result = partnerRepository.findAllWithSitesAndAddressesBySites_Bpns("BPNS1234567890ZZ");
+            assertEquals(1, result.size());
+            assertEquals(4, result.get(0).getSites().size());
+            result.get(0).getSites().forEach(site -> assertEquals(1, site.getAddresses().size()));
+        });
+
+        // Then
+        assertEquals(1, queries);
+    }
+
+    private Partner createPartnerWithSites(int additionalSites) {
+        Partner partner = new Partner(
+            "Scenario Supplier",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ",
+            "BPNS1234567890ZZ",
+            "Konzernzentrale Dudelsdorf",
+            "BPNA1234567890AA",
+            "Heinrich-Supplier-Straße 1",
+            "77785 Dudelsdorf",
+            "Germany",
+            PolicyProfileVersionEnumeration.POLICY_PROFILE_2509
+        );
+        for (int i = 0; i < additionalSites; i++) {
+            partner.getSites().add(new Site(
+                "BPNS000000000" + i + "SS",
+                "Site " + i,
+                "BPNA000000000" + i + "AA",
+                "Valid Str. " + i,
+                "1000 Bruxelles",
+                "Belgium"
+            ));
+        }
+        Partner savedPartner = partnerRepository.save(partner);
+        entityManager.flush();
+        entityManager.clear();
+        return savedPartner;
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache.Region;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MasterDataCacheTest {
+
+    private final MasterDataCache cache = new MasterDataCache(new SimpleMeterRegistry(), true, 600, 10000);
+
+    @Test
+    void get_ReturnsCopiesThatDoNotChangeTheCache() {
+        Partner partner = new Partner("Customer", "http://some-edc.com", "BPNL4444444444XX", "BPNS4444444444XX",
+            "Site", "BPNA4444444444AA", "Street 10", "40468 Testdorf", "DE", PolicyProfileVersionEnumeration.POLICY_PROFILE_2509);
+        partner.setUuid(UUID.randomUUID());
+
+        // a miss returns the loaded instance itself
+        assertSame(partner, cache.get(Region.PARTNER_BY_BPNL, partner.getBpnl(), key -> partner));
+
+        Partner first = cache.get(Region.PARTNER_BY_BPNL, partner.getBpnl(), key -> null);
+        assertNotSame(partner, first);
+        assertEquals(partner, first);
+        first.setName("Changed");
+        first.getSites().add(new Site("BPNS5555555555XX", "Other Site", "BPNA5555555555AA", "Street 11", "40468 Testdorf", "DE"));
+        first.getSites().first().getAddresses().clear();
+
+        Partner second = cache.get(Region.PARTNER_BY_BPNL, partner.getBpnl(), key -> null);
+        assertEquals("Customer", second.getName());
+        assertEquals(1, second.getSites().size());
+        assertEquals(1, second.getSites().first().getAddresses().size());
+    }
+
+    @Test
+    void get_CopiesMaterialAndPartnerOfRelation() {
+        Partner partner = new Partner("Supplier", "http://some-edc.com", "BPNL1234567890ZZ", "BPNA1234567890AA",
+            "Street 10", "40468 Testdorf", "DE", PolicyProfileVersionEnumeration.POLICY_PROFILE_2509);
+        partner.setUuid(UUID.randomUUID());
+        Material material = Material.builder().ownMaterialNumber("MNR-7307-AU340474.001").materialFlag(true).build();
+        MaterialPartnerRelation relation = new MaterialPartnerRelation(material, partner, "MNR-8101-ID146955.001", true, false);
+
+        cache.put(Region.MPR_BY_KEY, relation.getKey(), relation);
+        relation.setPartnerCXNumber("urn:uuid:ccfffbba-cfa0-49c4-bc9c-4e54f2cbb7ea");
+        material.setName("Changed");
+
+        MaterialPartnerRelation cached = cache.get(Region.MPR_BY_KEY, relation.getKey(), key -> null);
+        assertEquals(relation, cached);
+        assertNull(cached.getPartnerCXNumber());
+        assertNull(cached.getMaterial().getName());
+        assertNotSame(partner, cached.getPartner());
+        assertEquals(1, cached.getPartner().getAddresses().size());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic;
+
+import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Material;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.MaterialPartnerRelation;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialPartnerRelationRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataSnapshot;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationServiceImpl;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class MasterDataSnapshotTest {
+
+    @Mock
+    private PartnerRepository partnerRepository;
+
+    @Mock
+    private MaterialPartnerRelationRepository mprRepository;
+
+    @Mock
+    private VariablesService variablesService;
+
+    @Mock
+    private MasterDataCache masterDataCache;
+
+    @InjectMocks
+    private PartnerServiceImpl partnerService;
+
+    @InjectMocks
+    private MaterialPartnerRelationServiceImpl mprService;
+
+    @Test
+    void callWith_ServesLookupsOnlyFromSnapshot() {
+        Partner partner = partner("BPNL1234567890ZZ", "BPNS1234567890ZZ");
+        Partner unknownPartner = partner("BPNL2222222222ZZ", "BPNS2222222222ZZ");
+        Material material = Material.builder().ownMaterialNumber("MNR-7307-AU340474.001").materialFlag(true).build();
+        MaterialPartnerRelation relation = new MaterialPartnerRelation(material, partner, "MNR-4711", true, false);
+        MasterDataSnapshot snapshot = new MasterDataSnapshot();
+        snapshot.setOwnPartner(partner);
+        snapshot.addRelations(List.of(relation));
+        snapshot.addLocationIndex(partner, PartnerLocationIndex.of(partner, 0));
+
+        snapshot.callWith(() -> {
+            assertSame(partner, partnerService.getOwnPartnerEntity());
+            assertSame(relation, mprService.find(material, partner));
+            assertTrue(mprService.partnerSuppliesMaterial(material, partner));
+            // missing master data is not found instead of being loaded
+            assertNull(mprService.find(material, unknownPartner));
+            assertTrue(partnerService.getLocationIndex(partner).containsSite("BPNS1234567890ZZ"));
+            assertFalse(partnerService.getLocationIndex(unknownPartner).containsSite("BPNS2222222222ZZ"));
+            return null;
+        });
+
+        assertNull(MasterDataSnapshot.active());
+        verifyNoInteractions(partnerRepository, mprRepository, variablesService, masterDataCache);
+    }
+
+    private static Partner partner(String bpnl, String bpns) {
+        Partner partner = new Partner("Partner " + bpnl, "http://control-plane:8184/api/v1/dsp", bpnl, bpns,
+            "Site " + bpns, bpns.replace("BPNS", "BPNA"), "Main Street 1", "10001 New York", "USA",
+            PolicyProfileVersionEnumeration.POLICY_PROFILE_2509);
+        partner.setUuid(UUID.randomUUID());
+        return partner;
+    }
+}
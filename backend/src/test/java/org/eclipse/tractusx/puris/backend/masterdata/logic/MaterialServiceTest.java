@@ -35,6 +35,7 @@ import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
 import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.MaterialRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialPartnerRelationService;
 import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MaterialServiceImpl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -51,6 +52,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class MaterialServiceTest {
 
@@ -62,6 +66,9 @@ public class MaterialServiceTest {
     @Mock
     private DigitalTwinMappingService digitalTwinMappingService;
 
+    @Spy
+    private MasterDataCache masterDataCache = new MasterDataCache(new SimpleMeterRegistry(), true, 600, 10000);
+
     @InjectMocks
     private MaterialServiceImpl materialService;
 
@@ -166,6 +173,41 @@ public class MaterialServiceTest {
         verify(materialRepository, never()).save(any(Material.class));
     }
 
+    @Test
+    void findByOwnMaterialNumber_WhenCalledRepeatedly_LoadsFromRepositoryOnce() {
+        // Given
+        Material material = new Material(true, false, "MNR-123", "uuid-value", "Test Material", new Date());
+
+        // When
+        when(materialRepository.findById(material.getOwnMaterialNumber())).thenReturn(Optional.of(material));
+        materialService.findByOwnMaterialNumber(material.getOwnMaterialNumber());
+        var result = materialService.findByOwnMaterialNumber(material.getOwnMaterialNumber());
+
+        // Then
+        assertEquals(material, result);
+        verify(materialRepository, times(1)).findById(material.getOwnMaterialNumber());
+    }
+
+    @Test
+    void findByOwnMaterialNumber_AfterUpdate_LoadsFromRepositoryAgain() {
+        // Given
+        Material material = new Material(true, false, "MNR-123", "uuid-value", "Test Material", new Date());
+        Material updatedMaterial = new Material(true, false, "MNR-123", "uuid-value", "Renamed Material", new Date());
+
+        // When
+        when(materialRepository.findById(material.getOwnMaterialNumber())).thenReturn(Optional.of(material));
+        materialService.findByOwnMaterialNumber(material.getOwnMaterialNumber());
+        when(materialRepository.save(updatedMaterial)).thenReturn(updatedMaterial);
+        materialService.update(updatedMaterial);
+        when(materialRepository.findById(material.getOwnMaterialNumber())).thenReturn(Optional.of(updatedMaterial));
+        var result = materialService.findByOwnMaterialNumber(material.getOwnMaterialNumber());
+
+        // Then
+        assertEquals("Renamed Material", result.getName());
+        // initial lookup, existence check in update and lookup after invalidation
+        verify(materialRepository, times(3)).findById(material.getOwnMaterialNumber());
+    }
+
     @Test
     void update_WhenCatenaXIdChanged_ThrowsIllegalArgumentExceptionWithMessage() {
         // Given
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.eclipse.tractusx.puris.backend.masterdata.logic;
+
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Address;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartnerLocationIndexTest {
+
+    private PartnerLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Partner partner = new Partner(
+            "Semiconductor Supplier Inc.",
+            "http://supplier-control-plane:9184/api/v1/dsp",
+            "BPNL1234567890ZZ",
+            "BPNS1234567890ZZ",
+            "Semiconductor Supplier Inc. Production Site",
+            "BPNA1234567890AA",
+            "Wall Street 101",
+            "10001 New York",
+            "USA",
+            PolicyProfileVersionEnumeration.POLICY_PROFILE_2509
+        );
+        partner.getSites().add(new Site(
+            "BPNS2222222222SS",
+            "Semiconductor Supplier Inc. Secondary Site",
+            "BPNA2222222222AA",
+            "Sunset Blvd. 345",
+            "90001 Los Angeles",
+            "USA"
+        ));
+        partner.getAddresses().add(new Address("BPNA3333333333AA", "Main Street 1", "10001 New York", "USA"));
+        index = PartnerLocationIndex.of(partner, 7);
+    }
+
+    @Test
+    void containsSite_WithKnownAndUnknownBpns_ReturnsMembership() {
+        assertTrue(index.containsSite("BPNS1234567890ZZ"));
+        assertTrue(index.containsSite("BPNS2222222222SS"));
+        assertFalse(index.containsSite("BPNS9999999999XX"));
+        assertFalse(index.containsSite(null));
+        assertEquals(Set.of("BPNS1234567890ZZ", "BPNS2222222222SS"), index.getSiteBpns());
+        assertEquals(7, index.getVersion());
+    }
+
+    @Test
+    void siteContainsAddress_WithAddressOfOtherSite_ReturnsFalse() {
+        assertTrue(index.siteContainsAddress("BPNS2222222222SS", "BPNA2222222222AA"));
+        assertFalse(index.siteContainsAddress("BPNS1234567890ZZ", "BPNA2222222222AA"));
+        assertFalse(index.siteContainsAddress("BPNS1234567890ZZ", null));
+        assertEquals("BPNS1234567890ZZ", index.getSiteOfAddress("BPNA1234567890AA").getBpns());
+    }
+
+    @Test
+    void containsAddress_WithAddressOfPartner_ReturnsTrueWithoutSite() {
+        assertTrue(index.containsAddress("BPNA3333333333AA"));
+        assertTrue(index.containsAddress("BPNA1234567890AA"));
+        assertNull(index.getSiteOfAddress("BPNA3333333333AA"));
+        assertFalse(index.containsAddress("BPNA9999999999AA"));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Volkswagen AG
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.eclipse.tractusx.puris.backend.masterdata.logic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Partner;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.PolicyProfileVersionEnumeration;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.model.Site;
+import org.eclipse.tractusx.puris.backend.masterdata.domain.repository.PartnerRepository;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.MasterDataCache.Region;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PartnerServiceTest {
+
+    private static final String BPNL = "BPNL1234567890ZZ";
+
+    @Mock
+    private PartnerRepository partnerRepository;
+
+    @Spy
+    private MasterDataCache masterDataCache = new MasterDataCache(new SimpleMeterRegistry(), true, 600, 10000);
+
+    @InjectMocks
+    private PartnerServiceImpl partnerService;
+
+    @Test
+    void getLocationIndex_BuildsIndexFromStoredPartnerUntilInvalidated() {
+        Partner stored = partner();
+        stored.getSites().add(new Site("BPNS2222222222SS", "Secondary Site", "BPNA2222222222AA", "Sunset Blvd. 345",
+            "90001 Los Angeles", "USA"));
+        // e.g. a partner the caller has loaded before the second site was added
+        Partner outdated = partner();
+        outdated.setUuid(stored.getUuid());
+        when(partnerRepository.findAllWithSitesAndAddressesByBpnl(BPNL)).thenReturn(List.of(stored));
+
+        PartnerLocationIndex index = partnerService.getLocationIndex(outdated);
+        assertTrue(index.containsSite("BPNS2222222222SS"));
+        assertSame(index, partnerService.getLocationIndex(stored));
+
+        stored.getSites().removeIf(site -> site.getBpns().equals("BPNS2222222222SS"));
+        masterDataCache.invalidate(Region.PARTNER_BY_BPNL, Region.LOCATION_INDEX_BY_BPNL);
+        assertFalse(partnerService.getLocationIndex(outdated).containsSite("BPNS2222222222SS"));
+        verify(partnerRepository, times(2)).findAllWithSitesAndAddressesByBpnl(BPNL);
+    }
+
+    @Test
+    void getLocationIndex_PartnerNotPersisted_BuildsIndexFromGivenPartner() {
+        Partner partner = partner();
+        partner.setUuid(null);
+
+        assertTrue(partnerService.getLocationIndex(partner).containsSite("BPNS1234567890ZZ"));
+    }
+
+    private static Partner partner() {
+        Partner partner = new Partner("Semiconductor Supplier Inc.", "http://supplier-control-plane:9184/api/v1/dsp", BPNL,
+            "BPNS1234567890ZZ", "Production Site", "BPNA1234567890AA", "Wall Street 101", "10001 New York", "USA",
+            PolicyProfileVersionEnumeration.POLICY_PROFILE_2509);
+        partner.setUuid(UUID.randomUUID());
+        return partner;
+    }
+}
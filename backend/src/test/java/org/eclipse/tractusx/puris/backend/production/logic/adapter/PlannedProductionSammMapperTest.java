@@ -49,6 +49,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -152,7 +153,7 @@ class PlannedProductionSammMapperTest {
                 .estimatedTimeOfCompletion(now)
                 .build();
 
-        when(anonymizationService.anonymize(anyString(), anyString())).thenAnswer(invocation -> "enc:" + invocation.getArgument(0));
+        when(anonymizationService.anonymizeAll(anyList(), anyString())).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(value -> "enc:" + value).toList());
 
         var samm = mapper.ownProductionToAnonymizedSamm(List.of(op), PARTNER, MATERIAL_3, "SALT");
         assertNotNull(samm);
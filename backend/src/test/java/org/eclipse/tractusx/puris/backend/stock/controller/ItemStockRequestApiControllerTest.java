@@ -23,32 +23,46 @@
 package org.eclipse.tractusx.puris.backend.stock.controller;
 
 import org.eclipse.tractusx.puris.backend.common.TestConfig;
+import org.eclipse.tractusx.puris.backend.common.logic.service.SubmodelResponseCache;
 import org.eclipse.tractusx.puris.backend.common.security.DtrSecurityConfiguration;
 import org.eclipse.tractusx.puris.backend.common.security.SecurityConfig;
 import org.eclipse.tractusx.puris.backend.common.security.annotation.WithMockApiKey;
 import org.eclipse.tractusx.puris.backend.common.security.logic.ApiKeyAuthenticationProvider;
+import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
 import org.eclipse.tractusx.puris.backend.common.util.VariablesService;
+import org.eclipse.tractusx.puris.backend.stock.logic.dto.itemstocksamm.ItemStockSamm;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ItemStockRequestApiService;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ItemStockRequestApiController.class)
 @Import({SecurityConfig.class, ApiKeyAuthenticationProvider.class, DtrSecurityConfiguration.class, VariablesService.class, TestConfig.class})
 class ItemStockRequestApiControllerTest {
 
+    private static final String BPNL = "BPNL4444444444XX";
+
+    private static final String MATERIAL_NUMBER_CX = "urn:uuid:ccfffbba-cfa0-49c4-bc9c-4e54f2cbb7ea";
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     ItemStockRequestApiService itemStockRequestApiService;
 
+    @MockitoBean
+    SubmodelResponseCache responseCache;
+
     @Test
     @WithMockApiKey
     void getItemStockSamm_GivenNotImplementPath_Returns501() throws Exception {
@@ -57,4 +71,29 @@ class ItemStockRequestApiControllerTest {
                 get("/item-stock/request/material-number/OUTBOUND/description")
         ).andExpect(status().isNotImplemented());
     }
+
+    @Test
+    @WithMockApiKey
+    void getItemStockSamm_GivenMatchingETag_Returns304() throws Exception {
+        ItemStockSamm samm = new ItemStockSamm();
+        when(itemStockRequestApiService.handleItemStockSubmodelRequest(BPNL, MATERIAL_NUMBER_CX, DirectionEnum.OUTBOUND)).thenReturn(samm);
+        when(responseCache.getETag(samm)).thenReturn("\"v1\"");
+
+        this.mockMvc.perform(
+                get("/item-stock/request/" + MATERIAL_NUMBER_CX + "/OUTBOUND/submodel/$value")
+                    .header("edc-bpn", BPNL)
+        ).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"v1\""));
+
+        this.mockMvc.perform(
+                get("/item-stock/request/" + MATERIAL_NUMBER_CX + "/OUTBOUND/submodel/$value")
+                    .header("edc-bpn", BPNL)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")
+        ).andExpect(status().isNotModified()).andExpect(content().string(""));
+
+        this.mockMvc.perform(
+                get("/item-stock/request/" + MATERIAL_NUMBER_CX + "/OUTBOUND/submodel/$value")
+                    .header("edc-bpn", BPNL)
+                    .header(HttpHeaders.IF_NONE_MATCH, "\"v0\"")
+        ).andExpect(status().isOk());
+    }
 }
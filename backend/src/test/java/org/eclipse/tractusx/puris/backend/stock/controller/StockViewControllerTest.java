@@ -22,6 +22,7 @@ package org.eclipse.tractusx.puris.backend.stock.controller;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.tractusx.puris.backend.common.TestConfig;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
 import org.eclipse.tractusx.puris.backend.common.security.DtrSecurityConfiguration;
 import org.eclipse.tractusx.puris.backend.common.security.SecurityConfig;
 import org.eclipse.tractusx.puris.backend.common.security.annotation.WithMockApiKey;
@@ -94,6 +95,9 @@ class StockViewControllerTest {
     @MockBean
     private ModelMapper modelMapper;
 
+    @MockBean
+    private ChangeEventBus changeEventBus;
+
     @Test
     @WithMockApiKey
     void getMaterials_GivenTwoMaterials_ReturnsListOfMaterials() throws Exception {
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -136,7 +137,7 @@ public class ItemStockAnonymizedSammMapperTest {
         // When
         when(mprService.find(semiconductorMaterial, supplierPartner)).thenReturn(mpr);
 
-        when(anonymizationService.anonymize(anyString(), anyString())).thenAnswer(invocation -> "enc:" + invocation.getArgument(0));
+        when(anonymizationService.anonymizeAll(anyList(), anyString())).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(value -> "enc:" + value).toList());
 
         ItemStockAnonymizedSamm materialItemStockAnonymizedSamm = itemStockSammMapper.materialItemStocksToItemStockAnonymizedSamm(List.of(materialItemStock), supplierPartner, semiconductorMaterial, "SALT");
 
@@ -38,10 +38,14 @@ import org.eclipse.tractusx.puris.backend.production.logic.service.OwnProduction
 import org.eclipse.tractusx.puris.backend.stock.domain.repository.MaterialItemStockRepository;
 import org.eclipse.tractusx.puris.backend.stock.domain.repository.ProductItemStockRepository;
 import org.eclipse.tractusx.puris.backend.common.domain.model.DirectionEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.dto.ChangeOperationEnum;
+import org.eclipse.tractusx.puris.backend.common.logic.service.ChangeEventBus;
+import org.eclipse.tractusx.puris.backend.masterdata.logic.service.PartnerLocationIndex;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.MaterialItemStockService;
 import org.eclipse.tractusx.puris.backend.stock.logic.service.ProductItemStockService;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.OwnCustomerSupply;
 import org.eclipse.tractusx.puris.backend.supply.domain.model.OwnSupplierSupply;
+import org.eclipse.tractusx.puris.backend.supply.domain.model.ReportedCustomerSupply;
 import org.eclipse.tractusx.puris.backend.supply.domain.repository.ReportedCustomerSupplyRepository;
 import org.eclipse.tractusx.puris.backend.supply.domain.repository.ReportedSupplierSupplyRepository;
 import org.eclipse.tractusx.puris.backend.supply.logic.service.CustomerSupplyService;
@@ -52,6 +56,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -101,6 +106,9 @@ public class SupplyServiceTest {
     @Mock
     ReportedSupplierSupplyRepository reportedSupplierSupplyRepository;
 
+    @Mock
+    ChangeEventBus changeEventBus;
+
     private static final String MATERIAL_NUMBER_CX_CUSTOMER = UUID.randomUUID().toString();
     private static final String BPNL_CUSTOMER = "BPNL4444444444XX";
     private static final String BPNS_CUSTOMER = "BPNS4444444444XX";
@@ -133,6 +141,9 @@ public class SupplyServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // the services are created by constructor injection, which leaves the field injected bus unset
+        ReflectionTestUtils.setField(customerSupplyService, "changeEventBus", changeEventBus);
+        ReflectionTestUtils.setField(supplierSupplyService, "changeEventBus", changeEventBus);
 
         CUSTOMER_PARTNER = new Partner(
             "Test Customer",
@@ -277,6 +288,27 @@ public class SupplyServiceTest {
         testCalculateSupplierDaysOfSupply(6, productionQuantities, outboundDeliveryQuantities, reportedOutboundDeliveryQuantities, expectedDaysOfSupply, initialStockValue);
     }
 
+    @Test
+    void testReportedSupply_CreateAndDelete_PublishChanges() {
+        ReportedCustomerSupply supply = ReportedCustomerSupply.builder()
+            .uuid(UUID.randomUUID())
+            .partner(CUSTOMER_PARTNER)
+            .material(TEST_MATERIAL)
+            .date(new Date())
+            .daysOfSupply(2.5)
+            .stockLocationBPNS(BPNS_CUSTOMER)
+            .stockLocationBPNA(BPNA_CUSTOMER)
+            .build();
+        when(partnerService.getLocationIndex(CUSTOMER_PARTNER)).thenReturn(PartnerLocationIndex.of(CUSTOMER_PARTNER, 0));
+        when(reportedCustomerSupplyRepository.saveAndFlush(supply)).thenReturn(supply);
+
+        customerSupplyService.createReportedSupply(supply);
+        customerSupplyService.deleteReportedSupply(supply);
+
+        verify(changeEventBus).publish(TEST_MATERIAL.getOwnMaterialNumber(), supply, supply.getUuid(), BPNL_CUSTOMER, ChangeOperationEnum.UPSERT);
+        verify(changeEventBus).publish(TEST_MATERIAL.getOwnMaterialNumber(), supply, supply.getUuid(), BPNL_CUSTOMER, ChangeOperationEnum.DELETE);
+    }
+
     @Test
     void testCalculateSupplierDaysOfSupply_InsufficientDays() {
         List<Double> productionQuantities = List.of(40.0);